@@ -13,6 +13,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_attendance_single_schedule_id", columnList = "single_schedule_id"),
+        @Index(name = "idx_attendance_repeat_schedule_id", columnList = "repeat_schedule_id"),
+        @Index(name = "idx_attendance_study_member_id", columnList = "study_member_id")
+})
 public class Attendance extends BaseEntity {
 
     @Id
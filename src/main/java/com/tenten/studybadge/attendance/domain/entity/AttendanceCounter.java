@@ -0,0 +1,43 @@
+package com.tenten.studybadge.attendance.domain.entity;
+
+import com.tenten.studybadge.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(indexes = {
+        @Index(name = "idx_attendance_counter_study_member_id", columnList = "study_member_id", unique = true),
+        @Index(name = "idx_attendance_counter_study_channel_id", columnList = "study_channel_id")
+})
+public class AttendanceCounter extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attendance_counter_id")
+    private Long id;
+
+    @Column(name = "study_member_id", nullable = false)
+    private Long studyMemberId;
+
+    @Column(name = "study_channel_id", nullable = false)
+    private Long studyChannelId;
+
+    private long attendanceCount;               // 출석한 일정 수
+    private int totalScheduleCount;             // 스터디 채널의 전체 일정 수 (단일 + 반복 발생 횟수)
+
+    public void refresh(long attendanceCount, int totalScheduleCount) {
+        this.attendanceCount = attendanceCount;
+        this.totalScheduleCount = totalScheduleCount;
+    }
+
+    public double getAttendanceRatio() {
+        if (totalScheduleCount == 0) {
+            return 0.0;
+        }
+        return (double) (attendanceCount * 100) / totalScheduleCount;
+    }
+}
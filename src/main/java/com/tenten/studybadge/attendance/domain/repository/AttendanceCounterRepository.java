@@ -0,0 +1,35 @@
+package com.tenten.studybadge.attendance.domain.repository;
+
+import com.tenten.studybadge.attendance.domain.entity.AttendanceCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceCounterRepository extends JpaRepository<AttendanceCounter, Long> {
+
+    Optional<AttendanceCounter> findByStudyMemberId(Long studyMemberId);
+    List<AttendanceCounter> findAllByStudyMemberIdIn(Collection<Long> studyMemberIds);
+    List<AttendanceCounter> findAllByStudyChannelId(Long studyChannelId);
+
+    @Query("SELECT DISTINCT c.studyChannelId FROM AttendanceCounter c")
+    List<Long> findAllStudyChannelIds();
+
+    @Modifying
+    @Query("UPDATE AttendanceCounter c SET c.attendanceCount = c.attendanceCount + :delta, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.studyMemberId IN :studyMemberIds")
+    int addAttendanceCount(Collection<Long> studyMemberIds, long delta);
+
+    // 카운터가 없으면 주어진 값으로 생성하고, 동시에 먼저 생성된 카운터가 있으면 변경분만 더한다
+    @Modifying
+    @Query(value = "INSERT INTO attendance_counter (study_member_id, study_channel_id, attendance_count, total_schedule_count, created_at, updated_at) " +
+            "VALUES (:studyMemberId, :studyChannelId, :attendanceCount, :totalScheduleCount, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE attendance_count = attendance_count + :delta, updated_at = NOW()",
+            nativeQuery = true)
+    int upsertAttendanceCount(Long studyMemberId, Long studyChannelId, long attendanceCount, int totalScheduleCount, long delta);
+}
@@ -1,10 +1,13 @@
 package com.tenten.studybadge.attendance.domain.repository;
 
 import com.tenten.studybadge.attendance.domain.entity.Attendance;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +19,27 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     List<Attendance> findAllByRepeatScheduleIdAndStudyMemberId(long repeatScheduleId, Long studyMemberId);
     List<Attendance> findAllBySingleScheduleIdAndStudyMemberId(long singleScheduleId, Long studyMemberId);
 
+    // 스터디 채널의 모든 일정(단일 + 반복)에 대한 스터디 멤버 별 출석 횟수를 한 번의 쿼리로 집계
+    @Query("SELECT a.studyMemberId AS studyMemberId, COUNT(a) AS attendanceCount FROM Attendance a " +
+            "WHERE a.attendanceStatus = 'ATTENDANCE' " +
+            "AND (a.singleScheduleId IN (SELECT ss.id FROM SingleSchedule ss WHERE ss.studyChannel.id = :studyChannelId) " +
+            "OR a.repeatScheduleId IN (SELECT rs.id FROM RepeatSchedule rs WHERE rs.studyChannel.id = :studyChannelId)) " +
+            "GROUP BY a.studyMemberId")
+    List<StudyMemberAttendanceCount> countAttendancesGroupByStudyMember(Long studyChannelId);
+
+    // 여러 스터디 채널의 스터디 멤버 별 출석 횟수를 한 번의 쿼리로 집계 (배치 청크 단위 조회)
+    @Query("SELECT a.studyMemberId AS studyMemberId, COUNT(a) AS attendanceCount FROM Attendance a " +
+            "WHERE a.attendanceStatus = 'ATTENDANCE' " +
+            "AND (a.singleScheduleId IN (SELECT ss.id FROM SingleSchedule ss WHERE ss.studyChannel.id IN (:studyChannelIds)) " +
+            "OR a.repeatScheduleId IN (SELECT rs.id FROM RepeatSchedule rs WHERE rs.studyChannel.id IN (:studyChannelIds))) " +
+            "GROUP BY a.studyMemberId")
+    List<StudyMemberAttendanceCount> countAttendancesGroupByStudyMemberIn(Collection<Long> studyChannelIds);
+
+    @Query("SELECT COUNT(a) FROM Attendance a " +
+            "WHERE a.studyMemberId = :studyMemberId " +
+            "AND a.attendanceStatus = 'ATTENDANCE' " +
+            "AND (a.singleScheduleId IN (SELECT ss.id FROM SingleSchedule ss WHERE ss.studyChannel.id = :studyChannelId) " +
+            "OR a.repeatScheduleId IN (SELECT rs.id FROM RepeatSchedule rs WHERE rs.studyChannel.id = :studyChannelId))")
+    long countAttendancesByStudyMember(Long studyMemberId, Long studyChannelId);
+
 }
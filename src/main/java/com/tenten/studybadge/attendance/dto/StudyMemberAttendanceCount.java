@@ -0,0 +1,8 @@
+package com.tenten.studybadge.attendance.dto;
+
+public interface StudyMemberAttendanceCount {
+
+    Long getStudyMemberId();
+    Long getAttendanceCount();
+
+}
@@ -0,0 +1,33 @@
+package com.tenten.studybadge.attendance.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 매일 전체 스터디 채널의 출석 카운터를 다시 계산하여 변경분 반영 중 어긋난 값을 바로잡는다.
+ * 스터디 채널마다 AttendanceCounterService 의 트랜잭션으로 처리하므로, 한 채널이 실패해도 나머지는 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceCounterScheduler {
+
+    private final AttendanceCounterService attendanceCounterService;
+
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분 실행
+    public void reconcileAll() {
+        List<Long> studyChannelIds = attendanceCounterService.findAllStudyChannelIds();
+        log.info("출석 카운터 재계산 대상 스터디 채널 수: {}", studyChannelIds.size());
+        for (Long studyChannelId : studyChannelIds) {
+            try {
+                attendanceCounterService.refreshStudyChannel(studyChannelId);
+            } catch (Exception e) {
+                log.error("스터디 채널 {} 의 출석 카운터 재계산에 실패했습니다.", studyChannelId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.tenten.studybadge.attendance.service;
+
+import com.tenten.studybadge.attendance.domain.entity.AttendanceCounter;
+import com.tenten.studybadge.attendance.domain.repository.AttendanceCounterRepository;
+import com.tenten.studybadge.attendance.domain.repository.AttendanceRepository;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
+import com.tenten.studybadge.common.utils.RecurrenceUtils;
+import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스터디 멤버 별 출석 카운터 관리.
+ * 출석 체크 시에는 변경분만 반영하고, 일정 생성/수정/삭제 시에는 해당 스터디 채널의 카운터를 다시 계산한다.
+ * 출석률 조회는 카운터 한 건 조회로 처리하며, 카운터가 없는 멤버는 조회 또는 출석 체크 시점에 upsert 로 생성한다.
+ * 매일 전체 재계산은 AttendanceCounterScheduler 가 이 서비스의 refreshStudyChannel 을 호출하여 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceCounterService {
+
+    private final AttendanceCounterRepository attendanceCounterRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final SingleScheduleRepository singleScheduleRepository;
+    private final RepeatScheduleRepository repeatScheduleRepository;
+    private final AttendanceCounterTransactionService attendanceCounterTransactionService;
+
+    @Transactional
+    public double getAttendanceRatio(StudyMember studyMember) {
+        return attendanceCounterRepository.findByStudyMemberId(studyMember.getId())
+                .orElseGet(() -> createCounter(studyMember))
+                .getAttendanceRatio();
+    }
+
+    @Transactional
+    public Map<Long, Double> getAttendanceRatios(List<StudyMember> studyMembers) {
+        Map<Long, AttendanceCounter> counterMap = attendanceCounterRepository.findAllByStudyMemberIdIn(
+                studyMembers.stream().map(StudyMember::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(AttendanceCounter::getStudyMemberId, Function.identity()));
+
+        return studyMembers.stream().collect(Collectors.toMap(
+                StudyMember::getId,
+                studyMember -> counterMap.computeIfAbsent(studyMember.getId(), (id) -> createCounter(studyMember)).getAttendanceRatio()));
+    }
+
+    // 출석 체크로 인한 출석 횟수 변경분 반영
+    @Transactional
+    public void applyAttendanceChanges(Long studyChannelId, Collection<Long> attendedStudyMemberIds, Collection<Long> absentStudyMemberIds) {
+        addAttendanceCount(studyChannelId, attendedStudyMemberIds, 1);
+        addAttendanceCount(studyChannelId, absentStudyMemberIds, -1);
+    }
+
+    // 일정 변경 시 스터디 채널의 전체 일정 수와 출석 횟수를 다시 계산
+    @Transactional
+    public void refreshStudyChannel(Long studyChannelId) {
+        List<AttendanceCounter> counters = attendanceCounterRepository.findAllByStudyChannelId(studyChannelId);
+        if (counters.isEmpty()) {
+            return;
+        }
+        int totalScheduleCount = countAllScheduleDays(studyChannelId);
+        Map<Long, Long> attendanceCountMap = attendanceRepository.countAttendancesGroupByStudyMember(studyChannelId)
+                .stream()
+                .collect(Collectors.toMap(StudyMemberAttendanceCount::getStudyMemberId, StudyMemberAttendanceCount::getAttendanceCount));
+
+        counters.forEach(counter -> counter.refresh(attendanceCountMap.getOrDefault(counter.getStudyMemberId(), 0L), totalScheduleCount));
+        attendanceCounterRepository.saveAll(counters);
+    }
+
+    public List<Long> findAllStudyChannelIds() {
+        return attendanceCounterRepository.findAllStudyChannelIds();
+    }
+
+    // 같은 멤버의 카운터를 다른 요청이 먼저 생성했으면 그 카운터를 사용
+    private AttendanceCounter createCounter(StudyMember studyMember) {
+        Long studyChannelId = studyMember.getStudyChannel().getId();
+        return attendanceCounterTransactionService.create(AttendanceCounter.builder()
+                .studyMemberId(studyMember.getId())
+                .studyChannelId(studyChannelId)
+                .attendanceCount(attendanceRepository.countAttendancesByStudyMember(studyMember.getId(), studyChannelId))
+                .totalScheduleCount(countAllScheduleDays(studyChannelId))
+                .build());
+    }
+
+    // 카운터가 없는 멤버는 이 트랜잭션의 출석 기록까지 집계하여 upsert,
+    // 그 사이 조회 시점에 생성된 카운터가 있으면 변경분만 더해지므로 증가분이 유실되지 않는다
+    private void addAttendanceCount(Long studyChannelId, Collection<Long> studyMemberIds, long delta) {
+        if (studyMemberIds.isEmpty() || attendanceCounterRepository.addAttendanceCount(studyMemberIds, delta) == studyMemberIds.size()) {
+            return;
+        }
+        Set<Long> countedStudyMemberIds = attendanceCounterRepository.findAllByStudyMemberIdIn(studyMemberIds).stream()
+                .map(AttendanceCounter::getStudyMemberId)
+                .collect(Collectors.toSet());
+        int totalScheduleCount = countAllScheduleDays(studyChannelId);
+        for (Long studyMemberId : studyMemberIds) {
+            if (!countedStudyMemberIds.contains(studyMemberId)) {
+                attendanceCounterRepository.upsertAttendanceCount(studyMemberId, studyChannelId,
+                        attendanceRepository.countAttendancesByStudyMember(studyMemberId, studyChannelId), totalScheduleCount, delta);
+            }
+        }
+    }
+
+    private int countAllScheduleDays(Long studyChannelId) {
+        // 1) 단일 일정 수
+        int count0 = singleScheduleRepository.findAllByStudyChannelId(studyChannelId).size();
+
+        // 2) 반복 일정 수
+        int count1 = 0;
+        for (RepeatSchedule repeatSchedule : repeatScheduleRepository.findAllByStudyChannelId(studyChannelId)) {
+            count1 += RecurrenceUtils.countOccurrences(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle());
+        }
+        return count0 + count1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tenten.studybadge.attendance.service;
+
+import com.tenten.studybadge.attendance.domain.entity.AttendanceCounter;
+import com.tenten.studybadge.attendance.domain.repository.AttendanceCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 출석 카운터 생성을 호출한 쪽과 별도의 트랜잭션으로 처리한다.
+ * 같은 멤버의 카운터를 동시에 생성해도 upsert 로 먼저 생성된 카운터를 그대로 두고,
+ * 새 트랜잭션에서 다시 조회하므로 호출한 쪽 트랜잭션 시작 이후 커밋된 카운터도 조회된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceCounterTransactionService {
+
+    private final AttendanceCounterRepository attendanceCounterRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public AttendanceCounter create(AttendanceCounter attendanceCounter) {
+        Long studyMemberId = attendanceCounter.getStudyMemberId();
+        attendanceCounterRepository.upsertAttendanceCount(studyMemberId, attendanceCounter.getStudyChannelId(),
+                attendanceCounter.getAttendanceCount(), attendanceCounter.getTotalScheduleCount(), 0);
+        return attendanceCounterRepository.findByStudyMemberId(studyMemberId).orElseThrow();
+    }
+}
@@ -5,12 +5,14 @@ import com.tenten.studybadge.attendance.domain.repository.AttendanceRepository;
 import com.tenten.studybadge.attendance.dto.AttendanceCheckRequest;
 import com.tenten.studybadge.attendance.dto.AttendanceInfoResponse;
 import com.tenten.studybadge.attendance.dto.AttendanceMember;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
 import com.tenten.studybadge.common.exception.attendance.InvalidAttendanceCheckDateException;
 import com.tenten.studybadge.common.exception.schedule.NotFoundRepeatScheduleException;
 import com.tenten.studybadge.common.exception.schedule.NotFoundSingleScheduleException;
 import com.tenten.studybadge.common.exception.schedule.NotIncludedInRepeatScheduleException;
 import com.tenten.studybadge.common.exception.studychannel.NotStudyLeaderException;
 import com.tenten.studybadge.common.exception.studychannel.NotStudyMemberException;
+import com.tenten.studybadge.common.utils.RecurrenceUtils;
 import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
 import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
 import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
@@ -19,15 +21,15 @@ import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
 import com.tenten.studybadge.type.attendance.AttendanceStatus;
-import com.tenten.studybadge.type.schedule.RepeatCycle;
-import com.tenten.studybadge.type.schedule.RepeatSituation;
 import com.tenten.studybadge.type.schedule.ScheduleType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -41,15 +43,17 @@ public class AttendanceService {
     private final StudyMemberRepository studyMemberRepository;
     private final SingleScheduleRepository singleScheduleRepository;
     private final RepeatScheduleRepository repeatScheduleRepository;
+    private final AttendanceCounterService attendanceCounterService;
 
+    @Transactional
     public void checkAttendance(AttendanceCheckRequest attendanceCheckRequest, Long memberId, Long studyChannelId) {
         checkLeader(memberId, studyChannelId);
         ScheduleType scheduleType = attendanceCheckRequest.getScheduleType();
 
         if (scheduleType.equals(ScheduleType.SINGLE)) {
-            checkAttendanceForSingleSchedule(attendanceCheckRequest);
+            checkAttendanceForSingleSchedule(attendanceCheckRequest, studyChannelId);
         } else {
-            checkAttendanceForRepeatSchedule(attendanceCheckRequest);
+            checkAttendanceForRepeatSchedule(attendanceCheckRequest, studyChannelId);
         }
     }
 
@@ -62,37 +66,15 @@ public class AttendanceService {
 
         int totalDays = countAllScheduleDays(singleSchedules, repeatSchedules);
 
-        // 스터디 멤버 별 총 출석 일수
-        Map<Long, Long> studyMemberAttendanceCountMap = studyMembers.stream().collect(Collectors.toMap(StudyMember::getId, (studyMember) -> 0L));
-
-        // 반복 일정
-        for (RepeatSchedule repeatSchedule : repeatSchedules) {
-            List<Attendance> repeatScheduleAttendances = attendanceRepository.findAllByRepeatScheduleId(repeatSchedule.getId());
-            Map<Long, List<Attendance>> listMap = groupByStudyMember(repeatScheduleAttendances);
-
-            for (Map.Entry<Long, List<Attendance>> entry : listMap.entrySet()) {
-                Long studyMemberId = entry.getKey();
-                List<Attendance> attendances = entry.getValue();
-
-                long attendanceDays = attendances.stream().filter(attendance -> attendance.getAttendanceStatus().equals(AttendanceStatus.ATTENDANCE)).count();
-                studyMemberAttendanceCountMap.put(studyMemberId, studyMemberAttendanceCountMap.getOrDefault(studyMemberId, 0L) + attendanceDays);
-            }
-        }
-
-        // 단일 일정
-        for (SingleSchedule singleSchedule : singleSchedules) {
-            List<Attendance> singleScheduleAttendances = attendanceRepository.findAllBySingleScheduleId(singleSchedule.getId());
-            singleScheduleAttendances.stream()
-                    .filter(attendance -> attendance.getAttendanceStatus().equals(AttendanceStatus.ATTENDANCE))
-                    .forEach(attendance -> studyMemberAttendanceCountMap.put(
-                            attendance.getStudyMemberId(),
-                            studyMemberAttendanceCountMap.getOrDefault(attendance.getStudyMemberId(), 0L) + 1));
-        }
+        // 스터디 멤버 별 총 출석 일수 (단일 + 반복 일정 출석을 DB 에서 한 번에 집계)
+        Map<Long, Long> studyMemberAttendanceCountMap = attendanceRepository.countAttendancesGroupByStudyMember(studyChannelId)
+                .stream()
+                .collect(Collectors.toMap(StudyMemberAttendanceCount::getStudyMemberId, StudyMemberAttendanceCount::getAttendanceCount));
 
         List<AttendanceInfoResponse> attendanceInfoResponses = new ArrayList<>();
 
         for (StudyMember studyMember : studyMembers) {
-            long attendanceDays = studyMemberAttendanceCountMap.get(studyMember.getId());
+            long attendanceDays = studyMemberAttendanceCountMap.getOrDefault(studyMember.getId(), 0L);
             double attendanceRatio = totalDays == 0 ? 0.0 : (double) attendanceDays * 100 / totalDays;
             attendanceInfoResponses.add(AttendanceInfoResponse.builder()
                     .memberId(studyMember.getMember().getId())
@@ -107,37 +89,14 @@ public class AttendanceService {
     }
 
     public double getAttendanceRatioForMember(StudyMember studyMember) {
-        StudyChannel studyChannel = studyMember.getStudyChannel();
-        List<SingleSchedule> singleSchedules = singleScheduleRepository.findAllByStudyChannelId(studyChannel.getId());
-        List<RepeatSchedule> repeatSchedules = repeatScheduleRepository.findAllByStudyChannelId(studyChannel.getId());
-
-        int totalDays = countAllScheduleDays(singleSchedules, repeatSchedules);
-        long totalAttendanceDays = 0;
-
-        // 반복 일정
-        for (RepeatSchedule repeatSchedule : repeatSchedules) {
-            List<Attendance> repeatScheduleAttendances = attendanceRepository.findAllByRepeatScheduleIdAndStudyMemberId(repeatSchedule.getId(), studyMember.getId());
-            totalAttendanceDays += repeatScheduleAttendances.stream()
-                    .filter(Attendance::isAttendance)
-                    .count();
-        }
-
-        // 단일 일정
-        for (SingleSchedule singleSchedule : singleSchedules) {
-            List<Attendance> singleScheduleAttendances = attendanceRepository.findAllBySingleScheduleIdAndStudyMemberId(singleSchedule.getId(), studyMember.getId());
-            totalAttendanceDays += singleScheduleAttendances.stream()
-                    .filter(Attendance::isAttendance)
-                    .count();
-        }
-
-        return (double) (totalAttendanceDays * 100) / totalDays;
+        return attendanceCounterService.getAttendanceRatio(studyMember);
     }
 
-    private Map<Long, List<Attendance>> groupByStudyMember(List<Attendance> repeatScheduleAttendances) {
-        return repeatScheduleAttendances.stream().collect(Collectors.groupingBy(Attendance::getStudyMemberId));
+    public Map<Long, Double> getAttendanceRatiosForMembers(List<StudyMember> studyMembers) {
+        return attendanceCounterService.getAttendanceRatios(studyMembers);
     }
 
-    private void checkAttendanceForSingleSchedule(AttendanceCheckRequest attendanceCheckRequest) {
+    private void checkAttendanceForSingleSchedule(AttendanceCheckRequest attendanceCheckRequest, Long studyChannelId) {
         SingleSchedule singleSchedule = singleScheduleRepository.findById(attendanceCheckRequest.getScheduleId()).orElseThrow(NotFoundSingleScheduleException::new);
         LocalDate attendanceCheckDate = attendanceCheckRequest.getAttendanceCheckDate();
         LocalDateTime currentTime = LocalDateTime.now();
@@ -149,13 +108,13 @@ public class AttendanceService {
         List<Attendance> attendanceList = attendanceRepository.findAllBySingleScheduleId(attendanceCheckRequest.getScheduleId());
 
         if (attendanceList.isEmpty()) {
-            saveAttendances(attendanceCheckRequest, ScheduleType.SINGLE, singleSchedule.getId());
+            saveAttendances(attendanceCheckRequest, studyChannelId, ScheduleType.SINGLE, singleSchedule.getId());
         } else {
-            updateAttendances(attendanceCheckRequest, attendanceList);
+            updateAttendances(attendanceCheckRequest, studyChannelId, attendanceList);
         }
     }
 
-    private void checkAttendanceForRepeatSchedule(AttendanceCheckRequest attendanceCheckRequest) {
+    private void checkAttendanceForRepeatSchedule(AttendanceCheckRequest attendanceCheckRequest, Long studyChannelId) {
         RepeatSchedule repeatSchedule = repeatScheduleRepository.findById(attendanceCheckRequest.getScheduleId()).orElseThrow(NotFoundRepeatScheduleException::new);
         LocalDate attendanceCheckDate = attendanceCheckRequest.getAttendanceCheckDate();
         LocalDateTime currentTime = LocalDateTime.now();
@@ -173,18 +132,20 @@ public class AttendanceService {
         List<Attendance> attendanceList = attendanceRepository.findAllByRepeatScheduleIdAndAttendanceDateTimeBetween(attendanceCheckRequest.getScheduleId(), startDateTime, endDateTime);
 
         if (attendanceList.isEmpty()) {
-            saveAttendances(attendanceCheckRequest, ScheduleType.REPEAT, repeatSchedule.getId());
+            saveAttendances(attendanceCheckRequest, studyChannelId, ScheduleType.REPEAT, repeatSchedule.getId());
         } else {
-            updateAttendances(attendanceCheckRequest, attendanceList);
+            updateAttendances(attendanceCheckRequest, studyChannelId, attendanceList);
         }
     }
 
-    private void updateAttendances(AttendanceCheckRequest attendanceCheckRequest, List<Attendance> attendanceList) {
+    private void updateAttendances(AttendanceCheckRequest attendanceCheckRequest, Long studyChannelId, List<Attendance> attendanceList) {
 
         Map<Long, AttendanceMember> attendanceMemberMap = attendanceCheckRequest.getAttendanceMembers().stream().collect(
                 Collectors.toMap(AttendanceMember::getStudyMemberId, Function.identity())
         );
 
+        List<Long> attendedStudyMemberIds = new ArrayList<>();
+        List<Long> absentStudyMemberIds = new ArrayList<>();
         for (Attendance attendance : attendanceList) {
             Long studyMemberId = attendance.getStudyMemberId();
             AttendanceMember attendanceMember;
@@ -192,12 +153,21 @@ public class AttendanceService {
                 continue;
             }
             attendanceMember = attendanceMemberMap.get(studyMemberId);
+            boolean wasAttendance = attendance.isAttendance();
             attendance.setAttendanceStatus(attendanceMember.getIsAttendance() ? AttendanceStatus.ATTENDANCE : AttendanceStatus.ABSENCE);
+
+            // 출석 상태가 바뀐 멤버만 카운터에 반영
+            if (!wasAttendance && attendance.isAttendance()) {
+                attendedStudyMemberIds.add(studyMemberId);
+            } else if (wasAttendance && !attendance.isAttendance()) {
+                absentStudyMemberIds.add(studyMemberId);
+            }
         }
         attendanceRepository.saveAll(attendanceList);
+        attendanceCounterService.applyAttendanceChanges(studyChannelId, attendedStudyMemberIds, absentStudyMemberIds);
     }
 
-    private void saveAttendances(AttendanceCheckRequest attendanceCheckRequest, ScheduleType scheduleType, Long scheduleId) {
+    private void saveAttendances(AttendanceCheckRequest attendanceCheckRequest, Long studyChannelId, ScheduleType scheduleType, Long scheduleId) {
 
         List<Attendance> attendances = attendanceCheckRequest.getAttendanceMembers().stream()
                 .map(attendanceMember -> Attendance.builder()
@@ -214,29 +184,12 @@ public class AttendanceService {
             attendances.forEach(attendance -> attendance.setRepeatScheduleId(scheduleId));
         }
         attendanceRepository.saveAll(attendances);
-    }
 
-    private int calculate(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle, RepeatSituation repeatSituation) {
-        LocalDate currentDate = startDate;
-        int count = 0;
-        while (currentDate.isBefore(endDate) || currentDate.isEqual(endDate)) {
-            count++;
-            switch (repeatCycle) {
-                case DAILY: {
-                    currentDate = currentDate.plusDays(1);
-                    break;
-                }
-                case WEEKLY: {
-                    currentDate = currentDate.plusWeeks(1);
-                    break;
-                }
-                case MONTHLY: {
-                    currentDate = currentDate.plusMonths((Integer) repeatSituation.getDescription());
-                    break;
-                }
-            }
-        }
-        return count;
+        List<Long> attendedStudyMemberIds = attendances.stream()
+                .filter(Attendance::isAttendance)
+                .map(Attendance::getStudyMemberId)
+                .toList();
+        attendanceCounterService.applyAttendanceChanges(studyChannelId, attendedStudyMemberIds, Collections.emptyList());
     }
 
     private int countAllScheduleDays(List<SingleSchedule> singleSchedules, List<RepeatSchedule> repeatSchedules) {
@@ -246,7 +199,7 @@ public class AttendanceService {
         // 2) 반복 일정 수
         int count1 = 0;
         for (RepeatSchedule repeatSchedule : repeatSchedules) {
-            count1 += calculate(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle(), repeatSchedule.getRepeatSituation());
+            count1 += RecurrenceUtils.countOccurrences(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle());
         }
         return count0 + count1;
     }
@@ -1,8 +1,8 @@
 package com.tenten.studybadge.common.batch;
 
-import com.tenten.studybadge.attendance.domain.entity.Attendance;
 import com.tenten.studybadge.attendance.domain.repository.AttendanceRepository;
-import com.tenten.studybadge.attendance.dto.AttendanceInfoResponse;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
+import com.tenten.studybadge.common.utils.RecurrenceUtils;
 import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
 import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
 import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
@@ -10,115 +10,89 @@ import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
-import com.tenten.studybadge.type.attendance.AttendanceStatus;
-import com.tenten.studybadge.type.schedule.RepeatCycle;
-import com.tenten.studybadge.type.schedule.RepeatSituation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 스터디 채널 별 멤버 출석률 계산.
+ * 청크를 구성하는 스터디 채널을 읽는 동안 ID 를 모아두었다가, 첫 process 호출 시 청크 전체의 멤버/일정/출석 집계를 한 번에 조회한다.
+ * 파티션 별로 상태를 가지므로 StepScope 로 등록한다.
+ */
 @Component
+@StepScope
 @RequiredArgsConstructor
-public class AttendanceRatioProcessor implements ItemProcessor<StudyChannel, StudyMemberAttendanceRatioList> {
+public class AttendanceRatioProcessor implements ItemProcessor<StudyChannel, StudyMemberAttendanceRatioList>, ItemReadListener<StudyChannel> {
 
     private final AttendanceRepository attendanceRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final SingleScheduleRepository singleScheduleRepository;
     private final RepeatScheduleRepository repeatScheduleRepository;
 
+    private final List<Long> pendingStudyChannelIds = new ArrayList<>();
+    private Map<Long, StudyMemberAttendanceRatioList> preloaded = new HashMap<>();
+
     @Override
-    public StudyMemberAttendanceRatioList process(StudyChannel studyChannel) throws Exception {
-        List<AttendanceInfoResponse> responses = getAttendanceRatioForStudyChannel(studyChannel);
-        return StudyMemberAttendanceRatioList.builder()
-                .studyMemberAttendanceRatioList(responses.stream()
-                .map((response) -> new StudyMemberAttendanceRatio(response.getStudyMemberId(), response.getAttendanceRatio()))
-                .toList())
-                .build();
+    public void afterRead(StudyChannel studyChannel) {
+        pendingStudyChannelIds.add(studyChannel.getId());
     }
 
-    public List<AttendanceInfoResponse> getAttendanceRatioForStudyChannel(StudyChannel studyChannel) {
-
-        List<StudyMember> studyMembers = studyMemberRepository.findAllByStudyChannelIdWithMember(studyChannel.getId());
-        List<SingleSchedule> singleSchedules = singleScheduleRepository.findAllByStudyChannelId(studyChannel.getId());
-        List<RepeatSchedule> repeatSchedules = repeatScheduleRepository.findAllByStudyChannelId(studyChannel.getId());
-
-        int totalDays = countAllScheduleDays(singleSchedules, repeatSchedules);
-
-        // 스터디 멤버 별 총 출석 일수
-        Map<Long, Long> studyMemberAttendanceCountMap = studyMembers.stream().collect(Collectors.toMap(StudyMember::getId, (studyMember) -> 0L));
-
-        // 반복 일정
-        for (RepeatSchedule repeatSchedule : repeatSchedules) {
-            List<Attendance> repeatScheduleAttendances = attendanceRepository.findAllByRepeatScheduleId(repeatSchedule.getId());
-            Map<Long, List<Attendance>> listMap = groupByStudyMember(repeatScheduleAttendances);
-
-            for (Map.Entry<Long, List<Attendance>> entry : listMap.entrySet()) {
-                Long studyMemberId = entry.getKey();
-                List<Attendance> attendances = entry.getValue();
-
-                long attendanceDays = attendances.stream().filter(attendance -> attendance.getAttendanceStatus().equals(AttendanceStatus.ATTENDANCE)).count();
-                studyMemberAttendanceCountMap.put(studyMemberId, studyMemberAttendanceCountMap.getOrDefault(studyMemberId, 0L) + attendanceDays);
+    @Override
+    public StudyMemberAttendanceRatioList process(StudyChannel studyChannel) throws Exception {
+        if (!preloaded.containsKey(studyChannel.getId())) {
+            if (!pendingStudyChannelIds.contains(studyChannel.getId())) {
+                pendingStudyChannelIds.add(studyChannel.getId());
             }
+            preloaded = preload(pendingStudyChannelIds);
+            pendingStudyChannelIds.clear();
         }
-
-        // 단일 일정
-        for (SingleSchedule singleSchedule : singleSchedules) {
-            List<Attendance> singleScheduleAttendances = attendanceRepository.findAllBySingleScheduleId(singleSchedule.getId());
-            singleScheduleAttendances.stream()
-                    .filter(attendance -> attendance.getAttendanceStatus().equals(AttendanceStatus.ATTENDANCE))
-                    .forEach(attendance -> studyMemberAttendanceCountMap.put(
-                            attendance.getStudyMemberId(),
-                            studyMemberAttendanceCountMap.getOrDefault(attendance.getStudyMemberId(), 0L) + 1));
-        }
-
-        List<AttendanceInfoResponse> attendanceInfoResponses = new ArrayList<>();
-
-        for (StudyMember studyMember : studyMembers) {
-            long attendanceDays = studyMemberAttendanceCountMap.get(studyMember.getId());
-            double attendanceRatio = (double) attendanceDays * 100 / totalDays;
-            attendanceInfoResponses.add(AttendanceInfoResponse.builder()
-                    .memberId(studyMember.getMember().getId())
-                    .studyMemberId(studyMember.getId())
-                    .name(studyMember.getMember().getName())
-                    .imageUrl(studyMember.getMember().getImgUrl())
-                    .attendanceCount(attendanceDays)
-                    .attendanceRatio(attendanceRatio)
-                    .build());
-        }
-        return attendanceInfoResponses;
+        return preloaded.get(studyChannel.getId());
     }
 
-    private Map<Long, List<Attendance>> groupByStudyMember(List<Attendance> repeatScheduleAttendances) {
-        return repeatScheduleAttendances.stream().collect(Collectors.groupingBy(Attendance::getStudyMemberId));
-    }
-
-    private int calculate(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle, RepeatSituation repeatSituation) {
-        LocalDate currentDate = startDate;
-        int count = 0;
-        while (currentDate.isBefore(endDate) || currentDate.isEqual(endDate)) {
-            count++;
-            switch (repeatCycle) {
-                case DAILY: {
-                    currentDate = currentDate.plusDays(1);
-                    break;
-                }
-                case WEEKLY: {
-                    currentDate = currentDate.plusWeeks(1);
-                    break;
-                }
-                case MONTHLY: {
-                    currentDate = currentDate.plusMonths((Integer) repeatSituation.getDescription());
-                    break;
-                }
-            }
+    private Map<Long, StudyMemberAttendanceRatioList> preload(List<Long> studyChannelIds) {
+
+        Map<Long, List<StudyMember>> studyMembersMap = studyMemberRepository.findAllByStudyChannelIdInWithMember(studyChannelIds)
+                .stream()
+                .collect(Collectors.groupingBy(studyMember -> studyMember.getStudyChannel().getId()));
+        Map<Long, List<SingleSchedule>> singleSchedulesMap = singleScheduleRepository.findAllByStudyChannelIdIn(studyChannelIds)
+                .stream()
+                .collect(Collectors.groupingBy(singleSchedule -> singleSchedule.getStudyChannel().getId()));
+        Map<Long, List<RepeatSchedule>> repeatSchedulesMap = repeatScheduleRepository.findAllByStudyChannelIdIn(studyChannelIds)
+                .stream()
+                .collect(Collectors.groupingBy(repeatSchedule -> repeatSchedule.getStudyChannel().getId()));
+
+        // 스터디 멤버 별 총 출석 일수 (청크 내 모든 스터디 채널을 한 번에 집계)
+        Map<Long, Long> studyMemberAttendanceCountMap = attendanceRepository.countAttendancesGroupByStudyMemberIn(studyChannelIds)
+                .stream()
+                .collect(Collectors.toMap(StudyMemberAttendanceCount::getStudyMemberId, StudyMemberAttendanceCount::getAttendanceCount));
+
+        Map<Long, StudyMemberAttendanceRatioList> result = new HashMap<>();
+        for (Long studyChannelId : studyChannelIds) {
+            int totalDays = countAllScheduleDays(
+                    singleSchedulesMap.getOrDefault(studyChannelId, List.of()),
+                    repeatSchedulesMap.getOrDefault(studyChannelId, List.of()));
+
+            List<StudyMemberAttendanceRatio> ratios = studyMembersMap.getOrDefault(studyChannelId, List.of()).stream()
+                    .map(studyMember -> {
+                        long attendanceDays = studyMemberAttendanceCountMap.getOrDefault(studyMember.getId(), 0L);
+                        double attendanceRatio = totalDays == 0 ? 0.0 : (double) attendanceDays * 100 / totalDays;
+                        return new StudyMemberAttendanceRatio(studyMember.getId(), attendanceRatio);
+                    })
+                    .toList();
+
+            result.put(studyChannelId, StudyMemberAttendanceRatioList.builder()
+                    .studyMemberAttendanceRatioList(ratios)
+                    .build());
         }
-        return count;
+        return result;
     }
 
     private int countAllScheduleDays(List<SingleSchedule> singleSchedules, List<RepeatSchedule> repeatSchedules) {
@@ -128,10 +102,8 @@ public class AttendanceRatioProcessor implements ItemProcessor<StudyChannel, Stu
         // 2) 반복 일정 수
         int count1 = 0;
         for (RepeatSchedule repeatSchedule : repeatSchedules) {
-            count1 += calculate(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle(), repeatSchedule.getRepeatSituation());
+            count1 += RecurrenceUtils.countOccurrences(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle());
         }
         return count0 + count1;
     }
-
-
 }
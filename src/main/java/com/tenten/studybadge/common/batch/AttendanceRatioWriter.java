@@ -1,9 +1,7 @@
 package com.tenten.studybadge.common.batch;
 
-import com.tenten.studybadge.member.domain.entity.Member;
-import com.tenten.studybadge.member.domain.repository.MemberRepository;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.dto.PointLedgerEntry;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.deposit.domain.entity.StudyChannelDeposit;
 import com.tenten.studybadge.study.deposit.domain.repository.StudyChannelDepositRepository;
 import com.tenten.studybadge.type.point.PointHistoryType;
@@ -11,62 +9,128 @@ import com.tenten.studybadge.type.point.TransferType;
 import com.tenten.studybadge.type.study.deposit.DepositStatus;
 import com.tenten.studybadge.type.study.member.StudyMemberStatus;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 출석률에 따른 예치금 환급.
+ * 청크 단위로 예치금을 한 번에 조회하고, 예치금 갱신과 포인트 적립(PointLedgerService)을 각각 JDBC 배치 한 번으로 처리한다.
+ * 이미 환급된 예치금(REFUND, 퇴출 시 부분 환급 포함)은 건너뛰고, 아직 환급되지 않은 예치금 행을 먼저 잠가 선점한 뒤
+ * 선점한 예치금만 갱신하고 포인트를 적립하므로 재시작이나 동시 실행에도 중복 지급되지 않는다.
+ * 배치 갱신 결과로 건수 대신 SUCCESS_NO_INFO 를 주는 드라이버에서도 선점한 행은 반드시 갱신되므로 적립이 누락되지 않는다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceRatioWriter implements ItemWriter<StudyMemberAttendanceRatioList> {
 
+    private static final String UPDATE_DEPOSIT = "UPDATE study_channel_deposit " +
+            "SET attendance_ratio = ?, deposit_status = 'REFUND', refunds_amount = ?, amount = 0, updated_at = ? " +
+            "WHERE study_channel_deposit_id = ? AND deposit_status <> 'REFUND'";
+    private static final String LOCK_REFUNDABLE_DEPOSITS = "SELECT study_channel_deposit_id FROM study_channel_deposit " +
+            "WHERE study_channel_deposit_id IN (%s) AND deposit_status <> 'REFUND' FOR UPDATE";
+
     private final StudyChannelDepositRepository depositRepository;
-    private final PointRepository pointRepository;
-    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PointLedgerService pointLedgerService;
 
     @Override
     public void write(Chunk<? extends StudyMemberAttendanceRatioList> chunk) throws Exception {
         List<? extends StudyMemberAttendanceRatioList> items = chunk.getItems();
 
-        items.forEach(item -> {
+        List<Long> studyMemberIds = items.stream()
+                .flatMap(item -> item.getStudyMemberAttendanceRatioList().stream())
+                .map(StudyMemberAttendanceRatio::getStudyMemberId)
+                .toList();
+        if (studyMemberIds.isEmpty()) {
+            return;
+        }
+        Map<Long, StudyChannelDeposit> depositMap = depositRepository.findAllByStudyMemberIdIn(studyMemberIds).stream()
+                .collect(Collectors.toMap((deposit) -> deposit.getStudyMember().getId(), Function.identity()));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> depositIds = new ArrayList<>();
+        List<Object[]> depositArgs = new ArrayList<>();
+        List<PointLedgerEntry> pointEntries = new ArrayList<>();
+
+        for (StudyMemberAttendanceRatioList item : items) {
             List<StudyMemberAttendanceRatio> ratios = item.getStudyMemberAttendanceRatioList();
-            List<Long> studyMemberIds = ratios.stream().map(StudyMemberAttendanceRatio::getStudyMemberId).toList();
-            List<StudyChannelDeposit> deposits = depositRepository.findAllByStudyMemberIdIn(studyMemberIds);
-            Map<Long, StudyChannelDeposit> depositMap = deposits.stream().collect(Collectors.toMap((deposit) -> deposit.getStudyMember().getId(), Function.identity()));
+            List<StudyChannelDeposit> deposits = ratios.stream()
+                    .map(ratio -> depositMap.get(ratio.getStudyMemberId()))
+                    .filter(Objects::nonNull)
+                    .toList();
 
             int sum = deposits.stream().mapToInt(StudyChannelDeposit::getAmount).sum();
             double totalAttendanceRatio = ratios.stream().mapToDouble(StudyMemberAttendanceRatio::getAttendanceRatio).sum();
 
             for (StudyMemberAttendanceRatio ratio : ratios) {
                 StudyChannelDeposit deposit = depositMap.get(ratio.getStudyMemberId());
-                if (deposit.getStudyMember().getStudyMemberStatus() != StudyMemberStatus.PARTICIPATING) {
+                if (deposit == null || deposit.getStudyMember().getStudyMemberStatus() != StudyMemberStatus.PARTICIPATING) {
+                    continue;
+                }
+                // 이미 환급된 예치금은 건너뜀
+                if (deposit.getDepositStatus() == DepositStatus.REFUND) {
+                    log.info("이미 환급된 예치금입니다. studyMemberId: {}", ratio.getStudyMemberId());
                     continue;
                 }
                 int myRefunds = Double.valueOf(Math.floor(sum * ratio.getAttendanceRatio() / totalAttendanceRatio)).intValue();
+                Long memberId = deposit.getMember().getId();
 
-                deposit.setAttendanceRatio(ratio.getAttendanceRatio());
-                deposit.setDepositStatus(DepositStatus.REFUND);
-                deposit.setRefundsAmount(myRefunds);
-                deposit.setAmount(0);
-                Member member = deposit.getMember();
-                Point point = Point.builder()
-                        .transferType(TransferType.STUDY_REWARD)
-                        .historyType(PointHistoryType.EARNED)
-                        .member(member)
-                        .amount(myRefunds)
-                        .build();
-                Member updatedMember = member.toBuilder()
-                        .point(member.getPoint() + myRefunds)
-                        .build();
-                memberRepository.save(updatedMember);
-                depositRepository.save(deposit);
-                pointRepository.save(point);
+                depositIds.add(deposit.getId());
+                depositArgs.add(new Object[]{ratio.getAttendanceRatio(), myRefunds, now, deposit.getId()});
+                pointEntries.add(new PointLedgerEntry(memberId, myRefunds, PointHistoryType.EARNED, TransferType.STUDY_REWARD));
             }
-        });
+        }
+
+        if (depositIds.isEmpty()) {
+            return;
+        }
+        // 조회 이후 다른 실행에서 먼저 환급된 예치금은 선점되지 않으므로 포인트를 적립하지 않음
+        Set<Long> claimedIds = lockRefundableDeposits(depositIds);
+        List<Object[]> claimedArgs = new ArrayList<>(claimedIds.size());
+        List<PointLedgerEntry> claimedEntries = new ArrayList<>(claimedIds.size());
+        for (int i = 0; i < depositIds.size(); i++) {
+            if (claimedIds.contains(depositIds.get(i))) {
+                claimedArgs.add(depositArgs.get(i));
+                claimedEntries.add(pointEntries.get(i));
+            }
+        }
+        if (claimedEntries.size() < pointEntries.size()) {
+            log.info("이미 환급된 예치금 {}건은 포인트를 적립하지 않습니다.", pointEntries.size() - claimedEntries.size());
+        }
+        if (claimedArgs.isEmpty()) {
+            return;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_DEPOSIT, claimedArgs);
+
+        List<PointLedgerEntry> refundedEntries = new ArrayList<>(claimedEntries.size());
+        for (int i = 0; i < updated.length; i++) {
+            // 드라이버에 따라 건수 대신 SUCCESS_NO_INFO 를 반환, 선점한 행이므로 갱신된 것으로 봄
+            if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                refundedEntries.add(claimedEntries.get(i));
+            }
+        }
+        pointLedgerService.creditAll(refundedEntries);
+    }
 
+    // 환급되지 않은 예치금 행을 트랜잭션이 끝날 때까지 잠그고 잠근 id 를 반환
+    private Set<Long> lockRefundableDeposits(List<Long> depositIds) {
+        String placeholders = depositIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        return Set.copyOf(jdbcTemplate.queryForList(String.format(LOCK_REFUNDABLE_DEPOSITS, placeholders),
+                Long.class, depositIds.toArray()));
     }
 }
@@ -1,18 +1,24 @@
 package com.tenten.studybadge.common.batch;
 
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
@@ -25,43 +31,96 @@ import java.util.Map;
 public class DepositRefundsBatchConfig {
 
     private final static String JOB_NAME = "depositRefundsBatchJob";
+    public final static String DEPOSIT_REFUNDS_TASK_EXECUTOR = "depositRefundsTaskExecutor";
     private final static String SELECT_STUDY_CHANNEL = "SELECT sc FROM StudyChannel sc " +
-            "WHERE sc.studyDuration.studyEndDate = :date ";
+            "WHERE sc.studyDuration.studyEndDate BETWEEN :startDate AND :targetDate " +
+            "AND sc.id BETWEEN :minId AND :maxId " +
+            "ORDER BY sc.id";
 
     private final EntityManagerFactory entityManagerFactory;
     private final AttendanceRatioProcessor attendanceRatioProcessor;
     private final AttendanceRatioWriter attendanceRatioWriter;
+    private final StudyChannelRepository studyChannelRepository;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
+    @Value("${batch.deposit-refunds.grid-size:4}")
+    private int gridSize;
+
+    @Value("${batch.deposit-refunds.chunk-size:100}")
+    private int chunkSize;
+
     @Bean
     public Job depositRefundsJob() {
         return new JobBuilder(JOB_NAME, jobRepository)
+                .validator(new DefaultJobParametersValidator(new String[]{"targetDate"}, new String[]{"startDate"}))
                 .start(depositRefundsStep())
                 .build();
     }
 
+    // 스터디 채널 ID 범위로 파티션을 나누어 워커 스텝을 병렬 실행
     @Bean
     public Step depositRefundsStep() {
         return new StepBuilder(JOB_NAME + "_STEP", jobRepository)
-                .<StudyChannel, StudyMemberAttendanceRatioList>chunk(10, transactionManager)
-                .reader(itemReader())
+                .partitioner(JOB_NAME + "_WORKER_STEP", depositRefundsPartitioner(null, null))
+                .step(depositRefundsWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(depositRefundsTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step depositRefundsWorkerStep() {
+        return new StepBuilder(JOB_NAME + "_WORKER_STEP", jobRepository)
+                .<StudyChannel, StudyMemberAttendanceRatioList>chunk(chunkSize, transactionManager)
+                .reader(itemReader(null, null, null, null))
                 .processor(attendanceRatioProcessor)
                 .writer(attendanceRatioWriter)
+                .listener(attendanceRatioProcessor)
                 .build();
     }
 
+    // startDate 가 없으면 targetDate 하루만 처리, 있으면 [startDate, targetDate] 기간을 한 번에 처리 (누락된 날짜 보충)
+    @Bean
+    @StepScope
+    public DepositRefundsPartitioner depositRefundsPartitioner(
+            @Value("#{jobParameters['startDate']}") LocalDate startDate,
+            @Value("#{jobParameters['targetDate']}") LocalDate targetDate) {
+        return new DepositRefundsPartitioner(studyChannelRepository, startDate == null ? targetDate : startDate, targetDate);
+    }
+
+    // 파티션 스텝 전용, 이 빈 때문에 Spring Boot 기본 실행기(applicationTaskExecutor)가 만들어지지 않으므로
+    // @Async 는 AsyncConfig 의 전용 실행기를 사용하도록 지정되어 있음
+    @Bean(name = DEPOSIT_REFUNDS_TASK_EXECUTOR)
+    public TaskExecutor depositRefundsTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("deposit-refunds-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    // 재시작 시 ExecutionContext 에 저장된 읽은 건수부터 이어서 읽도록 ID 순으로 정렬하고 상태를 저장
     @Bean
-    public ItemReader<StudyChannel> itemReader() {
-        LocalDate now = LocalDate.now();
+    @StepScope
+    public JpaPagingItemReader<StudyChannel> itemReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId,
+            @Value("#{stepExecutionContext['startDate']}") String startDate,
+            @Value("#{stepExecutionContext['targetDate']}") String targetDate) {
         Map<String, Object> map = new HashMap<>();
-        map.put("date", now.minusDays(1));
+        map.put("startDate", LocalDate.parse(startDate));
+        map.put("targetDate", LocalDate.parse(targetDate));
+        map.put("minId", minId);
+        map.put("maxId", maxId);
         return new JpaPagingItemReaderBuilder<StudyChannel>()
                 .name(JOB_NAME + "_READER")
                 .entityManagerFactory(entityManagerFactory)
                 .queryString(SELECT_STUDY_CHANNEL)
                 .parameterValues(map)
-                .pageSize(10)
+                .pageSize(chunkSize)
+                .saveState(true)
                 .build();
     }
 }
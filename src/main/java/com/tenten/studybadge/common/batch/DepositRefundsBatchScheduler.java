@@ -1,35 +1,164 @@
 package com.tenten.studybadge.common.batch;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.JobExecutionException;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
+/**
+ * 예치금 환급 배치 실행.
+ * - targetDate(전날) 를 식별 파라미터로 사용하므로 같은 날짜는 한 번만 완료된다.
+ * - 직전 실행이 실패/중단된 경우 같은 파라미터로 재시작하여 커밋된 청크 이후부터 이어서 처리한다.
+ * - 마지막으로 완료된 날짜 이후 누락된 날짜가 있으면 startDate ~ targetDate 를 한 번에 처리한다.
+ *   startDate 는 비식별 파라미터이므로 같은 targetDate 를 다른 startDate 로 다시 실행할 수 없다.
+ * - maxCatchUpDays 보다 오래 누락된 날짜는 처리하지 않고 경고 로그와 skipped-days 지표를 남긴다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DepositRefundsBatchScheduler {
 
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
     private final DepositRefundsBatchConfig config;
+    private final int maxCatchUpDays;
+    private final int staleExecutionHours;
+
+    private final Counter skippedDaysCounter;
+
+    public DepositRefundsBatchScheduler(JobLauncher jobLauncher, JobExplorer jobExplorer,
+                                        JobRepository jobRepository, DepositRefundsBatchConfig config,
+                                        @Value("${batch.deposit-refunds.max-catch-up-days:7}") int maxCatchUpDays,
+                                        @Value("${batch.deposit-refunds.stale-execution-hours:6}") int staleExecutionHours,
+                                        MeterRegistry meterRegistry) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.config = config;
+        this.maxCatchUpDays = maxCatchUpDays;
+        this.staleExecutionHours = staleExecutionHours;
+
+        this.skippedDaysCounter = Counter.builder("batch.deposit-refunds.skipped-days")
+                .description("maxCatchUpDays 를 넘어 환급 배치를 실행하지 않은 날짜 수")
+                .register(meterRegistry);
+    }
 
     @Scheduled(cron = "0 0 6 * * ?")
     public void execute() throws JobExecutionException {
         log.info("execute time : {}", System.currentTimeMillis());
         try {
-            JobParameters parameters = new JobParametersBuilder()
-                    .addLocalDateTime("date", LocalDateTime.now())
-                    .toJobParameters();
-            jobLauncher.run(config.depositRefundsJob(), parameters);
+            Job job = config.depositRefundsJob();
+            restartIfFailed(job);
+
+            LocalDate targetDate = LocalDate.now().minusDays(1);
+            LocalDate startDate = resolveStartDate(job.getName(), targetDate);
+            if (startDate.isAfter(targetDate)) {
+                log.info("{} 까지 환급 배치가 이미 완료되었습니다.", targetDate);
+                return;
+            }
+            jobLauncher.run(job, toJobParameters(startDate, targetDate));
         } catch (Exception e) {
             throw new JobExecutionException(e);
         }
     }
 
+    // 직전 실행이 실패/중단되었으면 같은 파라미터로 재시작
+    private void restartIfFailed(Job job) throws Exception {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance == null) {
+            return;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return;
+        }
+        if (lastExecution.isRunning() && isStale(lastExecution)) {
+            // 노드 재시작 등으로 STARTED 상태로 남은 실행은 실패 처리 후 재시작
+            markFailed(lastExecution);
+        }
+        BatchStatus status = lastExecution.getStatus();
+        if (status == BatchStatus.FAILED || status == BatchStatus.STOPPED) {
+            log.info("중단된 환급 배치를 재시작합니다. parameters: {}", lastExecution.getJobParameters());
+            jobLauncher.run(job, lastExecution.getJobParameters());
+        }
+    }
+
+    // 마지막으로 완료된 targetDate 다음 날부터 처리 (최대 maxCatchUpDays 일)
+    private LocalDate resolveStartDate(String jobName, LocalDate targetDate) {
+        LocalDate earliest = targetDate.minusDays(maxCatchUpDays - 1L);
+        LocalDate lastCompletedDate = null;
+
+        List<JobInstance> instances = jobExplorer.getJobInstances(jobName, 0, maxCatchUpDays * 2);
+        for (JobInstance instance : instances) {
+            JobExecution execution = jobExplorer.getLastJobExecution(instance);
+            if (execution == null || execution.getStatus() != BatchStatus.COMPLETED) {
+                continue;
+            }
+            LocalDate completedDate = execution.getJobParameters().getLocalDate("targetDate");
+            if (completedDate != null && (lastCompletedDate == null || completedDate.isAfter(lastCompletedDate))) {
+                lastCompletedDate = completedDate;
+            }
+        }
+
+        if (lastCompletedDate == null) {
+            return targetDate;
+        }
+        LocalDate nextDate = lastCompletedDate.plusDays(1);
+        if (nextDate.isBefore(earliest)) {
+            long skippedDays = ChronoUnit.DAYS.between(nextDate, earliest);
+            log.warn("환급 배치가 {}일 동안 실행되지 않아 {} ~ {} 는 처리하지 않습니다. 수동 실행이 필요합니다.",
+                    skippedDays, nextDate, earliest.minusDays(1));
+            skippedDaysCounter.increment(skippedDays);
+            return earliest;
+        }
+        return nextDate;
+    }
+
+    private boolean isStale(JobExecution jobExecution) {
+        LocalDateTime lastUpdated = jobExecution.getLastUpdated();
+        return lastUpdated != null && lastUpdated.isBefore(LocalDateTime.now().minusHours(staleExecutionHours));
+    }
+
+    private void markFailed(JobExecution jobExecution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setExitStatus(ExitStatus.FAILED);
+        jobExecution.setEndTime(now);
+        jobRepository.update(jobExecution);
+    }
+
+    private JobParameters toJobParameters(LocalDate startDate, LocalDate targetDate) {
+        JobParametersBuilder builder = new JobParametersBuilder().addLocalDate("targetDate", targetDate);
+        if (startDate.isBefore(targetDate)) {
+            builder.addLocalDate("startDate", startDate, false);
+        }
+        return builder.toJobParameters();
+    }
 }
@@ -0,0 +1,56 @@
+package com.tenten.studybadge.common.batch;
+
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.study.channel.dto.StudyChannelIdRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 종료일이 [startDate, targetDate] 기간에 속하는 스터디 채널을 ID 범위로 나누어 파티션을 구성.
+ * 각 파티션의 ExecutionContext 에 minId, maxId, startDate, targetDate 를 담아 워커 스텝의 reader 가 해당 범위만 읽도록 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DepositRefundsPartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    public static final String START_DATE = "startDate";
+    public static final String TARGET_DATE = "targetDate";
+
+    private final StudyChannelRepository studyChannelRepository;
+    private final LocalDate startDate;
+    private final LocalDate targetDate;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        StudyChannelIdRange idRange = studyChannelRepository.findIdRangeByStudyEndDateBetween(startDate, targetDate);
+        if (idRange == null || idRange.getMinId() == null) {
+            log.info("{} ~ {} 에 종료된 스터디 채널이 없습니다.", startDate, targetDate);
+            return partitions;
+        }
+
+        long minId = idRange.getMinId();
+        long maxId = idRange.getMaxId();
+        long rangeSize = (maxId - minId) / gridSize + 1;
+
+        int number = 0;
+        for (long start = minId; start <= maxId; start += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, Math.min(start + rangeSize - 1, maxId));
+            context.putString(START_DATE, startDate.toString());
+            context.putString(TARGET_DATE, targetDate.toString());
+            partitions.put("partition" + number++, context);
+        }
+        log.info("{} ~ {} 에 종료된 스터디 채널 ID {} ~ {} 를 {} 개 파티션으로 분할", startDate, targetDate, minId, maxId, partitions.size());
+        return partitions;
+    }
+}
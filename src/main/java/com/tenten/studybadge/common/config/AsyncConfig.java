@@ -0,0 +1,59 @@
+package com.tenten.studybadge.common.config;
+
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @Async(메일 발송) 실행기.
+ * TaskExecutor 빈(환급 배치용)이 있어 Spring Boot 기본 실행기가 만들어지지 않고, 지정하지 않으면 배치 실행기가 @Async 에 쓰이므로
+ * 전용 실행기를 빈으로 등록해 지정한다. 빈이므로 초기화와 종료(대기 중인 작업 완료)는 컨테이너가 관리한다.
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상이면 작업마다 가상 스레드를 사용하고,
+ * 아니면 고정 크기 스레드 풀을 사용한다. 어느 쪽이든 동시 실행 수는 concurrency-limit 으로 제한한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String ASYNC_TASK_EXECUTOR = "asyncTaskExecutor";
+
+    private final Environment environment;
+
+    @Value("${async.concurrency-limit:20}")
+    private int concurrencyLimit;
+
+    @Bean(name = ASYNC_TASK_EXECUTOR)
+    public AsyncTaskExecutor asyncTaskExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("@Async 작업을 가상 스레드에서 실행합니다. concurrency-limit: {}", concurrencyLimit);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrencyLimit);
+            // 컨텍스트 종료(close) 시 실행 중인 작업을 최대 10초 기다림
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrencyLimit);
+        executor.setMaxPoolSize(concurrencyLimit);
+        executor.setThreadNamePrefix("async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return asyncTaskExecutor();
+    }
+}
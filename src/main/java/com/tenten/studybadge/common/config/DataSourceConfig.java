@@ -0,0 +1,31 @@
+package com.tenten.studybadge.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 애플리케이션(JPA, Spring Batch, JdbcTemplate) 용 DataSource.
+ * Quartz 전용 DataSource 빈이 있으면 DataSourceAutoConfiguration 이 동작하지 않으므로 spring.datasource.* 로 직접 만들고,
+ * 타입으로 주입받는 곳은 모두 이 풀을 사용하도록 @Primary 로 등록한다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
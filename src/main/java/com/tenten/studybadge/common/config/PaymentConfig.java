@@ -21,6 +21,9 @@ public class PaymentConfig {
     @Value("${payment.toss.fail_url}")
     private String failUrl;
 
+    @Value("${payment.toss.base-url:" + PaymentConfig.TOSS_URL + "}")
+    private String baseUrl;
+
 
     // 토스페이먼츠에 결제 승인 요청할 URL
     public static final String TOSS_URL = "https://api.tosspayments.com/v1/payments/";
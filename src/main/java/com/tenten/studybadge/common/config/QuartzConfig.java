@@ -1,17 +1,24 @@
 package com.tenten.studybadge.common.config;
 
 import com.tenten.studybadge.common.quartz.AutowiringSpringBeanJobFactory;
+import com.tenten.studybadge.common.quartz.NotificationReminderJob;
 import com.tenten.studybadge.common.quartz.SchedulerJobListener;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Properties;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
 import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
 import org.quartz.spi.JobFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.quartz.QuartzDataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.scheduling.quartz.SchedulerFactoryBean;
 
 @Configuration
@@ -32,31 +39,96 @@ public class QuartzConfig {
     @Value("${spring.quartz.properties.org.quartz.database.quartzDataSource.password}")
     private String quartzDataSourcePassword;
 
+    // 클러스터 모드에서는 작업 스레드 외에 스케줄러 스레드와 클러스터 체크인도 커넥션을 사용하므로 threadCount + 3 이상 권장
+    @Value("${spring.quartz.properties.org.quartz.database.quartzDataSource.maximum-pool-size:8}")
+    private int quartzDataSourceMaximumPoolSize;
+
+    @Value("${spring.quartz.properties.org.quartz.database.quartzDataSource.minimum-idle:2}")
+    private int quartzDataSourceMinimumIdle;
+
+    @Value("${spring.quartz.properties.org.quartz.database.quartzDataSource.connection-timeout:5000}")
+    private long quartzDataSourceConnectionTimeout;
+
+    @Value("${spring.quartz.properties.org.quartz.scheduler.instanceId:AUTO}")
+    private String instanceId;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.isClustered:true}")
+    private boolean clustered;
+
+    @Value("${spring.quartz.properties.org.quartz.jobStore.clusterCheckinInterval:15000}")
+    private long clusterCheckinInterval;
+
+    @Value("${spring.quartz.properties.org.quartz.threadPool.threadCount:5}")
+    private int threadCount;
+
     @Bean
     public JobFactory jobFactory() {
       return new AutowiringSpringBeanJobFactory(beanFactory);
     }
 
     @Bean
-    public SchedulerFactoryBean schedulerFactoryBean(JobFactory jobFactory, DataSource quartzDataSource, SchedulerJobListener jobListener) {
+    public SchedulerFactoryBean schedulerFactoryBean(JobFactory jobFactory, @QuartzDataSource DataSource quartzDataSource, SchedulerJobListener jobListener,
+                                                     JobDetail notificationReminderJobDetail, Trigger notificationReminderTrigger) {
         SchedulerFactoryBean factory = new SchedulerFactoryBean();
         factory.setJobFactory(jobFactory);
         factory.setDataSource(quartzDataSource);
+        factory.setQuartzProperties(quartzProperties(instanceId, clustered, clusterCheckinInterval, threadCount));
         factory.setGlobalJobListeners(jobListener);
+        factory.setJobDetails(notificationReminderJobDetail);
+        factory.setTriggers(notificationReminderTrigger);
+        factory.setOverwriteExistingJobs(true);
         return factory;
     }
 
+    // 일정 알림은 일정마다 Job 을 만들지 않고 이 Job 하나가 1분 단위로 모아서 발송
+    @Bean
+    public JobDetail notificationReminderJobDetail() {
+        return JobBuilder.newJob(NotificationReminderJob.class)
+            .withIdentity("notificationReminderJob", "notification-reminders")
+            .storeDurably()
+            .build();
+    }
+
+    @Bean
+    public Trigger notificationReminderTrigger(JobDetail notificationReminderJobDetail) {
+        return TriggerBuilder.newTrigger()
+            .forJob(notificationReminderJobDetail)
+            .withIdentity("notificationReminderTrigger", "notification-reminders")
+            .withSchedule(CronScheduleBuilder.cronSchedule("0 * * * * ?")
+                .withMisfireHandlingInstructionFireAndProceed())
+            .build();
+    }
+
+    // JobStore 작업마다 새 커넥션을 열지 않도록 커넥션 풀 사용
+    // Quartz 전용이므로 @QuartzDataSource 로만 주입받고, 타입으로 주입받는 곳은 DataSourceConfig 의 @Primary 풀을 사용
     @Bean
     @QuartzDataSource
     public DataSource quartzDataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("quartz-pool");
         dataSource.setDriverClassName(quartzDataSourceDriverClassName);
-        dataSource.setUrl(quartzDataSourceUrl);
+        dataSource.setJdbcUrl(quartzDataSourceUrl);
         dataSource.setUsername(quartzDataSourceUsername);
         dataSource.setPassword(quartzDataSourcePassword);
+        dataSource.setMaximumPoolSize(quartzDataSourceMaximumPoolSize);
+        dataSource.setMinimumIdle(quartzDataSourceMinimumIdle);
+        dataSource.setConnectionTimeout(quartzDataSourceConnectionTimeout);
         return dataSource;
     }
 
+    // 여러 노드가 같은 QRTZ_ 테이블을 공유할 때 트리거를 DB 락으로 나눠 가져가므로 한 번만 실행된다.
+    // instanceName 은 모든 노드가 같아야 하고 instanceId 는 노드마다 달라야 한다 (AUTO: 호스트명 + 시각).
+    static Properties quartzProperties(String instanceId, boolean clustered, long clusterCheckinInterval, int threadCount) {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", "studybadge-scheduler");
+        properties.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        properties.setProperty("org.quartz.jobStore.isClustered", String.valueOf(clustered));
+        properties.setProperty("org.quartz.jobStore.clusterCheckinInterval", String.valueOf(clusterCheckinInterval));
+        properties.setProperty("org.quartz.jobStore.acquireTriggersWithinLock", "true");
+        properties.setProperty("org.quartz.threadPool.threadCount", String.valueOf(threadCount));
+        return properties;
+    }
+
     @Bean
     public Scheduler scheduler(SchedulerFactoryBean schedulerFactoryBean) throws Exception {
         return schedulerFactoryBean.getScheduler();
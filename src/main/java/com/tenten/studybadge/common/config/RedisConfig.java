@@ -1,6 +1,9 @@
 package com.tenten.studybadge.common.config;
 
+import com.tenten.studybadge.common.redis.LogoutBlacklistCache;
+import com.tenten.studybadge.common.redis.NotificationNode;
 import com.tenten.studybadge.common.redis.RedisSubscriber;
+import com.tenten.studybadge.common.security.MemberRevocationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,7 +12,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -40,10 +43,15 @@ public class RedisConfig {
 
     @Bean
     public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory,
-        MessageListenerAdapter listenerAdapter) {
+        MessageListenerAdapter listenerAdapter, NotificationNode notificationNode,
+        MemberRevocationService memberRevocationService, LogoutBlacklistCache logoutBlacklistCache) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, new PatternTopic("member-*"));
+        // 모든 회원 채널(member-*) 대신 이 노드의 전용 채널만 구독
+        container.addMessageListener(listenerAdapter, new ChannelTopic(notificationNode.getChannel()));
+        container.addMessageListener(memberRevocationService,
+            new ChannelTopic(MemberRevocationService.REVOCATION_CHANNEL));
+        container.addMessageListener(logoutBlacklistCache, new ChannelTopic(LogoutBlacklistCache.BLACKLIST_CHANNEL));
         return container;
     }
 
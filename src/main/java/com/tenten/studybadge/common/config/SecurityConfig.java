@@ -5,12 +5,12 @@ import com.tenten.studybadge.common.jwt.JwtTokenProvider;
 import com.tenten.studybadge.common.oauth2.CustomOAuth2UserService;
 import com.tenten.studybadge.common.oauth2.OAuth2FailureHandler;
 import com.tenten.studybadge.common.oauth2.OAuth2SuccessHandler;
+import com.tenten.studybadge.common.redis.LogoutBlacklistCache;
 import com.tenten.studybadge.common.security.CustomAuthenticationEntryPoint;
 import com.tenten.studybadge.common.security.LoginUserArgumentResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -34,7 +34,7 @@ import java.util.List;
 public class SecurityConfig implements WebMvcConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate redisTemplate;
+    private final LogoutBlacklistCache logoutBlacklistCache;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
@@ -53,7 +53,7 @@ public class SecurityConfig implements WebMvcConfigurer {
                 .authorizeHttpRequests( requests -> requests
                         .requestMatchers("/api/members/sign-up", "/api/members/auth/**", "/h2-console/**", "/swagger-ui/**", "/v3/api-docs/**", "/api/members/login/**", "/error", "/health-check").permitAll()
                         .requestMatchers("/api/token/oauth2/**", "/favicon.ico", "/oauth2/**", "/api/payments/success/**", "/api/payments/cancel/**", "/api/members/password/**", "/api/members/resend/**").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/study-channels", "/api/study-channels/{studyChannelId:\\d+}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/study-channels", "/api/study-channels/cursor", "/api/study-channels/{studyChannelId:\\d+}").permitAll()
                         .requestMatchers("/api/members/logout", "api/study-channels/*/places", "/api/study-channels/**", "/api/token/re-issue"
                                 , "/api/members/my-info", "/api/members/my-info/update", "/api/payments/**", "/api/participation/**",
                             "/api/study-channels/*/single-schedules/**", "/api/study-channels/*/repeat-schedules/**",
@@ -79,7 +79,7 @@ public class SecurityConfig implements WebMvcConfigurer {
                 .sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(
                         SessionCreationPolicy.STATELESS))
 
-                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider, redisTemplate), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtTokenFilter(jwtTokenProvider, logoutBlacklistCache), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
   
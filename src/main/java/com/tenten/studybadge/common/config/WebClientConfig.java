@@ -1,13 +1,74 @@
 package com.tenten.studybadge.common.config;
 
+import static com.tenten.studybadge.common.constant.PaymentConstant.BASIC;
+import static com.tenten.studybadge.common.constant.PaymentConstant.COLON;
+
+import io.netty.channel.ChannelOption;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * 토스페이먼츠 호출용 WebClient.
+ * 결제 승인/취소마다 WebClient 와 커넥션을 새로 만들지 않고 하나의 커넥션 풀(keep-alive)을 재사용한다.
+ * - 풀 사용량은 reactor.netty.connection.provider.* (name=toss) 로,
+ *   응답 시간은 Spring Boot 가 구성한 WebClient.Builder 를 통해 http.client.requests 로 수집된다.
+ */
 @Configuration
 public class WebClientConfig {
+
+    public static final String TOSS_CONNECTION_PROVIDER = "toss";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider tossConnectionProvider(
+        @Value("${payment.toss.max-connections:50}") int maxConnections,
+        @Value("${payment.toss.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout,
+        @Value("${payment.toss.max-idle-time:PT30S}") Duration maxIdleTime) {
+
+        return ConnectionProvider.builder(TOSS_CONNECTION_PROVIDER)
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            // 서버가 먼저 끊은 유휴 커넥션을 사용하지 않도록 정리
+            .maxIdleTime(maxIdleTime)
+            .evictInBackground(maxIdleTime)
+            .metrics(true)
+            .build();
+    }
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.create();
+    public WebClient tossWebClient(WebClient.Builder webClientBuilder, ConnectionProvider tossConnectionProvider,
+        PaymentConfig paymentConfig,
+        @Value("${payment.toss.connect-timeout:PT3S}") Duration connectTimeout,
+        @Value("${payment.toss.read-timeout:PT30S}") Duration readTimeout) {
+
+        HttpClient httpClient = HttpClient.create(tossConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .responseTimeout(readTimeout);
+
+        return webClientBuilder.clone()
+            .baseUrl(paymentConfig.getBaseUrl())
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .defaultHeader(HttpHeaders.AUTHORIZATION, createAuthorizationHeader(paymentConfig.getTestSecretKey()))
+            .build();
+    }
+
+    private String createAuthorizationHeader(String secretKey) {
+
+        String auth = secretKey + COLON;
+        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+
+        return BASIC + encodedAuth;
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ public class NotificationConstant {
     public static final String SINGLE_SCHEDULE_CREATE = "[%s]의  %s 새로운 단일 일정이 생성되었습니다.";
     public static final String REPEAT_SCHEDULE_CREATE = "[%s]의  %s 새로운 반복 일정이 생성되었습니다.";
     public static final String SCHEDULE_RELATED_URL = "/channel/%d/schedule/%s";
+    public static final String STUDY_END_RELATED_URL = "/channel/%d/information";
 
     public static final String SCHEDULE_UPDATE_FOR_SINGLE_TO_SINGLE = "[%s]의  %s 단일 일정이 수정되었습니다.";
     public static final String SCHEDULE_UPDATE_FOR_SINGLE_TO_REPEAT = "[%s]의  %s 단일 일정이 반복 일정으로 수정되었습니다.";
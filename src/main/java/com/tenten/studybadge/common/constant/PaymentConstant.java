@@ -11,4 +11,8 @@ public class PaymentConstant {
     public static final String CANCEL_REASON = "cancelReason";
 
     public static final String CREATED_AT = "createdAt";
+
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    public static final String CANCEL_IDEMPOTENCY_KEY_PREFIX = "cancel_";
 }
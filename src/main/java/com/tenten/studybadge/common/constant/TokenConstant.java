@@ -12,6 +12,8 @@ public class TokenConstant {
 
     public static final String PLATFORM = "platform";
 
+    public static final String STATUS = "status";
+
     public static final String EMAIL_KEY = "email: ";
 
     public static final String LOGOUT_KEY = "logout: ";
@@ -0,0 +1,54 @@
+package com.tenten.studybadge.common.dto;
+
+import com.tenten.studybadge.common.BaseEntity;
+import com.tenten.studybadge.common.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * (createdAt, id) 커서 기반 목록 응답.
+ * 다음 목록은 nextCursorCreatedAt, nextCursorId 를 그대로 전달하여 조회한다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    // 커서 조회 API 의 size 상한
+    public static final int MAX_SIZE = 100;
+
+    private List<T> content;
+    private boolean hasNext;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+
+    // 커서는 (createdAt, id) 를 함께 비교하므로 하나만 전달되면 잘못된 위치부터 조회됨
+    public static void validateCursor(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    // rows 는 (createdAt, id) 역순으로 size + 1 개까지 조회한 결과
+    public static <E extends BaseEntity, T> CursorResponse<T> of(List<E> rows, int size,
+                                                                 Function<E, Long> idMapper,
+                                                                 Function<E, T> responseMapper) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다. size: " + size);
+        }
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        E last = hasNext ? content.get(content.size() - 1) : null;
+        return CursorResponse.<T>builder()
+                .content(content.stream().map(responseMapper).toList())
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? idMapper.apply(last) : null)
+                .build();
+    }
+}
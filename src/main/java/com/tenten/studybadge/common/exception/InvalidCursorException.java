@@ -0,0 +1,28 @@
+package com.tenten.studybadge.common.exception;
+
+import com.tenten.studybadge.common.exception.basic.AbstractException;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+public class InvalidCursorException extends AbstractException {
+
+    private static final String ERROR_CODE = "INVALID_CURSOR";
+    private static final String ERROR_MESSAGE = "cursorCreatedAt 과 cursorId 는 함께 전달하거나 둘 다 생략해야 합니다.";
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return BAD_REQUEST;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    @Override
+    public String getMessage() {
+        return ERROR_MESSAGE;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.tenten.studybadge.common.exception.payment;
+
+import com.tenten.studybadge.common.exception.basic.AbstractException;
+import org.springframework.http.HttpStatus;
+
+public class NotCancelablePaymentException extends AbstractException {
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+    @Override
+    public String getErrorCode() {
+        return "NOT_CANCELABLE_PAYMENT";
+    }
+    @Override
+    public String getMessage() {
+        return "승인 완료된 결제만 취소할 수 있습니다.";
+    }
+}
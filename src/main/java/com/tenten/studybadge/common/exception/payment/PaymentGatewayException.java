@@ -0,0 +1,24 @@
+package com.tenten.studybadge.common.exception.payment;
+
+import com.tenten.studybadge.common.exception.basic.AbstractException;
+import org.springframework.http.HttpStatus;
+
+public class PaymentGatewayException extends AbstractException {
+
+    public PaymentGatewayException(Throwable cause) {
+        initCause(cause);
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return HttpStatus.BAD_GATEWAY;
+    }
+    @Override
+    public String getErrorCode() {
+        return "PAYMENT_GATEWAY_ERROR";
+    }
+    @Override
+    public String getMessage() {
+        return "결제 서버와 통신하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    }
+}
@@ -0,0 +1,28 @@
+package com.tenten.studybadge.common.exception.point;
+
+import com.tenten.studybadge.common.exception.basic.AbstractException;
+import org.springframework.http.HttpStatus;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+public class InvalidPointSummaryPeriodException extends AbstractException {
+
+    private static final String ERROR_CODE = "INVALID_POINT_SUMMARY_PERIOD";
+    private static final String ERROR_MESSAGE = "조회 기간은 시작 월부터 최대 12개월까지 설정해주세요.";
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return BAD_REQUEST;
+    }
+
+    @Override
+    public String getErrorCode() {
+        return ERROR_CODE;
+    }
+
+    @Override
+    public String getMessage() {
+        return ERROR_MESSAGE;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.tenten.studybadge.common.jwt;
 
 import com.tenten.studybadge.type.member.MemberRole;
+import com.tenten.studybadge.type.member.MemberStatus;
 import com.tenten.studybadge.common.token.dto.TokenDto;
 import com.tenten.studybadge.type.member.Platform;
 import io.jsonwebtoken.Claims;
@@ -30,8 +31,14 @@ public class JwtTokenCreator {
 
     public TokenDto createToken(String memberId, MemberRole role, Platform platform) {
 
+        return createToken(memberId, role, platform, MemberStatus.ACTIVE);
+    }
+
+    public TokenDto createToken(String memberId, MemberRole role, Platform platform, MemberStatus status) {
+
         Claims commonClaims = Jwts.claims().setSubject(memberId);
         commonClaims.put(PLATFORM, platform);
+        commonClaims.put(STATUS, status);
 
 
         List<String> roles = Arrays.asList(ROLE_PREFIX + role.name());
@@ -66,10 +73,11 @@ public class JwtTokenCreator {
                 .build();
     }
 
-    public String reissue(String memberId, MemberRole role, Platform platform) {
+    public String reissue(String memberId, MemberRole role, Platform platform, MemberStatus status) {
 
         Claims claims = Jwts.claims().setSubject(memberId);
         claims.put(PLATFORM, platform);
+        claims.put(STATUS, status);
         List<String> roles = Arrays.asList(ROLE_PREFIX + role.name());
         claims.put(ROLE, roles);
 
@@ -2,17 +2,16 @@ package com.tenten.studybadge.common.jwt;
 
 import com.tenten.studybadge.common.exception.InvalidTokenException;
 import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
+import com.tenten.studybadge.common.redis.LogoutBlacklistCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ObjectUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -25,7 +24,7 @@ import static com.tenten.studybadge.common.constant.TokenConstant.*;
 public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate redisTemplate;
+    private final LogoutBlacklistCache logoutBlacklistCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -34,10 +33,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
         if (token != null && jwtTokenProvider.validateToken(token)) {
 
-            String isLogout = (String) redisTemplate.opsForValue().get(LOGOUT_KEY + token);
-
-
-            if (ObjectUtils.isEmpty(isLogout)) {
+            if (!logoutBlacklistCache.isBlacklisted(token)) {
 
                 Authentication authentication = jwtTokenProvider.getAuthentication(token);
 
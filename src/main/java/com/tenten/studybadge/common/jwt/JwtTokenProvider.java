@@ -1,9 +1,14 @@
 package com.tenten.studybadge.common.jwt;
 
 import com.tenten.studybadge.common.security.CustomUserDetailService;
+import com.tenten.studybadge.common.security.CustomUserDetails;
+import com.tenten.studybadge.common.security.MemberRevocationService;
+import com.tenten.studybadge.type.member.MemberRole;
+import com.tenten.studybadge.type.member.MemberStatus;
 import com.tenten.studybadge.type.member.Platform;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -15,27 +20,83 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 
 import static com.tenten.studybadge.common.constant.TokenConstant.PLATFORM;
+import static com.tenten.studybadge.common.constant.TokenConstant.ROLE;
+import static com.tenten.studybadge.common.constant.TokenConstant.ROLE_PREFIX;
+import static com.tenten.studybadge.common.constant.TokenConstant.STATUS;
 
 
 @Component
 public class JwtTokenProvider {
 
-    private final Key key;
+    private final JwtParser jwtParser;
     private final CustomUserDetailService customUserDetailService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberRevocationService memberRevocationService;
+    private final boolean stateless;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserDetailService customUserDetailService) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, CustomUserDetailService customUserDetailService,
+                            VerifiedTokenCache verifiedTokenCache, MemberRevocationService memberRevocationService,
+                            @Value("${jwt.authentication.stateless:false}") boolean stateless) {
         this.customUserDetailService = customUserDetailService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.memberRevocationService = memberRevocationService;
+        this.stateless = stateless;
 
         byte[] keyBytes = Decoders.BASE64URL.decode(secretKey);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        Key key = Keys.hmacShaKeyFor(keyBytes);
+        // JwtParser 는 불변이고 thread-safe 하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
+
+    // 무효화된 회원의 토큰이면 null 을 반환
     public Authentication getAuthentication(String accessToken) {
 
-        UserDetails userDetails = customUserDetailService.loadUserByUsername(getUsername(accessToken));
+        Claims claims = parseClaims(accessToken);
+        Long memberId = toMemberId(claims.getSubject());
+        if (memberId != null && memberRevocationService.isRevoked(memberId, claims.getIssuedAt())) {
+            return null;
+        }
+
+        Authentication cached = verifiedTokenCache.getAuthentication(accessToken);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails userDetails = stateless && memberId != null
+                ? toUserDetails(memberId, claims)
+                : customUserDetailService.loadUserByUsername(claims.getSubject());
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        verifiedTokenCache.putAuthentication(accessToken, authentication);
+        return authentication;
+    }
+
+    // 토큰 발급 시 넣은 id, role, platform, status 로 회원 정보를 구성하여 요청마다 회원을 조회하지 않음
+    private UserDetails toUserDetails(Long memberId, Claims claims) {
+
+        List<?> roles = claims.get(ROLE, List.class);
+        MemberRole role = MemberRole.valueOf(String.valueOf(roles.get(0)).substring(ROLE_PREFIX.length()));
+        String status = claims.get(STATUS, String.class);
 
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        return new CustomUserDetails(
+                memberId,
+                role,
+                Platform.valueOf(claims.get(PLATFORM, String.class)),
+                status == null ? MemberStatus.ACTIVE : MemberStatus.valueOf(status));
+    }
+
+    // 회원 id 가 subject 인 토큰만 무효화/Claims 인증 대상 (OAuth2 가입 대기 토큰의 subject 는 소셜 계정 id)
+    private Long toMemberId(String subject) {
+        try {
+            return Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     public String getUsername(String token) {
@@ -44,29 +105,30 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    // 검증된 토큰은 캐시하여 같은 토큰의 다음 요청에서는 서명 검증을 생략
     public boolean validateToken(String token) {
 
-    try {
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-        return true;
-    } catch (Exception e) {
-
-        return false;
+        if (verifiedTokenCache.getClaims(token) != null) {
+            return true;
+        }
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.putClaims(token, claims);
+            return true;
+        } catch (Exception e) {
 
+            return false;
         }
     }
 
     public Claims parseClaims(String accessToken) {
 
+        Claims cached = verifiedTokenCache.getClaims(accessToken);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
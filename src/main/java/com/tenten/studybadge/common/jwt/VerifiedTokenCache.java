@@ -0,0 +1,112 @@
+package com.tenten.studybadge.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 와 Authentication 을 보관하여 요청마다 다시 파싱/검증하지 않도록 한다.
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용한다.
+ * - 항목은 토큰 만료 시각과 max-ttl 중 빠른 시각에 만료되므로 회원 정보 변경도 max-ttl 안에 반영된다.
+ * - 최대 max-size 개까지만 보관하며, 가득 차면 만료된 항목을 정리하고 그래도 가득 차 있으면 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long maxTtlMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.max-ttl:PT5M}") Duration maxTtl) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtl.toMillis();
+    }
+
+    public Claims getClaims(String token) {
+        Entry entry = get(token);
+        return entry == null ? null : entry.claims;
+    }
+
+    public Authentication getAuthentication(String token) {
+        Entry entry = get(token);
+        return entry == null ? null : entry.authentication;
+    }
+
+    public void putClaims(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        long expiresAt = Math.min(claims.getExpiration().getTime(), System.currentTimeMillis() + maxTtlMillis);
+        if (cache.size() >= maxSize) {
+            evictExpired();
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(hash(token), new Entry(claims, expiresAt));
+    }
+
+    public void putAuthentication(String token, Authentication authentication) {
+        Entry entry = get(token);
+        if (entry != null) {
+            entry.authentication = authentication;
+        }
+    }
+
+    public void evict(String token) {
+        cache.remove(hash(token));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.cache.evict-interval:PT1M}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private Entry get(String token) {
+        String key = hash(token);
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+        private volatile Authentication authentication;
+
+        private Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
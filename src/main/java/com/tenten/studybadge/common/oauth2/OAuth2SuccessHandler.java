@@ -43,7 +43,7 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
         if(userDetails.getStatus() == MemberStatus.WAIT_FOR_APPROVAL) {
 
-            TokenDto tokenDto = jwtTokenCreator.createToken(authentication.getName(), role, platform);
+            TokenDto tokenDto = jwtTokenCreator.createToken(authentication.getName(), role, platform, MemberStatus.WAIT_FOR_APPROVAL);
             String authorizationHeader = BEARER + tokenDto.getAccessToken();
             String redirectUrl = UriComponentsBuilder.fromUriString(SIGN_UP_REDIRECT_URI)
                     .queryParam(ACCESS_TOKEN, tokenDto.getAccessToken())
@@ -0,0 +1,30 @@
+package com.tenten.studybadge.common.quartz;
+
+import com.tenten.studybadge.notification.service.NotificationReminderDispatcher;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.stereotype.Component;
+
+// 1분마다 실행되어 그 시각까지 발송 예정인 알림을 한 번에 발송
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@DisallowConcurrentExecution
+public class NotificationReminderJob implements Job {
+
+    private final NotificationReminderDispatcher notificationReminderDispatcher;
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        try {
+            notificationReminderDispatcher.dispatchDue(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            throw new JobExecutionException(e);
+        }
+    }
+}
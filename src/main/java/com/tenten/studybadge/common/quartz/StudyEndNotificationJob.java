@@ -9,6 +9,12 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.stereotype.Component;
 
+/**
+ * 일정마다 등록했던 기존 Quartz Job.
+ * NotificationReminderMigration 이 기동 후 이전하기 전에 이미 저장된 트리거가 실행될 수 있으므로,
+ * 이전 배포 동안에는 ERROR 상태가 되지 않도록 기존과 같이 알림을 보낸다. 다음 배포에서 삭제한다.
+ */
+@Deprecated(forRemoval = true)
 @Slf4j
 @Component
 @AllArgsConstructor
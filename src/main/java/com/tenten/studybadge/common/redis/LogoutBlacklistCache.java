@@ -0,0 +1,140 @@
+package com.tenten.studybadge.common.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static com.tenten.studybadge.common.constant.TokenConstant.ACCESS_TOKEN_EXPIRES_IN;
+import static com.tenten.studybadge.common.constant.TokenConstant.LOGOUT_KEY;
+
+/**
+ * 로그아웃된 Access Token 조회용 로컬 Bloom 필터.
+ * - 로그아웃 시 토큰 해시를 Pub/Sub 으로 모든 노드에 전파하여 각 노드의 필터에 추가한다.
+ * - 필터에 없으면 Redis 를 조회하지 않고 로그아웃되지 않은 토큰으로 판단하고, 있을 수도 있는 경우에만 Redis 로 확인한다.
+ * - Bloom 필터는 삭제가 불가능하므로 Access Token 만료 시간마다 새 필터로 교체하고 직전 필터까지 함께 조회한다.
+ * - 시작 시 Redis 의 로그아웃 키를 모두 읽기 전까지는 항상 Redis 로 확인한다.
+ */
+@Slf4j
+@Component
+public class LogoutBlacklistCache implements MessageListener {
+
+    public static final String BLACKLIST_CHANNEL = "logout-blacklist";
+    private static final String METRIC_NAME = "jwt.blacklist.lookup";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter negativeCounter;
+    private final Counter blacklistedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile Generations generations;
+    private volatile boolean loaded;
+
+    public LogoutBlacklistCache(StringRedisTemplate redisTemplate,
+                                @Value("${jwt.blacklist.expected-insertions:100000}") int expectedInsertions,
+                                @Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.generations = new Generations(newFilter(), newFilter());
+        this.negativeCounter = lookupCounter(meterRegistry, "negative", "로컬 필터에서 로그아웃되지 않은 토큰으로 판단한 횟수");
+        this.blacklistedCounter = lookupCounter(meterRegistry, "blacklisted", "Redis 에서 로그아웃된 토큰으로 확인한 횟수");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive", "로컬 필터가 있다고 판단했지만 Redis 에 없던 횟수");
+    }
+
+    // 로그아웃된 토큰인지 확인, 로컬 필터가 있을 수도 있다고 판단한 경우에만 Redis 조회
+    public boolean isBlacklisted(String accessToken) {
+        byte[] tokenHash = hash(accessToken);
+        if (loaded && !generations.mightContain(tokenHash)) {
+            negativeCounter.increment();
+            return false;
+        }
+        boolean blacklisted = !ObjectUtils.isEmpty(redisTemplate.opsForValue().get(LOGOUT_KEY + accessToken));
+        if (blacklisted) {
+            blacklistedCounter.increment();
+        } else if (loaded) {
+            falsePositiveCounter.increment();
+        }
+        return blacklisted;
+    }
+
+    // 로그아웃 처리된 토큰을 모든 노드의 필터에 추가
+    public void publish(String accessToken) {
+        byte[] tokenHash = hash(accessToken);
+        generations.current().put(tokenHash);
+        redisTemplate.convertAndSend(BLACKLIST_CHANNEL, Base64.getEncoder().encodeToString(tokenHash));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            generations.current().put(Base64.getDecoder().decode(message.getBody()));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 로그아웃 토큰 메시지: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // 노드가 시작되기 전에 로그아웃된 토큰을 Redis 에서 읽어 옴
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadBlacklist() {
+        ScanOptions options = ScanOptions.scanOptions().match(LOGOUT_KEY + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            TokenBloomFilter current = generations.current();
+            cursor.forEachRemaining(key -> current.put(hash(key.substring(LOGOUT_KEY.length()))));
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.error("로그아웃 토큰 목록 조회 실패, Redis 로 조회합니다: {}", e.getMessage());
+        }
+    }
+
+    // 직전 필터의 토큰은 교체 주기(Access Token 만료 시간)가 지나 모두 만료되었으므로 버림
+    @Scheduled(fixedDelay = ACCESS_TOKEN_EXPIRES_IN, initialDelay = ACCESS_TOKEN_EXPIRES_IN, timeUnit = TimeUnit.MILLISECONDS)
+    public void rotate() {
+        generations = new Generations(newFilter(), generations.current());
+    }
+
+    private TokenBloomFilter newFilter() {
+        return new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder(METRIC_NAME)
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Generations(TokenBloomFilter current, TokenBloomFilter previous) {
+
+        boolean mightContain(byte[] tokenHash) {
+            return current.mightContain(tokenHash) || previous.mightContain(tokenHash);
+        }
+    }
+}
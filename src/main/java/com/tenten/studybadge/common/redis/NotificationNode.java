@@ -0,0 +1,31 @@
+package com.tenten.studybadge.common.redis;
+
+import java.util.UUID;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전달에 사용하는 현재 서버(노드) 식별자.
+ * 노드마다 전용 Redis 채널을 구독하여 자신에게 연결된 회원의 알림만 받는다.
+ */
+@Getter
+@Component
+public class NotificationNode {
+
+    private static final String CHANNEL_PREFIX = "notification-node-";
+
+    private final String id;
+
+    public NotificationNode(@Value("${notification.node-id:}") String id) {
+        this.id = id == null || id.isBlank() ? UUID.randomUUID().toString() : id;
+    }
+
+    public String getChannel() {
+        return channelOf(id);
+    }
+
+    public static String channelOf(String nodeId) {
+        return CHANNEL_PREFIX + nodeId;
+    }
+}
@@ -2,6 +2,7 @@ package com.tenten.studybadge.common.redis;
 
 import com.tenten.studybadge.common.exception.InvalidTokenException;
 import com.tenten.studybadge.common.jwt.JwtTokenProvider;
+import com.tenten.studybadge.common.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,8 @@ public class RedisService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LogoutBlacklistCache logoutBlacklistCache;
 
     public String generateAuthCode() {
         String result;
@@ -63,6 +66,8 @@ public class RedisService {
                     LOGOUT_VALUE,
                     accessTokenExpiresIn,
                     TimeUnit.MILLISECONDS);
+            verifiedTokenCache.evict(accessToken);
+            logoutBlacklistCache.publish(accessToken);
         } else {
             throw new InvalidTokenException();
         }
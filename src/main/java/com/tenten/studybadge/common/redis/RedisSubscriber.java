@@ -14,14 +14,11 @@ public class RedisSubscriber implements MessageListener {
 
     private final NotificationService notificationService;
 
+    // 이 노드의 전용 채널로 발행된 알림만 수신
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        String channel = new String(message.getChannel());
         String messageBody = new String(message.getBody());
-
-        // 채널 이름에서 memberId를 추출하여 해당 클라이언트에게 메시지 전송
-        String memberId = channel.split("-")[1];
-        log.info("member id: {} 알림 proccess 전송 message {}", memberId, messageBody);
-        notificationService.processNotification(memberId, messageBody);
+        log.info("channel: {} 알림 proccess 전송 message {}", new String(message.getChannel()), messageBody);
+        notificationService.processNotification(messageBody);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.tenten.studybadge.common.redis;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 해시(SHA-256)를 원소로 하는 Bloom 필터.
+ * 해시 자체가 균등 분포이므로 앞 16 바이트를 두 개의 long 으로 나누어 double hashing 으로 k 개의 위치를 만든다.
+ * 삭제는 지원하지 않으며 false 이면 확실히 없고 true 이면 있을 수도 있다.
+ */
+class TokenBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, size);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    void put(byte[] tokenHash) {
+        long h1 = toLong(tokenHash, 0);
+        long h2 = toLong(tokenHash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            long mask = 1L << (index & 63);
+            int word = (int) (index >>> 6);
+            bits.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    boolean mightContain(byte[] tokenHash) {
+        long h1 = toLong(tokenHash, 0);
+        long h2 = toLong(tokenHash, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -38,6 +38,14 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
         this.id = member.getId();
     }
 
+    // 토큰 Claims 로 생성, DB 조회 없이 인증할 때 사용
+    public CustomUserDetails(Long id, MemberRole role, Platform platform, MemberStatus status) {
+        this.id = id;
+        this.role = role;
+        this.platform = platform;
+        this.status = status;
+    }
+
     public CustomUserDetails(Member member, Map<String, Object> attributes, String attributeKey) {
         this.email = member.getEmail();
         this.status = member.getStatus();
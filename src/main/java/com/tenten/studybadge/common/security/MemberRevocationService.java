@@ -0,0 +1,84 @@
+package com.tenten.studybadge.common.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.tenten.studybadge.common.constant.TokenConstant.ACCESS_TOKEN_EXPIRES_IN;
+
+/**
+ * 탈퇴, 비밀번호 재설정 등으로 상태가 바뀐 회원의 기존 토큰을 무효화한다.
+ * 무효화된 회원은 Refresh Token 으로 현재 상태가 반영된 Access Token 을 다시 발급받아야 한다.
+ * 토큰 Claims 만으로 인증하므로, 회원 별 무효화 시각 이전에 발급된 토큰은 거부한다.
+ * 무효화 시각은 Redis 에 Access Token 만료 시간 동안 보관하고 Pub/Sub 으로 모든 노드의 로컬 맵에 전파하여
+ * 요청마다 Redis 나 DB 를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberRevocationService implements MessageListener {
+
+    public static final String REVOCATION_CHANNEL = "member-revocation";
+    private static final String REVOKED_KEY = "member-revoked:";
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    public void revoke(Long memberId) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForValue().set(REVOKED_KEY + memberId, String.valueOf(now),
+                ACCESS_TOKEN_EXPIRES_IN, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, memberId + DELIMITER + now);
+        revokedAt.merge(memberId, now, Math::max);
+    }
+
+    // 무효화 시각 이전에 발급된 토큰인지 확인
+    // 토큰의 발급 시각(iat)은 초 단위이므로 무효화 시각도 초 단위로 내려 비교, 무효화 직후 같은 초에 재발급한 토큰을 거부하지 않음
+    public boolean isRevoked(Long memberId, Date issuedAt) {
+        Long revokedTime = revokedAt.get(memberId);
+        return revokedTime != null && (issuedAt == null || issuedAt.getTime() < revokedTime / 1000 * 1000);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody()).split(DELIMITER);
+        revokedAt.merge(Long.valueOf(body[0]), Long.valueOf(body[1]), Math::max);
+    }
+
+    // 노드가 시작되기 전에 무효화된 회원을 Redis 에서 읽어 옴
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedMembers() {
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_KEY + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                String value = redisTemplate.opsForValue().get(key);
+                if (value != null) {
+                    revokedAt.merge(Long.valueOf(key.substring(REVOKED_KEY.length())), Long.valueOf(value), Math::max);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("무효화된 회원 목록 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    // Access Token 만료 시간이 지난 무효화 정보는 더 이상 필요 없으므로 정리
+    @Scheduled(fixedDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void evictExpired() {
+        long expiredBefore = System.currentTimeMillis() - ACCESS_TOKEN_EXPIRES_IN;
+        revokedAt.values().removeIf(revokedTime -> revokedTime < expiredBefore);
+    }
+}
@@ -7,6 +7,7 @@ import com.tenten.studybadge.common.jwt.JwtTokenProvider;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.type.member.MemberRole;
+import com.tenten.studybadge.type.member.MemberStatus;
 import com.tenten.studybadge.common.token.dto.TokenDto;
 import com.tenten.studybadge.type.member.Platform;
 import io.jsonwebtoken.Claims;
@@ -66,7 +67,10 @@ public class TokenService {
         }
 
         Member member = memberRepository.findById(Long.valueOf(memberId)).orElseThrow(NotFoundMemberException::new);
+        if (member.getStatus() == MemberStatus.SUSPENDED || member.getStatus() == MemberStatus.WITHDRAWN) {
+            throw new InvalidTokenException();
+        }
 
-        return jwtTokenCreator.reissue(String.valueOf(member.getId()), member.getRole(), platform);
+        return jwtTokenCreator.reissue(String.valueOf(member.getId()), member.getRole(), platform, member.getStatus());
     }
 }
@@ -0,0 +1,153 @@
+package com.tenten.studybadge.common.utils;
+
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 일정의 발생일 계산.
+ * 시작일부터 하루/일주일/한달씩 날짜를 이동하지 않고 주기 별 산술 계산으로 처리한다.
+ * - DAILY : 시작일부터 매일
+ * - WEEKLY : 시작일과 같은 요일
+ * - MONTHLY : 시작일과 같은 일자 (해당 일자가 없는 달은 건너뜀, 예: 31일 반복은 2월에 발생하지 않음)
+ */
+public class RecurrenceUtils {
+
+    private RecurrenceUtils() {}
+
+    // [startDate, endDate] 기간 동안의 발생 횟수
+    public static int countOccurrences(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle) {
+        return (int) countUntil(startDate, repeatCycle, endDate);
+    }
+
+    // date 가 반복 기간 내의 발생일인지 여부
+    public static boolean isOccurrence(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle, LocalDate date) {
+        if (date.isBefore(startDate) || date.isAfter(endDate)) {
+            return false;
+        }
+        return switch (repeatCycle) {
+            case DAILY -> true;
+            case WEEKLY -> ChronoUnit.DAYS.between(startDate, date) % 7 == 0;
+            case MONTHLY -> date.getDayOfMonth() == startDate.getDayOfMonth();
+        };
+    }
+
+    // n 번째 발생일 (0 부터 시작, 0 번째는 시작일)
+    public static LocalDate nthOccurrence(LocalDate startDate, RepeatCycle repeatCycle, long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must not be negative: " + n);
+        }
+        return switch (repeatCycle) {
+            case DAILY -> startDate.plusDays(n);
+            case WEEKLY -> startDate.plusWeeks(n);
+            case MONTHLY -> nthMonthlyOccurrence(startDate, n);
+        };
+    }
+
+    // [windowStart, windowEnd] 구간에 포함되는 발생 횟수
+    public static int countOccurrencesBetween(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle,
+                                              LocalDate windowStart, LocalDate windowEnd) {
+        LocalDate from = max(startDate, windowStart);
+        LocalDate to = min(endDate, windowEnd);
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return (int) (countUntil(startDate, repeatCycle, to) - countUntil(startDate, repeatCycle, from.minusDays(1)));
+    }
+
+    // [windowStart, windowEnd] 구간에 포함되는 발생일 목록
+    public static List<LocalDate> getOccurrencesBetween(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle,
+                                                        LocalDate windowStart, LocalDate windowEnd) {
+        LocalDate from = max(startDate, windowStart);
+        LocalDate to = min(endDate, windowEnd);
+        List<LocalDate> occurrences = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return occurrences;
+        }
+        long first = countUntil(startDate, repeatCycle, from.minusDays(1));
+        long last = countUntil(startDate, repeatCycle, to);
+        for (long n = first; n < last; n++) {
+            occurrences.add(nthOccurrence(startDate, repeatCycle, n));
+        }
+        return occurrences;
+    }
+
+    // [startDate, date] 기간 동안의 발생 횟수
+    private static long countUntil(LocalDate startDate, RepeatCycle repeatCycle, LocalDate date) {
+        if (date.isBefore(startDate)) {
+            return 0;
+        }
+        return switch (repeatCycle) {
+            case DAILY -> ChronoUnit.DAYS.between(startDate, date) + 1;
+            case WEEKLY -> ChronoUnit.DAYS.between(startDate, date) / 7 + 1;
+            case MONTHLY -> countMonthlyUntil(startDate, date);
+        };
+    }
+
+    private static long countMonthlyUntil(LocalDate startDate, LocalDate date) {
+        int dayOfMonth = startDate.getDayOfMonth();
+        YearMonth endMonth = YearMonth.from(date);
+        long count = monthsHavingDay(endMonth, dayOfMonth) - monthsHavingDay(YearMonth.from(startDate).minusMonths(1), dayOfMonth);
+        // 마지막 달에 해당 일자가 있지만 아직 도래하지 않은 경우 제외
+        if (endMonth.isValidDay(dayOfMonth) && date.getDayOfMonth() < dayOfMonth) {
+            count--;
+        }
+        return count;
+    }
+
+    private static LocalDate nthMonthlyOccurrence(LocalDate startDate, long n) {
+        int dayOfMonth = startDate.getDayOfMonth();
+        if (dayOfMonth <= 28) {
+            return startDate.plusMonths(n);
+        }
+        // 29 ~ 31일 반복은 해당 일자가 있는 달만 세므로, 발생 횟수가 n + 1 이 되는 가장 가까운 달을 이분 탐색
+        YearMonth startMonth = YearMonth.from(startDate);
+        long base = monthsHavingDay(startMonth.minusMonths(1), dayOfMonth);
+        long low = n;
+        long high = (n + 1) * 12 / 7 + 12;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (monthsHavingDay(startMonth.plusMonths(mid), dayOfMonth) - base >= n + 1) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return startMonth.plusMonths(low).atDay(dayOfMonth);
+    }
+
+    // 서기 1년 1월부터 yearMonth 까지(포함) dayOfMonth 일이 존재하는 달의 수
+    private static long monthsHavingDay(YearMonth yearMonth, int dayOfMonth) {
+        long fullYears = yearMonth.getYear() - 1L;
+        long count = switch (dayOfMonth) {
+            case 29 -> 11 * fullYears + leapYearsUntil(fullYears);
+            case 30 -> 11 * fullYears;
+            case 31 -> 7 * fullYears;
+            default -> 12 * fullYears;
+        };
+        for (int month = 1; month <= yearMonth.getMonthValue(); month++) {
+            if (Month.of(month).length(yearMonth.isLeapYear()) >= dayOfMonth) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 서기 1년부터 year 년까지(포함)의 윤년 수
+    private static long leapYearsUntil(long year) {
+        return Math.floorDiv(year, 4) - Math.floorDiv(year, 100) + Math.floorDiv(year, 400);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
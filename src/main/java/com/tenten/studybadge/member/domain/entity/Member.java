@@ -52,8 +52,12 @@ public class Member extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private MemberStatus status;
 
+    // 잔액과 퇴출 횟수는 PointLedgerRepository, MemberRepository.increaseBanCnt 의 UPDATE 로만 변경
+    // 회원 정보 수정처럼 Member 를 다시 save 해도 읽은 시점의 값으로 덮어쓰지 않음
+    @Column(updatable = false)
     private int point;
 
+    @Column(updatable = false)
     private int banCnt;
 
 }
@@ -3,6 +3,8 @@ package com.tenten.studybadge.member.domain.repository;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.type.member.Platform;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,5 +15,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String username);
 
+    // Member 전체를 저장하지 않고 퇴출 횟수만 증가시켜 포인트 등 다른 컬럼의 동시 변경을 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE Member m SET m.banCnt = m.banCnt + 1 WHERE m.id = :memberId")
+    int increaseBanCnt(Long memberId);
 
 }
@@ -9,6 +9,7 @@ import com.tenten.studybadge.common.exception.participation.NotFoundParticipatio
 import com.tenten.studybadge.common.exception.studychannel.NotFoundStudyChannelException;
 import com.tenten.studybadge.common.jwt.JwtTokenProvider;
 import com.tenten.studybadge.common.redis.RedisService;
+import com.tenten.studybadge.common.security.MemberRevocationService;
 import com.tenten.studybadge.member.dto.*;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
@@ -30,6 +31,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
@@ -50,6 +52,7 @@ public class MemberService {
     private final StudyMemberRepository studyMemberRepository;
     private final ParticipationRepository participationRepository;
     private final AttendanceService attendanceService;
+    private final MemberRevocationService memberRevocationService;
 
     public void signUp(MemberSignUpRequest signUpRequest, Platform platform) {
 
@@ -179,7 +182,8 @@ public class MemberService {
 
             throw new NotFoundMyStudyException();
 
-        return MemberStudyList.listToResponse(studyMembers, attendanceService::getAttendanceRatioForMember);
+        Map<Long, Double> attendanceRatioMap = attendanceService.getAttendanceRatiosForMembers(studyMembers);
+        return MemberStudyList.listToResponse(studyMembers, studyMember -> attendanceRatioMap.get(studyMember.getId()));
     }
 
     public List<MemberApplyList> getMyApply(Long memberId) {
@@ -252,6 +256,8 @@ public class MemberService {
                 .status(MemberStatus.WITHDRAWN)
                 .build();
         memberRepository.save(withdrawMember);
+        // 이미 발급된 Access Token 도 더 이상 사용할 수 없도록 무효화
+        memberRevocationService.revoke(memberId);
     }
 
     public void requestReset(String email, Platform platform) {
@@ -300,6 +306,8 @@ public class MemberService {
                 .isPasswordAuth(false)
                 .build();
         memberRepository.save(passwordReset);
+        // 비밀번호 변경 전에 발급된 Access Token 무효화
+        memberRevocationService.revoke(member.getId());
     }
 }
 
@@ -1,5 +1,6 @@
 package com.tenten.studybadge.notification.controller;
 
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.security.CustomUserDetails;
 import com.tenten.studybadge.common.security.LoginUser;
 import com.tenten.studybadge.notification.domain.entitiy.Notification;
@@ -10,6 +11,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +22,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -33,6 +40,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/notifications")
 @Tag(name = "Notification API", description = "알림 API")
@@ -70,6 +78,21 @@ public class NotificationController {
         return ResponseEntity.ok(responsePage);
     }
 
+    // 알림 전체 커서 조회
+    @GetMapping("/cursor")
+    @Operation(summary = "알림 전체 커서 조회", description = "사용자에게 온 알림을 커서 기반으로 조회하는 api")
+    @Parameter(name = "cursorCreatedAt", description = "이전 응답의 nextCursorCreatedAt - 없을 경우 처음부터 조회")
+    @Parameter(name = "cursorId", description = "이전 응답의 nextCursorId - 없을 경우 처음부터 조회")
+    @Parameter(name = "size", description = "조회할 알림 개수(1~100) - 없을 경우 10")
+    public ResponseEntity<CursorResponse<NotificationResponse>> getNotificationsByCursor(
+        @LoginUser Long memberId,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+        @RequestParam(required = false) Long cursorId,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(CursorResponse.MAX_SIZE) int size) {
+        return ResponseEntity.ok(
+            notificationService.getNotificationsByCursor(memberId, cursorCreatedAt, cursorId, size));
+    }
+
     // 알림 읽음 처리
     @PatchMapping()
     @Operation(summary = "알림 읽음 처리", description = "사용자가 알림을 선택했을 때 읽음 처리 api")
@@ -80,6 +103,24 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    // 알림 일괄 읽음 처리
+    @PatchMapping("/read-all")
+    @Operation(summary = "알림 일괄 읽음 처리", description = "안읽은 알림 전체 또는 upToId 이하의 알림을 한 번에 읽음 처리 api")
+    @Parameter(name = "upToId", description = "읽음 처리할 마지막 알림 id - 없을 경우 전체")
+    public ResponseEntity<Void> patchAllNotifications(
+        @LoginUser Long memberId,
+        @RequestParam(required = false) Long upToId) {
+        notificationService.patchAllNotifications(memberId, upToId);
+        return ResponseEntity.ok().build();
+    }
+
+    // 안읽은 알림 개수 조회
+    @GetMapping(value = "/unread/count")
+    @Operation(summary = "안읽은 알림 개수 조회", description = "사용자에게 온 알림 중 안읽은 알림 개수 조회 api")
+    public ResponseEntity<Long> getUnreadCount(@LoginUser Long memberId) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(memberId));
+    }
+
     // 안읽은 알림 전체 조회
     @GetMapping(value = "/unread")
     @Operation(summary = "안읽은 알림 전체 조회", description = "사용자에게 온 알림 중 안읽은 전체 조회 api")
@@ -99,4 +140,19 @@ public class NotificationController {
 
         return ResponseEntity.ok(responsePage);
     }
+
+    // 안읽은 알림 커서 조회
+    @GetMapping(value = "/unread/cursor")
+    @Operation(summary = "안읽은 알림 커서 조회", description = "사용자에게 온 알림 중 안읽은 알림을 커서 기반으로 조회하는 api")
+    @Parameter(name = "cursorCreatedAt", description = "이전 응답의 nextCursorCreatedAt - 없을 경우 처음부터 조회")
+    @Parameter(name = "cursorId", description = "이전 응답의 nextCursorId - 없을 경우 처음부터 조회")
+    @Parameter(name = "size", description = "조회할 알림 개수(1~100) - 없을 경우 10")
+    public ResponseEntity<CursorResponse<NotificationResponse>> getUnreadNotificationsByCursor(
+        @LoginUser Long memberId,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+        @RequestParam(required = false) Long cursorId,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(CursorResponse.MAX_SIZE) int size) {
+        return ResponseEntity.ok(
+            notificationService.getUnreadNotificationsByCursor(memberId, cursorCreatedAt, cursorId, size));
+    }
 }
@@ -32,7 +32,11 @@ import org.hibernate.annotations.OnDeleteAction;
 @ToString
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(indexes = @Index(name = "idx_created_at", columnList = "createdAt"))
+@Table(indexes = {
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_notification_member_created_at", columnList = "member_id, createdAt, id"),
+    @Index(name = "idx_notification_member_read_created_at", columnList = "member_id, isRead, createdAt, id")
+})
 public class Notification extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
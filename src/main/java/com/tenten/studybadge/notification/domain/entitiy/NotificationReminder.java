@@ -0,0 +1,121 @@
+package com.tenten.studybadge.notification.domain.entitiy;
+
+import com.tenten.studybadge.common.BaseEntity;
+import com.tenten.studybadge.type.notification.NotificationType;
+import com.tenten.studybadge.type.notification.ReminderType;
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 발송 예정인 스터디 채널 알림.
+ * 일정/스터디 채널 하나당 종류 별로 한 행만 두고, 반복 일정은 발송 후 다음 발송 시각으로 옮겨서 재사용한다.
+ */
+@Getter
+@ToString
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_notification_reminder_fire_at", columnList = "fireAt, id"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_notification_reminder_source",
+        columnNames = {"reminder_type", "source_id"}))
+public class NotificationReminder extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ReminderType reminderType;
+
+    // 일정 알림이면 일정 id, 스터디 종료 알림이면 스터디 채널 id
+    @Column(nullable = false)
+    private Long sourceId;
+
+    @Column(nullable = false)
+    private Long studyChannelId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String content;
+
+    private String url;
+
+    @Column(nullable = false)
+    private LocalDateTime fireAt;
+
+    @Enumerated(EnumType.STRING)
+    private RepeatCycle repeatCycle;
+
+    private LocalDateTime repeatStartAt;
+
+    private LocalDateTime repeatEndAt;
+
+    @Builder
+    public NotificationReminder(ReminderType reminderType, Long sourceId, Long studyChannelId,
+        NotificationType notificationType, String content, String url, LocalDateTime fireAt,
+        RepeatCycle repeatCycle, LocalDateTime repeatStartAt, LocalDateTime repeatEndAt) {
+        this.reminderType = reminderType;
+        this.sourceId = sourceId;
+        this.studyChannelId = studyChannelId;
+        this.notificationType = notificationType;
+        this.content = content;
+        this.url = url;
+        this.fireAt = fireAt;
+        this.repeatCycle = repeatCycle;
+        this.repeatStartAt = repeatStartAt;
+        this.repeatEndAt = repeatEndAt;
+    }
+
+    public boolean isMisfired(LocalDateTime now, Duration misfireThreshold) {
+        return !reminderType.isFireWhenMisfired() && fireAt.isBefore(now.minus(misfireThreshold));
+    }
+
+    // 반복 알림이면 now 이후 다음 발송 시각으로 옮기고 true, 더 이상 보낼 알림이 없으면 false
+    public boolean advance(LocalDateTime now) {
+        if (repeatCycle == null) {
+            return false;
+        }
+        LocalDateTime next = nextOccurrence(now);
+        if (next == null) {
+            return false;
+        }
+        this.fireAt = next;
+        return true;
+    }
+
+    // repeatStartAt 부터 repeatCycle 간격의 발송 시각 중 after 이후 첫 시각, repeatEndAt 을 넘으면 null
+    public LocalDateTime nextOccurrence(LocalDateTime after) {
+        ChronoUnit unit = switch (repeatCycle) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+        };
+        long index = after.isBefore(repeatStartAt) ? 0 : unit.between(repeatStartAt, after);
+        LocalDateTime candidate = repeatStartAt.plus(index, unit);
+        // 매월 31일처럼 해당 날짜가 없는 달은 건너뜀 (기존 크론 표현식과 동일)
+        while (!candidate.isAfter(after)
+            || (repeatCycle == RepeatCycle.MONTHLY && candidate.getDayOfMonth() != repeatStartAt.getDayOfMonth())) {
+            candidate = repeatStartAt.plus(++index, unit);
+        }
+        return candidate.isAfter(repeatEndAt) ? null : candidate;
+    }
+}
@@ -1,12 +1,15 @@
 package com.tenten.studybadge.notification.domain.repository;
 
 import java.util.Map;
+import java.util.Set;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface EmitterRepository {
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
-    void saveEventCache(String emitterId, Object event);
-    Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId);
-    Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId);
-    void deleteById(String id);
+    SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter);
+    String nextEventId(Long memberId);
+    void saveEventCache(Long memberId, String eventId, Object event);
+    Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId);
+    Set<Long> findAllMemberIds();
+    Map<String, Object> findAllEventCacheAfter(Long memberId, String lastEventId);
+    void deleteById(Long memberId, String emitterId);
 }
@@ -1,45 +1,137 @@
 package com.tenten.studybadge.notification.domain.repository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import lombok.NoArgsConstructor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * memberId 별로 SseEmitter 와 이벤트 캐시를 보관한다.
+ * 전체 키를 startsWith 로 스캔하지 않고 memberId 로 바로 조회하므로
+ * 조회 비용이 연결된 전체 클라이언트 수와 무관하고, 1번 회원이 12번 회원의 emitter 와 매칭되지 않는다.
+ * 이벤트 캐시는 회원 별 최대 capacity 개, ttl 동안만 보관하여 재연결 시 유실된 이벤트 재전송에만 사용한다.
+ */
+@Slf4j
 @Repository
-@NoArgsConstructor
 public class EmitterRepositoryImpl implements EmitterRepository {
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    private static final String EVENT_ID_DELIMITER = "_";
+
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, MemberEventBuffer> eventCache = new ConcurrentHashMap<>();
+    // 재시작 후에도 이전 이벤트 ID 보다 커지도록 현재 시각으로 시작
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong cachedEventCount = new AtomicLong();
+    private final int capacity;
+    private final long ttlMillis;
+
+    public EmitterRepositoryImpl(
+        @Value("${notification.event-cache.capacity:50}") int capacity,
+        @Value("${notification.event-cache.ttl:PT1H}") Duration ttl,
+        MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.ttlMillis = ttl.toMillis();
+
+        Gauge.builder("notification.emitter.members", emitters, Map::size)
+            .description("SSE 연결이 있는 회원 수")
+            .register(meterRegistry);
+        Gauge.builder("notification.emitter.connections", emitters,
+                map -> map.values().stream().mapToInt(Map::size).sum())
+            .description("SSE 연결 수")
+            .register(meterRegistry);
+        Gauge.builder("notification.event-cache.members", eventCache, Map::size)
+            .description("이벤트 캐시를 보관 중인 회원 수")
+            .register(meterRegistry);
+        Gauge.builder("notification.event-cache.events", cachedEventCount, AtomicLong::get)
+            .description("보관 중인 이벤트 수")
+            .register(meterRegistry);
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter) {
+        // 삭제와 동시에 실행되어도 비워진 맵에 추가되지 않도록 compute 안에서 추가
+        emitters.compute(memberId, (key, memberEmitters) -> {
+            Map<String, SseEmitter> target = memberEmitters == null ? new ConcurrentHashMap<>() : memberEmitters;
+            target.put(emitterId, sseEmitter);
+            return target;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
+    public String nextEventId(Long memberId) {
+        return memberId + EVENT_ID_DELIMITER + eventSequence.incrementAndGet();
+    }
+
+    @Override
+    public void saveEventCache(Long memberId, String eventId, Object event) {
+        long now = System.currentTimeMillis();
+        long sequence = parseSequence(eventId);
+        // 정리 작업이 빈 캐시를 제거하는 중에 추가되어 유실되지 않도록 compute 안에서 추가
+        eventCache.compute(memberId, (key, buffer) -> {
+            MemberEventBuffer target = buffer == null ? new MemberEventBuffer(capacity) : buffer;
+            cachedEventCount.addAndGet(target.add(sequence, eventId, event, now, now - ttlMillis));
+            return target;
+        });
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) {
-        return emitters.entrySet().stream()
-            .filter(entry -> entry.getKey().startsWith(memberId))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId) {
+        Map<String, SseEmitter> memberEmitters = emitters.get(memberId);
+        return memberEmitters == null ? Collections.emptyMap() : Collections.unmodifiableMap(memberEmitters);
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId) {
-        return eventCache.entrySet().stream()
-            .filter(entry -> entry.getKey().startsWith(memberId))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Set<Long> findAllMemberIds() {
+        return Set.copyOf(emitters.keySet());
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public Map<String, Object> findAllEventCacheAfter(Long memberId, String lastEventId) {
+        MemberEventBuffer buffer = eventCache.get(memberId);
+        if (buffer == null) {
+            return Collections.emptyMap();
+        }
+        return buffer.findAllAfter(parseSequence(lastEventId), System.currentTimeMillis() - ttlMillis);
+    }
+
+    @Override
+    public void deleteById(Long memberId, String emitterId) {
+        // 마지막 emitter 가 삭제되면 회원 키도 함께 제거
+        emitters.computeIfPresent(memberId, (key, memberEmitters) -> {
+            memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+    }
+
+    // 보관 기간이 지난 이벤트와 빈 회원 캐시를 정리하여 힙 사용량을 일정하게 유지
+    @Scheduled(fixedDelayString = "${notification.event-cache.evict-interval:PT1M}")
+    public void evictExpiredEvents() {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+        eventCache.forEach((memberId, buffer) -> {
+            cachedEventCount.addAndGet(-buffer.evictExpired(expiredBefore));
+            eventCache.computeIfPresent(memberId, (key, value) -> value.isEmpty() ? null : value);
+        });
+        log.debug("이벤트 캐시 정리. members: {}, events: {}", eventCache.size(), cachedEventCount.get());
+    }
+
+    // memberId_sequence 형식의 이벤트 ID 에서 sequence 를 추출, 형식이 다르면 0
+    private long parseSequence(String eventId) {
+        if (eventId == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(eventId.substring(eventId.lastIndexOf(EVENT_ID_DELIMITER) + 1));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
     }
 }
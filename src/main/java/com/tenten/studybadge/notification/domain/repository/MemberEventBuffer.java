@@ -0,0 +1,65 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 별 이벤트 캐시.
+ * 용량을 넘거나 보관 기간이 지난 이벤트는 앞에서부터 제거하며,
+ * 이벤트는 sequence 순으로 쌓이므로 lastEventId 이후 이벤트는 뒤에서부터 읽으면 된다.
+ */
+class MemberEventBuffer {
+
+    private final int capacity;
+    private final Deque<CachedEvent> events;
+
+    MemberEventBuffer(int capacity) {
+        this.capacity = capacity;
+        this.events = new ArrayDeque<>(capacity);
+    }
+
+    // 추가된 이벤트 수에서 밀려난 이벤트 수를 뺀 증감량을 반환
+    synchronized int add(long sequence, String eventId, Object event, long now, long expiredBefore) {
+        int evicted = evictExpired(expiredBefore);
+        if (events.size() == capacity) {
+            events.pollFirst();
+            evicted++;
+        }
+        events.addLast(new CachedEvent(sequence, eventId, event, now));
+        return 1 - evicted;
+    }
+
+    synchronized Map<String, Object> findAllAfter(long lastSequence, long expiredBefore) {
+        Deque<CachedEvent> tail = new ArrayDeque<>();
+        Iterator<CachedEvent> iterator = events.descendingIterator();
+        while (iterator.hasNext()) {
+            CachedEvent cachedEvent = iterator.next();
+            if (cachedEvent.sequence() <= lastSequence || cachedEvent.createdAt() < expiredBefore) {
+                break;
+            }
+            tail.addFirst(cachedEvent);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        tail.forEach(cachedEvent -> result.put(cachedEvent.eventId(), cachedEvent.event()));
+        return result;
+    }
+
+    synchronized int evictExpired(long expiredBefore) {
+        int evicted = 0;
+        while (!events.isEmpty() && events.peekFirst().createdAt() < expiredBefore) {
+            events.pollFirst();
+            evicted++;
+        }
+        return evicted;
+    }
+
+    synchronized boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    private record CachedEvent(long sequence, String eventId, Object event, long createdAt) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.tenten.studybadge.notification.domain.entitiy.Notification;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스터디 채널 알림처럼 여러 회원에게 같은 알림을 보낼 때 JDBC 배치 한 번으로 저장한다.
+ * ID 가 IDENTITY 전략이라 JPA saveAll 로는 insert 가 배치되지 않기 때문에 JdbcTemplate 을 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_NOTIFICATION = "INSERT INTO notification " +
+        "(member_id, notification_type, content, url, is_read, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 저장된 순서대로 생성된 알림 ID 를 반환
+    public List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_NOTIFICATION, new String[]{"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Notification notification = notifications.get(i);
+                    ps.setLong(1, notification.getReceiver().getId());
+                    ps.setString(2, notification.getNotificationType().name());
+                    ps.setString(3, notification.getContent());
+                    ps.setString(4, notification.getUrl());
+                    ps.setBoolean(5, notification.getIsRead());
+                    ps.setTimestamp(6, now);
+                    ps.setTimestamp(7, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return notifications.size();
+                }
+            },
+            keyHolder);
+
+        return keyHolder.getKeyList().stream()
+            .map(Map::values)
+            .map(values -> ((Number) values.iterator().next()).longValue())
+            .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface NotificationPresenceRepository {
+    void register(String nodeId, Long memberId);
+    void refresh(String nodeId, Collection<Long> memberIds);
+    void unregister(String nodeId, Long memberId);
+    Map<Long, Set<String>> findNodeIds(Collection<Long> memberIds);
+}
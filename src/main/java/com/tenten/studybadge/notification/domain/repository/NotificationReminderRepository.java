@@ -0,0 +1,32 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.type.notification.ReminderType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface NotificationReminderRepository extends JpaRepository<NotificationReminder, Long> {
+
+    // (fireAt, id) 인덱스 범위 조회, 발송 시각이 된 알림만 읽음
+    // 다른 노드가 선점 중인 행은 기다리지 않고 건너뜀 (lock.timeout -2: SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM NotificationReminder r WHERE r.fireAt <= :now ORDER BY r.fireAt, r.id")
+    List<NotificationReminder> findAllDue(LocalDateTime now, Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM NotificationReminder r WHERE r.reminderType = :reminderType AND r.sourceId = :sourceId")
+    int deleteBySource(ReminderType reminderType, Long sourceId);
+}
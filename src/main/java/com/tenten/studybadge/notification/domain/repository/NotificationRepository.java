@@ -4,6 +4,7 @@ import com.tenten.studybadge.notification.domain.entitiy.Notification;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,15 +15,38 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    // (createdAt, id) 가 커서보다 작은 행부터 조회, 커서가 없으면 처음부터
+    String CURSOR_CONDITION = "AND (:cursorId IS NULL OR n.createdAt < :cursorCreatedAt " +
+        "OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) ";
+    String CURSOR_ORDER = "ORDER BY n.createdAt DESC, n.id DESC";
+
     Page<Notification> findAllByReceiverIdOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
     Page<Notification> findAllByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(Long receiverId, Pageable pageable);
     Optional<Notification> findByIdAndReceiverId(Long id, Long receiverId);
 
-    @Query("SELECT n.id FROM Notification n WHERE n.createdAt < :cutoffDate")
-    List<Long> findOldNotificationIds(LocalDateTime cutoffDate, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId " + CURSOR_CONDITION + CURSOR_ORDER)
+    List<Notification> findAllByReceiverIdWithCursor(Long receiverId, LocalDateTime cursorCreatedAt, Long cursorId,
+        Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.receiver.id = :receiverId AND n.isRead = false "
+        + CURSOR_CONDITION + CURSOR_ORDER)
+    List<Notification> findAllUnreadByReceiverIdWithCursor(Long receiverId, LocalDateTime cursorCreatedAt, Long cursorId,
+        Limit limit);
+
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    boolean existsByIdAndReceiverId(Long id, Long receiverId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :updatedAt " +
+        "WHERE n.id = :id AND n.receiver.id = :receiverId AND n.isRead = false")
+    int markAsRead(Long id, Long receiverId, LocalDateTime updatedAt);
 
+    // upToId 가 없으면 전체, 있으면 upToId 이하의 안읽은 알림을 한 번에 읽음 처리
     @Transactional
     @Modifying(clearAutomatically = true)
-    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
-    void deleteNotificationsByIds(List<Long> ids);
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :updatedAt " +
+        "WHERE n.receiver.id = :receiverId AND n.isRead = false AND (:upToId IS NULL OR n.id <= :upToId)")
+    int markAllAsRead(Long receiverId, Long upToId, LocalDateTime updatedAt);
 }
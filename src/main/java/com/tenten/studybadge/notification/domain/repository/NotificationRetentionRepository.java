@@ -0,0 +1,76 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보관 기간이 지난 알림을 id 구간 단위로 삭제한다.
+ * - 삭제 대상의 상한 id 는 created_at 인덱스 범위 조회로 한 번만 구하고, 이후에는 PK 구간으로만 삭제하므로
+ *   LIMIT 없는 created_at 스캔이나 IN 절 삭제 없이 구간 당 잠금 범위가 일정하다.
+ * - 테이블이 created_at 기준 RANGE COLUMNS 파티션으로 구성된 경우(MariaDB) 만료된 파티션을 통째로 DROP 할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    private static final String FIND_MIN_ID = "SELECT MIN(id) FROM notification";
+    private static final String FIND_MAX_ID_CREATED_BEFORE = "SELECT MAX(id) FROM notification WHERE created_at < ?";
+    // 시계 역전 등으로 id 와 created_at 순서가 어긋난 행을 지우지 않도록 created_at 조건도 함께 확인
+    private static final String DELETE_ID_RANGE = "DELETE FROM notification " +
+        "WHERE id >= ? AND id < ? AND created_at < ?";
+    private static final String FIND_PARTITIONS = "SELECT partition_name, partition_description " +
+        "FROM information_schema.partitions " +
+        "WHERE table_schema = DATABASE() AND table_name = 'notification' AND partition_name IS NOT NULL " +
+        "ORDER BY partition_ordinal_position";
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+    private static final Pattern PARTITION_BOUND = Pattern.compile("'(\\d{4}-\\d{2}-\\d{2})(?: (\\d{2}:\\d{2}:\\d{2}))?'");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long findMinId() {
+        return jdbcTemplate.queryForObject(FIND_MIN_ID, Long.class);
+    }
+
+    public Long findMaxIdCreatedBefore(LocalDateTime cutoffDate) {
+        return jdbcTemplate.queryForObject(FIND_MAX_ID_CREATED_BEFORE, Long.class, Timestamp.valueOf(cutoffDate));
+    }
+
+    // [fromId, toId) 구간 중 cutoffDate 이전 알림 삭제
+    public int deleteIdRange(long fromId, long toId, LocalDateTime cutoffDate) {
+        return jdbcTemplate.update(DELETE_ID_RANGE, fromId, toId, Timestamp.valueOf(cutoffDate));
+    }
+
+    // 상한이 cutoffDate 이하인 파티션(모든 행이 cutoffDate 이전)을 DROP 하고 삭제한 파티션 이름을 반환
+    public List<String> dropPartitionsBefore(LocalDateTime cutoffDate) {
+        List<String> expired = jdbcTemplate.query(FIND_PARTITIONS, (rs, rowNum) -> {
+                String name = rs.getString(1);
+                LocalDateTime upperBound = parseUpperBound(rs.getString(2));
+                return upperBound != null && !upperBound.isAfter(cutoffDate) ? name : null;
+            }).stream()
+            .filter(name -> name != null && PARTITION_NAME.matcher(name).matches())
+            .toList();
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE notification DROP PARTITION " + String.join(", ", expired));
+        }
+        return expired;
+    }
+
+    // RANGE COLUMNS(created_at) 파티션의 상한('2024-10-01' 또는 '2024-10-01 00:00:00'), MAXVALUE 면 null
+    private LocalDateTime parseUpperBound(String description) {
+        if (description == null) {
+            return null;
+        }
+        Matcher matcher = PARTITION_BOUND.matcher(description);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String time = matcher.group(2) == null ? "00:00:00" : matcher.group(2);
+        return LocalDateTime.parse(matcher.group(1) + "T" + time);
+    }
+}
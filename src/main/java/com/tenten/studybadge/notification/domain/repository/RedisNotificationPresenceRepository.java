@@ -0,0 +1,99 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 별로 SSE 연결을 가진 노드를 Redis 해시(nodeId -> 마지막 갱신 시각)로 보관한다.
+ * 노드가 비정상 종료되어 삭제되지 못한 항목은 ttl 이 지나면 조회 결과에서 제외된다.
+ */
+@Repository
+public class RedisNotificationPresenceRepository implements NotificationPresenceRepository {
+
+    private static final String PRESENCE_KEY = "notification:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisNotificationPresenceRepository(StringRedisTemplate redisTemplate,
+        @Value("${notification.presence.ttl:PT90S}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void register(String nodeId, Long memberId) {
+        refresh(nodeId, List.of(memberId));
+    }
+
+    @Override
+    public void refresh(String nodeId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        String now = String.valueOf(System.currentTimeMillis());
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Long memberId : memberIds) {
+                    String key = PRESENCE_KEY + memberId;
+                    operations.opsForHash().put(key, nodeId, now);
+                    operations.expire(key, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void unregister(String nodeId, Long memberId) {
+        redisTemplate.opsForHash().delete(PRESENCE_KEY + memberId, nodeId);
+    }
+
+    // 회원 수만큼 왕복하지 않도록 파이프라인으로 한 번에 조회
+    @Override
+    public Map<Long, Set<String>> findNodeIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> orderedMemberIds = List.copyOf(new HashSet<>(memberIds));
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                orderedMemberIds.forEach(memberId -> operations.opsForHash().entries(PRESENCE_KEY + memberId));
+                return null;
+            }
+        });
+
+        long expiredBefore = System.currentTimeMillis() - ttl.toMillis();
+        Map<Long, Set<String>> nodeIds = new HashMap<>();
+        Iterator<Object> iterator = results.iterator();
+        for (Long memberId : orderedMemberIds) {
+            Map<?, ?> entries = (Map<?, ?>) iterator.next();
+            Set<String> aliveNodeIds = new HashSet<>();
+            entries.forEach((nodeId, updatedAt) -> {
+                if (Long.parseLong(String.valueOf(updatedAt)) >= expiredBefore) {
+                    aliveNodeIds.add(String.valueOf(nodeId));
+                }
+            });
+            if (!aliveNodeIds.isEmpty()) {
+                nodeIds.put(memberId, aliveNodeIds);
+            }
+        }
+        return nodeIds;
+    }
+}
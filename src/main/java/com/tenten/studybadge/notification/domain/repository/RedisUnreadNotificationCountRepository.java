@@ -0,0 +1,89 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 안읽은 알림 수를 Redis 카운터(notification:unread:{memberId})로 보관한다.
+ * - 증가/감소는 키가 있을 때만 스크립트로 원자적으로 처리하므로, 초기화 전에 들어온 변경이 유실된 값을 만들지 않는다.
+ * - 초기화와 동시에 저장된 알림은 카운터에 반영되지 않을 수 있으므로 ttl 마다 DB 기준으로 다시 센다.
+ * - 회원마다 키의 슬롯이 달라 클러스터에서 여러 키를 한 스크립트로 다루면 CROSSSLOT 오류가 나므로, 스크립트는 키 하나씩만 받는다.
+ */
+@Repository
+public class RedisUnreadNotificationCountRepository implements UnreadNotificationCountRepository {
+
+    private static final String UNREAD_COUNT_KEY = "notification:unread:";
+    private static final byte[] INCREMENT_IF_EXISTS = (
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+        "return redis.call('INCR', KEYS[1])").getBytes(StandardCharsets.UTF_8);
+    // 음수가 되면 어긋난 값이므로 삭제하여 다음 조회 시 다시 세도록 함
+    private static final RedisScript<Long> DECREMENT_IF_EXISTS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+        "local count = redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+        "if count < 0 then redis.call('DEL', KEYS[1]) end " +
+        "return count", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadNotificationCountRepository(StringRedisTemplate redisTemplate,
+        @Value("${notification.unread-count.ttl:PT1H}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Long find(Long memberId) {
+        String count = redisTemplate.opsForValue().get(UNREAD_COUNT_KEY + memberId);
+        return count == null ? null : Long.valueOf(count);
+    }
+
+    @Override
+    public void initialize(Long memberId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(UNREAD_COUNT_KEY + memberId, String.valueOf(count),
+            ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 채널 알림처럼 여러 회원을 한 번에 증가시킬 때는 키마다 스크립트를 실행하되 파이프라인으로 묶어 왕복을 줄임
+    @Override
+    public void increment(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                byte[] key = (UNREAD_COUNT_KEY + memberId).getBytes(StandardCharsets.UTF_8);
+                connection.scriptingCommands().eval(INCREMENT_IF_EXISTS, ReturnType.INTEGER, 1, key);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void decrement(Long memberId, long count) {
+        if (count <= 0) {
+            return;
+        }
+        redisTemplate.execute(DECREMENT_IF_EXISTS, List.of(UNREAD_COUNT_KEY + memberId), String.valueOf(count));
+    }
+
+    @Override
+    public void deleteAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(UNREAD_COUNT_KEY + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(redisTemplate::delete);
+        }
+    }
+}
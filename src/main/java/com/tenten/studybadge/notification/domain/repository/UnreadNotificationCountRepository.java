@@ -0,0 +1,24 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import java.util.Collection;
+
+/**
+ * 회원 별 안읽은 알림 수.
+ * 값이 없으면 DB 에서 세어 initialize 하고, 이후에는 increment/decrement 로만 갱신한다.
+ */
+public interface UnreadNotificationCountRepository {
+
+    // 저장된 값이 없으면 null
+    Long find(Long memberId);
+
+    // 다른 요청이 먼저 초기화했으면 덮어쓰지 않음
+    void initialize(Long memberId, long count);
+
+    // 값이 있는 회원만 1 증가
+    void increment(Collection<Long> memberIds);
+
+    // 값이 있는 경우에만 감소
+    void decrement(Long memberId, long count);
+
+    void deleteAll();
+}
@@ -1,41 +1,151 @@
 package com.tenten.studybadge.notification.service;
 
-import com.tenten.studybadge.notification.domain.repository.NotificationRepository;
+import com.tenten.studybadge.notification.domain.repository.NotificationRetentionRepository;
+import com.tenten.studybadge.notification.domain.repository.UnreadNotificationCountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 보관 기간(retention-days)이 지난 알림 정리.
+ * - 파티션 DROP 이 켜져 있으면 만료된 파티션을 먼저 통째로 제거한다.
+ * - 남은 행은 id 구간(batch-size) 단위로 삭제하며, 초당 삭제 건수가 max-deletes-per-second 를 넘지 않도록 쉬어 간다.
+ * - max-runtime 을 넘기면 중단하고 나머지는 다음 실행에서 이어서 삭제한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationCleanerService {
-    private final NotificationRepository notificationRepository;
 
-    private static final int BATCH_SIZE = 2000;
+    private final NotificationRetentionRepository notificationRetentionRepository;
+    private final UnreadNotificationCountRepository unreadNotificationCountRepository;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxDeletesPerSecond;
+    private final Duration maxRuntime;
+    private final boolean partitionDropEnabled;
 
-    @Scheduled(cron = "0 0 3 * * ?") // 매일 새벽 3시 실행
+    private final Counter deletedCounter;
+    private final Counter droppedPartitionCounter;
+    private final Timer runTimer;
+    // 현재 실행에서 아직 확인하지 않은 id 구간 크기 (진행 상황 확인용)
+    private final AtomicLong remainingIdRange = new AtomicLong();
+
+    public NotificationCleanerService(NotificationRetentionRepository notificationRetentionRepository,
+        UnreadNotificationCountRepository unreadNotificationCountRepository,
+        @Value("${notification.retention.days:30}") int retentionDays,
+        @Value("${notification.retention.batch-size:2000}") int batchSize,
+        @Value("${notification.retention.max-deletes-per-second:5000}") int maxDeletesPerSecond,
+        @Value("${notification.retention.max-runtime:PT30M}") Duration maxRuntime,
+        @Value("${notification.retention.partition-drop-enabled:false}") boolean partitionDropEnabled,
+        MeterRegistry meterRegistry) {
+        this.notificationRetentionRepository = notificationRetentionRepository;
+        this.unreadNotificationCountRepository = unreadNotificationCountRepository;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxDeletesPerSecond = maxDeletesPerSecond;
+        this.maxRuntime = maxRuntime;
+        this.partitionDropEnabled = partitionDropEnabled;
+
+        this.deletedCounter = Counter.builder("notification.retention.deleted")
+            .description("보관 기간이 지나 삭제된 알림 수")
+            .register(meterRegistry);
+        this.droppedPartitionCounter = Counter.builder("notification.retention.partitions.dropped")
+            .description("보관 기간이 지나 제거된 알림 파티션 수")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.duration")
+            .description("알림 정리 실행 시간")
+            .register(meterRegistry);
+        Gauge.builder("notification.retention.remaining", remainingIdRange, AtomicLong::get)
+            .description("현재 실행에서 남은 삭제 대상 id 구간 크기")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 3 * * ?}") // 기본 매일 새벽 3시 실행
     public void deleteOldNotifications() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minus(30, ChronoUnit.DAYS);
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(retentionDays);
         log.info("삭제 되어야할 cutoffDate: {}", cutoffDate);
-        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
-        List<Long> oldNotificationIds;
-
-        do {
-            oldNotificationIds = notificationRepository.findOldNotificationIds(cutoffDate, pageable);
-            if (!oldNotificationIds.isEmpty()) {
-                notificationRepository.deleteNotificationsByIds(oldNotificationIds);
-                if (oldNotificationIds.size() == BATCH_SIZE) {
-                    log.info("Batch size {}개의 30일 지난 알림을 삭제했습니다.", oldNotificationIds.size());
-                } else {
-                    log.info("Batch size 미만인 {}개의 30일 지난 알림을 삭제했습니다.", oldNotificationIds.size());
-                }
+        long startedAt = System.nanoTime();
+        long deleted = deleteBefore(cutoffDate);
+        runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (deleted > 0) {
+            // 삭제된 알림 중 안읽은 알림이 있을 수 있으므로 카운터를 비워 다음 조회 시 다시 세도록 함
+            unreadNotificationCountRepository.deleteAll();
+        }
+    }
+
+    // 삭제한 행 수를 반환, 파티션 DROP 이 있었으면 건수를 알 수 없으므로 1 이상으로 간주
+    long deleteBefore(LocalDateTime cutoffDate) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxRuntime.toNanos();
+        long deleted = 0;
+
+        if (partitionDropEnabled) {
+            List<String> dropped = notificationRetentionRepository.dropPartitionsBefore(cutoffDate);
+            if (!dropped.isEmpty()) {
+                droppedPartitionCounter.increment(dropped.size());
+                log.info("보관 기간이 지난 알림 파티션을 제거했습니다. partitions: {}", dropped);
+                deleted++;
             }
-        } while (oldNotificationIds.size() == BATCH_SIZE);
+        }
+
+        Long upperId = notificationRetentionRepository.findMaxIdCreatedBefore(cutoffDate);
+        Long fromId = upperId == null ? null : notificationRetentionRepository.findMinId();
+        if (upperId == null || fromId == null) {
+            log.info("삭제할 알림이 없습니다.");
+            return deleted;
+        }
+
+        long rowsDeleted = 0;
+        long from = fromId;
+        while (from <= upperId) {
+            if (System.nanoTime() >= deadline) {
+                log.warn("알림 정리가 max-runtime({}) 을 초과하여 중단합니다. 남은 id 구간: {} ~ {}", maxRuntime, from, upperId);
+                break;
+            }
+            long to = Math.min(from + batchSize, upperId + 1);
+            int count = notificationRetentionRepository.deleteIdRange(from, to, cutoffDate);
+            rowsDeleted += count;
+            deletedCounter.increment(count);
+            from = to;
+            remainingIdRange.set(Math.max(upperId + 1 - from, 0));
+
+            if (!throttle(startedAt, rowsDeleted)) {
+                break;
+            }
+        }
+        remainingIdRange.set(0);
+        log.info("{}일 지난 알림 {}개를 삭제했습니다.", retentionDays, rowsDeleted);
+        return deleted + rowsDeleted;
+    }
+
+    // 지금까지 삭제한 건수가 허용 속도보다 앞서 있으면 그만큼 대기, 인터럽트되면 false
+    private boolean throttle(long startedAt, long rowsDeleted) {
+        if (maxDeletesPerSecond <= 0) {
+            return true;
+        }
+        long expectedNanos = TimeUnit.SECONDS.toNanos(rowsDeleted) / maxDeletesPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 정리가 중단되었습니다.");
+            return false;
+        }
     }
 }
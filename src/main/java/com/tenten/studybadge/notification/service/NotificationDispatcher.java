@@ -0,0 +1,143 @@
+package com.tenten.studybadge.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenten.studybadge.common.redis.NotificationNode;
+import com.tenten.studybadge.common.redis.RedisPublisher;
+import com.tenten.studybadge.notification.domain.repository.EmitterRepository;
+import com.tenten.studybadge.notification.domain.repository.NotificationPresenceRepository;
+import com.tenten.studybadge.notification.dto.NotificationResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 저장된 알림을 SSE 와 Redis Pub/Sub 으로 전달한다.
+ * 요청 스레드나 Quartz 스레드가 회원 별 I/O 를 기다리지 않도록 전용 executor 에서 전송하고,
+ * 알림 별 JSON 직렬화는 한 번만 하여 SSE 전송과 Redis 발행에 같이 사용한다.
+ * Redis 는 수신자의 SSE 연결이 있는 다른 노드의 전용 채널로만 발행하므로
+ * 모든 노드가 모든 회원의 알림을 받아 파싱하지 않는다.
+ * 큐가 가득 차면 호출 스레드에서 직접 전송하여 알림이 버려지지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private final EmitterRepository emitterRepository;
+    private final NotificationPresenceRepository presenceRepository;
+    private final NotificationNode notificationNode;
+    private final RedisPublisher redisPublisher;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+
+    public NotificationDispatcher(EmitterRepository emitterRepository,
+        NotificationPresenceRepository presenceRepository, NotificationNode notificationNode,
+        RedisPublisher redisPublisher, ObjectMapper objectMapper,
+        @Value("${notification.dispatch.pool-size:4}") int poolSize,
+        @Value("${notification.dispatch.queue-capacity:10000}") int queueCapacity) {
+        this.emitterRepository = emitterRepository;
+        this.presenceRepository = presenceRepository;
+        this.notificationNode = notificationNode;
+        this.redisPublisher = redisPublisher;
+        this.objectMapper = objectMapper;
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("notification-dispatch-");
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    public void dispatch(List<NotificationResponse> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> deliver(notifications));
+    }
+
+    // 이 서버에 회원의 SSE 연결이 생기면 presence 등록
+    public void connected(Long memberId) {
+        presenceRepository.register(notificationNode.getId(), memberId);
+    }
+
+    // 이 서버에서 회원의 마지막 SSE 연결이 끊기면 presence 삭제
+    public void disconnected(Long memberId) {
+        if (emitterRepository.findAllEmitterByMemberId(memberId).isEmpty()) {
+            presenceRepository.unregister(notificationNode.getId(), memberId);
+        }
+    }
+
+    // 비정상 종료된 노드의 presence 는 ttl 로 만료되도록 연결 중인 회원의 presence 를 주기적으로 갱신
+    @Scheduled(fixedDelayString = "${notification.presence.heartbeat-interval:PT30S}")
+    public void refreshPresence() {
+        presenceRepository.refresh(notificationNode.getId(), emitterRepository.findAllMemberIds());
+    }
+
+    // 이 서버에 연결된 회원의 SSE emitter 로 전송
+    public void sendToLocalEmitters(Long memberId, String eventId, String json) {
+        emitterRepository.findAllEmitterByMemberId(memberId)
+            .forEach((emitterId, emitter) -> sendEvent(memberId, emitterId, emitter, eventId, json));
+    }
+
+    public void sendEvent(Long memberId, String emitterId, SseEmitter emitter, String eventId, String json) {
+        try {
+            emitter.send(SseEmitter.event().id(eventId).data(json));
+        } catch (IOException exception) {
+            emitterRepository.deleteById(memberId, emitterId);
+            log.error("알림 전송 실패. EmitterId: {}, Exception: {}", emitterId, exception.getMessage());
+        }
+    }
+
+    private void deliver(List<NotificationResponse> notifications) {
+        Map<Long, List<String>> messages = new HashMap<>();
+        for (NotificationResponse notification : notifications) {
+            Long receiverId = notification.getReceiverId();
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(notification);
+            } catch (JsonProcessingException e) {
+                log.error("메시지 변환 실패: {}", e.getMessage());
+                continue;
+            }
+
+            String eventId = emitterRepository.nextEventId(receiverId);
+            emitterRepository.saveEventCache(receiverId, eventId, notification);
+            sendToLocalEmitters(receiverId, eventId, json);
+            messages.computeIfAbsent(receiverId, key -> new ArrayList<>()).add(json);
+        }
+
+        // 수신자가 연결된 다른 노드의 채널로만 발행, 이 노드는 위에서 이미 전송했으므로 제외
+        try {
+            presenceRepository.findNodeIds(messages.keySet()).forEach((receiverId, nodeIds) -> nodeIds.stream()
+                .filter(nodeId -> !nodeId.equals(notificationNode.getId()))
+                .map(NotificationNode::channelOf)
+                .forEach(channel -> messages.get(receiverId)
+                    .forEach(json -> redisPublisher.publish(channel, json))));
+        } catch (RuntimeException e) {
+            log.error("알림 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            emitterRepository.findAllMemberIds()
+                .forEach(memberId -> presenceRepository.unregister(notificationNode.getId(), memberId));
+        } catch (RuntimeException e) {
+            log.warn("presence 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
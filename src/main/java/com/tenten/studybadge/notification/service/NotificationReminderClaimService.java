@@ -0,0 +1,51 @@
+package com.tenten.studybadge.notification.service;
+
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.notification.domain.repository.NotificationReminderRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발송 시각이 된 알림을 발송 전에 선점한다.
+ * 조회한 행을 잠근 채(FOR UPDATE SKIP LOCKED) 단일 알림은 삭제하고 반복 알림은 다음 발송 시각으로 옮긴 뒤 커밋하므로,
+ * 여러 노드가 동시에 실행하거나 발송 도중 서버가 중단되어도 같은 알림을 두 번 보내지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationReminderClaimService {
+
+    private final NotificationReminderRepository notificationReminderRepository;
+
+    // claimed: 선점한 알림 수, sendable: 그중 발송할 알림 (misfire 된 알림 제외)
+    public record ClaimedReminders(int claimed, List<NotificationReminder> sendable) {
+    }
+
+    @Transactional
+    public ClaimedReminders claimDue(LocalDateTime now, int batchSize, Duration misfireThreshold) {
+        List<NotificationReminder> dueReminders = notificationReminderRepository.findAllDue(now, Limit.of(batchSize));
+        List<NotificationReminder> sendable = new ArrayList<>();
+        List<NotificationReminder> finished = new ArrayList<>();
+        for (NotificationReminder reminder : dueReminders) {
+            if (reminder.isMisfired(now, misfireThreshold)) {
+                log.info("발송 시각이 지난 알림을 건너뜁니다. reminderType: {}, sourceId: {}, fireAt: {}",
+                    reminder.getReminderType(), reminder.getSourceId(), reminder.getFireAt());
+            } else {
+                sendable.add(reminder);
+            }
+            // 반복 알림은 잠근 엔티티의 fireAt 만 바꾸므로 커밋 시 UPDATE 되고, 그사이 삭제된 알림을 다시 INSERT 하지 않음
+            if (!reminder.advance(now)) {
+                finished.add(reminder);
+            }
+        }
+        notificationReminderRepository.deleteAllInBatch(finished);
+        return new ClaimedReminders(dueReminders.size(), sendable);
+    }
+}
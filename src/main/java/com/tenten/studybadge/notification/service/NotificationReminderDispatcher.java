@@ -0,0 +1,67 @@
+package com.tenten.studybadge.notification.service;
+
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.notification.service.NotificationReminderClaimService.ClaimedReminders;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 발송 시각이 된 알림을 batch-size 씩 꺼내 한 번에 발송한다. NotificationReminderJob 이 1분마다 호출한다.
+ * - 반복 알림은 다음 발송 시각으로 옮기고, 나머지는 삭제한다.
+ * - 서버 중단 등으로 misfire-threshold 이상 늦은 일정 알림은 보내지 않는다 (스터디 종료 알림은 늦게라도 보냄).
+ * - 발송에 실패한 알림도 다음 발송 시각으로 넘겨서 같은 알림이 매분 재시도되지 않도록 한다.
+ * - NotificationReminderClaimService 로 알림을 선점하고 커밋한 뒤에 발송하므로, 발송 도중 중단되면 남은 알림은 중복 발송 대신 누락된다.
+ */
+@Slf4j
+@Service
+public class NotificationReminderDispatcher {
+
+    private final NotificationReminderClaimService notificationReminderClaimService;
+    private final NotificationService notificationService;
+    private final int batchSize;
+    private final Duration misfireThreshold;
+
+    public NotificationReminderDispatcher(NotificationReminderClaimService notificationReminderClaimService,
+        NotificationService notificationService,
+        @Value("${notification.reminder.batch-size:500}") int batchSize,
+        @Value("${notification.reminder.misfire-threshold:PT5M}") Duration misfireThreshold) {
+        this.notificationReminderClaimService = notificationReminderClaimService;
+        this.notificationService = notificationService;
+        this.batchSize = batchSize;
+        this.misfireThreshold = misfireThreshold;
+    }
+
+    // 발송한 알림 수를 반환
+    public int dispatchDue(LocalDateTime now) {
+        int sent = 0;
+        ClaimedReminders claimedReminders;
+        do {
+            // 선점(삭제/다음 발송 시각으로 이동)을 커밋한 뒤에 발송
+            claimedReminders = notificationReminderClaimService.claimDue(now, batchSize, misfireThreshold);
+            for (NotificationReminder reminder : claimedReminders.sendable()) {
+                if (send(reminder)) {
+                    sent++;
+                }
+            }
+        } while (claimedReminders.claimed() == batchSize);
+
+        if (sent > 0) {
+            log.info("{} 까지 발송 예정인 알림 {}건을 전송했습니다.", now, sent);
+        }
+        return sent;
+    }
+
+    private boolean send(NotificationReminder reminder) {
+        try {
+            notificationService.sendNotificationToStudyChannel(reminder.getStudyChannelId(),
+                reminder.getNotificationType(), reminder.getContent(), reminder.getUrl());
+            return true;
+        } catch (RuntimeException e) {
+            log.error("알림 전송 실패. reminderType: {}, sourceId: {}", reminder.getReminderType(), reminder.getSourceId(), e);
+            return false;
+        }
+    }
+}
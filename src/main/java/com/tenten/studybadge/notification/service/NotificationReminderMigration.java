@@ -0,0 +1,124 @@
+package com.tenten.studybadge.notification.service;
+
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.type.notification.ReminderType;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정마다 등록했던 기존 Quartz Job 을 notification_reminder 로 옮기고 삭제한다.
+ * Job 이름(...-{id})의 일정/스터디 채널을 다시 조회하여 등록하므로 Job 의 데이터 없이도 이전할 수 있다.
+ * - 여러 노드가 동시에 기동해도 Job 삭제(클러스터 JobStore 의 DB 락 안에서 처리)에 성공한 노드만 해당 Job 을 이전한다.
+ * - 한 건의 이전이 실패해도 로그만 남기고 나머지를 계속 이전하며, 기동은 실패하지 않는다.
+ * 이전할 Job 이 없으면 아무것도 하지 않으므로 매 기동 시 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationReminderMigration {
+
+    static final String SINGLE_SCHEDULE_GROUP = "single-schedule-notifications";
+    static final String REPEAT_SCHEDULE_GROUP = "repeat-schedule-notifications";
+    static final Map<String, ReminderType> STUDY_END_GROUPS = Map.of(
+        "study-end-tomorrow-group", ReminderType.STUDY_END_TOMORROW,
+        "study-end-today-group", ReminderType.STUDY_END_TODAY);
+
+    private final Scheduler scheduler;
+    private final NotificationSchedulerService notificationSchedulerService;
+    private final SingleScheduleRepository singleScheduleRepository;
+    private final RepeatScheduleRepository repeatScheduleRepository;
+    private final StudyChannelRepository studyChannelRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        int migrated = 0;
+        for (JobKey jobKey : jobKeys(SINGLE_SCHEDULE_GROUP)) {
+            if (claim(jobKey)) {
+                migrated += register(jobKey, id -> singleScheduleRepository.findById(id)
+                    .ifPresent(notificationSchedulerService::schedulingSingleScheduleNotification));
+            }
+        }
+        for (JobKey jobKey : jobKeys(REPEAT_SCHEDULE_GROUP)) {
+            if (claim(jobKey)) {
+                migrated += register(jobKey, id -> repeatScheduleRepository.findById(id)
+                    .ifPresent(notificationSchedulerService::schedulingRepeatScheduleNotification));
+            }
+        }
+        // 이미 발송되어 없어진 종류는 다시 보내지 않도록 남아 있는 Job 의 종류만 등록
+        for (Map.Entry<String, ReminderType> group : STUDY_END_GROUPS.entrySet()) {
+            for (JobKey jobKey : jobKeys(group.getKey())) {
+                if (claim(jobKey)) {
+                    migrated += register(jobKey, id -> studyChannelRepository.findById(id)
+                        .ifPresent(studyChannel -> notificationSchedulerService.scheduleStudyEndNotification(
+                            studyChannel, group.getValue())));
+                }
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("기존 Quartz 알림 Job {}개를 notification_reminder 로 이전했습니다.", migrated);
+        }
+    }
+
+    private Set<JobKey> jobKeys(String group) {
+        try {
+            return scheduler.getJobKeys(GroupMatcher.jobGroupEquals(group));
+        } catch (SchedulerException e) {
+            log.error("기존 Quartz 알림 Job 조회 실패. group: {}", group, e);
+            return Set.of();
+        }
+    }
+
+    // 다른 노드가 먼저 삭제(이전)했으면 false
+    private boolean claim(JobKey jobKey) {
+        try {
+            return scheduler.deleteJob(jobKey);
+        } catch (SchedulerException e) {
+            log.error("기존 Quartz 알림 Job 삭제 실패. jobKey: {}", jobKey, e);
+            return false;
+        }
+    }
+
+    // 이전한 건수(0 또는 1), 실패하면 다시 등록할 수 있도록 jobKey 를 로그로 남김
+    private int register(JobKey jobKey, LongConsumer registration) {
+        Optional<Long> id = parseId(jobKey);
+        if (id.isEmpty()) {
+            return 0;
+        }
+        try {
+            registration.accept(id.get());
+            return 1;
+        } catch (DataIntegrityViolationException e) {
+            log.info("이미 등록된 알림입니다. jobKey: {}", jobKey);
+            return 0;
+        } catch (RuntimeException e) {
+            log.error("기존 Quartz 알림 Job 이전 실패. jobKey: {}", jobKey, e);
+            return 0;
+        }
+    }
+
+    // singleScheduleNotificationJob-{id}, studyEndNotificationJob-{studyChannelId}-{time} 에서 id 추출
+    private Optional<Long> parseId(JobKey jobKey) {
+        String[] tokens = jobKey.getName().split("-");
+        try {
+            return tokens.length < 2 ? Optional.empty() : Optional.of(Long.valueOf(tokens[1]));
+        } catch (NumberFormatException e) {
+            log.warn("이전할 수 없는 Job 입니다. jobKey: {}", jobKey);
+            return Optional.empty();
+        }
+    }
+}
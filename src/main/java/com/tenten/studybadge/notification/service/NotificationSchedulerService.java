@@ -1,49 +1,46 @@
 package com.tenten.studybadge.notification.service;
 
+import static com.tenten.studybadge.common.constant.NotificationConstant.SCHEDULE_RELATED_URL;
+import static com.tenten.studybadge.common.constant.NotificationConstant.STUDY_END_RELATED_URL;
 import static com.tenten.studybadge.common.constant.NotificationConstant.STUDY_END_TODAY_AND_REFUND_NOTIFICATION;
 import static com.tenten.studybadge.common.constant.NotificationConstant.STUDY_END_TOMORROW_NOTIFICATION;
+import static com.tenten.studybadge.common.constant.NotificationConstant.TEN_MINUTES_BEFORE_SCHEDULE_START;
 
-import com.tenten.studybadge.common.quartz.RepeatScheduleNotificationJob;
-import com.tenten.studybadge.common.quartz.SingleScheduleNotificationJob;
-import com.tenten.studybadge.common.exception.schedule.IllegalArgumentForScheduleRequestException;
-import com.tenten.studybadge.common.quartz.StudyEndNotificationJob;
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.notification.domain.repository.NotificationReminderRepository;
 import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
 import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.type.notification.NotificationType;
-import com.tenten.studybadge.type.schedule.RepeatCycle;
+import com.tenten.studybadge.type.notification.ReminderType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.quartz.CronScheduleBuilder;
-import org.quartz.JobBuilder;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
-import org.quartz.TriggerBuilder;
-import org.quartz.TriggerKey;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 일정/스터디 종료 알림을 일정마다 Quartz Job 으로 등록하지 않고 notification_reminder 테이블에 한 행씩 저장한다.
+ * 저장된 알림은 NotificationReminderDispatcher 가 1분 단위로 한 번에 발송한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationSchedulerService {
 
-    private final Scheduler scheduler;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int REMINDER_MINUTES_BEFORE = 10;
+    private static final int STUDY_END_NOTIFICATION_HOUR = 8;
+
+    private final NotificationReminderRepository notificationReminderRepository;
 
     // 알림 스케줄링 (단일 일정)
+    @Transactional
     public void schedulingSingleScheduleNotification(SingleSchedule singleSchedule) {
         LocalDateTime attendanceStartDateTime = LocalDateTime.of(
-            singleSchedule.getScheduleDate(), singleSchedule.getScheduleStartTime()).minusMinutes(10);
-        Date notificationDate = Date.from(attendanceStartDateTime.atZone(ZoneId.systemDefault()).toInstant());
+            singleSchedule.getScheduleDate(), singleSchedule.getScheduleStartTime()).minusMinutes(REMINDER_MINUTES_BEFORE);
 
         // 현재 날짜와 시간과 비교하여 과거 날짜인지 확인
         if (attendanceStartDateTime.isBefore(LocalDateTime.now())) {
@@ -51,50 +48,25 @@ public class NotificationSchedulerService {
             return; // 과거 날짜일 경우 스케줄링을 건너뜁니다.
         }
 
-        LocalDate scheduleDate = singleSchedule.getScheduleDate();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String formattedDate = scheduleDate.format(formatter);
-
-        JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put("scheduleId", singleSchedule.getId());
-        jobDataMap.put("scheduleName", singleSchedule.getScheduleName());
-        jobDataMap.put("startTime", LocalDateTime.of(
-            scheduleDate, singleSchedule.getScheduleStartTime()));
-        jobDataMap.put("studyChannelId", singleSchedule.getStudyChannel().getId());
-        jobDataMap.put("formattedDate", formattedDate);
-
-        JobDetail jobDetail = JobBuilder.newJob(SingleScheduleNotificationJob.class)
-            .withIdentity("singleScheduleNotificationJob-" + singleSchedule.getId(), "single-schedule-notifications")
-            .usingJobData(jobDataMap)
-            .build();
-
-        TriggerKey triggerKey = new TriggerKey("singleScheduleNotificationTrigger-" + singleSchedule.getId(), "single-schedule-notifications");
-
-        Trigger trigger = TriggerBuilder.newTrigger()
-            .withIdentity(triggerKey)
-            .startAt(notificationDate)
-            .endAt(notificationDate)
-            .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                .withMisfireHandlingInstructionNextWithExistingCount())
-            .build();
-
-        try {
-            scheduler.scheduleJob(jobDetail, trigger);
-            log.info("Scheduled single schedule notification: JobKey={}, TriggerKey={}", jobDetail.getKey(), triggerKey);
-        } catch (SchedulerException e) {
-            log.error("Error scheduling single schedule notification", e);
-        }
+        Long studyChannelId = singleSchedule.getStudyChannel().getId();
+        register(NotificationReminder.builder()
+            .reminderType(ReminderType.SINGLE_SCHEDULE)
+            .sourceId(singleSchedule.getId())
+            .studyChannelId(studyChannelId)
+            .notificationType(NotificationType.SCHEDULE_REMINDER)
+            .content(String.format(TEN_MINUTES_BEFORE_SCHEDULE_START, singleSchedule.getScheduleName()))
+            .url(String.format(SCHEDULE_RELATED_URL, studyChannelId,
+                singleSchedule.getScheduleDate().format(DATE_FORMATTER)))
+            .fireAt(attendanceStartDateTime)
+            .build());
     }
 
     // 알림 스케줄링 (반복 일정)
+    @Transactional
     public void schedulingRepeatScheduleNotification(RepeatSchedule repeatSchedule) {
-        LocalDate scheduleDate = repeatSchedule.getScheduleDate();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String formattedDate = scheduleDate.format(formatter);
         LocalDateTime startDateTime = LocalDateTime.of(
-            repeatSchedule.getScheduleDate(), repeatSchedule.getScheduleStartTime()).minusMinutes(10);
+            repeatSchedule.getScheduleDate(), repeatSchedule.getScheduleStartTime()).minusMinutes(REMINDER_MINUTES_BEFORE);
         LocalDateTime endDateTime = repeatSchedule.getRepeatEndDate().atTime(23, 59, 59); // 하루의 끝으로 설정
-        Date endDate = Date.from(endDateTime.atZone(ZoneId.systemDefault()).toInstant());
 
         // 현재 날짜와 시간과 비교하여 반복 끝나는 날짜가 과거 날짜인지 확인
         if (repeatSchedule.getRepeatEndDate().isBefore(LocalDate.now())) {
@@ -102,71 +74,37 @@ public class NotificationSchedulerService {
             return; // 과거 날짜일 경우 스케줄링을 건너뜁니다.
         }
 
-        JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put("scheduleId", repeatSchedule.getId());
-        jobDataMap.put("scheduleName", repeatSchedule.getScheduleName());
-        jobDataMap.put("startTime", LocalDateTime.of(repeatSchedule.getScheduleDate(), repeatSchedule.getScheduleStartTime()));
-        jobDataMap.put("studyChannelId", repeatSchedule.getStudyChannel().getId());
-        jobDataMap.put("formattedDate", formattedDate);
-
-        JobDetail jobDetail = JobBuilder.newJob(RepeatScheduleNotificationJob.class)
-            .withIdentity("repeatScheduleNotificationJob-" + repeatSchedule.getId(), "repeat-schedule-notifications")
-            .usingJobData(jobDataMap)
+        Long studyChannelId = repeatSchedule.getStudyChannel().getId();
+        NotificationReminder reminder = NotificationReminder.builder()
+            .reminderType(ReminderType.REPEAT_SCHEDULE)
+            .sourceId(repeatSchedule.getId())
+            .studyChannelId(studyChannelId)
+            .notificationType(NotificationType.SCHEDULE_REMINDER)
+            .content(String.format(TEN_MINUTES_BEFORE_SCHEDULE_START, repeatSchedule.getScheduleName()))
+            .url(String.format(SCHEDULE_RELATED_URL, studyChannelId,
+                repeatSchedule.getScheduleDate().format(DATE_FORMATTER)))
+            .fireAt(startDateTime)
+            .repeatCycle(repeatSchedule.getRepeatCycle())
+            .repeatStartAt(startDateTime)
+            .repeatEndAt(endDateTime)
             .build();
 
-        String cronExpression = getCronExpression(repeatSchedule.getRepeatCycle(), startDateTime);
-
-        TriggerKey triggerKey = new TriggerKey("repeatScheduleNotificationTrigger-" + repeatSchedule.getId(), "repeat-schedule-notifications");
-        try {
-            Trigger trigger = TriggerBuilder.newTrigger()
-                .withIdentity(triggerKey)
-                .withSchedule(CronScheduleBuilder.cronSchedule(cronExpression)
-                    .withMisfireHandlingInstructionDoNothing())
-                .startAt(Date.from(startDateTime.atZone(ZoneId.systemDefault()).toInstant()))  // Start time 설정
-                .endAt(endDate)
-                .build();
-
-            if (scheduler.checkExists(jobDetail.getKey())) {
-                scheduler.addJob(jobDetail, true); // 기존 Job 덮어쓰기
-                scheduler.rescheduleJob(triggerKey, trigger); // 트리거 재스케줄링
-            } else {
-                scheduler.scheduleJob(jobDetail, trigger);
-            }
-            log.info("Scheduled repeat schedule notification: JobKey={}, TriggerKey={}", jobDetail.getKey(), triggerKey);
-        } catch (SchedulerException e) {
-            log.error("Error scheduling repeat schedule notification", e);
-            e.printStackTrace();  // 예외의 상세 정보 출력
-        } catch (IllegalArgumentException e) {
-            // IllegalArgumentException 예외의 상세 정보 출력
-            log.error("Illegal argument encountered while scheduling repeat schedule notification", e);
-            System.out.println("IllegalArgumentException: " + e.getMessage());
-            System.out.println("StackTrace: ");
-            e.printStackTrace(System.out);
+        // 첫 발송 시각이 지났으면 현재 이후 첫 반복 시각부터 발송
+        if (startDateTime.isBefore(LocalDateTime.now()) && !reminder.advance(LocalDateTime.now())) {
+            log.info("남은 반복 일정이 없으므로 반복 일정 출석 체크 알림 스케줄링을 생략합니다.: " + endDateTime);
+            return;
         }
+        register(reminder);
     }
 
-
-    // 크론 표현식 생성
-    private String getCronExpression(RepeatCycle repeatCycle, LocalDateTime startDateTime) {
-        int minute = startDateTime.getMinute();
-        int hour = startDateTime.getHour();
-        int dayOfMonth = startDateTime.getDayOfMonth();
-        int dayOfWeek = startDateTime.getDayOfWeek().getValue();
-
-        return switch (repeatCycle) {
-            case DAILY -> String.format("0 %d %d * * ?", minute, hour);
-            case WEEKLY -> String.format("0 %d %d ? * %d", minute, hour, dayOfWeek);
-            case MONTHLY -> String.format("0 %d %d %d * ?", minute, hour, dayOfMonth);
-            default -> throw new IllegalArgumentForScheduleRequestException();
-        };
-    }
-
+    @Transactional
     public void reschedulingSingleScheduleNotification(
         SingleSchedule originSingleSchedule, SingleSchedule newSingleSchedule) {
         unSchedulingSingleScheduleNotification(originSingleSchedule);
         schedulingSingleScheduleNotification(newSingleSchedule);
     }
 
+    @Transactional
     public void reSchedulingRepeatScheduleNotification(
         RepeatSchedule originRepeatSchedule, RepeatSchedule newRepeatSchedule) {
         unSchedulingRepeatScheduleNotification(originRepeatSchedule);
@@ -174,34 +112,19 @@ public class NotificationSchedulerService {
     }
 
     public void unSchedulingSingleScheduleNotification(SingleSchedule singleSchedule) {
-        try {
-            JobKey jobKey = new JobKey("singleScheduleNotificationJob-" + singleSchedule.getId(), "single-schedule-notifications");
-            TriggerKey triggerKey = new TriggerKey("singleScheduleNotificationTrigger-" + singleSchedule.getId(), "single-schedule-notifications");
-            boolean unscheduled = scheduler.unscheduleJob(triggerKey); // 트리거 삭제
-            boolean deleted = scheduler.deleteJob(jobKey); // Job 삭제
-            log.info("Unscheduled: {}, Deleted: {}", unscheduled, deleted);
-            log.info("Successfully unscheduled and deleted single schedule notification job and trigger: JobKey={}, TriggerKey={}", jobKey, triggerKey);
-        } catch (SchedulerException e) {
-            log.error("Error unscheduling single schedule notification", e);
-        }
+        int deleted = notificationReminderRepository.deleteBySource(ReminderType.SINGLE_SCHEDULE, singleSchedule.getId());
+        log.info("Unscheduled single schedule notification: scheduleId={}, deleted={}", singleSchedule.getId(), deleted);
     }
 
     public void unSchedulingRepeatScheduleNotification(RepeatSchedule repeatSchedule) {
-        try {
-            JobKey jobKey = new JobKey("repeatScheduleNotificationJob-" + repeatSchedule.getId(), "repeat-schedule-notifications");
-            TriggerKey triggerKey = new TriggerKey("repeatScheduleNotificationTrigger-" + repeatSchedule.getId(), "repeat-schedule-notifications");
-            boolean unscheduled = scheduler.unscheduleJob(triggerKey); // 트리거 삭제
-            boolean deleted = scheduler.deleteJob(jobKey); // Job 삭제
-            log.info("Unscheduled: {}, Deleted: {}", unscheduled, deleted);
-            log.info("Successfully unscheduled and deleted repeat schedule notification job and trigger: JobKey={}, TriggerKey={}", jobKey, triggerKey);
-        } catch (SchedulerException e) {
-            log.error("Error unscheduling repeat schedule notification", e);
-        }
+        int deleted = notificationReminderRepository.deleteBySource(ReminderType.REPEAT_SCHEDULE, repeatSchedule.getId());
+        log.info("Unscheduled repeat schedule notification: scheduleId={}, deleted={}", repeatSchedule.getId(), deleted);
     }
 
     // 알림 스케줄링:
     // 1. 스터디 채널 끝나기 하루 전 알림
     // 2. 스터디 채널 끝 + 환급은 다음날 하는 것 알림
+    @Transactional
     public void scheduleStudyEndNotifications(StudyChannel studyChannel) {
 
         LocalDate studyEndDate = studyChannel.getStudyDuration().getStudyEndDate();
@@ -211,57 +134,43 @@ public class NotificationSchedulerService {
             return; // 과거 날짜일 경우 스케줄링을 건너뜁니다.
         }
 
-//        // 오전 8시에 스터디 종료 관련 알림 일괄 전송
-//        LocalDateTime customTime = studyEndDate.atStartOfDay()
-//            .withHour(8).withMinute(0).withSecond(0).withNano(0);
-
-        // 알림 api 테스트를 위해 마감 + 10분 뒤에 알림 전송 확인하도록 설정
-        LocalDateTime now = LocalDateTime.now();
-        int hour = now.getHour();
-        int minute = now.getMinute() + 10;
-        LocalDateTime customTime = studyEndDate.atStartOfDay()
-            .withHour(hour).withMinute(minute).withSecond(0).withNano(0);
-        scheduleNotification(
-            studyChannel, NotificationType.STUDY_END_TOMORROW,
-            "study-end-tomorrow-group", STUDY_END_TOMORROW_NOTIFICATION, customTime.minusDays(1));
-        scheduleNotification(
-            studyChannel, NotificationType.STUDY_END_TODAY,
-            "study-end-today-group", STUDY_END_TODAY_AND_REFUND_NOTIFICATION, customTime);
+        scheduleStudyEndNotification(studyChannel, ReminderType.STUDY_END_TOMORROW);
+        scheduleStudyEndNotification(studyChannel, ReminderType.STUDY_END_TODAY);
     }
 
-    private void scheduleNotification(StudyChannel studyChannel, NotificationType notificationType, String groupName, String messageTemplate, LocalDateTime notificationTime) {
-        Date notificationDate = Date.from(notificationTime.atZone(ZoneId.systemDefault()).toInstant());
-        JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put("studyChannelId", studyChannel.getId());
-        jobDataMap.put("studyChannelName", studyChannel.getName());
-        jobDataMap.put("notificationType", notificationType.name());
-        jobDataMap.put("messageTemplate", messageTemplate);
-
-        String jobIdentity = String.format("studyEndNotificationJob-%d-%s", studyChannel.getId(), notificationTime);
-        JobKey jobKey = JobKey.jobKey(jobIdentity, groupName);
-
-        try {
-            if (scheduler.checkExists(jobKey)) {
-                scheduler.deleteJob(jobKey);
-            }
+    // 스터디 종료 알림 중 한 종류만 등록 (기존 Quartz Job 이전 시 남아 있는 종류만 등록하기 위함)
+    @Transactional
+    public void scheduleStudyEndNotification(StudyChannel studyChannel, ReminderType reminderType) {
+        // 오전 8시에 스터디 종료 관련 알림 일괄 전송
+        LocalDateTime customTime = studyChannel.getStudyDuration().getStudyEndDate().atTime(STUDY_END_NOTIFICATION_HOUR, 0);
+        switch (reminderType) {
+            case STUDY_END_TOMORROW -> scheduleStudyEndNotification(studyChannel, reminderType,
+                NotificationType.STUDY_END_TOMORROW, STUDY_END_TOMORROW_NOTIFICATION, customTime.minusDays(1));
+            case STUDY_END_TODAY -> scheduleStudyEndNotification(studyChannel, reminderType,
+                NotificationType.STUDY_END_TODAY, STUDY_END_TODAY_AND_REFUND_NOTIFICATION, customTime);
+            default -> throw new IllegalArgumentException("스터디 종료 알림이 아닙니다. reminderType: " + reminderType);
+        }
+    }
 
-            JobDetail jobDetail = JobBuilder.newJob(StudyEndNotificationJob.class)
-                .withIdentity(jobKey)
-                .usingJobData(jobDataMap)
-                .build();
+    private void scheduleStudyEndNotification(StudyChannel studyChannel, ReminderType reminderType,
+        NotificationType notificationType, String messageTemplate, LocalDateTime notificationTime) {
+        register(NotificationReminder.builder()
+            .reminderType(reminderType)
+            .sourceId(studyChannel.getId())
+            .studyChannelId(studyChannel.getId())
+            .notificationType(notificationType)
+            .content(String.format(messageTemplate, studyChannel.getName()))
+            .url(String.format(STUDY_END_RELATED_URL, studyChannel.getId()))
+            .fireAt(notificationTime)
+            .build());
+        log.info("스터디 채널 id: {} 스터디 멤버들에게 보낼 {} 알림을 스케줄링 했습니다.", studyChannel.getId(), notificationType.getDescription());
+    }
 
-            TriggerKey triggerKey = new TriggerKey("studyEndNotificationTrigger-" + studyChannel.getId() + "-" + notificationTime, groupName);
-            Trigger trigger = TriggerBuilder.newTrigger()
-                .withIdentity(triggerKey)
-                .startAt(notificationDate)
-                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
-                    .withMisfireHandlingInstructionFireNow())
-                .build();
-            scheduler.scheduleJob(jobDetail, trigger);
-            log.info("스터디 채널 id: {} 스터디 멤버들에게 보낼 {} 알림을 스케줄링 했습니다.", notificationType.getDescription(), studyChannel.getId());
-            log.info("Scheduled study end notification: JobKey={}, TriggerKey={}", jobDetail.getKey(), trigger.getKey());
-        } catch (SchedulerException e) {
-            log.error("Error scheduling study end notification", e);
-        }
+    // 같은 일정/스터디 채널의 기존 알림은 교체
+    private void register(NotificationReminder reminder) {
+        notificationReminderRepository.deleteBySource(reminder.getReminderType(), reminder.getSourceId());
+        notificationReminderRepository.save(reminder);
+        log.info("Scheduled {} notification: sourceId={}, fireAt={}",
+            reminder.getReminderType(), reminder.getSourceId(), reminder.getFireAt());
     }
 }
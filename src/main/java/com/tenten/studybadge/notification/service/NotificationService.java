@@ -2,12 +2,14 @@ package com.tenten.studybadge.notification.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.exception.notification.NotificationNotFoundException;
-import com.tenten.studybadge.common.redis.RedisPublisher;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.notification.domain.entitiy.Notification;
 import com.tenten.studybadge.notification.domain.repository.EmitterRepository;
+import com.tenten.studybadge.notification.domain.repository.NotificationJdbcRepository;
 import com.tenten.studybadge.notification.domain.repository.NotificationRepository;
+import com.tenten.studybadge.notification.domain.repository.UnreadNotificationCountRepository;
 import com.tenten.studybadge.notification.dto.DummyData;
 import com.tenten.studybadge.notification.dto.NotificationReadRequest;
 import com.tenten.studybadge.notification.dto.NotificationResponse;
@@ -16,11 +18,12 @@ import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepositor
 import com.tenten.studybadge.type.notification.NotificationType;
 import com.tenten.studybadge.type.study.member.StudyMemberStatus;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,7 +38,9 @@ public class NotificationService {
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
     private final StudyMemberRepository studyMemberRepository;
-    private final RedisPublisher redisPublisher;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadNotificationCountRepository unreadNotificationCountRepository;
     private final ObjectMapper objectMapper;
 
     public Page<Notification> getNotifications(Long memberId, Pageable pageable) {
@@ -43,13 +48,49 @@ public class NotificationService {
         return notificationRepository.findAllByReceiverIdOrderByCreatedAtDesc(memberId, pageable);
     }
 
+    // offset 대신 (createdAt, id) 커서로 조회하여 오래된 내역도 일정한 비용으로 조회, count 쿼리 없음
+    public CursorResponse<NotificationResponse> getNotificationsByCursor(Long memberId, LocalDateTime cursorCreatedAt,
+        Long cursorId, int size) {
+        CursorResponse.validateCursor(cursorCreatedAt, cursorId);
+        List<Notification> notifications = notificationRepository.findAllByReceiverIdWithCursor(
+            memberId, cursorCreatedAt, cursorId, Limit.of(size + 1));
+        return CursorResponse.of(notifications, size, Notification::getId, Notification::toResponse);
+    }
+
+    public CursorResponse<NotificationResponse> getUnreadNotificationsByCursor(Long memberId,
+        LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        CursorResponse.validateCursor(cursorCreatedAt, cursorId);
+        List<Notification> notifications = notificationRepository.findAllUnreadByReceiverIdWithCursor(
+            memberId, cursorCreatedAt, cursorId, Limit.of(size + 1));
+        return CursorResponse.of(notifications, size, Notification::getId, Notification::toResponse);
+    }
+
+    // 조회 후 저장하지 않고 UPDATE 한 번으로 처리, 이미 읽은 알림이면 존재 여부만 확인
     public void patchNotification(Long memberId, NotificationReadRequest notificationReadRequest) {
-        Notification notification = notificationRepository
-            .findByIdAndReceiverId(notificationReadRequest.getNotificationId(), memberId)
-            .orElseThrow(NotificationNotFoundException::new);
+        Long notificationId = notificationReadRequest.getNotificationId();
+        int updated = notificationRepository.markAsRead(notificationId, memberId, LocalDateTime.now());
+        if (updated == 0 && !notificationRepository.existsByIdAndReceiverId(notificationId, memberId)) {
+            throw new NotificationNotFoundException();
+        }
+        unreadNotificationCountRepository.decrement(memberId, updated);
+    }
 
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+    // upToId 가 없으면 전체, 있으면 upToId 이하의 알림을 UPDATE 한 번으로 읽음 처리
+    public int patchAllNotifications(Long memberId, Long upToId) {
+        int updated = notificationRepository.markAllAsRead(memberId, upToId, LocalDateTime.now());
+        unreadNotificationCountRepository.decrement(memberId, updated);
+        return updated;
+    }
+
+    // 카운터가 없을 때만 DB 에서 세고, 이후에는 카운터만 조회
+    public long getUnreadCount(Long memberId) {
+        Long count = unreadNotificationCountRepository.find(memberId);
+        if (count != null) {
+            return count;
+        }
+        long unreadCount = notificationRepository.countByReceiverIdAndIsReadFalse(memberId);
+        unreadNotificationCountRepository.initialize(memberId, unreadCount);
+        return unreadCount;
     }
 
     public Page<Notification> getUnreadNotifications(Long memberId, Pageable pageable) {
@@ -62,22 +103,23 @@ public class NotificationService {
 
         sseEmitter.onCompletion(() -> {
             log.info("onCompletion 콜백, 이벤트 전송 성공 => 이벤트 삭제 emitterId: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
+            removeEmitter(memberId, emitterId);
         });
         sseEmitter.onTimeout(() -> {
             log.info("timeOut 콜백, 이벤트 스트림 연결 끊김 => 이벤트 삭제 emitterId: {}", emitterId);
-            emitterRepository.deleteById(emitterId);
+            removeEmitter(memberId, emitterId);
         });
         sseEmitter.onError((throwable) -> {
             log.error("에러 발생: {}", throwable.getMessage());
-            emitterRepository.deleteById(emitterId);
+            removeEmitter(memberId, emitterId);
         });
 
-        emitterRepository.save(emitterId, sseEmitter);
+        emitterRepository.save(memberId, emitterId, sseEmitter);
+        notificationDispatcher.connected(memberId);
 
         // 503 에러를 방지하기 위한 더미 이벤트 전송
-        String eventId = makeTimeIncludeId(memberId);
-        sendNotification(sseEmitter, eventId, emitterId,
+        String eventId = emitterRepository.nextEventId(memberId);
+        sendNotification(memberId, sseEmitter, eventId, emitterId,
             new DummyData("알림 서버 연결 성공, EventStream 생성. [memberId=" + memberId + "]"));
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
@@ -92,18 +134,22 @@ public class NotificationService {
         return sseEmitter;
     }
 
+    private void removeEmitter(Long memberId, String emitterId) {
+        emitterRepository.deleteById(memberId, emitterId);
+        notificationDispatcher.disconnected(memberId);
+    }
+
     private String makeTimeIncludeId(Long memberId) {
         return memberId + "_" + System.currentTimeMillis();
     }
 
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId,
+    private void sendNotification(Long memberId, SseEmitter emitter, String eventId, String emitterId,
         Object data) {
         try {
-            String jsonString = objectMapper.writeValueAsString(data);
-            emitter.send(SseEmitter.event().id(eventId).data(jsonString));
-        } catch (IOException exception) {
-            emitterRepository.deleteById(emitterId);
-            log.error("알림 전송 실패. EmitterId: {}, Exception: {}", emitterId, exception.getMessage());
+            notificationDispatcher.sendEvent(memberId, emitterId, emitter, eventId,
+                objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            log.error("메시지 변환 실패: {}", e.getMessage());
         }
     }
 
@@ -113,63 +159,64 @@ public class NotificationService {
 
     private void sendLostData(String lastEventId, Long memberId, String emitterId,
         SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByMemberId(String.valueOf(memberId));
-        eventCaches.entrySet().stream()
-            .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-            .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue()));
+        // 이벤트 ID 순으로 보관되므로 lastEventId 이후 이벤트만 조회
+        emitterRepository.findAllEventCacheAfter(memberId, lastEventId)
+            .forEach((eventId, event) -> sendNotification(memberId, emitter, eventId, emitterId, event));
         log.info("전송 받지 못한 알림 전송. lastEventId: {}", lastEventId);
     }
 
+    // 채널 회원의 알림을 한 번에 저장하고 전송은 NotificationDispatcher 에 위임
     public void sendNotificationToStudyChannel(Long studyChannelId,
         NotificationType notificationType, String content, String url) {
 
-        studyMemberRepository.findAllByStudyChannelIdWithMember(studyChannelId)
+        List<Notification> notifications = studyMemberRepository.findAllByStudyChannelIdWithMember(studyChannelId)
             .stream()
             .filter(studyMember -> studyMember.getStudyMemberStatus() == StudyMemberStatus.PARTICIPATING)
             .map(StudyMember::getMember)
-            .forEach((member) -> send(member, notificationType, content, url));
+            .map(member -> createNotification(member, notificationType, content, url))
+            .toList();
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> notificationIds = notificationJdbcRepository.batchInsert(notifications, createdAt);
+        unreadNotificationCountRepository.increment(
+            notifications.stream().map(notification -> notification.getReceiver().getId()).toList());
+        List<NotificationResponse> responses = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            responses.add(NotificationResponse.builder()
+                .notificationId(notificationIds.get(i))
+                .receiverId(notification.getReceiver().getId())
+                .notificationType(notificationType.getDescription())
+                .content(content)
+                .url(url)
+                .isRead(false)
+                .createdAt(createdAt)
+                .build());
+        }
+        notificationDispatcher.dispatch(responses);
+        log.info("Notification sent to studyChannelId: {}, receivers: {}, notificationType: {}",
+            studyChannelId, responses.size(), notificationType);
     }
 
     public void send(Member receiver, NotificationType notificationType, String content,
         String url) {
         Notification notification = notificationRepository.save(
             createNotification(receiver, notificationType, content, url));
+        unreadNotificationCountRepository.increment(List.of(receiver.getId()));
 
-        String receiverId = String.valueOf(receiver.getId());
-        String eventId = receiverId + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberId(
-            receiverId);
-        emitters.forEach((key, emitter) -> {
-            emitterRepository.saveEventCache(key, notification);
-            sendNotification(emitter, eventId, key, notification.toResponse());
-        });
+        notificationDispatcher.dispatch(List.of(notification.toResponse()));
         log.info("Notification sent to memberId: {}, notificationType: {}, content: {}, url: {}",
             receiver.getId(), notificationType, content, url);
-
-        // Redis Pub/Sub을 통해 메시지 발행
-        try {
-            String message = objectMapper.writeValueAsString(notification.toResponse());
-            redisPublisher.publish("member-" + receiverId, message);
-        } catch (JsonProcessingException e) {
-            log.error("메시지 변환 실패: {}", e.getMessage());
-        }
     }
 
-    public void processNotification(String memberId, String message) {
+    // 다른 노드에서 이 노드의 채널로 발행한 알림을 연결된 emitter 로 전송, 메시지는 이미 직렬화된 JSON 이므로 그대로 전달
+    public void processNotification(String message) {
         try {
-            // 메시지 파싱
-            NotificationResponse notificationResponse = objectMapper.readValue(message,
-                NotificationResponse.class);
-
-            String eventId = memberId + "_" + System.currentTimeMillis();
-
-            // SSE를 통해 알림 전송
-            Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberId(
-                memberId);
-            emitters.forEach((key, emitter) -> {
-                sendNotification(emitter, eventId, key, notificationResponse);
-            });
-
+            Long receiverId = objectMapper.readTree(message).get("receiverId").asLong();
+            notificationDispatcher.sendToLocalEmitters(receiverId, emitterRepository.nextEventId(receiverId), message);
             log.info("알림 메시지 process: {}", message);
         } catch (JsonProcessingException e) {
             log.error("알림 메시지 process 실패: {}", message, e);
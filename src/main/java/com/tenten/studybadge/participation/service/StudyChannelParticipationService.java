@@ -8,8 +8,7 @@ import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.participation.domain.entity.Participation;
 import com.tenten.studybadge.participation.domain.repository.ParticipationRepository;
 import com.tenten.studybadge.participation.dto.StudyChannelParticipationStatusResponse;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
 import com.tenten.studybadge.study.deposit.domain.entity.StudyChannelDeposit;
@@ -36,7 +35,7 @@ public class StudyChannelParticipationService {
     private final ParticipationRepository  participationRepository;
     private final StudyChannelRepository studyChannelRepository;
     private final MemberRepository memberRepository;
-    private final PointRepository pointRepository;
+    private final PointLedgerService pointLedgerService;
     private final StudyChannelDepositRepository studyChannelDepositRepository;
     private final StudyMemberRepository studyMemberRepository;
 
@@ -81,6 +80,7 @@ public class StudyChannelParticipationService {
         participation.cancel();
     }
 
+    @Transactional
     public void approve(Long studyChannelId, Long participationId, Long memberId) {
 
         Member member = memberRepository.findById(memberId).orElseThrow(NotFoundMemberException::new);
@@ -100,9 +100,10 @@ public class StudyChannelParticipationService {
         if (studyChannel.isFull()) {
             throw new AlreadyStudyMemberFullException();
         }
+        // 예치금 차감, 잔액이 부족하면 승인하지 않음
+        pointLedgerService.debit(applyMember.getId(), studyChannel.getDeposit(), PointHistoryType.SPENT, TransferType.STUDY_DEPOSIT);
         StudyMember studyMember = approveMember(participation, studyChannel, applyMember);
-        Point point = deductPoint(applyMember, studyChannel.getDeposit());
-        recordDeposit(studyChannel, applyMember, studyMember, -1 * point.getAmount());
+        recordDeposit(studyChannel, applyMember, studyMember, studyChannel.getDeposit());
 
     }
 
@@ -173,24 +174,4 @@ public class StudyChannelParticipationService {
                 .build();
         studyChannelDepositRepository.save(deposit);
     }
-
-    // 포인트 차감
-    private Point deductPoint(Member member, Integer deposit) {
-
-        // 포인트 내역 기록
-        Point point = Point.builder()
-                .amount(-1 * deposit)
-                .member(member)
-                .historyType(PointHistoryType.SPENT)
-                .transferType(TransferType.STUDY_DEPOSIT)
-                .build();
-
-        // 사용자 포인트 차감(차감 시 포인트 내역에 기록된 금액을 차감) - 포인트 내역에 금액이 마이너스(-) 인것 주의!
-        Member updatedMember = member.toBuilder()
-                .point(member.getPoint() + point.getAmount())
-                .build();
-        pointRepository.save(point);
-        memberRepository.save(updatedMember);
-        return point;
-    }
 }
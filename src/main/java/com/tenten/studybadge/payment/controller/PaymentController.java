@@ -1,5 +1,6 @@
 package com.tenten.studybadge.payment.controller;
 
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.security.LoginUser;
 import com.tenten.studybadge.payment.dto.*;
 import com.tenten.studybadge.payment.service.PaymentService;
@@ -8,14 +9,21 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/api/payments")
 @Tag(name = "Payment API", description = "결제와 관련된 요청, 성공, 실패, 취소, 조회할 수 있는 API")
@@ -73,4 +81,19 @@ public class PaymentController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "결제 내역 커서 조회", description = "결제 내역을 커서 기반으로 조회하는 API", security = @SecurityRequirement(name = "bearerToken"))
+    @Parameter(name = "cursorCreatedAt", description = "이전 응답의 nextCursorCreatedAt - 없을 경우 처음부터 조회")
+    @Parameter(name = "cursorId", description = "이전 응답의 nextCursorId - 없을 경우 처음부터 조회")
+    @Parameter(name = "size", description = "1~100, 기본값 10")
+    @GetMapping("/history/cursor")
+    public ResponseEntity<CursorResponse<PaymentHistory>> paymentHistoryByCursor(@LoginUser Long memberId,
+                                                                               @RequestParam(name = "cursorCreatedAt", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                               @RequestParam(name = "cursorId", required = false) Long cursorId,
+                                                                               @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(CursorResponse.MAX_SIZE) int size) {
+
+        CursorResponse<PaymentHistory> response = paymentService.paymentHistoryByCursor(memberId, cursorCreatedAt, cursorId, size);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -3,17 +3,24 @@ package com.tenten.studybadge.payment.domain.entity;
 import com.tenten.studybadge.common.BaseEntity;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.type.payment.PayType;
+import com.tenten.studybadge.type.payment.PaymentStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder(toBuilder = true)
+@Table(indexes = {
+        @Index(name = "idx_payment_customer_created_at", columnList = "customer_id, createdAt, id"),
+        @Index(name = "idx_payment_status_reserved_at", columnList = "status, reservedAt")
+})
 public class Payment extends BaseEntity {
 
     @Id
@@ -42,4 +49,11 @@ public class Payment extends BaseEntity {
     private boolean cancelYN;
 
     private String cancelReason;
+
+    // 승인 요청 중(IN_PROGRESS)인 결제는 서버가 중단되어도 PaymentRecoveryService 가 reservedAt 기준으로 다시 처리
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private PaymentStatus status = PaymentStatus.READY;
+
+    private LocalDateTime reservedAt;
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.tenten.studybadge.payment.domain.repository;
 
 import com.tenten.studybadge.payment.domain.entity.Payment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +19,44 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByPaymentKeyAndCustomerId(String paymentKey, Long memberId);
 
     List<Payment> findByCustomerId(Long memberId, PageRequest pageRequest);
+
+    // (createdAt, id) 가 커서보다 작은 내역부터 조회, 커서가 없으면 처음부터
+    @Query("SELECT p FROM Payment p WHERE p.customer.id = :memberId " +
+            "AND (:cursorId IS NULL OR p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Payment> findByCustomerIdWithCursor(Long memberId, LocalDateTime cursorCreatedAt, Long cursorId, Limit limit);
+
+    // 결제 요청(READY) 상태일 때만 승인 처리 중으로 변경, 이미 승인 중이거나 완료된 결제면 0
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.tenten.studybadge.type.payment.PaymentStatus.IN_PROGRESS, " +
+            "p.paymentKey = :paymentKey, p.reservedAt = :reservedAt, p.updatedAt = :reservedAt " +
+            "WHERE p.id = :id AND p.successYN = false " +
+            "AND (p.status IS NULL OR p.status = com.tenten.studybadge.type.payment.PaymentStatus.READY)")
+    int reserve(Long id, String paymentKey, LocalDateTime reservedAt);
+
+    // 승인 처리 중인 결제만 완료 처리, 이미 완료/실패 처리된 결제면 0
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.tenten.studybadge.type.payment.PaymentStatus.DONE, " +
+            "p.successYN = true, p.updatedAt = :updatedAt " +
+            "WHERE p.id = :id AND p.status = com.tenten.studybadge.type.payment.PaymentStatus.IN_PROGRESS")
+    int complete(Long id, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.tenten.studybadge.type.payment.PaymentStatus.FAILED, " +
+            "p.failReason = :failReason, p.updatedAt = :updatedAt " +
+            "WHERE p.id = :id AND p.status = com.tenten.studybadge.type.payment.PaymentStatus.IN_PROGRESS")
+    int fail(Long id, String failReason, LocalDateTime updatedAt);
+
+    // 승인 완료(DONE)된 결제만 취소 처리, 승인 중이거나 실패, 이미 취소된 결제면 0
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = com.tenten.studybadge.type.payment.PaymentStatus.CANCELED, " +
+            "p.cancelYN = true, p.cancelReason = :cancelReason, p.updatedAt = :updatedAt " +
+            "WHERE p.id = :id AND p.status = com.tenten.studybadge.type.payment.PaymentStatus.DONE")
+    int cancel(Long id, String cancelReason, LocalDateTime updatedAt);
+
+    // 승인 요청 후 reservedBefore 가 지나도록 완료되지 않은 결제
+    @Query("SELECT p FROM Payment p WHERE p.status = com.tenten.studybadge.type.payment.PaymentStatus.IN_PROGRESS " +
+            "AND p.reservedAt < :reservedBefore ORDER BY p.reservedAt")
+    List<Payment> findAllInProgressReservedBefore(LocalDateTime reservedBefore, Limit limit);
 }
@@ -0,0 +1,76 @@
+package com.tenten.studybadge.payment.service;
+
+import com.tenten.studybadge.common.exception.payment.PaymentGatewayException;
+import com.tenten.studybadge.payment.domain.entity.Payment;
+import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 승인 요청 중(IN_PROGRESS) 서버 중단이나 PG 타임아웃으로 완료되지 못한 결제를 다시 처리한다.
+ * 같은 주문번호(멱등키)로 승인을 다시 요청하므로 PG 에서 이미 승인된 결제는 같은 결과를 받아 완료 처리한다.
+ * threshold 는 PG 호출 최대 시간(타임아웃 x 재시도)보다 길어야 진행 중인 요청과 겹치지 않는다.
+ */
+@Slf4j
+@Service
+public class PaymentRecoveryService {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final TossPaymentClient tossPaymentClient;
+    private final Duration threshold;
+    private final int batchSize;
+
+    public PaymentRecoveryService(PaymentRepository paymentRepository,
+                                  PaymentTransactionService paymentTransactionService,
+                                  TossPaymentClient tossPaymentClient,
+                                  @Value("${payment.recovery.threshold:PT5M}") Duration threshold,
+                                  @Value("${payment.recovery.batch-size:100}") int batchSize) {
+        this.paymentRepository = paymentRepository;
+        this.paymentTransactionService = paymentTransactionService;
+        this.tossPaymentClient = tossPaymentClient;
+        this.threshold = threshold;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.recovery.interval:PT1M}")
+    public void recoverInProgressPayments() {
+
+        List<Payment> payments = paymentRepository.findAllInProgressReservedBefore(
+                LocalDateTime.now().minus(threshold), Limit.of(batchSize));
+
+        payments.forEach(this::recover);
+    }
+
+    private void recover(Payment payment) {
+
+        PaymentConfirmRequest confirmRequest =
+                new PaymentConfirmRequest(payment.getPaymentKey(), payment.getOrderId(), payment.getAmount());
+        try {
+            tossPaymentClient.confirm(confirmRequest);
+            paymentTransactionService.complete(payment.getId());
+            log.info("승인 처리 중이던 결제 완료. orderId: {}", payment.getOrderId());
+        } catch (WebClientResponseException e) {
+            // 같은 멱등키의 요청이 아직 처리 중이면 다음 주기에 다시 확인
+            if (e.getStatusCode().isSameCodeAs(HttpStatus.CONFLICT)) {
+                log.info("PG 에서 처리 중인 결제. orderId: {}", payment.getOrderId());
+                return;
+            }
+            paymentTransactionService.fail(payment.getId(), e.getResponseBodyAsString());
+            log.warn("승인 처리 중이던 결제 실패 처리. orderId: {}, response: {}",
+                    payment.getOrderId(), e.getResponseBodyAsString());
+        } catch (PaymentGatewayException e) {
+            log.warn("PG 응답 없음, 다음 주기에 다시 시도. orderId: {}", payment.getOrderId(), e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tenten.studybadge.payment.service;
 
 import com.tenten.studybadge.common.config.PaymentConfig;
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
 import com.tenten.studybadge.common.exception.payment.*;
 import com.tenten.studybadge.member.domain.entity.Member;
@@ -8,29 +9,23 @@ import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.payment.domain.entity.Payment;
 import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
 import com.tenten.studybadge.payment.dto.*;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 import static com.tenten.studybadge.common.constant.PaymentConstant.*;
+import static com.tenten.studybadge.type.payment.PaymentStatus.DONE;
 import static com.tenten.studybadge.type.point.PointHistoryType.DEDUCTED;
-import static com.tenten.studybadge.type.point.PointHistoryType.EARNED;
 import static com.tenten.studybadge.type.point.TransferType.PAYMENT_CANCEL;
-import static com.tenten.studybadge.type.point.TransferType.PAYMENT_CHARGE;
 
 @Service
 @RequiredArgsConstructor
@@ -39,7 +34,10 @@ public class PaymentService {
     private final MemberRepository memberRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentConfig paymentConfig;
-    private final PointRepository pointRepository;
+    private final PointLedgerService pointLedgerService;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentTransactionService paymentTransactionService;
+
     @Transactional
     public PaymentResponse requestPayment(Long memberId, PaymentRequest paymentRequest) {
 
@@ -59,30 +57,21 @@ public class PaymentService {
 
         return PaymentResponse.toResponse(savedPayment, paymentConfig.getSuccessUrl(), paymentConfig.getFailUrl());
     }
-    @Transactional
+    // PG 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 예약(트랜잭션) -> PG 승인 요청 -> 완료(트랜잭션) 순서로 처리
+    // 타임아웃 등으로 승인 결과를 알 수 없으면 IN_PROGRESS 로 남기고 PaymentRecoveryService 가 다시 확인
     public PaymentConfirm confirmPayment(PaymentConfirmRequest confirmRequest) {
 
-        Payment payment = verifyPayment(confirmRequest.getOrderId(), confirmRequest.getAmount());
-        PaymentConfirm result = requestAcceptPayment(confirmRequest);
+        Long paymentId = paymentTransactionService.reserve(confirmRequest);
 
-        Member updatedCustomer = payment.getCustomer().toBuilder()
-                .point((payment.getCustomer().getPoint() + confirmRequest.getAmount()))
-                .build();
-        memberRepository.save(updatedCustomer);
+        PaymentConfirm result;
+        try {
+            result = requestAcceptPayment(confirmRequest);
+        } catch (WebClientResponseException e) {
+            paymentTransactionService.fail(paymentId, e.getResponseBodyAsString());
+            throw e;
+        }
 
-        Payment updatedPayment = payment.toBuilder()
-                .successYN(true)
-                .paymentKey(confirmRequest.getPaymentKey())
-                .build();
-        paymentRepository.save(updatedPayment);
-
-        Point updatedPoint = Point.builder()
-                .amount(confirmRequest.getAmount())
-                .historyType(EARNED)
-                .transferType(PAYMENT_CHARGE)
-                .member(payment.getCustomer())
-                .build();
-        pointRepository.save(updatedPoint);
+        paymentTransactionService.complete(paymentId);
 
         return result;
     }
@@ -93,44 +82,22 @@ public class PaymentService {
                 .findByPaymentKeyAndCustomerId(cancelRequest.getPaymentKey(), memberId)
                 .orElseThrow(NotFoundOrderException::new);
 
-        if (payment.getCustomer().getPoint() >= payment.getAmount()) {
-
-            Payment canceldPayment = payment.toBuilder()
-                    .cancelYN(true)
-                    .cancelReason(cancelRequest.getCancelReason())
-                    .build();
-            paymentRepository.save(canceldPayment);
-
-            Member updatedMember = payment.getCustomer().toBuilder()
-                    .point((payment.getCustomer().getPoint() - payment.getAmount()))
-                    .build();
-            memberRepository.save(updatedMember);
+        // 승인 완료(DONE) 상태에서만 취소로 변경, 포인트를 적립하지 않은 승인 중/실패 결제나 이미 취소된 결제는 차감하지 않음
+        if (payment.getStatus() != DONE
+                || paymentRepository.cancel(payment.getId(), cancelRequest.getCancelReason(), LocalDateTime.now()) == 0) {
 
-            Point updatedPoint = Point.builder()
-                    .amount(-payment.getAmount())
-                    .historyType(DEDUCTED)
-                    .transferType(PAYMENT_CANCEL)
-                    .member(payment.getCustomer())
-                    .build();
-            pointRepository.save(updatedPoint);
-
-            return requestCancelPayment(cancelRequest);
+            throw new NotCancelablePaymentException();
         }
 
-        throw new NotEnoughPointException();
+        // 잔액이 부족하면 NotEnoughPointException, 취소 처리도 함께 롤백
+        pointLedgerService.debit(memberId, payment.getAmount(), DEDUCTED, PAYMENT_CANCEL);
+
+        return requestCancelPayment(cancelRequest);
     }
 
     public Map<String, Object> requestCancelPayment(PaymentCancelRequest cancelRequest) {
 
-        WebClient webClient = tossWebClient();
-
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(cancelRequest.getPaymentKey() + CANCEL_URL)
-                .build())
-                .bodyValue(Collections.singletonMap(CANCEL_REASON, cancelRequest.getCancelReason()))
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                .block();
+        return tossPaymentClient.cancel(cancelRequest);
     }
 
     public PaymentFail paymentFail(PaymentFailRequest paymentFailRequest) {
@@ -164,45 +131,22 @@ public class PaymentService {
 
     }
 
-    public Payment verifyPayment(String orderId, int amount) {
-        Payment payment = paymentRepository.findByOrderId(orderId)
-                .orElseThrow(NotFoundOrderException::new);
-
-        if (!payment.getAmount().equals(amount)) {
-
-            throw new NotMatchAmountException();
-        }
+    // offset 대신 (createdAt, id) 커서로 조회하여 오래된 내역도 일정한 비용으로 조회
+    public CursorResponse<PaymentHistory> paymentHistoryByCursor(Long memberId, LocalDateTime cursorCreatedAt,
+                                                                 Long cursorId, int size) {
 
-        return payment;
-    }
-
-    public PaymentConfirm requestAcceptPayment(PaymentConfirmRequest confirmRequest) {
+        CursorResponse.validateCursor(cursorCreatedAt, cursorId);
+        List<Payment> payments = paymentRepository.findByCustomerIdWithCursor(memberId, cursorCreatedAt, cursorId, Limit.of(size + 1));
 
-        WebClient webClient = tossWebClient();
+        if (cursorId == null && payments.isEmpty())
 
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(confirmRequest.getPaymentKey())
-                .build())
-                .bodyValue(confirmRequest)
-                .retrieve()
-                .bodyToMono(PaymentConfirm.class)
-                .block();
-    }
-
-    private String createAuthorizationHeader() {
-
-        String auth = paymentConfig.getTestSecretKey() + COLON;
-        String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+            throw new NotFoundPaymentException();
 
-        return BASIC + encodedAuth;
+        return CursorResponse.of(payments, size, Payment::getId, PaymentHistory::toResponse);
     }
 
-    private WebClient tossWebClient() {
+    public PaymentConfirm requestAcceptPayment(PaymentConfirmRequest confirmRequest) {
 
-        return WebClient.builder()
-                .baseUrl(PaymentConfig.TOSS_URL)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, createAuthorizationHeader())
-                .build();
+        return tossPaymentClient.confirm(confirmRequest);
     }
 }
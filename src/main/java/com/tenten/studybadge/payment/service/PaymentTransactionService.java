@@ -0,0 +1,76 @@
+package com.tenten.studybadge.payment.service;
+
+import com.tenten.studybadge.common.exception.payment.AlreadyApprovedPaymentException;
+import com.tenten.studybadge.common.exception.payment.NotFoundOrderException;
+import com.tenten.studybadge.common.exception.payment.NotMatchAmountException;
+import com.tenten.studybadge.payment.domain.entity.Payment;
+import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import com.tenten.studybadge.point.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.tenten.studybadge.type.point.PointHistoryType.EARNED;
+import static com.tenten.studybadge.type.point.TransferType.PAYMENT_CHARGE;
+
+/**
+ * 결제 승인 과정의 DB 작업을 짧은 트랜잭션으로 나눠 처리한다.
+ * PG 승인 요청은 트랜잭션 밖에서 하므로 DB 커넥션은 reserve, complete/fail 동안만 사용한다.
+ * 상태 변경은 조건부 UPDATE 로 하므로 같은 결제를 동시에 처리해도 포인트는 한 번만 적립된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    private static final int MAX_FAIL_REASON_LENGTH = 255;
+
+    private final PaymentRepository paymentRepository;
+    private final PointLedgerService pointLedgerService;
+
+    // 주문 금액을 확인하고 승인 처리 중(IN_PROGRESS)으로 변경, 중복 승인 요청이면 예외
+    @Transactional
+    public Long reserve(PaymentConfirmRequest confirmRequest) {
+
+        Payment payment = paymentRepository.findByOrderId(confirmRequest.getOrderId())
+                .orElseThrow(NotFoundOrderException::new);
+
+        if (!payment.getAmount().equals(confirmRequest.getAmount())) {
+
+            throw new NotMatchAmountException();
+        }
+
+        int reserved = paymentRepository.reserve(payment.getId(), confirmRequest.getPaymentKey(), LocalDateTime.now());
+        if (reserved == 0) {
+
+            throw new AlreadyApprovedPaymentException();
+        }
+
+        return payment.getId();
+    }
+
+    // PG 승인 완료 후 결제 완료 처리와 포인트 적립, 이미 완료된 결제면 아무것도 하지 않음
+    @Transactional
+    public void complete(Long paymentId) {
+
+        if (paymentRepository.complete(paymentId, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(NotFoundOrderException::new);
+
+        pointLedgerService.credit(payment.getCustomer().getId(), payment.getAmount(), EARNED, PAYMENT_CHARGE);
+    }
+
+    // PG 가 승인을 거절한 경우
+    @Transactional
+    public void fail(Long paymentId, String failReason) {
+
+        String reason = failReason != null && failReason.length() > MAX_FAIL_REASON_LENGTH
+                ? failReason.substring(0, MAX_FAIL_REASON_LENGTH) : failReason;
+        paymentRepository.fail(paymentId, reason, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,89 @@
+package com.tenten.studybadge.payment.service;
+
+import com.tenten.studybadge.common.exception.payment.PaymentGatewayException;
+import com.tenten.studybadge.payment.dto.PaymentCancelRequest;
+import com.tenten.studybadge.payment.dto.PaymentConfirm;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.tenten.studybadge.common.constant.PaymentConstant.*;
+
+/**
+ * 토스페이먼츠 결제 승인/취소 API 호출.
+ * 요청마다 Idempotency-Key 를 보내므로 같은 요청을 다시 보내도 토스에서 한 번만 처리된다.
+ * 따라서 연결 실패, 타임아웃, 5xx 응답은 지수 백오프로 재시도하고, 4xx(카드 거절 등)는 재시도하지 않는다.
+ * 재시도 후에도 실패하면 PaymentGatewayException 을 던진다.
+ */
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    private final WebClient tossWebClient;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+
+    public TossPaymentClient(WebClient tossWebClient,
+                             @Value("${payment.toss.retry.max-retries:2}") int maxRetries,
+                             @Value("${payment.toss.retry.backoff:PT0.2S}") Duration retryBackoff) {
+        this.tossWebClient = tossWebClient;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
+
+    // 주문번호를 멱등키로 사용
+    public PaymentConfirm confirm(PaymentConfirmRequest confirmRequest) {
+
+        return tossWebClient.post()
+                .uri(uriBuilder -> uriBuilder.path(confirmRequest.getPaymentKey())
+                .build())
+                .header(IDEMPOTENCY_KEY, confirmRequest.getOrderId())
+                .bodyValue(confirmRequest)
+                .retrieve()
+                .bodyToMono(PaymentConfirm.class)
+                .retryWhen(retrySpec(confirmRequest.getOrderId()))
+                .onErrorMap(TossPaymentClient::isRetryable, PaymentGatewayException::new)
+                .block();
+    }
+
+    // 결제 건 당 전액 취소만 하므로 paymentKey 로 멱등키를 만듦
+    public Map<String, Object> cancel(PaymentCancelRequest cancelRequest) {
+
+        return tossWebClient.post()
+                .uri(uriBuilder -> uriBuilder.path(cancelRequest.getPaymentKey() + CANCEL_URL)
+                .build())
+                .header(IDEMPOTENCY_KEY, CANCEL_IDEMPOTENCY_KEY_PREFIX + cancelRequest.getPaymentKey())
+                .bodyValue(Collections.singletonMap(CANCEL_REASON, cancelRequest.getCancelReason()))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .retryWhen(retrySpec(cancelRequest.getPaymentKey()))
+                .onErrorMap(TossPaymentClient::isRetryable, PaymentGatewayException::new)
+                .block();
+    }
+
+    private Retry retrySpec(String key) {
+
+        return Retry.backoff(maxRetries, retryBackoff)
+                .filter(TossPaymentClient::isRetryable)
+                .doBeforeRetry(signal -> log.warn("토스 API 재시도. key: {}, attempt: {}, cause: {}",
+                        key, signal.totalRetries() + 1, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+
+        return throwable instanceof WebClientRequestException
+                || (throwable instanceof WebClientResponseException responseException
+                    && responseException.getStatusCode().is5xxServerError());
+    }
+}
@@ -1,21 +1,32 @@
 package com.tenten.studybadge.point.controller;
 
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.security.LoginUser;
 import com.tenten.studybadge.point.service.PointService;
+import com.tenten.studybadge.point.dto.PointMonthlySummaryResponse;
 import com.tenten.studybadge.point.dto.PointResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 @Tag(name = "PointAPI", description = "PointAPI")
 @RequestMapping("/api/points")
@@ -33,4 +44,32 @@ public class PointController {
 
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "내 포인트 내역 커서 조회", description = "회원의 포인트 변경 내역을 커서 기반으로 조회할 수 있는 API", security = @SecurityRequirement(name = "bearerToken"))
+    @Parameter(name = "cursorCreatedAt", description = "이전 응답의 nextCursorCreatedAt - 없을 경우 처음부터 조회")
+    @Parameter(name = "cursorId", description = "이전 응답의 nextCursorId - 없을 경우 처음부터 조회")
+    @Parameter(name = "size", description = "1~100, 기본값 10")
+    @GetMapping("/my-point/cursor")
+    public ResponseEntity<CursorResponse<PointResponse>> getMyPointHistoryByCursor(@LoginUser Long memberId,
+                                                                                 @RequestParam(name = "cursorCreatedAt", required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+                                                                                 @RequestParam(name = "cursorId", required = false) Long cursorId,
+                                                                                 @RequestParam(name = "size", defaultValue = "10") @Min(1) @Max(CursorResponse.MAX_SIZE) int size) {
+
+        CursorResponse<PointResponse> response = pointService.getMyPointHistoryByCursor(memberId, cursorCreatedAt, cursorId, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "내 포인트 월별 요약", description = "월별 적립/사용 포인트와 월말 잔액을 조회할 수 있는 API", security = @SecurityRequirement(name = "bearerToken"))
+    @Parameter(name = "from", description = "시작 월(yyyy-MM)")
+    @Parameter(name = "to", description = "종료 월(yyyy-MM) - 시작 월부터 최대 12개월")
+    @GetMapping("/my-point/summary")
+    public ResponseEntity<List<PointMonthlySummaryResponse>> getMyMonthlySummary(@LoginUser Long memberId,
+                                                                                 @RequestParam(name = "from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                                                 @RequestParam(name = "to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+
+        List<PointMonthlySummaryResponse> response = pointService.getMyMonthlySummary(memberId, from, to);
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -17,6 +17,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
+@Table(indexes = {
+        @Index(name = "idx_point_member_created_at", columnList = "member_id, createdAt, id"),
+        // 월별 집계 시 해당 월 구간만 읽기 위함
+        @Index(name = "idx_point_created_at", columnList = "createdAt")
+})
 public class Point extends BaseEntity {
 
     @Id
@@ -34,4 +39,7 @@ public class Point extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
     private TransferType transferType;
+
+    // 이 내역이 반영된 직후의 잔액, 잔액 기록 이전에 저장된 내역은 null
+    private Integer balance;
 }
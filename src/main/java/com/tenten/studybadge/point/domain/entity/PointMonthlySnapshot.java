@@ -0,0 +1,50 @@
+package com.tenten.studybadge.point.domain.entity;
+
+import com.tenten.studybadge.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원의 월별 포인트 집계와 월말 잔액.
+ * 지난 달 내역을 한 번 집계해 저장해 두고, 월별 요약은 포인트 내역 대신 이 테이블에서 조회한다.
+ * 내역이 없는 달은 행을 만들지 않는다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_point_monthly_snapshot_member_month",
+    columnNames = {"member_id", "snapshot_month"}))
+public class PointMonthlySnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    // 집계한 달의 1일
+    @Column(nullable = false)
+    private LocalDate snapshotMonth;
+
+    @Column(nullable = false)
+    private long earnedAmount;
+
+    @Column(nullable = false)
+    private long usedAmount;
+
+    @Column(nullable = false)
+    private int transactionCount;
+
+    // 월말 잔액, 잔액 기록 이전 내역만 있는 달은 null
+    private Integer closingBalance;
+}
@@ -0,0 +1,81 @@
+package com.tenten.studybadge.point.domain.repository;
+
+import com.tenten.studybadge.point.dto.PointLedgerEntry;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 포인트 잔액을 DB 에서 원자적으로 변경하고 포인트 내역을 함께 저장한다.
+ * 잔액을 읽어 계산한 뒤 Member 전체를 저장하지 않으므로 동시에 변경되어도 갱신이 유실되지 않고,
+ * point + delta >= 0 조건으로 잔액이 음수가 되는 변경은 반영되지 않는다.
+ * 내역에는 변경 직후 잔액(balance)을 함께 저장하며, 회원 행 잠금을 가진 채 같은 트랜잭션에서 읽으므로 다른 변경과 섞이지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepository {
+
+    private static final String UPDATE_MEMBER_POINT = "UPDATE member SET point = point + ?, updated_at = ? " +
+        "WHERE id = ? AND point + ? >= 0";
+    // 같은 배치에서 뒤에 반영된 변경 금액(?)을 빼서 이 변경 직후의 잔액을 구함
+    private static final String INSERT_POINT = "INSERT INTO point " +
+        "(member_id, amount, history_type, transfer_type, balance, created_at, updated_at) " +
+        "SELECT id, ?, ?, ?, point - ?, ?, ? FROM member WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 잔액이 부족하거나 회원이 없으면 false
+    public boolean apply(PointLedgerEntry entry, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int updated = jdbcTemplate.update(UPDATE_MEMBER_POINT,
+            entry.getAmount(), timestamp, entry.getMemberId(), entry.getAmount());
+        if (updated == 0) {
+            return false;
+        }
+        jdbcTemplate.update(INSERT_POINT, pointArgs(entry, 0, timestamp));
+        return true;
+    }
+
+    // 잔액 변경과 내역 저장을 각각 JDBC 배치 한 번으로 처리, 반영된 변경의 내역만 저장하고 반영된 건수를 반환
+    public int applyAll(List<PointLedgerEntry> entries, LocalDateTime now) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> memberArgs = entries.stream()
+            .map(entry -> new Object[]{entry.getAmount(), timestamp, entry.getMemberId(), entry.getAmount()})
+            .toList();
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_MEMBER_POINT, memberArgs);
+
+        // 잔액은 배치 전체가 반영된 뒤에 읽으므로, 뒤에서부터 같은 회원의 이후 변경 금액을 누적해 빼 줌
+        Deque<Object[]> pointArgs = new ArrayDeque<>(entries.size());
+        Map<Long, Integer> laterAmounts = new HashMap<>();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            // 드라이버에 따라 건수 대신 SUCCESS_NO_INFO 를 반환
+            if (updated[i] > 0 || updated[i] == Statement.SUCCESS_NO_INFO) {
+                PointLedgerEntry entry = entries.get(i);
+                int laterAmount = laterAmounts.getOrDefault(entry.getMemberId(), 0);
+                pointArgs.addFirst(pointArgs(entry, laterAmount, timestamp));
+                laterAmounts.put(entry.getMemberId(), laterAmount + entry.getAmount());
+            }
+        }
+        if (!pointArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POINT, new ArrayList<>(pointArgs));
+        }
+        return pointArgs.size();
+    }
+
+    private Object[] pointArgs(PointLedgerEntry entry, int laterAmount, Timestamp timestamp) {
+        return new Object[]{entry.getAmount(), entry.getHistoryType().name(), entry.getTransferType().name(),
+            laterAmount, timestamp, timestamp, entry.getMemberId()};
+    }
+}
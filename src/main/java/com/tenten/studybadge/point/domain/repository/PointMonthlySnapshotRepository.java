@@ -0,0 +1,12 @@
+package com.tenten.studybadge.point.domain.repository;
+
+import com.tenten.studybadge.point.domain.entity.PointMonthlySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PointMonthlySnapshotRepository extends JpaRepository<PointMonthlySnapshot, Long> {
+
+    List<PointMonthlySnapshot> findAllByMemberIdAndSnapshotMonthBetween(Long memberId, LocalDate from, LocalDate to);
+}
@@ -1,11 +1,21 @@
 package com.tenten.studybadge.point.domain.repository;
 
 import com.tenten.studybadge.point.domain.entity.Point;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PointRepository extends JpaRepository<Point, Long> {
     List<Point> findByMemberId(Long memberId, PageRequest pageRequest);
+
+    // (createdAt, id) 가 커서보다 작은 내역부터 조회, 커서가 없으면 처음부터
+    @Query("SELECT p FROM Point p WHERE p.member.id = :memberId " +
+            "AND (:cursorId IS NULL OR p.createdAt < :cursorCreatedAt " +
+            "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Point> findByMemberIdWithCursor(Long memberId, LocalDateTime cursorCreatedAt, Long cursorId, Limit limit);
 }
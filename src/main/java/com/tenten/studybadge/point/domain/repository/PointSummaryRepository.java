@@ -0,0 +1,71 @@
+package com.tenten.studybadge.point.domain.repository;
+
+import com.tenten.studybadge.point.dto.PointMonthlySummaryResponse;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 포인트 내역의 잔액/월별 집계 조회.
+ * 모두 (member_id, created_at) 또는 created_at 인덱스의 구간만 읽으며 회원의 전체 내역을 합산하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointSummaryRepository {
+
+    // 이미 집계된 회원은 건너뛰므로 다시 실행해도 중복 저장되지 않음
+    private static final String INSERT_MONTHLY_SNAPSHOT = "INSERT INTO point_monthly_snapshot " +
+        "(member_id, snapshot_month, earned_amount, used_amount, transaction_count, closing_balance, created_at, updated_at) " +
+        "SELECT p.member_id, ?, " +
+        "SUM(CASE WHEN p.amount > 0 THEN p.amount ELSE 0 END), SUM(CASE WHEN p.amount < 0 THEN -p.amount ELSE 0 END), COUNT(*), " +
+        "(SELECT l.balance FROM point l WHERE l.member_id = p.member_id AND l.created_at < ? " +
+        "ORDER BY l.created_at DESC, l.id DESC LIMIT 1), ?, ? " +
+        "FROM point p WHERE p.created_at >= ? AND p.created_at < ? AND p.member_id IS NOT NULL " +
+        "AND NOT EXISTS (SELECT 1 FROM point_monthly_snapshot s WHERE s.member_id = p.member_id AND s.snapshot_month = ?) " +
+        "GROUP BY p.member_id";
+    private static final String SELECT_MONTHLY_TOTAL = "SELECT " +
+        "COALESCE(SUM(CASE WHEN amount > 0 THEN amount ELSE 0 END), 0) AS earned_amount, " +
+        "COALESCE(SUM(CASE WHEN amount < 0 THEN -amount ELSE 0 END), 0) AS used_amount, COUNT(*) AS transaction_count " +
+        "FROM point WHERE member_id = ? AND created_at >= ? AND created_at < ?";
+    private static final String SELECT_BALANCE_BEFORE = "SELECT balance FROM point " +
+        "WHERE member_id = ? AND created_at < ? ORDER BY created_at DESC, id DESC LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 해당 월에 내역이 있는 회원마다 집계 한 행을 저장하고 저장한 건수를 반환
+    public int insertMonthlySnapshots(YearMonth month, LocalDateTime now) {
+        Date snapshotMonth = Date.valueOf(month.atDay(1));
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(INSERT_MONTHLY_SNAPSHOT,
+            snapshotMonth, to, timestamp, timestamp, from, to, snapshotMonth);
+    }
+
+    // 스냅샷이 없는 달(진행 중인 달 등)은 해당 월 구간의 내역만 직접 집계
+    public PointMonthlySummaryResponse aggregateMonth(Long memberId, YearMonth month) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        Integer closingBalance = findBalanceBefore(memberId, month.plusMonths(1).atDay(1).atStartOfDay());
+        return jdbcTemplate.queryForObject(SELECT_MONTHLY_TOTAL, (rs, rowNum) -> PointMonthlySummaryResponse.builder()
+            .month(month)
+            .earnedAmount(rs.getLong("earned_amount"))
+            .usedAmount(rs.getLong("used_amount"))
+            .transactionCount(rs.getInt("transaction_count"))
+            .closingBalance(closingBalance)
+            .build(), memberId, from, to);
+    }
+
+    // at 직전 마지막 내역의 잔액, 내역이 없거나 잔액 기록 이전 내역이면 null
+    // created_at 은 잠금 획득 전에 정해지므로, at 과 수 밀리초 차이로 동시에 반영된 변경은 순서가 바뀔 수 있음
+    public Integer findBalanceBefore(Long memberId, LocalDateTime at) {
+        List<Integer> balances = jdbcTemplate.queryForList(SELECT_BALANCE_BEFORE, Integer.class,
+            memberId, Timestamp.valueOf(at));
+        return balances.isEmpty() ? null : balances.get(0);
+    }
+}
@@ -0,0 +1,17 @@
+package com.tenten.studybadge.point.dto;
+
+import com.tenten.studybadge.type.point.PointHistoryType;
+import com.tenten.studybadge.type.point.TransferType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원 포인트 변경 한 건, amount 는 적립이면 양수, 사용/차감이면 음수
+@Getter
+@AllArgsConstructor
+public class PointLedgerEntry {
+
+    private Long memberId;
+    private int amount;
+    private PointHistoryType historyType;
+    private TransferType transferType;
+}
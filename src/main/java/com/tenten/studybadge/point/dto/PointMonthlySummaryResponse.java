@@ -0,0 +1,30 @@
+package com.tenten.studybadge.point.dto;
+
+import com.tenten.studybadge.point.domain.entity.PointMonthlySnapshot;
+import lombok.*;
+
+import java.time.YearMonth;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointMonthlySummaryResponse {
+
+    private YearMonth month;
+    private long earnedAmount;
+    private long usedAmount;
+    private int transactionCount;
+    private Integer closingBalance;
+
+    public static PointMonthlySummaryResponse toResponse(PointMonthlySnapshot snapshot) {
+
+        return PointMonthlySummaryResponse.builder()
+                .month(YearMonth.from(snapshot.getSnapshotMonth()))
+                .earnedAmount(snapshot.getEarnedAmount())
+                .usedAmount(snapshot.getUsedAmount())
+                .transactionCount(snapshot.getTransactionCount())
+                .closingBalance(snapshot.getClosingBalance())
+                .build();
+    }
+}
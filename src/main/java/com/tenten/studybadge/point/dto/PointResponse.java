@@ -18,6 +18,7 @@ public class PointResponse {
     private PointHistoryType historyType;
     private TransferType transferType;
     private Integer amount;
+    private Integer balance;
     private LocalDateTime createdAt;
 
 
@@ -32,6 +33,7 @@ public class PointResponse {
                 .historyType(point.getHistoryType())
                 .transferType(point.getTransferType())
                 .amount(point.getAmount())
+                .balance(point.getBalance())
                 .createdAt(point.getCreatedAt())
                 .build();
     }
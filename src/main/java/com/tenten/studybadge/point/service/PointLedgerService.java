@@ -0,0 +1,52 @@
+package com.tenten.studybadge.point.service;
+
+import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
+import com.tenten.studybadge.common.exception.payment.NotEnoughPointException;
+import com.tenten.studybadge.point.domain.repository.PointLedgerRepository;
+import com.tenten.studybadge.point.dto.PointLedgerEntry;
+import com.tenten.studybadge.type.point.PointHistoryType;
+import com.tenten.studybadge.type.point.TransferType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 포인트 적립/사용은 모두 이 서비스를 통해 처리한다.
+ * 잔액은 조건부 UPDATE 로 DB 에서 변경되므로, 호출한 쪽에서 조회해 둔 Member 의 point 는 이후 최신 값이 아니다.
+ * 따라서 포인트 변경 후 Member 를 다시 save 하지 않아야 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+
+    @Transactional
+    public void credit(Long memberId, int amount, PointHistoryType historyType, TransferType transferType) {
+
+        if (!pointLedgerRepository.apply(new PointLedgerEntry(memberId, amount, historyType, transferType),
+                LocalDateTime.now())) {
+            throw new NotFoundMemberException();
+        }
+    }
+
+    // 잔액이 부족하면 NotEnoughPointException
+    @Transactional
+    public void debit(Long memberId, int amount, PointHistoryType historyType, TransferType transferType) {
+
+        if (!pointLedgerRepository.apply(new PointLedgerEntry(memberId, -amount, historyType, transferType),
+                LocalDateTime.now())) {
+            throw new NotEnoughPointException();
+        }
+    }
+
+    // 배치 환급처럼 여러 회원에게 한 번에 적립
+    @Transactional
+    public int creditAll(List<PointLedgerEntry> entries) {
+
+        return pointLedgerRepository.applyAll(entries, LocalDateTime.now());
+    }
+}
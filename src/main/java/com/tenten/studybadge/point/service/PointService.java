@@ -1,16 +1,30 @@
 package com.tenten.studybadge.point.service;
 
+import com.tenten.studybadge.common.dto.CursorResponse;
 import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
+import com.tenten.studybadge.common.exception.point.InvalidPointSummaryPeriodException;
 import com.tenten.studybadge.common.exception.point.NotFoundPointException;
 import com.tenten.studybadge.point.domain.entity.Point;
+import com.tenten.studybadge.point.domain.entity.PointMonthlySnapshot;
+import com.tenten.studybadge.point.domain.repository.PointMonthlySnapshotRepository;
 import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.domain.repository.PointSummaryRepository;
+import com.tenten.studybadge.point.dto.PointMonthlySummaryResponse;
 import com.tenten.studybadge.point.dto.PointResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.tenten.studybadge.common.constant.PaymentConstant.CREATED_AT;
 
@@ -18,7 +32,11 @@ import static com.tenten.studybadge.common.constant.PaymentConstant.CREATED_AT;
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final int MAX_SUMMARY_MONTHS = 12;
+
     private final PointRepository pointRepository;
+    private final PointMonthlySnapshotRepository pointMonthlySnapshotRepository;
+    private final PointSummaryRepository pointSummaryRepository;
 
     public List<PointResponse> getMyPointHistory(Long memberId, int page, int size) {
 
@@ -30,4 +48,37 @@ public class PointService {
 
         return PointResponse.listToResponse(point);
     }
+
+    // offset 대신 (createdAt, id) 커서로 조회하여 오래된 내역도 일정한 비용으로 조회
+    public CursorResponse<PointResponse> getMyPointHistoryByCursor(Long memberId, LocalDateTime cursorCreatedAt,
+                                                                   Long cursorId, int size) {
+
+        CursorResponse.validateCursor(cursorCreatedAt, cursorId);
+        List<Point> points = pointRepository.findByMemberIdWithCursor(memberId, cursorCreatedAt, cursorId, Limit.of(size + 1));
+        if (cursorId == null && points.isEmpty())
+            throw new NotFoundPointException();
+
+        return CursorResponse.of(points, size, Point::getId, PointResponse::toResponse);
+    }
+
+    // 지난 달은 월별 스냅샷에서, 스냅샷이 없는 달(진행 중인 달 등)은 해당 월 내역만 집계해서 반환
+    public List<PointMonthlySummaryResponse> getMyMonthlySummary(Long memberId, YearMonth from, YearMonth to) {
+
+        YearMonth end = to.isAfter(YearMonth.now()) ? YearMonth.now() : to;
+        if (from.isAfter(to) || ChronoUnit.MONTHS.between(from, to) >= MAX_SUMMARY_MONTHS)
+            throw new InvalidPointSummaryPeriodException();
+
+        Map<YearMonth, PointMonthlySnapshot> snapshots = pointMonthlySnapshotRepository
+                .findAllByMemberIdAndSnapshotMonthBetween(memberId, from.atDay(1), end.atDay(1)).stream()
+                .collect(Collectors.toMap(snapshot -> YearMonth.from(snapshot.getSnapshotMonth()), Function.identity()));
+
+        List<PointMonthlySummaryResponse> summaries = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(end); month = month.plusMonths(1)) {
+            PointMonthlySnapshot snapshot = snapshots.get(month);
+            summaries.add(snapshot != null
+                    ? PointMonthlySummaryResponse.toResponse(snapshot)
+                    : pointSummaryRepository.aggregateMonth(memberId, month));
+        }
+        return summaries;
+    }
 }
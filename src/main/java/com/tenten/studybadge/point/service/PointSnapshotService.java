@@ -0,0 +1,42 @@
+package com.tenten.studybadge.point.service;
+
+import com.tenten.studybadge.point.domain.repository.PointSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 지난 달 포인트 내역을 회원별로 집계해 월별 스냅샷(월말 잔액 포함)으로 저장한다.
+ * 이미 집계된 회원은 건너뛰므로 재실행해도 안전하고, 실행되지 않은 달은 조회 시 내역에서 직접 집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointSnapshotService {
+
+    private final PointSummaryRepository pointSummaryRepository;
+
+    @Scheduled(cron = "${point.snapshot.cron:0 10 0 1 * ?}") // 기본 매월 1일 0시 10분 실행
+    public void snapshotPreviousMonth() {
+
+        snapshotMonth(YearMonth.now().minusMonths(1));
+    }
+
+    public int snapshotMonth(YearMonth month) {
+
+        try {
+            int saved = pointSummaryRepository.insertMonthlySnapshots(month, LocalDateTime.now());
+            log.info("{} 포인트 월별 스냅샷 {}건 저장", month, saved);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 같은 달을 동시에 집계한 경우
+            log.warn("{} 포인트 월별 스냅샷이 이미 저장 중입니다.", month, e);
+            return 0;
+        }
+    }
+}
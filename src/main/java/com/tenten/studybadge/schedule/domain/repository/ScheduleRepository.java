@@ -1,6 +1,7 @@
 package com.tenten.studybadge.schedule.domain.repository;
 
 import com.tenten.studybadge.schedule.domain.Schedule;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,4 +12,7 @@ public interface ScheduleRepository<T extends Schedule> extends JpaRepository<T,
     @Query("SELECT s FROM #{#entityName} s WHERE s.studyChannel.id = :studyChannelId")
     List<T> findAllByStudyChannelId(Long studyChannelId);
 
+    @Query("SELECT s FROM #{#entityName} s WHERE s.studyChannel.id IN (:studyChannelIds)")
+    List<T> findAllByStudyChannelIdIn(Collection<Long> studyChannelIds);
+
 }
\ No newline at end of file
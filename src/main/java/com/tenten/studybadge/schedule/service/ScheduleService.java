@@ -10,6 +10,7 @@ import static com.tenten.studybadge.common.constant.NotificationConstant.SCHEDUL
 import static com.tenten.studybadge.common.constant.NotificationConstant.SINGLE_SCHEDULE_CREATE;
 import static com.tenten.studybadge.common.constant.NotificationConstant.SINGLE_SCHEDULE_DELETE;
 
+import com.tenten.studybadge.attendance.service.AttendanceCounterService;
 import com.tenten.studybadge.common.exception.schedule.CanNotDeleteForBeforeDateException;
 import com.tenten.studybadge.common.exception.schedule.IllegalArgumentForRepeatScheduleEditRequestException;
 import com.tenten.studybadge.common.exception.schedule.IllegalArgumentForRepeatSituationException;
@@ -65,6 +66,7 @@ public class ScheduleService {
 
     private final NotificationService notificationService;
     private final NotificationSchedulerService notificationSchedulerService;
+    private final AttendanceCounterService attendanceCounterService;
 
     public void postSingleSchedule(
         Long studyChannelId, SingleScheduleCreateRequest singleScheduleCreateRequest) {
@@ -78,6 +80,7 @@ public class ScheduleService {
 
         // 생성된 단일 일정 스케줄링 등록
         notificationSchedulerService.schedulingSingleScheduleNotification(saveSingleSchedule);
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
         sendNotificationForSchedule(studyChannel, saveSingleSchedule.getScheduleDate(),
             NotificationType.SCHEDULE_CREATE,
             SCHEDULE_RELATED_URL, SINGLE_SCHEDULE_CREATE);
@@ -100,6 +103,7 @@ public class ScheduleService {
 
         // 생성된 반복 일정 스케줄링 등록
         notificationSchedulerService.schedulingRepeatScheduleNotification(saveRepeatSchedule);
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
         sendNotificationForSchedule(studyChannel, saveRepeatSchedule.getScheduleDate(),
             NotificationType.SCHEDULE_CREATE,
             SCHEDULE_RELATED_URL, REPEAT_SCHEDULE_CREATE);
@@ -206,6 +210,7 @@ public class ScheduleService {
         } else {
             throw new IllegalArgumentForScheduleEditRequestException();
         }
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
     }
 
     public void putScheduleSingleToSingle(
@@ -327,6 +332,7 @@ public class ScheduleService {
             throw new IllegalArgumentForScheduleRequestException();
         }
 
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
         sendNotificationForSchedule(studyChannel, repeatSchedule.getScheduleDate(),
             NotificationType.SCHEDULE_UPDATE,
             SCHEDULE_RELATED_URL, SCHEDULE_UPDATE_FOR_REPEAT_TO_SINGLE);
@@ -463,6 +469,7 @@ public class ScheduleService {
         // 기존 단일 일정 삭제 -> 스케줄링도 삭제
         singleScheduleRepository.deleteById(scheduleDeleteRequest.getScheduleId());
         notificationSchedulerService.unSchedulingSingleScheduleNotification(singleSchedule);
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
         sendNotificationForSchedule(studyChannel, scheduleDeleteRequest.getSelectedDate(),
             NotificationType.SCHEDULE_DELETE,
             SCHEDULE_RELATED_URL, SINGLE_SCHEDULE_DELETE);
@@ -499,6 +506,7 @@ public class ScheduleService {
             deleteRepeatScheduleAfterEventSameNo(selectedDate, repeatSchedule);
         }
 
+        attendanceCounterService.refreshStudyChannel(studyChannelId);
         sendNotificationForSchedule(studyChannel, scheduleDeleteRequest.getSelectedDate(),
             NotificationType.SCHEDULE_DELETE,
             SCHEDULE_RELATED_URL, REPEAT_SCHEDULE_DELETE);
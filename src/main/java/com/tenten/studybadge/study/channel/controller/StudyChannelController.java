@@ -89,6 +89,28 @@ public class StudyChannelController {
         return ResponseEntity.ok(studyChannelService.getStudyChannels(PagingUtils.createPageable(page, size, sortOrder), new SearchCondition(type, status, category)));
     }
 
+    @GetMapping("/study-channels/cursor")
+    @Operation(summary = "스터디 채널 목록 커서 조회", description = "무한 스크롤을 위해 커서 이후의 스터디 채널 목록을 조회하기 위한 API")
+    @Parameter(name = "cursorId", description = "이전 응답의 nextCursorId - 없을 경우 처음부터 조회")
+    @Parameter(name = "cursorViewCnt", description = "이전 응답의 nextCursorViewCnt - 조회수 순 정렬일 때 필요")
+    @Parameter(name = "size", description = "조회할 목록 개수 - 없을 경우 6")
+    @Parameter(name = "order", description = "정렬 방법 - 없을 경우 최신 순, 정렬 기준 : RECENT, VIEW_COUNT")
+    @Parameter(name = "type", description = "모임 방식 - OFFLINE, ONLINE")
+    @Parameter(name = "status", description = "모집 상태 - RECRUITING, RECRUIT_COMPLETED")
+    @Parameter(name = "category", description = "카테고리 - IT, LANGUAGE, EMPLOYMENT, SELF_DEVELOPMENT")
+    public ResponseEntity<StudyChannelCursorResponse> getStudyChannelsByCursor(
+        @RequestParam(name = "cursorId", required = false) Long cursorId,
+        @RequestParam(name = "cursorViewCnt", required = false) Integer cursorViewCnt,
+        @RequestParam(name = "size", required = false, defaultValue = "6") int size,
+        @RequestParam(name = "order", required = false, defaultValue = "RECENT") SortOrder sortOrder,
+        @RequestParam(name = "type", required = false) MeetingType type,
+        @RequestParam(name = "status", required = false) RecruitmentStatus status,
+        @RequestParam(name = "category", required = false) Category category
+    ) {
+        return ResponseEntity.ok(studyChannelService.getStudyChannelsByCursor(size, sortOrder,
+            new SearchCondition(type, status, category), cursorId, cursorViewCnt));
+    }
+
     @GetMapping("/study-channels/{studyChannelId}")
     @Operation(summary = "특정 스터디 채널 조회", description = "특정 스터디 채널을 조회하기 위한 API")
     @Parameter(name = "studyChannelId", description = "스터디 채널 ID", required = true)
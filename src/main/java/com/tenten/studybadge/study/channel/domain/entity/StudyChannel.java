@@ -22,6 +22,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        @Index(name = "idx_study_channel_created_at", columnList = "createdAt"),
+        @Index(name = "idx_study_channel_view_cnt", columnList = "viewCnt, study_channel_id")
+})
 public class StudyChannel extends BaseEntity {
 
     @Id
@@ -1,24 +1,64 @@
 package com.tenten.studybadge.study.channel.domain.repository;
 
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.dto.StudyChannelIdRange;
+import com.tenten.studybadge.study.channel.dto.StudyChannelSummary;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.member.StudyMemberRole;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudyChannelRepository extends JpaRepository<StudyChannel, Long>, JpaSpecificationExecutor<StudyChannel> {
 
+    String SELECT_SUMMARY = "SELECT new com.tenten.studybadge.study.channel.dto.StudyChannelSummary(" +
+            "sc.id, sc.name, sc.category, sc.description, sc.recruitment.recruitmentStatus, sc.meetingType, " +
+            "sc.studyDuration.studyStartDate, sc.studyDuration.studyEndDate, sc.deposit, sc.viewCnt, m.id, m.name) " +
+            "FROM StudyChannel sc " +
+            "JOIN sc.studyMembers sm " +
+            "JOIN sm.member m ";
+    String SEARCH_CONDITION = "(:status IS NULL OR sc.recruitment.recruitmentStatus = :status) " +
+            "AND (:category IS NULL OR sc.category = :category) " +
+            "AND (:type IS NULL OR sc.meetingType = :type) ";
+    String LEADER_CONDITION = "WHERE sm.studyMemberRole = :leader AND ";
+
     @Query("select sc from StudyChannel sc " +
             "join fetch sc.studyMembers sm " +
             "join fetch sm.member m " +
             "where sc.id = :studyChannelId")
     Optional<StudyChannel> findByIdWithMember(Long studyChannelId);
 
-    @Transactional
-    @Modifying
-    @Query("UPDATE StudyChannel sc SET sc.viewCnt = sc.viewCnt + 1 WHERE sc.id = :studyChannelId")
-    void increaseViewCnt(Long studyChannelId);
+    // 채널과 리더 이름을 한 번에 조회, 정렬은 Pageable 의 Sort 를 사용
+    @Query(value = SELECT_SUMMARY + LEADER_CONDITION + SEARCH_CONDITION,
+            countQuery = "SELECT COUNT(sc) FROM StudyChannel sc WHERE " + SEARCH_CONDITION)
+    Page<StudyChannelSummary> findAllSummary(RecruitmentStatus status, Category category, MeetingType type,
+                                             StudyMemberRole leader, Pageable pageable);
+
+    // 최신 순 무한 스크롤, 생성 순서와 같은 ID 역순으로 cursorId 다음부터 조회
+    @Query(SELECT_SUMMARY + LEADER_CONDITION + SEARCH_CONDITION +
+            "AND (:cursorId IS NULL OR sc.id < :cursorId) " +
+            "ORDER BY sc.id DESC")
+    List<StudyChannelSummary> findAllSummaryByIdCursor(RecruitmentStatus status, Category category, MeetingType type,
+                                                       StudyMemberRole leader, Long cursorId, Limit limit);
+
+    // 조회수 순 무한 스크롤, (조회수, ID) 역순으로 커서 다음부터 조회
+    @Query(SELECT_SUMMARY + LEADER_CONDITION + SEARCH_CONDITION +
+            "AND (:cursorId IS NULL OR sc.viewCnt < :cursorViewCnt OR (sc.viewCnt = :cursorViewCnt AND sc.id < :cursorId)) " +
+            "ORDER BY sc.viewCnt DESC, sc.id DESC")
+    List<StudyChannelSummary> findAllSummaryByViewCntCursor(RecruitmentStatus status, Category category, MeetingType type,
+                                                            StudyMemberRole leader, Long cursorId, Integer cursorViewCnt,
+                                                            Limit limit);
+
+    @Query("SELECT MIN(sc.id) AS minId, MAX(sc.id) AS maxId FROM StudyChannel sc " +
+            "WHERE sc.studyDuration.studyEndDate BETWEEN :startDate AND :endDate")
+    StudyChannelIdRange findIdRangeByStudyEndDateBetween(LocalDate startDate, LocalDate endDate);
 }
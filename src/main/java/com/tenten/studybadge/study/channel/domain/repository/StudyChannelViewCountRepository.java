@@ -0,0 +1,30 @@
+package com.tenten.studybadge.study.channel.domain.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 누적된 조회수 증가분을 채널 별 UPDATE 한 건씩 JDBC 배치로 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudyChannelViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT = "UPDATE study_channel SET view_cnt = view_cnt + ? " +
+            "WHERE study_channel_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((studyChannelId, delta) -> args.add(new Object[]{delta, studyChannelId}));
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, args);
+    }
+}
@@ -0,0 +1,39 @@
+package com.tenten.studybadge.study.channel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StudyChannelCursorResponse {
+
+    private List<StudyChannelResponse> studyChannels;
+    private boolean hasNext;
+    // 다음 조회 시 전달할 커서, 조회수 순 정렬이면 nextCursorViewCnt 도 함께 전달
+    private Long nextCursorId;
+    private Integer nextCursorViewCnt;
+
+    // summaries 는 size + 1 개까지 조회한 결과
+    public static StudyChannelCursorResponse from(List<StudyChannelSummary> summaries, int size,
+                                                  Map<Long, Long> pendingViewCounts) {
+        boolean hasNext = summaries.size() > size;
+        List<StudyChannelSummary> content = hasNext ? summaries.subList(0, size) : summaries;
+        // 커서는 정렬 기준과 같은 DB 조회수를 사용
+        StudyChannelSummary last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return StudyChannelCursorResponse.builder()
+                .studyChannels(content.stream()
+                        .map(summary -> StudyChannelResponse.from(summary,
+                                pendingViewCounts.getOrDefault(summary.getStudyChannelId(), 0L)))
+                        .toList())
+                .hasNext(hasNext)
+                .nextCursorId(hasNext ? last.getStudyChannelId() : null)
+                .nextCursorViewCnt(hasNext ? last.getViewCnt() : null)
+                .build();
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.tenten.studybadge.study.channel.dto;
+
+public interface StudyChannelIdRange {
+
+    Long getMinId();
+    Long getMaxId();
+}
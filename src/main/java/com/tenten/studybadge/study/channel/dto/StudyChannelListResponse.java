@@ -1,12 +1,11 @@
 package com.tenten.studybadge.study.channel.dto;
 
-import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
-import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -15,21 +14,31 @@ import java.util.Map;
 @AllArgsConstructor
 public class StudyChannelListResponse {
 
+    private static final String VIEW_CNT = "viewCnt";
+
     private int totalPage;
     private long totalCount;
     private int pageNumber;
     private int pageSize;
     private List<StudyChannelResponse> studyChannels;
 
-    public static StudyChannelListResponse from(Page<StudyChannel> channels, Map<Long, StudyMember> leaderMap) {
+    // 반영되지 않은 조회수를 더하고, 조회수 순 정렬이면 더한 조회수로 페이지 안에서 다시 정렬
+    public static StudyChannelListResponse from(Page<StudyChannelSummary> channels, Map<Long, Long> pendingViewCounts) {
+        List<StudyChannelResponse> studyChannels = channels.stream()
+                .map(summary -> StudyChannelResponse.from(summary,
+                        pendingViewCounts.getOrDefault(summary.getStudyChannelId(), 0L)))
+                .toList();
+        if (!pendingViewCounts.isEmpty() && channels.getSort().getOrderFor(VIEW_CNT) != null) {
+            studyChannels = studyChannels.stream()
+                    .sorted(Comparator.comparingInt(StudyChannelResponse::getViewCnt).reversed())
+                    .toList();
+        }
         return StudyChannelListResponse.builder()
                 .totalPage(channels.getTotalPages())
                 .totalCount(channels.getTotalElements())
                 .pageNumber(channels.getNumber() + 1)
                 .pageSize(channels.getSize())
-                .studyChannels(channels.stream()
-                        .map((studyChannel -> StudyChannelResponse.from(studyChannel, leaderMap.get(studyChannel.getId()))))
-                        .toList())
+                .studyChannels(studyChannels)
                 .build();
     }
 
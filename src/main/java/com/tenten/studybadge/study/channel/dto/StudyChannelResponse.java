@@ -1,7 +1,5 @@
 package com.tenten.studybadge.study.channel.dto;
 
-import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
-import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import com.tenten.studybadge.type.study.channel.Category;
 import com.tenten.studybadge.type.study.channel.MeetingType;
 import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
@@ -29,20 +27,21 @@ public class StudyChannelResponse {
     private Long memberId;
     private String memberName;
 
-    public static StudyChannelResponse from(StudyChannel studyChannel, StudyMember studyMember) {
+    // pendingViewCnt: 아직 DB 에 반영되지 않은 조회수
+    public static StudyChannelResponse from(StudyChannelSummary summary, long pendingViewCnt) {
         return StudyChannelResponse.builder()
-                .studyChannelId(studyChannel.getId())
-                .name(studyChannel.getName())
-                .category(studyChannel.getCategory())
-                .description(studyChannel.getDescription())
-                .recruitmentStatus(studyChannel.getRecruitment().getRecruitmentStatus())
-                .meetingType(studyChannel.getMeetingType())
-                .startDate(studyChannel.getStudyDuration().getStudyStartDate())
-                .endDate(studyChannel.getStudyDuration().getStudyEndDate())
-                .deposit(studyChannel.getDeposit())
-                .viewCnt(studyChannel.getViewCnt())
-                .memberId(studyMember.getMember().getId())
-                .memberName(studyMember.getMember().getName())
+                .studyChannelId(summary.getStudyChannelId())
+                .name(summary.getName())
+                .category(summary.getCategory())
+                .description(summary.getDescription())
+                .recruitmentStatus(summary.getRecruitmentStatus())
+                .meetingType(summary.getMeetingType())
+                .startDate(summary.getStartDate())
+                .endDate(summary.getEndDate())
+                .deposit(summary.getDeposit())
+                .viewCnt(summary.getViewCnt() + (int) pendingViewCnt)
+                .memberId(summary.getMemberId())
+                .memberName(summary.getMemberName())
                 .build();
     }
 
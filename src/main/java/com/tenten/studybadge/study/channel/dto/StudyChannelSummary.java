@@ -0,0 +1,32 @@
+package com.tenten.studybadge.study.channel.dto;
+
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 스터디 채널 목록 조회용 프로젝션.
+ * 채널과 리더 정보를 쿼리 한 번으로 조회하며 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyChannelSummary {
+
+    private Long studyChannelId;
+    private String name;
+    private Category category;
+    private String description;
+    private RecruitmentStatus recruitmentStatus;
+    private MeetingType meetingType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer deposit;
+    private Integer viewCnt;
+    private Long memberId;
+    private String memberName;
+
+}
@@ -0,0 +1,81 @@
+package com.tenten.studybadge.study.channel.service;
+
+import com.tenten.studybadge.study.channel.dto.SearchCondition;
+import com.tenten.studybadge.study.channel.dto.StudyChannelListResponse;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스터디 채널 목록 조회 결과를 (모집 상태, 카테고리, 모임 방식, 정렬, 페이지) 별로 짧게 보관한다.
+ * - 채널 생성/수정/모집 상태 변경 시 이 노드의 캐시를 모두 비운다. 다른 노드는 ttl 안에 반영된다.
+ * - 조회수는 채울 때의 누적 조회수까지 더한 응답을 보관하므로 ttl 동안 멈춰 보일 수 있지만,
+ *   누적분이 DB 에 반영된 뒤에도 줄어들어 보이지 않는다.
+ * - 최대 max-size 개까지만 보관하며, 가득 차면 만료된 항목을 정리하고 그래도 가득 차 있으면 캐시하지 않는다.
+ */
+@Component
+public class StudyChannelListCache {
+
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public StudyChannelListCache(@Value("${study-channel.list-cache.max-size:1000}") int maxSize,
+                                 @Value("${study-channel.list-cache.ttl:PT10S}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public StudyChannelListResponse get(SearchCondition searchCondition, Pageable pageable) {
+        Key key = Key.of(searchCondition, pageable);
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.response();
+    }
+
+    public void put(SearchCondition searchCondition, Pageable pageable, StudyChannelListResponse response) {
+        if (cache.size() >= maxSize) {
+            evictExpired();
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        cache.put(Key.of(searchCondition, pageable), new Entry(response, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Scheduled(fixedDelayString = "${study-channel.list-cache.evict-interval:PT1M}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private record Key(RecruitmentStatus status, Category category, MeetingType type,
+                       String sort, int page, int size) {
+
+        static Key of(SearchCondition searchCondition, Pageable pageable) {
+            return new Key(searchCondition.getStatus(), searchCondition.getCategory(), searchCondition.getType(),
+                    pageable.getSort().toString(), pageable.getPageNumber(), pageable.getPageSize());
+        }
+    }
+
+    private record Entry(StudyChannelListResponse response, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.tenten.studybadge.study.channel.service;
 
+import com.tenten.studybadge.common.exception.InvalidCursorException;
 import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
 import com.tenten.studybadge.common.exception.payment.NotEnoughPointException;
 import com.tenten.studybadge.common.exception.studychannel.InvalidStudyStartDateException;
@@ -11,8 +12,7 @@ import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.notification.service.NotificationSchedulerService;
 import com.tenten.studybadge.participation.domain.entity.Participation;
 import com.tenten.studybadge.participation.domain.repository.ParticipationRepository;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
 import com.tenten.studybadge.study.channel.dto.*;
@@ -23,13 +23,14 @@ import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepositor
 import com.tenten.studybadge.type.participation.ParticipationStatus;
 import com.tenten.studybadge.type.point.PointHistoryType;
 import com.tenten.studybadge.type.point.TransferType;
+import com.tenten.studybadge.type.study.channel.SortOrder;
 import com.tenten.studybadge.type.study.deposit.DepositStatus;
 import com.tenten.studybadge.type.study.member.StudyMemberRole;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,8 +40,6 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -52,7 +51,9 @@ public class StudyChannelService {
     private final ParticipationRepository participationRepository;
     private final NotificationSchedulerService notificationSchedulerService;
     private final StudyChannelDepositRepository studyChannelDepositRepository;
-    private final PointRepository pointRepository;
+    private final PointLedgerService pointLedgerService;
+    private final StudyChannelViewCounter studyChannelViewCounter;
+    private final StudyChannelListCache studyChannelListCache;
 
     @Transactional
     public Long create(StudyChannelCreateRequest request, Long memberId) {
@@ -72,42 +73,65 @@ public class StudyChannelService {
         studyChannelRepository.save(studyChannel);
         studyMemberRepository.save(studyMember);
 
-        Point point = deductPoint(member, studyChannel.getDeposit());
-        recordDeposit(studyChannel, member, studyMember, -1 * point.getAmount());
+        pointLedgerService.debit(member.getId(), studyChannel.getDeposit(), PointHistoryType.SPENT, TransferType.STUDY_DEPOSIT);
+        recordDeposit(studyChannel, member, studyMember, studyChannel.getDeposit());
+        studyChannelListCache.invalidateAll();
 
         return studyChannel.getId();
     }
 
     public StudyChannelListResponse getStudyChannels(Pageable pageable, SearchCondition searchCondition) {
 
-        Specification<StudyChannel> spec = Specification.where(null);
-
-        if (searchCondition.getStatus() != null) {
-            spec = spec.and(StudyChannelSpecification.withRecruitmentStatus(searchCondition.getStatus().name()));
-        }
-        if (searchCondition.getCategory() != null) {
-            spec = spec.and(StudyChannelSpecification.withCategory(searchCondition.getCategory().name()));
-        }
-        if (searchCondition.getType() != null) {
-            spec = spec.and(StudyChannelSpecification.withMeetingType(searchCondition.getType().name()));
+        // 반영되지 않은 조회수까지 더한 응답을 짧게 캐시
+        StudyChannelListResponse cached = studyChannelListCache.get(searchCondition, pageable);
+        if (cached != null) {
+            return cached;
         }
 
-        Page<StudyChannel> studyChannels = studyChannelRepository.findAll(spec, pageable);
+        // 채널과 리더를 프로젝션 한 번으로 조회
+        Page<StudyChannelSummary> studyChannels = studyChannelRepository.findAllSummary(searchCondition.getStatus(),
+                searchCondition.getCategory(), searchCondition.getType(), StudyMemberRole.LEADER, pageable);
+
         List<Long> ids = studyChannels.getContent().stream()
-                .map(StudyChannel::getId)
+                .map(StudyChannelSummary::getStudyChannelId)
                 .toList();
+        Map<Long, Long> pendingViewCounts = studyChannelViewCounter.getPendingCounts(ids);
 
-        List<StudyMember> leaders = studyMemberRepository.findAllWithLeader(ids, StudyMemberRole.LEADER);
+        StudyChannelListResponse response = StudyChannelListResponse.from(studyChannels, pendingViewCounts);
+        studyChannelListCache.put(searchCondition, pageable, response);
+        return response;
+    }
+
+    // 무한 스크롤용 커서 조회, count 쿼리 없이 size + 1 개를 조회하여 다음 페이지 존재 여부를 판단
+    public StudyChannelCursorResponse getStudyChannelsByCursor(int size, SortOrder sortOrder, SearchCondition searchCondition,
+                                                               @Nullable Long cursorId, @Nullable Integer cursorViewCnt) {
+
+        Limit limit = Limit.of(size + 1);
+        List<StudyChannelSummary> studyChannels;
+        if (sortOrder == SortOrder.VIEW_COUNT) {
+            // 커서는 (조회수, id) 쌍이므로 한쪽만 오면 첫 페이지로 돌아가지 않고 거절
+            if ((cursorId == null) != (cursorViewCnt == null)) {
+                throw new InvalidCursorException();
+            }
+            studyChannels = studyChannelRepository.findAllSummaryByViewCntCursor(searchCondition.getStatus(),
+                    searchCondition.getCategory(), searchCondition.getType(), StudyMemberRole.LEADER,
+                    cursorId, cursorViewCnt, limit);
+        } else {
+            studyChannels = studyChannelRepository.findAllSummaryByIdCursor(searchCondition.getStatus(),
+                    searchCondition.getCategory(), searchCondition.getType(), StudyMemberRole.LEADER, cursorId, limit);
+        }
 
-        Map<Long, StudyMember> leaderMap = leaders.stream()
-                .collect(Collectors.toMap(studyMember -> studyMember.getStudyChannel().getId(), Function.identity()));
+        List<Long> ids = studyChannels.stream()
+                .map(StudyChannelSummary::getStudyChannelId)
+                .toList();
 
-        return StudyChannelListResponse.from(studyChannels, leaderMap);
+        return StudyChannelCursorResponse.from(studyChannels, size, studyChannelViewCounter.getPendingCounts(ids));
     }
 
     public StudyChannelDetailsResponse getStudyChannel(Long studyChannelId, @Nullable Long memberId) {
-        increaseViewCnt(studyChannelId);
         StudyChannel studyChannel = studyChannelRepository.findByIdWithMember(studyChannelId).orElseThrow(NotFoundStudyChannelException::new);
+        // 조회수는 메모리에 누적 후 주기적으로 반영, 존재 여부는 위 조회로 확인되므로 exists 쿼리 불필요
+        studyChannelViewCounter.increment(studyChannelId);
 
         LocalDate now = LocalDate.now();
         StudyChannelDetailsResponse.StudyChannelDetailsResponseBuilder builder = createDefaultResponseBuilder(studyChannel);
@@ -121,14 +145,6 @@ public class StudyChannelService {
 
     }
 
-    private void increaseViewCnt(Long studyChannelId) {
-        // 문제점: 기본 JPA(SimpleJpaRepository) 쿼리 메서드의 경우 exists 시 count(*) 쿼리 사용
-        if (!studyChannelRepository.existsById(studyChannelId)) {
-            throw new NotFoundStudyChannelException();
-        }
-        studyChannelRepository.increaseViewCnt(studyChannelId);
-    }
-
     private StudyChannelDetailsResponse responseForAuthMember(
             StudyChannelDetailsResponse.StudyChannelDetailsResponseBuilder builder,
             StudyChannel studyChannel,
@@ -185,7 +201,7 @@ public class StudyChannelService {
                 .endDate(studyChannel.getStudyDuration().getStudyEndDate())
                 .capacity(studyChannel.getRecruitment().getRecruitmentNumber())
                 .recruitmentStatus(studyChannel.getRecruitment().getRecruitmentStatus())
-                .viewCnt(studyChannel.getViewCnt())
+                .viewCnt(studyChannel.getViewCnt() + (int) studyChannelViewCounter.getPendingCount(studyChannel.getId()))
                 .leaderName(leader.getMember().getName())
                 .subLeaderName(Objects.requireNonNullElse(subLeader, leader).getMember().getName());
     }
@@ -203,6 +219,7 @@ public class StudyChannelService {
         studyChannel.startRecruitment();
 
         studyChannelRepository.save(studyChannel);
+        studyChannelListCache.invalidateAll();
     }
 
     public void closeRecruitment(Long studyChannelId, Long memberId) {
@@ -220,6 +237,7 @@ public class StudyChannelService {
 
         studyChannelRepository.save(studyChannel);
         participationRepository.saveAll(approveWaitingParticipationList);
+        studyChannelListCache.invalidateAll();
 
         notificationSchedulerService.scheduleStudyEndNotifications(studyChannel);
     }
@@ -238,6 +256,7 @@ public class StudyChannelService {
         }
         studyChannel.edit(studyChannelEditRequest);
         studyChannelRepository.save(studyChannel);
+        studyChannelListCache.invalidateAll();
     }
 
     private void recordDeposit(StudyChannel channel, Member member, StudyMember studyMember, Integer amount) {
@@ -253,37 +272,4 @@ public class StudyChannelService {
                 .build();
         studyChannelDepositRepository.save(deposit);
     }
-
-    private Point deductPoint(Member member, Integer deposit) {
-
-        Point point = Point.builder()
-                .amount(-1 * deposit)
-                .member(member)
-                .historyType(PointHistoryType.SPENT)
-                .transferType(TransferType.STUDY_DEPOSIT)
-                .build();
-
-        Member updatedMember = member.toBuilder()
-                .point(member.getPoint() + point.getAmount())
-                .build();
-        pointRepository.save(point);
-        memberRepository.save(updatedMember);
-        return point;
-    }
-
-    public static class StudyChannelSpecification {
-
-        public static Specification<StudyChannel> withRecruitmentStatus(String recruitmentStatus) {
-            return (root, query, cb) -> cb.equal(root.get("recruitment").get("recruitmentStatus"), recruitmentStatus);
-        }
-
-        public static Specification<StudyChannel> withCategory(String category) {
-            return (root, query, cb) -> cb.equal(root.get("category"), category);
-        }
-
-        public static Specification<StudyChannel> withMeetingType(String meetingType) {
-            return (root, query, cb) -> cb.equal(root.get("meetingType"), meetingType);
-        }
-
-    }
 }
@@ -0,0 +1,117 @@
+package com.tenten.studybadge.study.channel.service;
+
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스터디 채널 조회수를 메모리에 누적했다가 주기적으로 DB 에 한 번에 반영한다 (write-behind).
+ * - 조회마다 같은 행에 UPDATE 락을 잡지 않으므로 인기 채널의 조회 요청이 직렬화되지 않는다.
+ * - 채널 별 LongAdder 에 누적하므로 동시 조회 시에도 카운터 경합이 적다.
+ * - 조회 응답에는 아직 반영되지 않은 증가분을 더해서 내려준다. 다른 노드의 증가분은 다음 반영 이후에 보인다.
+ * - 한 주기 동안 조회가 없던 채널의 카운터는 반영 시 제거하여, 조회된 적 있는 모든 채널이 메모리에 남지 않도록 한다.
+ * - 정상 종료 시에는 남은 증가분을 반영하지만, 프로세스가 비정상 종료되면
+ *   노드 당 최대 flush-interval 동안의 조회수가 유실될 수 있다. 조회수는 이 정도 유실을 허용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyChannelViewCounter {
+
+    private final StudyChannelViewCountRepository studyChannelViewCountRepository;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 반영 중인 증가분, 반영이 끝나기 전까지 조회 응답에 포함
+    private volatile Map<Long, Long> flushing = Map.of();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void increment(Long studyChannelId) {
+        LongAdder adder = pending.computeIfAbsent(studyChannelId, key -> new LongAdder());
+        adder.increment();
+        // 반영 중에 제거된 카운터에 더했으면 현재 카운터로 옮김
+        if (pending.get(studyChannelId) != adder) {
+            moveToPending(studyChannelId, adder);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long getPendingCount(Long studyChannelId) {
+        LongAdder adder = pending.get(studyChannelId);
+        long count = adder == null ? 0L : adder.sum();
+        return count + flushing.getOrDefault(studyChannelId, 0L);
+    }
+
+    public Map<Long, Long> getPendingCounts(Collection<Long> studyChannelIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long studyChannelId : studyChannelIds) {
+            long count = getPendingCount(studyChannelId);
+            if (count > 0) {
+                counts.put(studyChannelId, count);
+            }
+        }
+        return counts;
+    }
+
+    // DB 반영(I/O) 중에도 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록 synchronized 대신 ReentrantLock 사용
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${study-channel.view-count.flush-interval:PT10S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // sumThenReset 은 셀 단위로 값을 교체하므로 반영 중에 들어온 조회수는 다음 반영으로 넘어감
+        pending.forEach((studyChannelId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(studyChannelId, delta);
+            } else if (pending.remove(studyChannelId, adder)) {
+                // 제거 직전에 들어온 조회수는 다시 옮겨 둠
+                moveToPending(studyChannelId, adder);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        flushing = deltas;
+        try {
+            studyChannelViewCountRepository.addViewCounts(deltas);
+        } catch (RuntimeException e) {
+            // 반영에 실패하면 다음 주기에 다시 반영하도록 되돌림
+            log.error("조회수 반영 실패. channels: {}, error: {}", deltas.size(), e.getMessage());
+            deltas.forEach((studyChannelId, delta) ->
+                    pending.computeIfAbsent(studyChannelId, key -> new LongAdder()).add(delta));
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    // 제거된 카운터에 남은 조회수를 현재 카운터로 옮김, sumThenReset 으로 가져가므로 중복 반영되지 않음
+    private void moveToPending(Long studyChannelId, LongAdder removed) {
+        long count = removed.sumThenReset();
+        if (count > 0) {
+            pending.computeIfAbsent(studyChannelId, key -> new LongAdder()).add(count);
+        }
+    }
+
+    // 메모리에 카운터가 남아 있는 채널 수
+    int getTrackedChannelCount() {
+        return pending.size();
+    }
+}
@@ -2,20 +2,14 @@ package com.tenten.studybadge.study.member.domain.repository;
 
 import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import java.util.Optional;
-import com.tenten.studybadge.type.study.member.StudyMemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface StudyMemberRepository extends JpaRepository<StudyMember, Long> {
 
-    @Query("SELECT sm FROM StudyMember sm " +
-            "JOIN FETCH sm.member " +
-            "WHERE sm.studyChannel.id IN (:studyChannelIds) " +
-            "AND sm.studyMemberRole = :studyMemberRole")
-    List<StudyMember> findAllWithLeader(List<Long> studyChannelIds, StudyMemberRole studyMemberRole);
-
     boolean existsByStudyChannelIdAndMemberId(Long studyChannelId, Long memberId);
 
     @Query("SELECT sm FROM StudyMember sm " +
@@ -23,6 +17,11 @@ public interface StudyMemberRepository extends JpaRepository<StudyMember, Long>
             "WHERE sm.studyChannel.id = :studyChannelId")
     List<StudyMember> findAllByStudyChannelIdWithMember(Long studyChannelId);
 
+    @Query("SELECT sm FROM StudyMember sm " +
+            "JOIN FETCH sm.member " +
+            "WHERE sm.studyChannel.id IN (:studyChannelIds)")
+    List<StudyMember> findAllByStudyChannelIdInWithMember(Collection<Long> studyChannelIds);
+
     @Query("SELECT sm FROM StudyMember sm " +
             "JOIN FETCH sm.member " +
             "WHERE sm.studyChannel.id = :studyChannelId " +
@@ -6,10 +6,10 @@ import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
 import com.tenten.studybadge.common.exception.schedule.NotFoundRepeatScheduleException;
 import com.tenten.studybadge.common.exception.schedule.NotFoundSingleScheduleException;
 import com.tenten.studybadge.common.exception.studychannel.*;
+import com.tenten.studybadge.common.utils.RecurrenceUtils;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
 import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
 import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
@@ -25,13 +25,12 @@ import com.tenten.studybadge.study.member.dto.StudyMemberInfoResponse;
 import com.tenten.studybadge.study.member.dto.StudyMembersResponse;
 import com.tenten.studybadge.type.point.PointHistoryType;
 import com.tenten.studybadge.type.point.TransferType;
-import com.tenten.studybadge.type.schedule.RepeatCycle;
-import com.tenten.studybadge.type.schedule.RepeatSituation;
 import com.tenten.studybadge.type.study.deposit.DepositStatus;
 import com.tenten.studybadge.type.study.member.StudyMemberRole;
 import com.tenten.studybadge.type.study.member.StudyMemberStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -52,7 +51,7 @@ public class StudyMemberService {
     private final AttendanceRepository attendanceRepository;
     private final RepeatScheduleRepository repeatScheduleRepository;
     private final StudyChannelDepositRepository studyChannelDepositRepository;
-    private final PointRepository pointRepository;
+    private final PointLedgerService pointLedgerService;
 
     public StudyMembersResponse getStudyMembers(Long studyChannelId, Long memberId) {
 
@@ -134,6 +133,7 @@ public class StudyMemberService {
         studyMemberRepository.delete(studyMember);
     }
 
+    @Transactional
     public void banStudyMember(Long studyChannelId, Long studyMemberId, Long memberId) {
         StudyMember studyMember = studyMemberRepository.findByMemberIdAndStudyChannelId(memberId, studyChannelId).orElseThrow(NotStudyMemberException::new);
         if (!studyMember.isLeader()) {
@@ -151,55 +151,19 @@ public class StudyMemberService {
         deposit.setDepositStatus(DepositStatus.REFUND);
         deposit.setAmount(deposit.getAmount() - refundAmount);
 
-        // 회원의 퇴출횟수 +1 증가, 포인트 증가
-        Member banMember = member.toBuilder()
-                .banCnt(member.getBanCnt() + 1)
-                .point(member.getPoint() + refundAmount)
-                .build();
-
-        // 환급 포인트 기록
-        Point point = Point.builder()
-                .member(member)
-                .historyType(PointHistoryType.EARNED)
-                .transferType(TransferType.STUDY_REWARD)
-                .amount(refundAmount)
-                .build();
-
         studyMemberRepository.save(banedStudyMember);
         studyChannelDepositRepository.save(deposit);
-        pointRepository.save(point);
-        memberRepository.save(banMember);
+
+        // 회원의 퇴출횟수 +1 증가, 환급 포인트 적립
+        memberRepository.increaseBanCnt(member.getId());
+        pointLedgerService.credit(member.getId(), refundAmount, PointHistoryType.EARNED, TransferType.STUDY_REWARD);
     }
 
     private void validate(RepeatSchedule repeatSchedule, LocalDate date) {
         LocalDate startDate = repeatSchedule.getScheduleDate();
         LocalDate endDate = repeatSchedule.getRepeatEndDate();
-        RepeatCycle repeatCycle = repeatSchedule.getRepeatCycle();
-        RepeatSituation repeatSituation = repeatSchedule.getRepeatSituation();
         validateInRange(date, startDate, endDate);
-        LocalDate currentDate = startDate;
-        boolean isMatched = false;
-        while (currentDate.isBefore(endDate) || currentDate.isEqual(endDate)) {
-            if (currentDate.isEqual(date)) {
-                isMatched = true;
-                break;
-            }
-            switch (repeatCycle) {
-                case DAILY: {
-                    currentDate = currentDate.plusDays(1);
-                    break;
-                }
-                case WEEKLY: {
-                    currentDate = currentDate.plusWeeks(1);
-                    break;
-                }
-                case MONTHLY: {
-                    currentDate = currentDate.plusMonths((Integer) repeatSituation.getDescription());
-                    break;
-                }
-            }
-        }
-        if (!isMatched) {
+        if (!RecurrenceUtils.isOccurrence(startDate, endDate, repeatSchedule.getRepeatCycle(), date)) {
             throw new NotFoundRepeatScheduleException();
         }
     }
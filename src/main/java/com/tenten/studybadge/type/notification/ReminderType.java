@@ -0,0 +1,16 @@
+package com.tenten.studybadge.type.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ReminderType {
+  SINGLE_SCHEDULE(false),
+  REPEAT_SCHEDULE(false),
+  STUDY_END_TOMORROW(true),
+  STUDY_END_TODAY(true);
+
+  // 발송 시각을 놓친 경우(서버 중단 등)에도 늦게라도 보낼지 여부
+  private boolean fireWhenMisfired;
+}
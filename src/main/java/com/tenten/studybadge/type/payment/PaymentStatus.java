@@ -0,0 +1,20 @@
+package com.tenten.studybadge.type.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 결제 승인 상태: READY -> IN_PROGRESS(PG 승인 요청 중) -> DONE / FAILED, DONE -> CANCELED
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public enum PaymentStatus {
+
+    READY("결제 요청"),
+    IN_PROGRESS("승인 처리 중"),
+    DONE("결제 완료"),
+    FAILED("결제 실패"),
+    CANCELED("결제 취소");
+
+    private String description;
+}
@@ -0,0 +1,197 @@
+package com.tenten.studybadge.attendance.domain.repository;
+
+import com.tenten.studybadge.attendance.domain.entity.Attendance;
+import com.tenten.studybadge.attendance.domain.entity.AttendanceCounter;
+import com.tenten.studybadge.common.utils.RecurrenceUtils;
+import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.type.attendance.AttendanceStatus;
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import com.tenten.studybadge.type.schedule.RepeatSituation;
+import com.tenten.studybadge.type.schedule.ScheduleType;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AttendanceCounterRepositoryTest {
+
+    private static final int STUDY_CHANNEL_COUNT = 20;
+    private static final int SINGLE_SCHEDULE_COUNT = 30;
+    private static final int REPEAT_SCHEDULE_COUNT = 5;
+
+    @Autowired
+    AttendanceCounterRepository attendanceCounterRepository;
+    @Autowired
+    AttendanceRepository attendanceRepository;
+    @Autowired
+    SingleScheduleRepository singleScheduleRepository;
+    @Autowired
+    RepeatScheduleRepository repeatScheduleRepository;
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    // 한 회원이 참여 중인 스터디 채널 별 스터디 멤버 ID
+    Map<Long, Long> studyMemberIdByStudyChannelId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        studyMemberIdByStudyChannelId = new HashMap<>();
+        List<Attendance> attendances = new ArrayList<>();
+
+        for (long studyMemberId = 1; studyMemberId <= STUDY_CHANNEL_COUNT; studyMemberId++) {
+            StudyChannel studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                    .name("스터디명" + studyMemberId)
+                    .description("스터디 설명")
+                    .studyDuration(StudyDuration.builder()
+                            .studyStartDate(now)
+                            .studyEndDate(now.plusMonths(4))
+                            .build())
+                    .recruitment(Recruitment.builder()
+                            .recruitmentNumber(10)
+                            .recruitmentStatus(RecruitmentStatus.RECRUIT_COMPLETED)
+                            .build())
+                    .category(Category.IT)
+                    .meetingType(MeetingType.ONLINE)
+                    .deposit(10_000)
+                    .viewCnt(0)
+                    .build());
+            studyMemberIdByStudyChannelId.put(studyChannel.getId(), studyMemberId);
+
+            for (int i = 0; i < SINGLE_SCHEDULE_COUNT; i++) {
+                SingleSchedule singleSchedule = singleScheduleRepository.save(SingleSchedule.withoutIdBuilder()
+                        .scheduleName("Single Meeting " + i)
+                        .scheduleDate(now.plusDays(i))
+                        .scheduleStartTime(LocalTime.of(10, 0))
+                        .scheduleEndTime(LocalTime.of(11, 0))
+                        .studyChannel(studyChannel)
+                        .build());
+                attendances.add(attendance(studyMemberId, ScheduleType.SINGLE, singleSchedule.getId(), i));
+            }
+            for (int i = 0; i < REPEAT_SCHEDULE_COUNT; i++) {
+                RepeatSchedule repeatSchedule = repeatScheduleRepository.save(RepeatSchedule.withoutIdBuilder()
+                        .scheduleName("Repeat Meeting " + i)
+                        .scheduleDate(now)
+                        .scheduleStartTime(LocalTime.of(10, 0))
+                        .scheduleEndTime(LocalTime.of(11, 0))
+                        .isRepeated(true)
+                        .repeatCycle(RepeatCycle.WEEKLY)
+                        .repeatSituation(RepeatSituation.valueOf(now.getDayOfWeek().name()))
+                        .repeatEndDate(now.plusMonths(4))
+                        .studyChannel(studyChannel)
+                        .build());
+                for (int week = 0; week < 10; week++) {
+                    attendances.add(attendance(studyMemberId, ScheduleType.REPEAT, repeatSchedule.getId(), week));
+                }
+            }
+        }
+        attendanceRepository.saveAll(attendances);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("20개 스터디에 참여한 회원의 출석률을 카운터 한 번의 조회로 구하고, 매번 집계하는 방식과 결과가 같다.")
+    @Test
+    void findAllByStudyMemberIdIn() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        Map<Long, Double> aggregateResult = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : studyMemberIdByStudyChannelId.entrySet()) {
+            aggregateResult.put(entry.getValue(), ratioByAggregation(entry.getKey(), entry.getValue()));
+        }
+        long aggregateQueryCount = statistics.getPrepareStatementCount();
+
+        List<AttendanceCounter> counters = studyMemberIdByStudyChannelId.entrySet().stream()
+                .map(entry -> AttendanceCounter.builder()
+                        .studyChannelId(entry.getKey())
+                        .studyMemberId(entry.getValue())
+                        .attendanceCount(attendanceRepository.countAttendancesByStudyMember(entry.getValue(), entry.getKey()))
+                        .totalScheduleCount(countAllScheduleDays(entry.getKey()))
+                        .build())
+                .toList();
+        attendanceCounterRepository.saveAll(counters);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        Map<Long, Double> counterResult = attendanceCounterRepository.findAllByStudyMemberIdIn(studyMemberIdByStudyChannelId.values())
+                .stream()
+                .collect(Collectors.toMap(AttendanceCounter::getStudyMemberId, AttendanceCounter::getAttendanceRatio));
+        long counterQueryCount = statistics.getPrepareStatementCount();
+
+        assertThat(counterResult).isEqualTo(aggregateResult);
+        assertThat(aggregateQueryCount).isEqualTo(STUDY_CHANNEL_COUNT * 3L);
+        assertThat(counterQueryCount).isEqualTo(1);
+    }
+
+    @DisplayName("출석 횟수 변경분을 여러 스터디 멤버에 한 번의 UPDATE 로 반영한다.")
+    @Test
+    void addAttendanceCount() {
+        Long studyChannelId = studyMemberIdByStudyChannelId.keySet().iterator().next();
+        attendanceCounterRepository.saveAll(List.of(
+                AttendanceCounter.builder().studyChannelId(studyChannelId).studyMemberId(100L).attendanceCount(3).totalScheduleCount(10).build(),
+                AttendanceCounter.builder().studyChannelId(studyChannelId).studyMemberId(101L).attendanceCount(5).totalScheduleCount(10).build()));
+        entityManager.flush();
+
+        int updated = attendanceCounterRepository.addAttendanceCount(List.of(100L, 101L), -1);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(attendanceCounterRepository.findByStudyMemberId(100L).orElseThrow().getAttendanceCount()).isEqualTo(2);
+        assertThat(attendanceCounterRepository.findByStudyMemberId(101L).orElseThrow().getAttendanceCount()).isEqualTo(4);
+    }
+
+    private double ratioByAggregation(Long studyChannelId, Long studyMemberId) {
+        int totalDays = countAllScheduleDays(studyChannelId);
+        long attendanceDays = attendanceRepository.countAttendancesByStudyMember(studyMemberId, studyChannelId);
+        return (double) (attendanceDays * 100) / totalDays;
+    }
+
+    private int countAllScheduleDays(Long studyChannelId) {
+        int count = singleScheduleRepository.findAllByStudyChannelId(studyChannelId).size();
+        for (RepeatSchedule repeatSchedule : repeatScheduleRepository.findAllByStudyChannelId(studyChannelId)) {
+            count += RecurrenceUtils.countOccurrences(repeatSchedule.getScheduleDate(), repeatSchedule.getRepeatEndDate(), repeatSchedule.getRepeatCycle());
+        }
+        return count;
+    }
+
+    private Attendance attendance(long studyMemberId, ScheduleType scheduleType, long scheduleId, int sequence) {
+        return Attendance.builder()
+                .studyMemberId(studyMemberId)
+                .scheduleType(scheduleType)
+                .singleScheduleId(scheduleType == ScheduleType.SINGLE ? scheduleId : null)
+                .repeatScheduleId(scheduleType == ScheduleType.REPEAT ? scheduleId : null)
+                .attendanceDateTime(LocalDateTime.now())
+                .attendanceStatus(sequence % 4 == 0 ? AttendanceStatus.ABSENCE : AttendanceStatus.ATTENDANCE)
+                .build();
+    }
+}
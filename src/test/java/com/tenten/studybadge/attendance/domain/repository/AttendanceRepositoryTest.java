@@ -0,0 +1,184 @@
+package com.tenten.studybadge.attendance.domain.repository;
+
+import com.tenten.studybadge.attendance.domain.entity.Attendance;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
+import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.type.attendance.AttendanceStatus;
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import com.tenten.studybadge.type.schedule.RepeatSituation;
+import com.tenten.studybadge.type.schedule.ScheduleType;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AttendanceRepositoryTest {
+
+    private static final int STUDY_MEMBER_COUNT = 50;
+    private static final int SINGLE_SCHEDULE_COUNT = 100;
+    private static final int REPEAT_SCHEDULE_COUNT = 40;
+    private static final int ATTENDANCES_PER_REPEAT_SCHEDULE = 125;
+
+    @Autowired
+    AttendanceRepository attendanceRepository;
+    @Autowired
+    SingleScheduleRepository singleScheduleRepository;
+    @Autowired
+    RepeatScheduleRepository repeatScheduleRepository;
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    StudyChannel studyChannel;
+    List<SingleSchedule> singleSchedules;
+    List<RepeatSchedule> repeatSchedules;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                .name("스터디명")
+                .description("스터디 설명")
+                .studyDuration(StudyDuration.builder()
+                        .studyStartDate(now)
+                        .studyEndDate(now.plusMonths(4))
+                        .build())
+                .recruitment(Recruitment.builder()
+                        .recruitmentNumber(STUDY_MEMBER_COUNT)
+                        .recruitmentStatus(RecruitmentStatus.RECRUIT_COMPLETED)
+                        .build())
+                .category(Category.IT)
+                .meetingType(MeetingType.ONLINE)
+                .deposit(10_000)
+                .viewCnt(0)
+                .build());
+
+        singleSchedules = new ArrayList<>();
+        for (int i = 0; i < SINGLE_SCHEDULE_COUNT; i++) {
+            singleSchedules.add(SingleSchedule.withoutIdBuilder()
+                    .scheduleName("Single Meeting " + i)
+                    .scheduleDate(now.plusDays(i))
+                    .scheduleStartTime(LocalTime.of(10, 0))
+                    .scheduleEndTime(LocalTime.of(11, 0))
+                    .studyChannel(studyChannel)
+                    .build());
+        }
+        singleSchedules = singleScheduleRepository.saveAll(singleSchedules);
+
+        repeatSchedules = new ArrayList<>();
+        for (int i = 0; i < REPEAT_SCHEDULE_COUNT; i++) {
+            repeatSchedules.add(RepeatSchedule.withoutIdBuilder()
+                    .scheduleName("Repeat Meeting " + i)
+                    .scheduleDate(now)
+                    .scheduleStartTime(LocalTime.of(10, 0))
+                    .scheduleEndTime(LocalTime.of(11, 0))
+                    .isRepeated(true)
+                    .repeatCycle(RepeatCycle.DAILY)
+                    .repeatSituation(RepeatSituation.EVERYDAY)
+                    .repeatEndDate(now.plusMonths(4))
+                    .studyChannel(studyChannel)
+                    .build());
+        }
+        repeatSchedules = repeatScheduleRepository.saveAll(repeatSchedules);
+
+        // 단일 일정 100개 x 50명 + 반복 일정 40개 x 125회 = 10,000 건
+        List<Attendance> attendances = new ArrayList<>();
+        for (SingleSchedule singleSchedule : singleSchedules) {
+            for (long studyMemberId = 1; studyMemberId <= STUDY_MEMBER_COUNT; studyMemberId++) {
+                attendances.add(attendance(studyMemberId, ScheduleType.SINGLE, singleSchedule.getId(), attendances.size()));
+            }
+        }
+        for (RepeatSchedule repeatSchedule : repeatSchedules) {
+            for (int i = 0; i < ATTENDANCES_PER_REPEAT_SCHEDULE; i++) {
+                long studyMemberId = (i % STUDY_MEMBER_COUNT) + 1;
+                attendances.add(attendance(studyMemberId, ScheduleType.REPEAT, repeatSchedule.getId(), attendances.size()));
+            }
+        }
+        attendanceRepository.saveAll(attendances);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("스터디 채널의 멤버 별 출석 횟수를 단일 쿼리로 집계하고, 일정 별 조회 방식과 결과가 같다.")
+    @Test
+    void countAttendancesGroupByStudyMember() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        Map<Long, Long> perScheduleResult = countPerSchedule();
+        long perScheduleQueryCount = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Map<Long, Long> aggregatedResult = attendanceRepository.countAttendancesGroupByStudyMember(studyChannel.getId())
+                .stream()
+                .collect(Collectors.toMap(StudyMemberAttendanceCount::getStudyMemberId, StudyMemberAttendanceCount::getAttendanceCount));
+        long aggregatedQueryCount = statistics.getPrepareStatementCount();
+
+        assertThat(aggregatedResult).isEqualTo(perScheduleResult);
+        assertThat(perScheduleQueryCount).isEqualTo(SINGLE_SCHEDULE_COUNT + REPEAT_SCHEDULE_COUNT);
+        assertThat(aggregatedQueryCount).isEqualTo(1);
+    }
+
+    @DisplayName("스터디 멤버 한 명의 출석 횟수를 단일 쿼리로 집계한다.")
+    @Test
+    void countAttendancesByStudyMember() {
+        Map<Long, Long> perScheduleResult = countPerSchedule();
+
+        long count = attendanceRepository.countAttendancesByStudyMember(1L, studyChannel.getId());
+
+        assertThat(count).isEqualTo(perScheduleResult.get(1L));
+    }
+
+    private Map<Long, Long> countPerSchedule() {
+        Map<Long, Long> result = new HashMap<>();
+        for (RepeatSchedule repeatSchedule : repeatSchedules) {
+            attendanceRepository.findAllByRepeatScheduleId(repeatSchedule.getId()).stream()
+                    .filter(Attendance::isAttendance)
+                    .forEach(attendance -> result.merge(attendance.getStudyMemberId(), 1L, Long::sum));
+        }
+        for (SingleSchedule singleSchedule : singleSchedules) {
+            attendanceRepository.findAllBySingleScheduleId(singleSchedule.getId()).stream()
+                    .filter(Attendance::isAttendance)
+                    .forEach(attendance -> result.merge(attendance.getStudyMemberId(), 1L, Long::sum));
+        }
+        return result;
+    }
+
+    private Attendance attendance(long studyMemberId, ScheduleType scheduleType, long scheduleId, int sequence) {
+        return Attendance.builder()
+                .studyMemberId(studyMemberId)
+                .scheduleType(scheduleType)
+                .singleScheduleId(scheduleType == ScheduleType.SINGLE ? scheduleId : null)
+                .repeatScheduleId(scheduleType == ScheduleType.REPEAT ? scheduleId : null)
+                .attendanceDateTime(LocalDateTime.now())
+                .attendanceStatus(sequence % 3 == 0 ? AttendanceStatus.ABSENCE : AttendanceStatus.ATTENDANCE)
+                .build();
+    }
+}
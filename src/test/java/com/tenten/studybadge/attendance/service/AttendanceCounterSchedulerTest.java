@@ -0,0 +1,37 @@
+package com.tenten.studybadge.attendance.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceCounterSchedulerTest {
+
+    @InjectMocks
+    AttendanceCounterScheduler attendanceCounterScheduler;
+
+    @Mock
+    AttendanceCounterService attendanceCounterService;
+
+    @DisplayName("스터디 채널마다 서비스의 트랜잭션 메서드로 재계산하고, 실패한 채널이 있어도 나머지를 처리한다.")
+    @Test
+    void reconcileAll() {
+        given(attendanceCounterService.findAllStudyChannelIds()).willReturn(List.of(1L, 2L, 3L));
+        willThrow(new IllegalStateException("재계산 실패")).given(attendanceCounterService).refreshStudyChannel(2L);
+
+        attendanceCounterScheduler.reconcileAll();
+
+        verify(attendanceCounterService).refreshStudyChannel(1L);
+        verify(attendanceCounterService).refreshStudyChannel(2L);
+        verify(attendanceCounterService).refreshStudyChannel(3L);
+    }
+}
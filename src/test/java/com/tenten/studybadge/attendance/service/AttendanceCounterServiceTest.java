@@ -0,0 +1,207 @@
+package com.tenten.studybadge.attendance.service;
+
+import com.tenten.studybadge.attendance.domain.entity.AttendanceCounter;
+import com.tenten.studybadge.attendance.domain.repository.AttendanceCounterRepository;
+import com.tenten.studybadge.attendance.domain.repository.AttendanceRepository;
+import com.tenten.studybadge.attendance.dto.StudyMemberAttendanceCount;
+import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import com.tenten.studybadge.type.schedule.RepeatSituation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceCounterServiceTest {
+
+    @InjectMocks
+    AttendanceCounterService attendanceCounterService;
+
+    @Mock
+    AttendanceCounterRepository attendanceCounterRepository;
+    @Mock
+    AttendanceRepository attendanceRepository;
+    @Mock
+    SingleScheduleRepository singleScheduleRepository;
+    @Mock
+    RepeatScheduleRepository repeatScheduleRepository;
+    @Mock
+    AttendanceCounterTransactionService attendanceCounterTransactionService;
+
+    @DisplayName("카운터가 있으면 집계 없이 카운터로 출석률을 계산한다.")
+    @Test
+    void getAttendanceRatio_existingCounter() {
+        StudyMember studyMember = StudyMember.builder().id(1L).build();
+        given(attendanceCounterRepository.findByStudyMemberId(1L)).willReturn(Optional.of(AttendanceCounter.builder()
+                .studyMemberId(1L)
+                .studyChannelId(1L)
+                .attendanceCount(3)
+                .totalScheduleCount(4)
+                .build()));
+
+        double ratio = attendanceCounterService.getAttendanceRatio(studyMember);
+
+        assertThat(ratio).isEqualTo(75.0);
+        verify(attendanceRepository, never()).countAttendancesByStudyMember(anyLong(), anyLong());
+        verify(singleScheduleRepository, never()).findAllByStudyChannelId(anyLong());
+    }
+
+    @DisplayName("카운터가 없으면 출석 기록과 일정으로 카운터를 생성한다.")
+    @Test
+    void getAttendanceRatio_createCounter() {
+        StudyChannel studyChannel = StudyChannel.builder().id(1L).build();
+        StudyMember studyMember = StudyMember.builder().id(1L).studyChannel(studyChannel).build();
+        LocalDate now = LocalDate.now();
+
+        given(attendanceCounterRepository.findByStudyMemberId(1L)).willReturn(Optional.empty());
+        given(attendanceRepository.countAttendancesByStudyMember(1L, 1L)).willReturn(3L);
+        given(singleScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(singleSchedule(studyChannel, now)));
+        given(repeatScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(dailyRepeatSchedule(studyChannel, now, now.plusDays(4))));
+        given(attendanceCounterTransactionService.create(any(AttendanceCounter.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        double ratio = attendanceCounterService.getAttendanceRatio(studyMember);
+
+        ArgumentCaptor<AttendanceCounter> captor = ArgumentCaptor.forClass(AttendanceCounter.class);
+        verify(attendanceCounterTransactionService, times(1)).create(captor.capture());
+        assertThat(captor.getValue().getAttendanceCount()).isEqualTo(3);
+        assertThat(captor.getValue().getTotalScheduleCount()).isEqualTo(6);
+        assertThat(ratio).isEqualTo(50.0);
+    }
+
+    @DisplayName("다른 요청이 같은 멤버의 카운터를 먼저 생성했으면 생성된 카운터로 출석률을 계산한다.")
+    @Test
+    void getAttendanceRatio_createCounterConflict() {
+        StudyChannel studyChannel = StudyChannel.builder().id(1L).build();
+        StudyMember studyMember = StudyMember.builder().id(1L).studyChannel(studyChannel).build();
+        AttendanceCounter existing = AttendanceCounter.builder()
+                .studyMemberId(1L)
+                .studyChannelId(1L)
+                .attendanceCount(1)
+                .totalScheduleCount(4)
+                .build();
+
+        given(attendanceCounterRepository.findByStudyMemberId(1L)).willReturn(Optional.empty());
+        given(attendanceCounterTransactionService.create(any(AttendanceCounter.class))).willReturn(existing);
+
+        double ratio = attendanceCounterService.getAttendanceRatio(studyMember);
+
+        assertThat(ratio).isEqualTo(25.0);
+    }
+
+    @DisplayName("출석/결석으로 바뀐 멤버의 카운터만 변경분을 반영한다.")
+    @Test
+    void applyAttendanceChanges() {
+        given(attendanceCounterRepository.addAttendanceCount(List.of(1L, 2L), 1L)).willReturn(2);
+
+        attendanceCounterService.applyAttendanceChanges(1L, List.of(1L, 2L), Collections.emptyList());
+
+        verify(attendanceCounterRepository, times(1)).addAttendanceCount(List.of(1L, 2L), 1L);
+        verify(attendanceCounterRepository, never()).addAttendanceCount(anyCollection(), eq(-1L));
+        verify(attendanceCounterRepository, never()).upsertAttendanceCount(anyLong(), anyLong(), anyLong(), anyInt(), anyLong());
+    }
+
+    @DisplayName("카운터가 없는 멤버는 출석 기록과 일정으로 카운터를 upsert 하여 변경분을 유실하지 않는다.")
+    @Test
+    void applyAttendanceChanges_missingCounter() {
+        StudyChannel studyChannel = StudyChannel.builder().id(1L).build();
+        LocalDate now = LocalDate.now();
+
+        given(attendanceCounterRepository.addAttendanceCount(List.of(1L, 2L), 1L)).willReturn(1);
+        given(attendanceCounterRepository.findAllByStudyMemberIdIn(List.of(1L, 2L))).willReturn(List.of(
+                AttendanceCounter.builder().studyMemberId(1L).studyChannelId(1L).attendanceCount(2).totalScheduleCount(6).build()));
+        given(attendanceRepository.countAttendancesByStudyMember(2L, 1L)).willReturn(3L);
+        given(singleScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(singleSchedule(studyChannel, now)));
+        given(repeatScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(dailyRepeatSchedule(studyChannel, now, now.plusDays(4))));
+
+        attendanceCounterService.applyAttendanceChanges(1L, List.of(1L, 2L), Collections.emptyList());
+
+        verify(attendanceCounterRepository, times(1)).upsertAttendanceCount(2L, 1L, 3L, 6, 1L);
+        verify(attendanceCounterRepository, never()).upsertAttendanceCount(eq(1L), anyLong(), anyLong(), anyInt(), anyLong());
+    }
+
+    @DisplayName("일정 변경 시 스터디 채널의 카운터를 다시 계산한다.")
+    @Test
+    void refreshStudyChannel() {
+        StudyChannel studyChannel = StudyChannel.builder().id(1L).build();
+        LocalDate now = LocalDate.now();
+        AttendanceCounter counter1 = AttendanceCounter.builder().studyMemberId(1L).studyChannelId(1L).attendanceCount(1).totalScheduleCount(1).build();
+        AttendanceCounter counter2 = AttendanceCounter.builder().studyMemberId(2L).studyChannelId(1L).attendanceCount(1).totalScheduleCount(1).build();
+
+        given(attendanceCounterRepository.findAllByStudyChannelId(1L)).willReturn(List.of(counter1, counter2));
+        given(singleScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(singleSchedule(studyChannel, now)));
+        given(repeatScheduleRepository.findAllByStudyChannelId(1L)).willReturn(List.of(dailyRepeatSchedule(studyChannel, now, now.plusDays(9))));
+        given(attendanceRepository.countAttendancesGroupByStudyMember(1L)).willReturn(List.of(attendanceCount(1L, 8L)));
+
+        attendanceCounterService.refreshStudyChannel(1L);
+
+        assertThat(counter1.getAttendanceCount()).isEqualTo(8);
+        assertThat(counter1.getTotalScheduleCount()).isEqualTo(11);
+        assertThat(counter2.getAttendanceCount()).isZero();
+        assertThat(counter2.getTotalScheduleCount()).isEqualTo(11);
+        verify(attendanceCounterRepository, times(1)).saveAll(List.of(counter1, counter2));
+    }
+
+    private SingleSchedule singleSchedule(StudyChannel studyChannel, LocalDate date) {
+        return SingleSchedule.withoutIdBuilder()
+                .scheduleName("Single Meeting")
+                .scheduleDate(date)
+                .scheduleStartTime(LocalTime.of(10, 0))
+                .scheduleEndTime(LocalTime.of(11, 0))
+                .studyChannel(studyChannel)
+                .build();
+    }
+
+    private RepeatSchedule dailyRepeatSchedule(StudyChannel studyChannel, LocalDate startDate, LocalDate endDate) {
+        return RepeatSchedule.withoutIdBuilder()
+                .scheduleName("Repeat Meeting")
+                .scheduleDate(startDate)
+                .scheduleStartTime(LocalTime.of(10, 0))
+                .scheduleEndTime(LocalTime.of(11, 0))
+                .isRepeated(true)
+                .repeatCycle(RepeatCycle.DAILY)
+                .repeatSituation(RepeatSituation.EVERYDAY)
+                .repeatEndDate(endDate)
+                .studyChannel(studyChannel)
+                .build();
+    }
+
+    private StudyMemberAttendanceCount attendanceCount(Long studyMemberId, Long count) {
+        return new StudyMemberAttendanceCount() {
+            @Override
+            public Long getStudyMemberId() {
+                return studyMemberId;
+            }
+
+            @Override
+            public Long getAttendanceCount() {
+                return count;
+            }
+        };
+    }
+}
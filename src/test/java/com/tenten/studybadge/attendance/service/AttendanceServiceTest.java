@@ -59,6 +59,8 @@ class AttendanceServiceTest {
     SingleScheduleRepository singleScheduleRepository;
     @Mock
     RepeatScheduleRepository repeatScheduleRepository;
+    @Mock
+    AttendanceCounterService attendanceCounterService;
 
     @DisplayName("[스터디 채널 출석 체크 테스트]")
     @Nested
@@ -0,0 +1,323 @@
+package com.tenten.studybadge.common.batch;
+
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.point.domain.entity.Point;
+import com.tenten.studybadge.point.domain.repository.PointLedgerRepository;
+import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.study.deposit.domain.entity.StudyChannelDeposit;
+import com.tenten.studybadge.study.deposit.domain.repository.StudyChannelDepositRepository;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
+import com.tenten.studybadge.type.point.PointHistoryType;
+import com.tenten.studybadge.type.point.TransferType;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.deposit.DepositStatus;
+import com.tenten.studybadge.type.study.member.StudyMemberStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AttendanceRatioWriter.class, PointLedgerService.class, PointLedgerRepository.class})
+class AttendanceRatioWriterTest {
+
+    private static final int STUDY_CHANNEL_COUNT = 100;
+    private static final int STUDY_MEMBERS_PER_CHANNEL = 10;
+    private static final int DEPOSIT = 10_000;
+
+    @Autowired
+    AttendanceRatioWriter attendanceRatioWriter;
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    StudyMemberRepository studyMemberRepository;
+    @Autowired
+    StudyChannelDepositRepository depositRepository;
+    @Autowired
+    PointRepository pointRepository;
+    @SpyBean
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    List<StudyMemberAttendanceRatioList> items;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        items = new ArrayList<>();
+        for (int i = 0; i < STUDY_CHANNEL_COUNT; i++) {
+            StudyChannel studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                    .name("스터디명" + i)
+                    .description("스터디 설명")
+                    .studyDuration(StudyDuration.builder()
+                            .studyStartDate(now.minusMonths(1))
+                            .studyEndDate(now.minusDays(1))
+                            .build())
+                    .recruitment(Recruitment.builder()
+                            .recruitmentNumber(STUDY_MEMBERS_PER_CHANNEL)
+                            .recruitmentStatus(RecruitmentStatus.RECRUIT_COMPLETED)
+                            .build())
+                    .category(Category.IT)
+                    .meetingType(MeetingType.ONLINE)
+                    .deposit(DEPOSIT)
+                    .viewCnt(0)
+                    .build());
+
+            List<StudyMemberAttendanceRatio> ratios = new ArrayList<>();
+            for (int j = 0; j < STUDY_MEMBERS_PER_CHANNEL; j++) {
+                Member member = memberRepository.save(Member.builder()
+                        .email("member" + i + "_" + j + "@test.com")
+                        .name("회원" + j)
+                        .point(0)
+                        .build());
+                StudyMember studyMember = studyMemberRepository.save(j == 0
+                        ? StudyMember.leader(member, studyChannel)
+                        : StudyMember.member(member, studyChannel));
+                depositRepository.save(StudyChannelDeposit.builder()
+                        .studyChannel(studyChannel)
+                        .studyMember(studyMember)
+                        .member(member)
+                        .amount(DEPOSIT)
+                        .depositStatus(DepositStatus.DEPOSIT)
+                        .depositAt(LocalDateTime.now())
+                        .build());
+                ratios.add(new StudyMemberAttendanceRatio(studyMember.getId(), 50.0 + j * 5));
+            }
+            items.add(StudyMemberAttendanceRatioList.builder().studyMemberAttendanceRatioList(ratios).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("환급 1,000건을 엔티티 별 저장 방식과 JDBC 배치 방식으로 처리하면 같은 결과를 더 적은 쿼리로 만든다.")
+    @Test
+    void write_comparedWithPerEntitySave() throws Exception {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        Map<Long, Integer> expectedRefunds = writePerEntity();
+        entityManager.flush();
+        long perEntityQueryCount = statistics.getPrepareStatementCount();
+
+        // 같은 데이터로 배치 방식을 비교하기 위해 환급 전 상태로 되돌림
+        entityManager.clear();
+        entityManager.createQuery("UPDATE StudyChannelDeposit d SET d.depositStatus = 'DEPOSIT', d.amount = " + DEPOSIT + ", d.refundsAmount = null").executeUpdate();
+        entityManager.createQuery("UPDATE Member m SET m.point = 0").executeUpdate();
+        entityManager.createQuery("DELETE FROM Point").executeUpdate();
+
+        statistics.clear();
+        attendanceRatioWriter.write(new Chunk<>(items));
+        long batchQueryCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        int refundCount = STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL;
+        assertThat(batchQueryCount).isEqualTo(1);
+        assertThat(perEntityQueryCount).isGreaterThan(refundCount * 3L);
+        assertThat(pointRepository.count()).isEqualTo(refundCount);
+        Map<Long, Integer> actualRefunds = depositRepository.findAll().stream()
+                .collect(Collectors.toMap(deposit -> deposit.getMember().getId(), StudyChannelDeposit::getRefundsAmount));
+        assertThat(actualRefunds).isEqualTo(expectedRefunds);
+        memberRepository.findAll().forEach(member -> assertThat(member.getPoint()).isEqualTo(expectedRefunds.get(member.getId())));
+    }
+
+    @DisplayName("이미 환급된 예치금은 다시 지급하지 않는다.")
+    @Test
+    void write_idempotent() throws Exception {
+        attendanceRatioWriter.write(new Chunk<>(items));
+        entityManager.clear();
+        Map<Long, Integer> pointsAfterFirstWrite = memberRepository.findAll().stream()
+                .collect(Collectors.toMap(Member::getId, Member::getPoint));
+
+        attendanceRatioWriter.write(new Chunk<>(items));
+        entityManager.clear();
+
+        assertThat(pointRepository.count()).isEqualTo(STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL);
+        assertThat(memberRepository.findAll().stream().collect(Collectors.toMap(Member::getId, Member::getPoint)))
+                .isEqualTo(pointsAfterFirstWrite);
+        assertThat(depositRepository.findAll()).allMatch(deposit -> deposit.getDepositStatus() == DepositStatus.REFUND);
+    }
+
+    @DisplayName("같은 청크를 이전에 조회한 예치금으로 다시 처리해도(동시 실행) 포인트는 한 번만 적립된다.")
+    @Test
+    void write_twiceWithStaleDeposits() throws Exception {
+        attendanceRatioWriter.write(new Chunk<>(items));
+        // 영속성 컨텍스트를 비우지 않으면 두 번째 실행은 환급 전(DEPOSIT) 상태의 예치금을 그대로 읽음
+        Map<Long, Integer> pointsAfterFirstWrite = memberPoints();
+
+        attendanceRatioWriter.write(new Chunk<>(items));
+
+        assertThat(memberPoints()).isEqualTo(pointsAfterFirstWrite);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point", Long.class))
+                .isEqualTo(STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL);
+    }
+
+    @DisplayName("드라이버가 배치 갱신 건수 대신 SUCCESS_NO_INFO 를 반환해도 환급한 예치금의 포인트를 적립한다.")
+    @Test
+    void write_successNoInfo() throws Exception {
+        doAnswer(invocation -> {
+            int[] updated = (int[]) invocation.callRealMethod();
+            Arrays.fill(updated, Statement.SUCCESS_NO_INFO);
+            return updated;
+        }).when(jdbcTemplate).batchUpdate(startsWith("UPDATE study_channel_deposit"), anyList());
+
+        attendanceRatioWriter.write(new Chunk<>(items));
+        entityManager.clear();
+
+        int refundCount = STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL;
+        assertThat(pointRepository.count()).isEqualTo(refundCount);
+        Map<Long, Integer> refunds = depositRepository.findAll().stream()
+                .collect(Collectors.toMap(deposit -> deposit.getMember().getId(), StudyChannelDeposit::getRefundsAmount));
+        assertThat(memberPoints()).isEqualTo(refunds);
+    }
+
+    @DisplayName("퇴출된 멤버가 있는 스터디 채널도 참가 중인 멤버에게는 환급한다.")
+    @Test
+    void write_withBannedMember() throws Exception {
+        StudyChannel studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                .name("퇴출 멤버가 있는 스터디")
+                .description("스터디 설명")
+                .studyDuration(StudyDuration.builder()
+                        .studyStartDate(LocalDate.now().minusMonths(1))
+                        .studyEndDate(LocalDate.now().minusDays(1))
+                        .build())
+                .recruitment(Recruitment.builder()
+                        .recruitmentNumber(2)
+                        .recruitmentStatus(RecruitmentStatus.RECRUIT_COMPLETED)
+                        .build())
+                .category(Category.IT)
+                .meetingType(MeetingType.ONLINE)
+                .deposit(DEPOSIT)
+                .viewCnt(0)
+                .build());
+        Member leader = memberRepository.save(Member.builder().email("leader@test.com").name("리더").point(0).build());
+        Member banned = memberRepository.save(Member.builder().email("banned@test.com").name("퇴출").point(0).build());
+        StudyMember leaderStudyMember = studyMemberRepository.save(StudyMember.leader(leader, studyChannel));
+        StudyMember bannedStudyMember = StudyMember.member(banned, studyChannel);
+        bannedStudyMember.setStudyMemberStatus(StudyMemberStatus.BAN);
+        studyMemberRepository.save(bannedStudyMember);
+        depositRepository.save(StudyChannelDeposit.builder()
+                .studyChannel(studyChannel)
+                .studyMember(leaderStudyMember)
+                .member(leader)
+                .amount(DEPOSIT)
+                .depositStatus(DepositStatus.DEPOSIT)
+                .depositAt(LocalDateTime.now())
+                .build());
+        // 퇴출 시 50% 를 환급하고 REFUND 로 변경된 예치금
+        depositRepository.save(StudyChannelDeposit.builder()
+                .studyChannel(studyChannel)
+                .studyMember(bannedStudyMember)
+                .member(banned)
+                .amount(DEPOSIT / 2)
+                .depositStatus(DepositStatus.REFUND)
+                .depositAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        attendanceRatioWriter.write(new Chunk<>(List.of(StudyMemberAttendanceRatioList.builder()
+                .studyMemberAttendanceRatioList(List.of(
+                        new StudyMemberAttendanceRatio(leaderStudyMember.getId(), 100.0),
+                        new StudyMemberAttendanceRatio(bannedStudyMember.getId(), 50.0)))
+                .build())));
+        entityManager.clear();
+
+        // (10,000 + 5,000) x 100 / 150
+        int expectedRefunds = 10_000;
+        Map<Long, Integer> points = memberPoints();
+        assertThat(points.get(leader.getId())).isEqualTo(expectedRefunds);
+        assertThat(points.get(banned.getId())).isZero();
+        StudyChannelDeposit leaderDeposit = depositRepository.findAllByStudyMemberIdIn(List.of(leaderStudyMember.getId())).get(0);
+        assertThat(leaderDeposit.getDepositStatus()).isEqualTo(DepositStatus.REFUND);
+        assertThat(leaderDeposit.getRefundsAmount()).isEqualTo(expectedRefunds);
+        StudyChannelDeposit bannedDeposit = depositRepository.findAllByStudyMemberIdIn(List.of(bannedStudyMember.getId())).get(0);
+        assertThat(bannedDeposit.getAmount()).isEqualTo(DEPOSIT / 2);
+        assertThat(bannedDeposit.getRefundsAmount()).isNull();
+    }
+
+    // JDBC 로 변경된 잔액은 영속성 컨텍스트에 반영되지 않으므로 직접 조회
+    private Map<Long, Integer> memberPoints() {
+        Map<Long, Integer> points = new HashMap<>();
+        jdbcTemplate.query("SELECT id, point FROM member", rs -> {
+            points.put(rs.getLong("id"), rs.getInt("point"));
+        });
+        return points;
+    }
+
+    // 기존 방식: 환급 건마다 회원/예치금/포인트 내역을 각각 저장
+    private Map<Long, Integer> writePerEntity() {
+        Map<Long, Integer> refunds = new HashMap<>();
+        for (StudyMemberAttendanceRatioList item : items) {
+            List<StudyMemberAttendanceRatio> ratios = item.getStudyMemberAttendanceRatioList();
+            Map<Long, StudyChannelDeposit> depositMap = depositRepository.findAllByStudyMemberIdIn(
+                            ratios.stream().map(StudyMemberAttendanceRatio::getStudyMemberId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(deposit -> deposit.getStudyMember().getId(), Function.identity()));
+            int sum = depositMap.values().stream().mapToInt(StudyChannelDeposit::getAmount).sum();
+            double totalAttendanceRatio = ratios.stream().mapToDouble(StudyMemberAttendanceRatio::getAttendanceRatio).sum();
+
+            for (StudyMemberAttendanceRatio ratio : ratios) {
+                StudyChannelDeposit deposit = depositMap.get(ratio.getStudyMemberId());
+                if (deposit.getStudyMember().getStudyMemberStatus() != StudyMemberStatus.PARTICIPATING) {
+                    continue;
+                }
+                int myRefunds = Double.valueOf(Math.floor(sum * ratio.getAttendanceRatio() / totalAttendanceRatio)).intValue();
+                deposit.setAttendanceRatio(ratio.getAttendanceRatio());
+                deposit.setDepositStatus(DepositStatus.REFUND);
+                deposit.setRefundsAmount(myRefunds);
+                deposit.setAmount(0);
+                Member member = deposit.getMember();
+                // point 는 엔티티 저장으로 변경되지 않으므로 UPDATE 로 적립
+                entityManager.createQuery("UPDATE Member m SET m.point = m.point + :amount WHERE m.id = :memberId")
+                        .setParameter("amount", myRefunds)
+                        .setParameter("memberId", member.getId())
+                        .executeUpdate();
+                depositRepository.save(deposit);
+                pointRepository.save(Point.builder()
+                        .transferType(TransferType.STUDY_REWARD)
+                        .historyType(PointHistoryType.EARNED)
+                        .member(member)
+                        .amount(myRefunds)
+                        .build());
+                refunds.put(member.getId(), myRefunds);
+            }
+        }
+        return refunds;
+    }
+}
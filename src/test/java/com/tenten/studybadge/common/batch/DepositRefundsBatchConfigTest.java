@@ -0,0 +1,183 @@
+package com.tenten.studybadge.common.batch;
+
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.study.deposit.domain.entity.StudyChannelDeposit;
+import com.tenten.studybadge.study.deposit.domain.repository.StudyChannelDepositRepository;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.deposit.DepositStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBatchTest
+@SpringBootTest(properties = "spring.batch.job.enabled=false")
+class DepositRefundsBatchConfigTest {
+
+    private static final int STUDY_CHANNEL_COUNT = 5_000;
+    private static final int STUDY_MEMBERS_PER_CHANNEL = 3;
+    private static final int DEPOSIT = 10_000;
+    private static final LocalDate END_DATE = LocalDate.of(2024, 8, 31);
+
+    @Autowired
+    JobLauncher jobLauncher;
+    @Autowired
+    JobRepository jobRepository;
+    @Autowired
+    @Qualifier("depositRefundsJob")
+    Job depositRefundsJob;
+    @Autowired
+    @Qualifier("depositRefundsWorkerStep")
+    Step depositRefundsWorkerStep;
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    StudyMemberRepository studyMemberRepository;
+    @Autowired
+    StudyChannelDepositRepository depositRepository;
+    @Autowired
+    SingleScheduleRepository singleScheduleRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (studyChannelRepository.findIdRangeByStudyEndDateBetween(END_DATE, END_DATE).getMinId() != null) {
+            return;
+        }
+        for (int i = 0; i < STUDY_CHANNEL_COUNT; i++) {
+            StudyChannel studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                    .name("스터디명" + i)
+                    .description("스터디 설명")
+                    .studyDuration(StudyDuration.builder()
+                            .studyStartDate(END_DATE.minusMonths(1))
+                            .studyEndDate(END_DATE)
+                            .build())
+                    .recruitment(Recruitment.builder()
+                            .recruitmentNumber(STUDY_MEMBERS_PER_CHANNEL)
+                            .recruitmentStatus(RecruitmentStatus.RECRUIT_COMPLETED)
+                            .build())
+                    .category(Category.IT)
+                    .meetingType(MeetingType.ONLINE)
+                    .deposit(DEPOSIT)
+                    .viewCnt(0)
+                    .build());
+
+            singleScheduleRepository.save(SingleSchedule.withoutIdBuilder()
+                    .scheduleName("Single Meeting")
+                    .scheduleDate(END_DATE.minusDays(1))
+                    .scheduleStartTime(LocalTime.of(10, 0))
+                    .scheduleEndTime(LocalTime.of(11, 0))
+                    .studyChannel(studyChannel)
+                    .build());
+
+            List<StudyChannelDeposit> deposits = new ArrayList<>();
+            for (int j = 0; j < STUDY_MEMBERS_PER_CHANNEL; j++) {
+                Member member = memberRepository.save(Member.builder()
+                        .email("member" + i + "_" + j + "@test.com")
+                        .name("회원" + j)
+                        .build());
+                StudyMember studyMember = studyMemberRepository.save(j == 0
+                        ? StudyMember.leader(member, studyChannel)
+                        : StudyMember.member(member, studyChannel));
+                deposits.add(StudyChannelDeposit.builder()
+                        .studyChannel(studyChannel)
+                        .studyMember(studyMember)
+                        .member(member)
+                        .amount(DEPOSIT)
+                        .depositStatus(DepositStatus.DEPOSIT)
+                        .depositAt(LocalDateTime.now())
+                        .build());
+            }
+            depositRepository.saveAll(deposits);
+        }
+    }
+
+    @DisplayName("종료된 스터디 채널 5,000개를 스레드 수 별로 파티션 처리해도 모든 예치금을 환급한다.")
+    @Test
+    void depositRefundsJob_perThreadCount() throws Exception {
+        for (int threads : new int[]{1, 2, 4, 8}) {
+            resetDeposits();
+
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("deposit-refunds-test-");
+            taskExecutor.setConcurrencyLimit(threads);
+            Step partitionStep = new StepBuilder("depositRefundsTestStep" + threads, jobRepository)
+                    .partitioner("depositRefundsBatchJob_WORKER_STEP", new DepositRefundsPartitioner(studyChannelRepository, END_DATE, END_DATE))
+                    .step(depositRefundsWorkerStep)
+                    .gridSize(threads)
+                    .taskExecutor(taskExecutor)
+                    .build();
+            Job job = new JobBuilder("depositRefundsTestJob" + threads, jobRepository)
+                    .start(partitionStep)
+                    .build();
+
+            JobExecution jobExecution = jobLauncher.run(job, new JobParametersBuilder()
+                    .addLong("threads", (long) threads)
+                    .toJobParameters());
+
+            assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM study_channel_deposit WHERE deposit_status = 'REFUND'", Integer.class))
+                    .isEqualTo(STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL);
+        }
+    }
+
+    @DisplayName("환급 배치는 targetDate 파라미터로 실행되며 같은 날짜로는 다시 완료되지 않는다.")
+    @Test
+    void depositRefundsJob_targetDateParameter() throws Exception {
+        resetDeposits();
+        JobParametersBuilder builder = new JobParametersBuilder()
+                .addLocalDate("startDate", END_DATE.minusDays(2))
+                .addLocalDate("targetDate", END_DATE);
+
+        JobExecution jobExecution = jobLauncher.run(depositRefundsJob, builder.toJobParameters());
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM study_channel_deposit WHERE deposit_status = 'REFUND'", Integer.class))
+                .isEqualTo(STUDY_CHANNEL_COUNT * STUDY_MEMBERS_PER_CHANNEL);
+        assertThatThrownBy(() -> jobLauncher.run(depositRefundsJob, builder.toJobParameters()))
+                .isInstanceOf(JobInstanceAlreadyCompleteException.class);
+    }
+
+    private void resetDeposits() {
+        jdbcTemplate.update("UPDATE study_channel_deposit SET deposit_status = 'DEPOSIT', amount = ?, refunds_amount = NULL", DEPOSIT);
+    }
+}
@@ -0,0 +1,190 @@
+package com.tenten.studybadge.common.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DepositRefundsBatchSchedulerTest {
+
+    private static final String JOB_NAME = "depositRefundsJob";
+    private static final int MAX_CATCH_UP_DAYS = 7;
+    private static final int STALE_EXECUTION_HOURS = 6;
+
+    @Mock
+    JobLauncher jobLauncher;
+    @Mock
+    JobExplorer jobExplorer;
+    @Mock
+    JobRepository jobRepository;
+    @Mock
+    DepositRefundsBatchConfig config;
+    @Mock
+    Job job;
+    @Captor
+    ArgumentCaptor<JobParameters> parametersCaptor;
+
+    SimpleMeterRegistry meterRegistry;
+    DepositRefundsBatchScheduler scheduler;
+    LocalDate targetDate;
+    long nextId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new DepositRefundsBatchScheduler(jobLauncher, jobExplorer, jobRepository, config,
+                MAX_CATCH_UP_DAYS, STALE_EXECUTION_HOURS, meterRegistry);
+        targetDate = LocalDate.now().minusDays(1);
+        when(config.depositRefundsJob()).thenReturn(job);
+        when(job.getName()).thenReturn(JOB_NAME);
+    }
+
+    private JobExecution execution(LocalDate executionTargetDate, BatchStatus status) {
+        JobInstance instance = new JobInstance(++nextId, JOB_NAME);
+        JobExecution execution = new JobExecution(instance, nextId,
+                new JobParametersBuilder().addLocalDate("targetDate", executionTargetDate).toJobParameters());
+        execution.setStatus(status);
+        return execution;
+    }
+
+    // 최근 실행 순서대로 전달
+    private void givenExecutions(JobExecution... executions) {
+        List<JobInstance> instances = new ArrayList<>();
+        for (JobExecution execution : executions) {
+            instances.add(execution.getJobInstance());
+            when(jobExplorer.getLastJobExecution(execution.getJobInstance())).thenReturn(execution);
+        }
+        when(jobExplorer.getLastJobInstance(JOB_NAME)).thenReturn(instances.get(0));
+        when(jobExplorer.getJobInstances(JOB_NAME, 0, MAX_CATCH_UP_DAYS * 2)).thenReturn(instances);
+    }
+
+    private double skippedDays() {
+        return meterRegistry.get("batch.deposit-refunds.skipped-days").counter().count();
+    }
+
+    @DisplayName("완료된 실행이 없으면 전날 하루만 처리한다.")
+    @Test
+    void execute_firstRun() throws Exception {
+        scheduler.execute();
+
+        verify(jobLauncher).run(any(), parametersCaptor.capture());
+        assertThat(parametersCaptor.getValue().getLocalDate("targetDate")).isEqualTo(targetDate);
+        assertThat(parametersCaptor.getValue().getParameter("startDate")).isNull();
+    }
+
+    @DisplayName("누락된 날짜가 있으면 마지막 완료 다음 날부터 처리하고, startDate 는 비식별 파라미터로 전달한다.")
+    @Test
+    void execute_catchUp() throws Exception {
+        givenExecutions(execution(targetDate.minusDays(3), BatchStatus.COMPLETED));
+
+        scheduler.execute();
+
+        verify(jobLauncher).run(any(), parametersCaptor.capture());
+        JobParameters parameters = parametersCaptor.getValue();
+        assertThat(parameters.getLocalDate("startDate")).isEqualTo(targetDate.minusDays(2));
+        assertThat(parameters.getParameter("startDate").isIdentifying()).isFalse();
+        assertThat(parameters.getParameter("targetDate").isIdentifying()).isTrue();
+        assertThat(skippedDays()).isZero();
+    }
+
+    @DisplayName("maxCatchUpDays 보다 오래 누락된 날짜는 건너뛰고 건너뛴 날짜 수를 기록한다.")
+    @Test
+    void execute_skipOverMaxCatchUpDays() throws Exception {
+        givenExecutions(execution(targetDate.minusDays(10), BatchStatus.COMPLETED));
+
+        scheduler.execute();
+
+        verify(jobLauncher).run(any(), parametersCaptor.capture());
+        assertThat(parametersCaptor.getValue().getLocalDate("startDate"))
+                .isEqualTo(targetDate.minusDays(MAX_CATCH_UP_DAYS - 1));
+        // targetDate - 9 ~ targetDate - 7
+        assertThat(skippedDays()).isEqualTo(3);
+    }
+
+    @DisplayName("전날까지 이미 완료되었으면 실행하지 않는다.")
+    @Test
+    void execute_alreadyCompleted() throws Exception {
+        givenExecutions(execution(targetDate, BatchStatus.COMPLETED));
+
+        scheduler.execute();
+
+        verify(jobLauncher, never()).run(any(), any());
+    }
+
+    @DisplayName("직전 실행이 실패했으면 같은 파라미터로 재시작한 뒤 남은 날짜를 처리한다.")
+    @Test
+    void execute_restartFailed() throws Exception {
+        JobExecution failed = execution(targetDate.minusDays(1), BatchStatus.FAILED);
+        JobExecution completed = execution(targetDate.minusDays(2), BatchStatus.COMPLETED);
+        givenExecutions(failed, completed);
+
+        scheduler.execute();
+
+        InOrder inOrder = inOrder(jobLauncher);
+        inOrder.verify(jobLauncher).run(job, failed.getJobParameters());
+        inOrder.verify(jobLauncher).run(any(), parametersCaptor.capture());
+        assertThat(parametersCaptor.getValue().getLocalDate("targetDate")).isEqualTo(targetDate);
+        verify(jobRepository, never()).update(any(JobExecution.class));
+    }
+
+    @DisplayName("staleExecutionHours 동안 갱신되지 않은 실행 중 상태는 실패 처리 후 재시작한다.")
+    @Test
+    void execute_restartStale() throws Exception {
+        JobExecution stale = execution(targetDate.minusDays(1), BatchStatus.STARTED);
+        stale.setLastUpdated(LocalDateTime.now().minusHours(STALE_EXECUTION_HOURS + 1));
+        StepExecution runningStep = stale.createStepExecution("depositRefundsWorkerStep:partition0");
+        runningStep.setStatus(BatchStatus.STARTED);
+        givenExecutions(stale);
+
+        scheduler.execute();
+
+        assertThat(stale.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(runningStep.getStatus()).isEqualTo(BatchStatus.FAILED);
+        verify(jobRepository).update(runningStep);
+        verify(jobRepository).update(stale);
+        verify(jobLauncher).run(job, stale.getJobParameters());
+    }
+
+    @DisplayName("최근에 갱신된 실행 중 상태는 다른 노드가 실행 중인 것으로 보고 재시작하지 않는다.")
+    @Test
+    void execute_runningNotStale() throws Exception {
+        JobExecution running = execution(targetDate.minusDays(1), BatchStatus.STARTED);
+        running.setLastUpdated(LocalDateTime.now().minusHours(1));
+        givenExecutions(running);
+
+        scheduler.execute();
+
+        assertThat(running.getStatus()).isEqualTo(BatchStatus.STARTED);
+        verify(jobRepository, never()).update(any(JobExecution.class));
+        verify(jobLauncher, never()).run(job, running.getJobParameters());
+    }
+}
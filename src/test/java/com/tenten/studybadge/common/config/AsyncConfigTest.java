@@ -0,0 +1,72 @@
+package com.tenten.studybadge.common.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.tenten.studybadge.common.batch.DepositRefundsBatchConfig.DEPOSIT_REFUNDS_TASK_EXECUTOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(AsyncConfig.class, BatchExecutorConfig.class);
+
+    @DisplayName("배치용 TaskExecutor 빈이 있어도 @Async 는 전용 실행기에서 실행된다.")
+    @Test
+    void asyncExecutor_notBatchExecutor() {
+        contextRunner.run(context -> {
+            String threadName = context.getBean(AsyncService.class).threadName().get(5, TimeUnit.SECONDS);
+
+            assertThat(threadName).startsWith("async-");
+        });
+    }
+
+    @DisplayName("@Async 실행기는 빈으로 등록되어 컨텍스트와 함께 초기화/종료된다.")
+    @Test
+    void asyncExecutor_lifecycle() {
+        ThreadPoolTaskExecutor[] executor = new ThreadPoolTaskExecutor[1];
+        contextRunner.run(context -> {
+            executor[0] = context.getBean(AsyncConfig.ASYNC_TASK_EXECUTOR, ThreadPoolTaskExecutor.class);
+            context.getBean(AsyncService.class).threadName().get(5, TimeUnit.SECONDS);
+
+            assertThat(executor[0].getThreadPoolExecutor().isShutdown()).isFalse();
+        });
+
+        assertThat(executor[0].getThreadPoolExecutor().isShutdown()).isTrue();
+    }
+
+    @Configuration
+    @EnableAsync
+    static class BatchExecutorConfig {
+
+        @Bean(name = DEPOSIT_REFUNDS_TASK_EXECUTOR)
+        TaskExecutor depositRefundsTaskExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("deposit-refunds-");
+            return executor;
+        }
+
+        @Bean
+        AsyncService asyncService() {
+            return new AsyncService();
+        }
+    }
+
+    static class AsyncService {
+
+        @Async
+        public CompletableFuture<String> threadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+    }
+}
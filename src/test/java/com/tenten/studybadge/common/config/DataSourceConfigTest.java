@@ -0,0 +1,54 @@
+package com.tenten.studybadge.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.quartz.QuartzDataSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceConfig.class, QuartzDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:datasource_config",
+                    "spring.datasource.username=sa",
+                    "spring.datasource.hikari.pool-name=app-pool",
+                    "spring.datasource.hikari.maximum-pool-size=30");
+
+    @DisplayName("Quartz 전용 DataSource 가 있어도 타입으로 주입받는 DataSource 는 spring.datasource 설정의 풀이다.")
+    @Test
+    void primaryDataSource() {
+        contextRunner.run(context -> {
+            HikariDataSource dataSource = (HikariDataSource) context.getBean(DataSource.class);
+            assertThat(dataSource.getPoolName()).isEqualTo("app-pool");
+            assertThat(dataSource.getMaximumPoolSize()).isEqualTo(30);
+            assertThat(dataSource.getJdbcUrl()).isEqualTo("jdbc:h2:mem:datasource_config");
+
+            HikariDataSource quartzDataSource = (HikariDataSource) context.getBean("quartzDataSource", DataSource.class);
+            assertThat(quartzDataSource.getPoolName()).isEqualTo("quartz-pool");
+            assertThat(quartzDataSource).isNotSameAs(dataSource);
+        });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties
+    static class QuartzDataSourceConfig {
+
+        @Bean
+        @QuartzDataSource
+        DataSource quartzDataSource() {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("quartz-pool");
+            dataSource.setJdbcUrl("jdbc:h2:mem:datasource_config_quartz");
+            return dataSource;
+        }
+    }
+}
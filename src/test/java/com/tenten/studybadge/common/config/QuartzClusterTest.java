@@ -0,0 +1,135 @@
+package com.tenten.studybadge.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 QRTZ_ 테이블을 공유하는 스케줄러 두 개를 커넥션 풀 위에 띄워 트리거가 한 번씩만 실행되는지 확인한다.
+ */
+class QuartzClusterTest {
+
+    private static final int TRIGGER_COUNT = 200;
+    private static final long START_DELAY_MILLIS = 3_000;
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    private static final Map<String, AtomicInteger> FIRED = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> FIRED_BY_NODE = new ConcurrentHashMap<>();
+
+    private final List<SchedulerFactoryBean> schedulers = new ArrayList<>();
+    private final List<DataSource> dataSources = new ArrayList<>();
+
+    public static class ReminderJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            FIRED.computeIfAbsent(context.getTrigger().getKey().getName(), key -> new AtomicInteger()).incrementAndGet();
+            try {
+                FIRED_BY_NODE.computeIfAbsent(context.getScheduler().getSchedulerInstanceId(),
+                    key -> new AtomicInteger()).incrementAndGet();
+            } catch (SchedulerException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (SchedulerFactoryBean scheduler : schedulers) {
+            scheduler.destroy();
+        }
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+        FIRED.clear();
+        FIRED_BY_NODE.clear();
+    }
+
+    @DisplayName("두 노드가 클러스터로 동작하면 모든 트리거가 정확히 한 번씩 실행된다.")
+    @Test
+    void clusteredSchedulers_fireExactlyOnce() throws Exception {
+        String url = "jdbc:h2:mem:quartz_cluster;DB_CLOSE_DELAY=-1";
+        DataSource node1DataSource = dataSource(url);
+        DataSource node2DataSource = dataSource(url);
+        ResourceDatabasePopulator populator =
+            new ResourceDatabasePopulator(new ClassPathResource("org/quartz/impl/jdbcjobstore/tables_h2.sql"));
+        populator.setCommentPrefixes("#", "--");
+        populator.execute(node1DataSource);
+
+        SchedulerFactoryBean node1 = scheduler(node1DataSource, "node-1");
+        SchedulerFactoryBean node2 = scheduler(node2DataSource, "node-2");
+
+        Scheduler scheduler = node1.getScheduler();
+        JobDetail job = JobBuilder.newJob(ReminderJob.class).withIdentity("reminderJob").storeDurably().build();
+        scheduler.addJob(job, true);
+        long startAt = System.currentTimeMillis() + START_DELAY_MILLIS;
+        for (int i = 0; i < TRIGGER_COUNT; i++) {
+            scheduler.scheduleJob(TriggerBuilder.newTrigger()
+                .withIdentity("reminder-" + i)
+                .forJob(job)
+                .startAt(new Date(startAt + i * 10L))
+                .build());
+        }
+        node1.start();
+        node2.start();
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (FIRED.size() < TRIGGER_COUNT && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        // 중복 실행이 있다면 드러나도록 잠시 더 대기
+        Thread.sleep(2_000);
+        node1.stop();
+        node2.stop();
+
+        assertThat(FIRED).hasSize(TRIGGER_COUNT);
+        assertThat(FIRED.values()).allMatch(count -> count.get() == 1);
+        assertThat(FIRED_BY_NODE.values().stream().mapToInt(AtomicInteger::get).sum()).isEqualTo(TRIGGER_COUNT);
+    }
+
+    private DataSource dataSource(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(8);
+        dataSources.add(dataSource);
+        return dataSource;
+    }
+
+    private SchedulerFactoryBean scheduler(DataSource dataSource, String instanceId) throws Exception {
+        Properties properties = QuartzConfig.quartzProperties(instanceId, true, 1_000, 5);
+        // 다른 노드가 등록한 트리거도 바로 가져가도록 대기 시간을 줄임
+        properties.setProperty("org.quartz.scheduler.idleWaitTime", "1000");
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setQuartzProperties(properties);
+        factory.setAutoStartup(false);
+        factory.afterPropertiesSet();
+        schedulers.add(factory);
+        return factory;
+    }
+}
@@ -0,0 +1,168 @@
+package com.tenten.studybadge.common.config;
+
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelViewCountRepository;
+import com.tenten.studybadge.study.channel.service.StudyChannelViewCounter;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 가상 스레드 모드(-PvirtualThreads, Java 21) 확인용.
+ * - 플랫폼 스레드 풀은 동시에 max-threads 개까지만 요청을 처리하고, 가상 스레드는 그보다 많은 블로킹 요청을 동시에 처리하는지 확인한다.
+ * - 가상 스레드에서 조회수 반영 중 캐리어 스레드 고정(pinning)이 발생하지 않는지 JFR 이벤트로 확인한다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadModeTest {
+
+    // Spring Boot 기본 server.tomcat.threads.max
+    private static final int PLATFORM_MAX_THREADS = 200;
+    private static final int CONCURRENT_REQUESTS = PLATFORM_MAX_THREADS + 100;
+    private static final long BLOCKING_MILLIS = 100;
+    private static final String VIRTUAL_THREAD_PREFIX = "tomcat-handler-";
+
+    @DisplayName("플랫폼 스레드 풀은 max-threads 개까지만 동시에 처리하고, 가상 스레드는 모든 블로킹 요청을 동시에 처리한다.")
+    @Test
+    void concurrentBlockingRequests() throws Exception {
+        BlockingServlet platform = new BlockingServlet(false);
+        runLoad(platform, false);
+
+        assertThat(platform.maxInFlight.get()).isLessThanOrEqualTo(PLATFORM_MAX_THREADS);
+        assertThat(platform.virtualThreadRequests.get()).isZero();
+
+        // 모든 요청이 동시에 들어와 있어야 대기가 풀리므로, 동시 처리 수가 스레드 수에 묶이면 타임아웃으로 실패
+        BlockingServlet virtual = new BlockingServlet(true);
+        runLoad(virtual, true);
+
+        assertThat(virtual.maxInFlight.get()).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(virtual.virtualThreadRequests.get()).isEqualTo(CONCURRENT_REQUESTS);
+    }
+
+    @DisplayName("가상 스레드에서 조회수를 반영하는 동안 캐리어 스레드가 고정되지 않는다.")
+    @Test
+    void viewCountFlush_noPinning() throws Exception {
+        StudyChannelViewCountRepository repository = mock(StudyChannelViewCountRepository.class);
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            return null;
+        }).when(repository).addViewCounts(anyMap());
+        StudyChannelViewCounter counter = new StudyChannelViewCounter(repository);
+
+        AtomicInteger pinned = new AtomicInteger();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.incrementAndGet());
+            recording.startAsync();
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("flush-");
+            executor.setVirtualThreads(true);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (long studyChannelId = 1; studyChannelId <= 20; studyChannelId++) {
+                long id = studyChannelId;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    counter.increment(id);
+                    counter.flush();
+                }, executor));
+            }
+            futures.forEach(CompletableFuture::join);
+            // 기록된 이벤트가 스트림으로 전달될 때까지 대기
+            Thread.sleep(2_000);
+        }
+
+        assertThat(pinned.get()).isZero();
+    }
+
+    private void runLoad(BlockingServlet servlet, boolean virtualThreads) throws Exception {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        factory.addInitializers(servletContext -> servletContext
+            .addServlet("blocking", servlet)
+            .addMapping("/blocking"));
+        factory.addProtocolHandlerCustomizers(protocolHandler -> {
+            if (virtualThreads) {
+                // spring.threads.virtual.enabled=true 일 때 Spring Boot 가 적용하는 설정과 동일
+                protocolHandler.setExecutor(new VirtualThreadExecutor(VIRTUAL_THREAD_PREFIX));
+            } else if (protocolHandler instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxThreads(PLATFORM_MAX_THREADS);
+            }
+        });
+        WebServer webServer = factory.getWebServer();
+        webServer.start();
+        try {
+            URI uri = URI.create("http://localhost:" + webServer.getPort() + "/blocking");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            responses.forEach(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        } finally {
+            webServer.stop();
+        }
+    }
+
+    private static class BlockingServlet extends HttpServlet {
+
+        private final boolean awaitAllRequests;
+        private final CountDownLatch arrived = new CountDownLatch(CONCURRENT_REQUESTS);
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final AtomicInteger virtualThreadRequests = new AtomicInteger();
+
+        private BlockingServlet(boolean awaitAllRequests) {
+            this.awaitAllRequests = awaitAllRequests;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            if (Thread.currentThread().getName().startsWith(VIRTUAL_THREAD_PREFIX)) {
+                virtualThreadRequests.incrementAndGet();
+            }
+            try {
+                arrived.countDown();
+                if (awaitAllRequests) {
+                    if (!arrived.await(10, TimeUnit.SECONDS)) {
+                        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                        return;
+                    }
+                } else {
+                    Thread.sleep(BLOCKING_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            response.getWriter().write("ok");
+        }
+    }
+}
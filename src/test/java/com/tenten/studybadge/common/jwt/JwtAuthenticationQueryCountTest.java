@@ -0,0 +1,95 @@
+package com.tenten.studybadge.common.jwt;
+
+import com.tenten.studybadge.common.security.CustomUserDetailService;
+import com.tenten.studybadge.common.security.MemberRevocationService;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.type.member.MemberRole;
+import com.tenten.studybadge.type.member.MemberStatus;
+import com.tenten.studybadge.type.member.Platform;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(CustomUserDetailService.class)
+class JwtAuthenticationQueryCountTest {
+
+    private static final String SECRET = "abcd".repeat(16);
+    private static final int MEMBER_COUNT = 100;
+    private static final int REQUEST_COUNT = 10_000;
+
+    @Autowired
+    CustomUserDetailService customUserDetailService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    List<String> accessTokens;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenCreator jwtTokenCreator = new JwtTokenCreator(SECRET);
+        accessTokens = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("member" + i + "@test.com")
+                    .name("회원" + i)
+                    .role(MemberRole.USER)
+                    .platform(Platform.LOCAL)
+                    .status(MemberStatus.ACTIVE)
+                    .build());
+            accessTokens.add(jwtTokenCreator.createToken(String.valueOf(member.getId()), MemberRole.USER, Platform.LOCAL)
+                    .getAccessToken());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("요청 10,000건 인증 시 회원 조회 방식과 토큰 Claims 방식의 쿼리 수를 비교한다.")
+    @Test
+    void authenticate_queryCount() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        MemberRevocationService memberRevocationService = new MemberRevocationService(mock(StringRedisTemplate.class));
+
+        // 토큰 캐시 효과를 제외하기 위해 캐시를 사용하지 않음
+        JwtTokenProvider stateful = new JwtTokenProvider(SECRET, customUserDetailService,
+                new VerifiedTokenCache(0, Duration.ofMinutes(5)), memberRevocationService, false);
+        JwtTokenProvider stateless = new JwtTokenProvider(SECRET, customUserDetailService,
+                new VerifiedTokenCache(0, Duration.ofMinutes(5)), memberRevocationService, true);
+
+        long statefulQueryCount = countQueries(statistics, stateful);
+        long statelessQueryCount = countQueries(statistics, stateless);
+
+        assertThat(statefulQueryCount).isEqualTo(REQUEST_COUNT);
+        assertThat(statelessQueryCount).isZero();
+    }
+
+    private long countQueries(Statistics statistics, JwtTokenProvider jwtTokenProvider) {
+        statistics.clear();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String accessToken = accessTokens.get(i % MEMBER_COUNT);
+            if (jwtTokenProvider.validateToken(accessToken)) {
+                assertThat(jwtTokenProvider.getAuthentication(accessToken)).isNotNull();
+            }
+            // 요청마다 영속성 컨텍스트가 새로 생성되는 것과 같도록 비움
+            entityManager.clear();
+        }
+        return statistics.getPrepareStatementCount();
+    }
+}
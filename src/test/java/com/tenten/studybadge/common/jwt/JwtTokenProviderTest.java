@@ -0,0 +1,180 @@
+package com.tenten.studybadge.common.jwt;
+
+import com.tenten.studybadge.common.security.CustomUserDetailService;
+import com.tenten.studybadge.common.security.CustomUserDetails;
+import com.tenten.studybadge.common.security.MemberRevocationService;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.type.member.MemberRole;
+import com.tenten.studybadge.type.member.MemberStatus;
+import com.tenten.studybadge.type.member.Platform;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "abcd".repeat(16);
+    private static final int REQUEST_COUNT = 100;
+
+    @Mock
+    private CustomUserDetailService customUserDetailService;
+
+    @Mock
+    private MemberRevocationService memberRevocationService;
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        accessToken = new JwtTokenCreator(SECRET).createToken("1", MemberRole.USER, Platform.LOCAL).getAccessToken();
+    }
+
+    @DisplayName("검증된 토큰은 캐시되어 같은 토큰의 다음 요청에서는 회원을 다시 조회하지 않는다.")
+    @Test
+    void getAuthentication_cached() {
+        when(customUserDetailService.loadUserByUsername("1")).thenReturn(userDetails());
+        JwtTokenProvider jwtTokenProvider = provider(new VerifiedTokenCache(100, Duration.ofMinutes(5)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(jwtTokenProvider.validateToken(accessToken)).isTrue();
+            Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+            assertThat(authentication.getName()).isEqualTo("1");
+        }
+
+        verify(customUserDetailService, times(1)).loadUserByUsername(anyString());
+    }
+
+    @DisplayName("stateless 모드에서는 토큰 Claims 로 인증 객체를 만들고 회원을 조회하지 않는다.")
+    @Test
+    void getAuthentication_stateless() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, customUserDetailService,
+                new VerifiedTokenCache(100, Duration.ofMinutes(5)), memberRevocationService, true);
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getRole()).isEqualTo(MemberRole.USER);
+        assertThat(principal.getPlatform()).isEqualTo(Platform.LOCAL);
+        assertThat(principal.getStatus()).isEqualTo(MemberStatus.ACTIVE);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(customUserDetailService, never()).loadUserByUsername(anyString());
+    }
+
+    @DisplayName("무효화된 회원의 토큰은 캐시된 인증 객체가 있어도 인증되지 않는다.")
+    @Test
+    void getAuthentication_revoked() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, customUserDetailService,
+                new VerifiedTokenCache(100, Duration.ofMinutes(5)), memberRevocationService, true);
+        jwtTokenProvider.validateToken(accessToken);
+        assertThat(jwtTokenProvider.getAuthentication(accessToken)).isNotNull();
+
+        when(memberRevocationService.isRevoked(eq(1L), any())).thenReturn(true);
+
+        assertThat(jwtTokenProvider.getAuthentication(accessToken)).isNull();
+    }
+
+    @DisplayName("OAuth2 가입 대기 토큰처럼 subject 가 소셜 계정 id 이면 무효화 확인 없이 회원 조회로 인증한다.")
+    @Test
+    void getAuthentication_providerIdSubject() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, customUserDetailService,
+                new VerifiedTokenCache(100, Duration.ofMinutes(5)), memberRevocationService, true);
+        String signUpToken = new JwtTokenCreator(SECRET)
+                .createToken("naver-provider-id", MemberRole.USER, Platform.NAVER, MemberStatus.WAIT_FOR_APPROVAL)
+                .getAccessToken();
+        when(customUserDetailService.loadUserByUsername("naver-provider-id")).thenReturn(userDetails());
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(signUpToken);
+
+        assertThat(authentication).isNotNull();
+        verify(memberRevocationService, never()).isRevoked(any(), any());
+    }
+
+    @DisplayName("서명이 다르거나 만료된 토큰은 캐시되지 않고 검증에 실패한다.")
+    @Test
+    void validateToken_invalid() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, Duration.ofMinutes(5));
+        JwtTokenProvider jwtTokenProvider = provider(verifiedTokenCache);
+        String expiredToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtTokenProvider.validateToken(accessToken + "x")).isFalse();
+        assertThat(jwtTokenProvider.validateToken(expiredToken)).isFalse();
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @DisplayName("캐시가 가득 차면 더 이상 캐시하지 않고 매번 검증한다.")
+    @Test
+    void validateToken_bounded() {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(1, Duration.ofMinutes(5));
+        JwtTokenProvider jwtTokenProvider = provider(verifiedTokenCache);
+        String otherToken = new JwtTokenCreator(SECRET).createToken("2", MemberRole.USER, Platform.LOCAL).getAccessToken();
+
+        assertThat(jwtTokenProvider.validateToken(accessToken)).isTrue();
+        assertThat(jwtTokenProvider.validateToken(otherToken)).isTrue();
+
+        assertThat(verifiedTokenCache.size()).isEqualTo(1);
+        assertThat(verifiedTokenCache.getClaims(accessToken)).isNotNull();
+        assertThat(verifiedTokenCache.getClaims(otherToken)).isNull();
+    }
+
+    @DisplayName("같은 토큰으로 요청하면 캐시를 끈 경우 요청마다 회원을 조회하고, 캐시를 켠 경우 한 번만 조회한다.")
+    @Test
+    void filterPath_comparedWithoutCache() {
+        when(customUserDetailService.loadUserByUsername("1")).thenReturn(userDetails());
+        JwtTokenProvider uncached = provider(new VerifiedTokenCache(0, Duration.ofMinutes(5)));
+        JwtTokenProvider cached = provider(new VerifiedTokenCache(100, Duration.ofMinutes(5)));
+
+        runFilterPath(uncached, REQUEST_COUNT);
+        verify(customUserDetailService, times(REQUEST_COUNT)).loadUserByUsername("1");
+
+        runFilterPath(cached, REQUEST_COUNT);
+        verify(customUserDetailService, times(REQUEST_COUNT + 1)).loadUserByUsername("1");
+    }
+
+    // JwtTokenFilter 가 요청마다 호출하는 순서대로 실행
+    private void runFilterPath(JwtTokenProvider jwtTokenProvider, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(jwtTokenProvider.validateToken(accessToken)).isTrue();
+            assertThat(jwtTokenProvider.getAuthentication(accessToken).getName()).isEqualTo("1");
+        }
+    }
+
+    private JwtTokenProvider provider(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtTokenProvider(SECRET, customUserDetailService, verifiedTokenCache, memberRevocationService, false);
+    }
+
+    private CustomUserDetails userDetails() {
+        return new CustomUserDetails(Member.builder()
+                .id(1L)
+                .email("member@test.com")
+                .role(MemberRole.USER)
+                .platform(Platform.LOCAL)
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+}
@@ -0,0 +1,163 @@
+package com.tenten.studybadge.common.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tenten.studybadge.common.constant.TokenConstant.LOGOUT_KEY;
+import static com.tenten.studybadge.common.constant.TokenConstant.LOGOUT_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogoutBlacklistCacheTest {
+
+    private static final int REQUEST_COUNT = 10_000;
+
+    // Redis 대신 사용하는 인메모리 저장소와 Pub/Sub
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final List<LogoutBlacklistCache> subscribers = new ArrayList<>();
+    private final AtomicInteger getCount = new AtomicInteger();
+
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = redisStandIn();
+    }
+
+    @DisplayName("한 노드에서 로그아웃된 토큰은 Pub/Sub 으로 다른 노드에도 전파되어 거부된다.")
+    @Test
+    void isBlacklisted_propagated() {
+        LogoutBlacklistCache node1 = node(new SimpleMeterRegistry());
+        LogoutBlacklistCache node2 = node(new SimpleMeterRegistry());
+
+        logout(node1, "access-token");
+
+        assertThat(node1.isBlacklisted("access-token")).isTrue();
+        assertThat(node2.isBlacklisted("access-token")).isTrue();
+    }
+
+    @DisplayName("로그아웃되지 않은 토큰은 Redis 를 조회하지 않고 로컬 필터에서 판단한다.")
+    @Test
+    void isBlacklisted_notBlacklisted() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LogoutBlacklistCache node = node(meterRegistry);
+        for (int i = 0; i < 1_000; i++) {
+            logout(node, "logout-token-" + i);
+        }
+        getCount.set(0);
+
+        int blacklisted = 0;
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            if (node.isBlacklisted("request-token-" + i)) {
+                blacklisted++;
+            }
+        }
+
+        double falsePositives = meterRegistry.get("jwt.blacklist.lookup").tag("result", "false_positive").counter().count();
+        double negatives = meterRegistry.get("jwt.blacklist.lookup").tag("result", "negative").counter().count();
+
+        assertThat(blacklisted).isZero();
+        assertThat(getCount.get()).isEqualTo((int) falsePositives);
+        assertThat(negatives + falsePositives).isEqualTo(REQUEST_COUNT);
+        assertThat(falsePositives / REQUEST_COUNT).isLessThan(0.01);
+    }
+
+    @DisplayName("시작 시 Redis 에 있던 로그아웃 토큰을 읽어 오고, 읽기 전에는 Redis 로 확인한다.")
+    @Test
+    void loadBlacklist() {
+        store.put(LOGOUT_KEY + "before-start", LOGOUT_VALUE);
+        LogoutBlacklistCache node = new LogoutBlacklistCache(redisTemplate, 1_000, 0.01, new SimpleMeterRegistry());
+
+        assertThat(node.isBlacklisted("before-start")).isTrue();
+        assertThat(node.isBlacklisted("other-token")).isFalse();
+        assertThat(getCount.get()).isEqualTo(2);
+
+        node.loadBlacklist();
+        getCount.set(0);
+
+        assertThat(node.isBlacklisted("before-start")).isTrue();
+        assertThat(getCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("필터를 교체해도 직전 주기에 로그아웃된 토큰은 계속 거부된다.")
+    @Test
+    void rotate() {
+        LogoutBlacklistCache node = node(new SimpleMeterRegistry());
+        logout(node, "access-token");
+
+        node.rotate();
+        assertThat(node.isBlacklisted("access-token")).isTrue();
+
+        // 두 번 교체되면 토큰이 만료된 시점이므로 필터에서 제외
+        store.clear();
+        node.rotate();
+        getCount.set(0);
+        assertThat(node.isBlacklisted("access-token")).isFalse();
+        assertThat(getCount.get()).isZero();
+    }
+
+    private LogoutBlacklistCache node(MeterRegistry meterRegistry) {
+        LogoutBlacklistCache node = new LogoutBlacklistCache(redisTemplate, 10_000, 0.01, meterRegistry);
+        node.loadBlacklist();
+        subscribers.add(node);
+        return node;
+    }
+
+    // RedisService.blackList 와 같은 순서로 저장 후 전파
+    private void logout(LogoutBlacklistCache node, String accessToken) {
+        store.put(LOGOUT_KEY + accessToken, LOGOUT_VALUE);
+        node.publish(accessToken);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate redisStandIn() {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+            getCount.incrementAndGet();
+            return store.get(invocation.<String>getArgument(0));
+        });
+        doAnswer(invocation -> {
+            byte[] channel = invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+            byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(subscriber -> subscriber.onMessage(new DefaultMessage(channel, body), null));
+            return 1L;
+        }).when(template).convertAndSend(anyString(), any());
+        when(template.scan(any(ScanOptions.class))).thenAnswer(invocation -> cursorOf(store.keySet().stream()
+                .filter(key -> key.startsWith(LOGOUT_KEY))
+                .toList()));
+        return template;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> cursorOf(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        doAnswer(invocation -> {
+            iterator.forEachRemaining(invocation.getArgument(0));
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
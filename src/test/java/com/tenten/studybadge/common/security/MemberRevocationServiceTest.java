@@ -0,0 +1,46 @@
+package com.tenten.studybadge.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MemberRevocationServiceTest {
+
+    // 2023-11-14T22:13:20.500Z, 초 단위 경계에서 500ms 지난 시각
+    private static final long REVOKED_AT = 1_700_000_000_500L;
+
+    private final MemberRevocationService memberRevocationService =
+            new MemberRevocationService(mock(StringRedisTemplate.class));
+
+    @DisplayName("무효화와 같은 초에 발급된 토큰은 거부하지 않고, 그 이전 초에 발급된 토큰은 거부한다.")
+    @Test
+    void isRevoked_sameSecond() {
+        receive(1L, REVOKED_AT);
+
+        // JWT 의 iat 는 초 단위로 저장되므로 무효화 직후 발급한 토큰도 밀리초가 버려짐
+        assertThat(memberRevocationService.isRevoked(1L, new Date(1_700_000_000_000L))).isFalse();
+        assertThat(memberRevocationService.isRevoked(1L, new Date(1_699_999_999_000L))).isTrue();
+        assertThat(memberRevocationService.isRevoked(1L, null)).isTrue();
+    }
+
+    @DisplayName("무효화되지 않은 회원의 토큰은 거부하지 않는다.")
+    @Test
+    void isRevoked_notRevoked() {
+        receive(1L, REVOKED_AT);
+
+        assertThat(memberRevocationService.isRevoked(2L, new Date(1_699_999_999_000L))).isFalse();
+    }
+
+    private void receive(Long memberId, long revokedAt) {
+        memberRevocationService.onMessage(new DefaultMessage(
+                MemberRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (memberId + ":" + revokedAt).getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.tenten.studybadge.common.utils;
+
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecurrenceUtilsTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(1990, 1, 1);
+
+    @Nested
+    @DisplayName("발생 횟수 계산")
+    class CountOccurrencesTest {
+
+        @Test
+        @DisplayName("무작위 기간에 대해 하루씩 순회한 결과와 발생 횟수, 발생일이 일치한다.")
+        void matchesDayByDayIteration() {
+            Random random = new Random(20240801L);
+            for (int i = 0; i < 3000; i++) {
+                LocalDate startDate = BASE_DATE.plusDays(random.nextInt(20000));
+                LocalDate endDate = startDate.plusDays(random.nextInt(3000) - 30);
+                LocalDate windowStart = startDate.plusDays(random.nextInt(500) - 50);
+                LocalDate windowEnd = windowStart.plusDays(random.nextInt(800));
+
+                for (RepeatCycle repeatCycle : RepeatCycle.values()) {
+                    List<LocalDate> expected = iterate(startDate, endDate, repeatCycle);
+                    assertThat(RecurrenceUtils.countOccurrences(startDate, endDate, repeatCycle)).isEqualTo(expected.size());
+
+                    for (int n = 0; n < expected.size(); n++) {
+                        assertThat(RecurrenceUtils.nthOccurrence(startDate, repeatCycle, n)).isEqualTo(expected.get(n));
+                    }
+
+                    List<LocalDate> expectedInWindow = expected.stream()
+                            .filter(date -> !date.isBefore(windowStart) && !date.isAfter(windowEnd))
+                            .toList();
+                    assertThat(RecurrenceUtils.getOccurrencesBetween(startDate, endDate, repeatCycle, windowStart, windowEnd))
+                            .isEqualTo(expectedInWindow);
+                    assertThat(RecurrenceUtils.countOccurrencesBetween(startDate, endDate, repeatCycle, windowStart, windowEnd))
+                            .isEqualTo(expectedInWindow.size());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("종료일이 시작일보다 빠르면 0을 반환한다.")
+        void endBeforeStart() {
+            LocalDate startDate = LocalDate.of(2024, 8, 10);
+            for (RepeatCycle repeatCycle : RepeatCycle.values()) {
+                assertThat(RecurrenceUtils.countOccurrences(startDate, startDate.minusDays(1), repeatCycle)).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("매월 31일 반복은 31일이 없는 달을 건너뛴다.")
+        void monthlySkipsShortMonths() {
+            LocalDate startDate = LocalDate.of(2024, 1, 31);
+            LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+            assertThat(RecurrenceUtils.countOccurrences(startDate, endDate, RepeatCycle.MONTHLY)).isEqualTo(7);
+            assertThat(RecurrenceUtils.nthOccurrence(startDate, RepeatCycle.MONTHLY, 1)).isEqualTo(LocalDate.of(2024, 3, 31));
+        }
+
+        @Test
+        @DisplayName("매월 29일 반복은 윤년의 2월에만 2월에 발생한다.")
+        void monthlyLeapDay() {
+            LocalDate startDate = LocalDate.of(2023, 1, 29);
+
+            assertThat(RecurrenceUtils.countOccurrences(startDate, LocalDate.of(2023, 12, 31), RepeatCycle.MONTHLY)).isEqualTo(11);
+            assertThat(RecurrenceUtils.countOccurrences(startDate, LocalDate.of(2024, 12, 31), RepeatCycle.MONTHLY)).isEqualTo(23);
+            assertThat(RecurrenceUtils.isOccurrence(startDate, LocalDate.of(2024, 12, 31), RepeatCycle.MONTHLY, LocalDate.of(2024, 2, 29))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("발생일 여부 확인")
+    class IsOccurrenceTest {
+
+        @Test
+        @DisplayName("주 반복은 시작일과 같은 요일만 발생일이다.")
+        void weekly() {
+            LocalDate startDate = LocalDate.of(2024, 8, 5);
+            LocalDate endDate = LocalDate.of(2024, 9, 30);
+
+            assertThat(RecurrenceUtils.isOccurrence(startDate, endDate, RepeatCycle.WEEKLY, LocalDate.of(2024, 8, 12))).isTrue();
+            assertThat(RecurrenceUtils.isOccurrence(startDate, endDate, RepeatCycle.WEEKLY, LocalDate.of(2024, 8, 13))).isFalse();
+        }
+
+        @Test
+        @DisplayName("반복 기간 밖의 날짜는 발생일이 아니다.")
+        void outOfRange() {
+            LocalDate startDate = LocalDate.of(2024, 8, 5);
+            LocalDate endDate = LocalDate.of(2024, 9, 30);
+
+            assertThat(RecurrenceUtils.isOccurrence(startDate, endDate, RepeatCycle.DAILY, LocalDate.of(2024, 8, 4))).isFalse();
+            assertThat(RecurrenceUtils.isOccurrence(startDate, endDate, RepeatCycle.DAILY, LocalDate.of(2024, 10, 1))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 해에 걸친 반복 일정의 발생 횟수가 순회 방식과 같다.")
+    void compareWithIteration() {
+        LocalDate startDate = LocalDate.of(2000, 1, 1);
+        LocalDate endDate = LocalDate.of(2030, 12, 31);
+
+        for (RepeatCycle repeatCycle : RepeatCycle.values()) {
+            assertThat(RecurrenceUtils.countOccurrences(startDate, endDate, repeatCycle))
+                    .isEqualTo(iterate(startDate, endDate, repeatCycle).size());
+        }
+    }
+
+    // 시작일부터 하루씩 순회하며 발생일을 수집하는 기준 구현
+    private static List<LocalDate> iterate(LocalDate startDate, LocalDate endDate, RepeatCycle repeatCycle) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            boolean matched = switch (repeatCycle) {
+                case DAILY -> true;
+                case WEEKLY -> ChronoUnit.DAYS.between(startDate, date) % 7 == 0;
+                case MONTHLY -> date.getDayOfMonth() == startDate.getDayOfMonth();
+            };
+            if (matched) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,173 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenten.studybadge.common.redis.NotificationNode;
+import com.tenten.studybadge.common.redis.RedisPublisher;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.notification.domain.entitiy.Notification;
+import com.tenten.studybadge.notification.service.NotificationDispatcher;
+import com.tenten.studybadge.notification.service.NotificationService;
+import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
+import com.tenten.studybadge.type.notification.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmitterRepositoryImplTest {
+
+    private static final int CONNECTED_EMITTERS = 50_000;
+    private static final int SEND_COUNT = 10_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmitterRepositoryImpl emitterRepository =
+        new EmitterRepositoryImpl(3, Duration.ofHours(1), meterRegistry);
+
+    @DisplayName("회원 ID 가 정확히 일치하는 emitter 만 조회한다.")
+    @Test
+    void findAllEmitterByMemberId_exactMatch() {
+        SseEmitter member1Emitter = emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(12L, "12_1000", new SseEmitter());
+        emitterRepository.save(123L, "123_1000", new SseEmitter());
+
+        Map<String, SseEmitter> result = emitterRepository.findAllEmitterByMemberId(1L);
+
+        assertThat(result).containsOnlyKeys("1_1000");
+        assertThat(result.get("1_1000")).isSameAs(member1Emitter);
+    }
+
+    @DisplayName("회원의 마지막 emitter 가 삭제되면 빈 결과를 반환한다.")
+    @Test
+    void deleteById_removesMemberWhenEmpty() {
+        emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(1L, "1_2000", new SseEmitter());
+
+        emitterRepository.deleteById(1L, "1_1000");
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).containsOnlyKeys("1_2000");
+
+        emitterRepository.deleteById(1L, "1_2000");
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).isEmpty();
+    }
+
+    @DisplayName("여러 스레드에서 동시에 추가/삭제해도 emitter 가 유실되지 않는다.")
+    @Test
+    void saveAndDelete_concurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String emitterId = "1_" + offset + "_" + i;
+                    emitterRepository.save(1L, emitterId, new SseEmitter());
+                    if (i % 2 == 0) {
+                        emitterRepository.deleteById(1L, emitterId);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).hasSize(8 * 500);
+    }
+
+    @DisplayName("lastEventId 이후의 이벤트만 순서대로 조회한다.")
+    @Test
+    void findAllEventCacheAfter_tail() {
+        String first = emitterRepository.nextEventId(1L);
+        String second = emitterRepository.nextEventId(1L);
+        String third = emitterRepository.nextEventId(1L);
+        emitterRepository.saveEventCache(1L, first, "first");
+        emitterRepository.saveEventCache(1L, second, "second");
+        emitterRepository.saveEventCache(1L, third, "third");
+
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, first))
+            .containsExactly(Map.entry(second, "second"), Map.entry(third, "third"));
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, third)).isEmpty();
+        assertThat(emitterRepository.findAllEventCacheAfter(12L, first)).isEmpty();
+    }
+
+    @DisplayName("회원 별 용량을 넘으면 오래된 이벤트부터 제거한다.")
+    @Test
+    void saveEventCache_bounded() {
+        List<String> eventIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String eventId = emitterRepository.nextEventId(1L);
+            eventIds.add(eventId);
+            emitterRepository.saveEventCache(1L, eventId, "event" + i);
+        }
+
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, null))
+            .containsOnlyKeys(eventIds.subList(2, 5));
+        assertThat(meterRegistry.get("notification.event-cache.events").gauge().value()).isEqualTo(3);
+    }
+
+    @DisplayName("보관 기간이 지난 이벤트는 조회되지 않고 정리 시 회원 캐시도 제거된다.")
+    @Test
+    void evictExpiredEvents() {
+        SimpleMeterRegistry expiringMeterRegistry = new SimpleMeterRegistry();
+        EmitterRepositoryImpl expiringRepository =
+            new EmitterRepositoryImpl(3, Duration.ofMillis(-1), expiringMeterRegistry);
+        expiringRepository.saveEventCache(1L, expiringRepository.nextEventId(1L), "event");
+
+        assertThat(expiringRepository.findAllEventCacheAfter(1L, null)).isEmpty();
+
+        expiringRepository.evictExpiredEvents();
+        assertThat(expiringMeterRegistry.get("notification.event-cache.members").gauge().value()).isZero();
+        assertThat(expiringMeterRegistry.get("notification.event-cache.events").gauge().value()).isZero();
+    }
+
+    @DisplayName("50,000개의 emitter 가 연결된 상태에서 보낸 알림이 모두 수신자에게 전달된다.")
+    @Test
+    void send_with50kConnectedEmitters() throws Exception {
+        EmitterRepositoryImpl repository =
+            new EmitterRepositoryImpl(SEND_COUNT, Duration.ofHours(1), new SimpleMeterRegistry());
+        for (long memberId = 1; memberId <= CONNECTED_EMITTERS; memberId++) {
+            repository.save(memberId, memberId + "_1000", new SseEmitter());
+        }
+        NotificationRepository notificationRepository = mock(NotificationRepository.class);
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        NotificationDispatcher notificationDispatcher =
+            new NotificationDispatcher(repository, mock(NotificationPresenceRepository.class),
+                new NotificationNode("node-1"), mock(RedisPublisher.class), objectMapper, 1, SEND_COUNT);
+        NotificationService notificationService = new NotificationService(repository, notificationRepository,
+            mock(StudyMemberRepository.class), mock(NotificationJdbcRepository.class), notificationDispatcher,
+            mock(UnreadNotificationCountRepository.class), objectMapper);
+        List<Member> receivers = new ArrayList<>();
+        for (long memberId = 1; memberId <= SEND_COUNT; memberId++) {
+            receivers.add(Member.builder().id(memberId * (CONNECTED_EMITTERS / SEND_COUNT)).build());
+        }
+
+        receivers.forEach(receiver ->
+            notificationService.send(receiver, NotificationType.SCHEDULE_CREATE, "일정 생성 알림", "관련 url"));
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (!allDelivered(repository, receivers) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        notificationDispatcher.shutdown();
+
+        assertThat(allDelivered(repository, receivers)).isTrue();
+    }
+
+    private boolean allDelivered(EmitterRepositoryImpl repository, List<Member> receivers) {
+        return receivers.stream()
+            .allMatch(receiver -> repository.findAllEventCacheAfter(receiver.getId(), null).size() == 1);
+    }
+}
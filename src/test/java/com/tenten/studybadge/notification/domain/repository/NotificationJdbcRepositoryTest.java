@@ -0,0 +1,79 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.notification.domain.entitiy.Notification;
+import com.tenten.studybadge.type.notification.NotificationType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(NotificationJdbcRepository.class)
+class NotificationJdbcRepositoryTest {
+
+    private static final int STUDY_MEMBER_COUNT = 200;
+
+    @Autowired
+    NotificationJdbcRepository notificationJdbcRepository;
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < STUDY_MEMBER_COUNT; i++) {
+            members.add(memberRepository.save(Member.builder()
+                .email("member" + i + "@test.com")
+                .name("회원" + i)
+                .build()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("200명 채널의 알림을 JDBC 배치로 저장하고, 생성된 id 를 저장 순서대로 반환한다.")
+    @Test
+    void batchInsert() {
+        List<Long> ids = notificationJdbcRepository.batchInsert(
+            members.stream().map(this::createNotification).toList(), LocalDateTime.now());
+
+        assertThat(ids).hasSize(STUDY_MEMBER_COUNT);
+        assertThat(new HashSet<>(ids)).hasSize(STUDY_MEMBER_COUNT);
+        List<Notification> saved = notificationRepository.findAllById(ids);
+        assertThat(saved).hasSize(STUDY_MEMBER_COUNT);
+        Notification first = notificationRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(first.getReceiver().getId()).isEqualTo(members.get(0).getId());
+        assertThat(first.getContent()).isEqualTo("일정 생성 알림");
+        assertThat(first.getIsRead()).isFalse();
+        Notification last = notificationRepository.findById(ids.get(STUDY_MEMBER_COUNT - 1)).orElseThrow();
+        assertThat(last.getReceiver().getId()).isEqualTo(members.get(STUDY_MEMBER_COUNT - 1).getId());
+    }
+
+    private Notification createNotification(Member member) {
+        return Notification.builder()
+            .receiver(member)
+            .notificationType(NotificationType.SCHEDULE_CREATE)
+            .content("일정 생성 알림")
+            .url("관련 url")
+            .isRead(false)
+            .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.tenten.studybadge.common.config.QuartzConfig;
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NotificationReminderRepositoryTest {
+
+    private static final int SCHEDULE_COUNT = 100_000;
+    // 30일 동안의 1분 단위 구간에 고르게 분포
+    private static final int BUCKET_COUNT = 30 * 24 * 60;
+    private static final int DISPATCH_BUCKETS = 60;
+
+    @Autowired
+    NotificationReminderRepository notificationReminderRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        base = LocalDateTime.of(2030, 1, 1, 0, 0);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(SCHEDULE_COUNT);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            Timestamp fireAt = Timestamp.valueOf(base.plusMinutes(i % BUCKET_COUNT));
+            args.add(new Object[]{"SINGLE_SCHEDULE", (long) i, (long) (i % 1000), "SCHEDULE_REMINDER",
+                "[일정] 일정 시작 10분 전입니다.", "관련 url", fireAt, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification_reminder " +
+                "(reminder_type, source_id, study_channel_id, notification_type, content, url, fire_at, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", args);
+        entityManager.clear();
+    }
+
+    @DisplayName("10만 개 일정의 알림이 있어도 1분 단위 발송은 해당 구간의 알림만 인덱스로 조회한다.")
+    @Test
+    void findAllDue_perMinuteBucket() {
+        int dispatched = 0;
+        for (int minute = 0; minute < DISPATCH_BUCKETS; minute++) {
+            LocalDateTime bucket = base.plusMinutes(minute);
+            List<NotificationReminder> due = notificationReminderRepository.findAllDue(bucket, Limit.of(500));
+            notificationReminderRepository.deleteAllInBatch(due);
+
+            assertThat(due).allMatch(reminder -> !reminder.getFireAt().isAfter(bucket));
+            dispatched += due.size();
+        }
+
+        // 앞의 (SCHEDULE_COUNT % BUCKET_COUNT) 개 구간에는 알림이 하나씩 더 있음
+        int perBucket = SCHEDULE_COUNT / BUCKET_COUNT;
+        int expected = DISPATCH_BUCKETS * (perBucket + 1);
+        assertThat(dispatched).isEqualTo(expected);
+        assertThat(notificationReminderRepository.count()).isEqualTo(SCHEDULE_COUNT - expected);
+    }
+
+    @DisplayName("알림이 10만 개 저장되어 있어도 Quartz 에는 발송 Job/Trigger 하나만 등록된다.")
+    @Test
+    void quartzTriggers_single() throws Exception {
+        QuartzConfig quartzConfig = new QuartzConfig(null);
+        JobDetail jobDetail = quartzConfig.notificationReminderJobDetail();
+        SchedulerFactoryBean factory = new SchedulerFactoryBean();
+        factory.setSchedulerName("notification-reminder-test");
+        factory.setJobDetails(jobDetail);
+        factory.setTriggers(quartzConfig.notificationReminderTrigger(jobDetail));
+        factory.setAutoStartup(false);
+        factory.afterPropertiesSet();
+        try {
+            Scheduler scheduler = factory.getScheduler();
+
+            assertThat(notificationReminderRepository.count()).isEqualTo(SCHEDULE_COUNT);
+            assertThat(scheduler.getJobKeys(GroupMatcher.anyJobGroup())).hasSize(1);
+            assertThat(scheduler.getTriggerKeys(GroupMatcher.anyTriggerGroup())).hasSize(1);
+        } finally {
+            factory.destroy();
+        }
+    }
+}
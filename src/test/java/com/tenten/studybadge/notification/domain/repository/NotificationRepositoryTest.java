@@ -0,0 +1,123 @@
+package com.tenten.studybadge.notification.domain.repository;
+
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.notification.domain.entitiy.Notification;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class NotificationRepositoryTest {
+
+    private static final int NOTIFICATION_COUNT = 50_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int PAGE = 500;
+    // 같은 createdAt 끼리의 순서를 커서 조회와 맞추기 위해 id 역순을 추가
+    private static final Sort ID_DESC = Sort.by(Sort.Direction.DESC, "id");
+
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder().email("member@test.com").name("회원").build()).getId();
+        Long otherMemberId = memberRepository.save(Member.builder().email("other@test.com").name("다른 회원").build()).getId();
+        entityManager.flush();
+
+        // 같은 시각에 생성된 알림이 있어도 커서가 동작하는지 확인하기 위해 2건씩 같은 createdAt 사용
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        List<Object[]> args = new ArrayList<>(NOTIFICATION_COUNT + 100);
+        for (int i = 0; i < NOTIFICATION_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i / 2));
+            args.add(new Object[]{memberId, "SCHEDULE_CREATE", "일정 생성 알림", "관련 url", i % 3 == 0, createdAt, createdAt});
+        }
+        for (int i = 0; i < 100; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            args.add(new Object[]{otherMemberId, "SCHEDULE_CREATE", "일정 생성 알림", "관련 url", false, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO notification " +
+                "(member_id, notification_type, content, url, is_read, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", args);
+        entityManager.clear();
+    }
+
+    @DisplayName("5만 건의 알림 중 500 페이지를 커서 방식으로 조회하면 offset 방식과 같은 결과를 반환한다.")
+    @Test
+    void findAllByReceiverIdWithCursor_comparedWithOffset() {
+        // 500 페이지 직전 행을 커서로 사용
+        List<Notification> previousPage = notificationRepository
+                .findAllByReceiverIdOrderByCreatedAtDesc(memberId, PageRequest.of(PAGE - 2, PAGE_SIZE, ID_DESC))
+                .getContent();
+        Notification cursor = previousPage.get(previousPage.size() - 1);
+
+        List<Notification> offsetPage = notificationRepository
+                .findAllByReceiverIdOrderByCreatedAtDesc(memberId, PageRequest.of(PAGE - 1, PAGE_SIZE, ID_DESC))
+                .getContent();
+        entityManager.clear();
+        List<Notification> cursorPage = notificationRepository.findAllByReceiverIdWithCursor(
+                memberId, cursor.getCreatedAt(), cursor.getId(), Limit.of(PAGE_SIZE));
+
+        assertThat(cursorPage).hasSize(PAGE_SIZE);
+        assertThat(cursorPage).extracting(Notification::getId)
+                .containsExactlyElementsOf(offsetPage.stream().map(Notification::getId).toList());
+    }
+
+    @DisplayName("커서로 끝까지 조회하면 본인의 알림을 중복이나 누락 없이 조회한다.")
+    @Test
+    void findAllByReceiverIdWithCursor_walk() {
+        Set<Long> ids = new HashSet<>();
+        Set<Long> unreadIds = new HashSet<>();
+        walk(ids, false);
+        walk(unreadIds, true);
+
+        assertThat(ids).hasSize(NOTIFICATION_COUNT);
+        assertThat(unreadIds).hasSize(NOTIFICATION_COUNT - (NOTIFICATION_COUNT + 2) / 3);
+    }
+
+    private void walk(Set<Long> ids, boolean unreadOnly) {
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        List<Notification> slice;
+        do {
+            slice = unreadOnly
+                    ? notificationRepository.findAllUnreadByReceiverIdWithCursor(memberId, cursorCreatedAt, cursorId, Limit.of(1_000))
+                    : notificationRepository.findAllByReceiverIdWithCursor(memberId, cursorCreatedAt, cursorId, Limit.of(1_000));
+            for (Notification notification : slice) {
+                assertThat(ids.add(notification.getId())).isTrue();
+                if (unreadOnly) {
+                    assertThat(notification.getIsRead()).isFalse();
+                }
+            }
+            if (!slice.isEmpty()) {
+                cursorCreatedAt = slice.get(slice.size() - 1).getCreatedAt();
+                cursorId = slice.get(slice.size() - 1).getId();
+            }
+            entityManager.clear();
+        } while (slice.size() == 1_000);
+    }
+}
@@ -0,0 +1,97 @@
+package com.tenten.studybadge.notification.service;
+
+import com.tenten.studybadge.notification.domain.repository.NotificationRetentionRepository;
+import com.tenten.studybadge.notification.domain.repository.UnreadNotificationCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationCleanerServiceTest {
+
+    @Mock
+    private NotificationRetentionRepository notificationRetentionRepository;
+
+    @Mock
+    private UnreadNotificationCountRepository unreadNotificationCountRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private NotificationCleanerService cleaner(Duration maxRuntime, boolean partitionDropEnabled) {
+        return new NotificationCleanerService(notificationRetentionRepository, unreadNotificationCountRepository,
+            30, 2000, 0, maxRuntime, partitionDropEnabled, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("삭제 대상 상한 id 까지 batch-size 구간 단위로 삭제하고 안읽은 알림 카운터를 비운다.")
+    void deleteOldNotifications_idRange() {
+        when(notificationRetentionRepository.findMaxIdCreatedBefore(any())).thenReturn(5000L);
+        when(notificationRetentionRepository.findMinId()).thenReturn(1L);
+        when(notificationRetentionRepository.deleteIdRange(anyLong(), anyLong(), any())).thenReturn(2000, 2000, 1000);
+
+        cleaner(Duration.ofMinutes(1), false).deleteOldNotifications();
+
+        verify(notificationRetentionRepository).deleteIdRange(eq(1L), eq(2001L), any());
+        verify(notificationRetentionRepository).deleteIdRange(eq(2001L), eq(4001L), any());
+        verify(notificationRetentionRepository).deleteIdRange(eq(4001L), eq(5001L), any());
+        verify(notificationRetentionRepository, never()).dropPartitionsBefore(any());
+        verify(unreadNotificationCountRepository, times(1)).deleteAll();
+        assertEquals(5000.0, meterRegistry.counter("notification.retention.deleted").count());
+        assertEquals(0.0, meterRegistry.get("notification.retention.remaining").gauge().value());
+    }
+
+    @Test
+    @DisplayName("삭제할 알림이 없으면 삭제 쿼리를 실행하지 않는다.")
+    void deleteOldNotifications_empty() {
+        when(notificationRetentionRepository.findMaxIdCreatedBefore(any())).thenReturn(null);
+
+        cleaner(Duration.ofMinutes(1), false).deleteOldNotifications();
+
+        verify(notificationRetentionRepository, never()).findMinId();
+        verify(notificationRetentionRepository, never()).deleteIdRange(anyLong(), anyLong(), any());
+        verify(unreadNotificationCountRepository, never()).deleteAll();
+    }
+
+    @Test
+    @DisplayName("max-runtime 을 넘기면 남은 구간은 다음 실행으로 넘긴다.")
+    void deleteOldNotifications_maxRuntime() {
+        when(notificationRetentionRepository.findMaxIdCreatedBefore(any())).thenReturn(5000L);
+        when(notificationRetentionRepository.findMinId()).thenReturn(1L);
+
+        cleaner(Duration.ZERO, false).deleteOldNotifications();
+
+        verify(notificationRetentionRepository, never()).deleteIdRange(anyLong(), anyLong(), any());
+        verify(unreadNotificationCountRepository, never()).deleteAll();
+    }
+
+    @Test
+    @DisplayName("파티션 DROP 이 켜져 있으면 만료된 파티션을 먼저 제거한다.")
+    void deleteOldNotifications_dropPartitions() {
+        when(notificationRetentionRepository.dropPartitionsBefore(any())).thenReturn(List.of("p202401", "p202402"));
+        when(notificationRetentionRepository.findMaxIdCreatedBefore(any())).thenReturn(null);
+
+        cleaner(Duration.ofMinutes(1), true).deleteOldNotifications();
+
+        verify(notificationRetentionRepository, never()).deleteIdRange(anyLong(), anyLong(), any());
+        verify(unreadNotificationCountRepository, times(1)).deleteAll();
+        assertEquals(2.0, meterRegistry.counter("notification.retention.partitions.dropped").count());
+    }
+}
@@ -0,0 +1,154 @@
+package com.tenten.studybadge.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenten.studybadge.common.redis.NotificationNode;
+import com.tenten.studybadge.common.redis.RedisPublisher;
+import com.tenten.studybadge.notification.domain.repository.EmitterRepositoryImpl;
+import com.tenten.studybadge.notification.domain.repository.NotificationPresenceRepository;
+import com.tenten.studybadge.notification.dto.NotificationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class NotificationDispatcherTest {
+
+    private static final int NODE_COUNT = 4;
+    private static final int MEMBER_COUNT = 1_000;
+
+    private final InMemoryPresenceRepository presenceRepository = new InMemoryPresenceRepository();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final List<NotificationDispatcher> dispatchers = new ArrayList<>();
+    private final List<EmitterRepositoryImpl> emitterRepositories = new ArrayList<>();
+    private RedisPublisher redisPublisher;
+
+    @BeforeEach
+    void setUp() {
+        redisPublisher = mock(RedisPublisher.class);
+        for (int node = 0; node < NODE_COUNT; node++) {
+            EmitterRepositoryImpl emitterRepository =
+                new EmitterRepositoryImpl(50, Duration.ofHours(1), new SimpleMeterRegistry());
+            emitterRepositories.add(emitterRepository);
+            dispatchers.add(new NotificationDispatcher(emitterRepository, presenceRepository,
+                new NotificationNode("node-" + node), redisPublisher, objectMapper, 1, 1_000));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchers.forEach(NotificationDispatcher::shutdown);
+    }
+
+    @DisplayName("수신자가 연결된 다른 노드의 채널로만 발행하여 노드 별 수신량이 전체 브로드캐스트의 1/노드 수 이하가 된다.")
+    @Test
+    void dispatch_onlyToNodesHoldingReceiver() {
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            int node = (int) (memberId % NODE_COUNT);
+            emitterRepositories.get(node).save(memberId, memberId + "_1000", new SseEmitter());
+            dispatchers.get(node).connected(memberId);
+        }
+
+        // 모든 알림을 0번 노드에서 발송
+        List<NotificationResponse> notifications = new ArrayList<>();
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            notifications.add(NotificationResponse.builder()
+                .notificationId(memberId)
+                .receiverId(memberId)
+                .content("일정 생성 알림")
+                .build());
+        }
+        dispatchers.get(0).dispatch(notifications);
+
+        int remoteCount = MEMBER_COUNT - MEMBER_COUNT / NODE_COUNT;
+        ArgumentCaptor<String> channelCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisPublisher, timeout(5_000).times(remoteCount)).publish(channelCaptor.capture(), anyString());
+        Map<String, Long> receivedPerNode = channelCaptor.getAllValues().stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(receivedPerNode).doesNotContainKey(NotificationNode.channelOf("node-0"));
+        assertThat(receivedPerNode.values()).allMatch(count -> count <= MEMBER_COUNT / NODE_COUNT);
+    }
+
+    @DisplayName("수신자가 발송 노드에만 연결되어 있으면 Redis 로 발행하지 않는다.")
+    @Test
+    void dispatch_suppressOriginNode() {
+        emitterRepositories.get(0).save(4L, "4_1000", new SseEmitter());
+        dispatchers.get(0).connected(4L);
+
+        dispatchers.get(0).dispatch(List.of(NotificationResponse.builder().notificationId(1L).receiverId(4L).build()));
+
+        verify(redisPublisher, after(500).never()).publish(anyString(), anyString());
+        assertThat(emitterRepositories.get(0).findAllEventCacheAfter(4L, null)).hasSize(1);
+    }
+
+    @DisplayName("마지막 연결이 끊긴 회원은 presence 에서 제거되어 발행 대상에서 빠진다.")
+    @Test
+    void disconnected_removesPresence() {
+        emitterRepositories.get(1).save(5L, "5_1000", new SseEmitter());
+        dispatchers.get(1).connected(5L);
+        emitterRepositories.get(1).deleteById(5L, "5_1000");
+        dispatchers.get(1).disconnected(5L);
+
+        dispatchers.get(0).dispatch(List.of(NotificationResponse.builder().notificationId(1L).receiverId(5L).build()));
+
+        assertThat(presenceRepository.findNodeIds(List.of(5L))).isEmpty();
+        verify(redisPublisher, after(500).never()).publish(anyString(), anyString());
+    }
+
+    // Redis 없이 presence 를 보관하는 대체 구현
+    private static class InMemoryPresenceRepository implements NotificationPresenceRepository {
+        private final Map<Long, Set<String>> presence = new ConcurrentHashMap<>();
+
+        @Override
+        public void register(String nodeId, Long memberId) {
+            presence.computeIfAbsent(memberId, key -> ConcurrentHashMap.newKeySet()).add(nodeId);
+        }
+
+        @Override
+        public void refresh(String nodeId, Collection<Long> memberIds) {
+            memberIds.forEach(memberId -> register(nodeId, memberId));
+        }
+
+        @Override
+        public void unregister(String nodeId, Long memberId) {
+            presence.computeIfPresent(memberId, (key, nodeIds) -> {
+                nodeIds.remove(nodeId);
+                return nodeIds.isEmpty() ? null : nodeIds;
+            });
+        }
+
+        @Override
+        public Map<Long, Set<String>> findNodeIds(Collection<Long> memberIds) {
+            Map<Long, Set<String>> result = new HashMap<>();
+            memberIds.forEach(memberId -> {
+                Set<String> nodeIds = presence.get(memberId);
+                if (nodeIds != null) {
+                    result.put(memberId, new HashSet<>(nodeIds));
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.tenten.studybadge.notification.service;
+
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.notification.domain.repository.NotificationReminderRepository;
+import com.tenten.studybadge.type.notification.NotificationType;
+import com.tenten.studybadge.type.notification.ReminderType;
+import com.tenten.studybadge.type.schedule.RepeatCycle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationReminderDispatcherTest {
+
+    @Mock
+    private NotificationReminderRepository notificationReminderRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Captor
+    private ArgumentCaptor<List<NotificationReminder>> deletedCaptor;
+
+    private NotificationReminderDispatcher dispatcher;
+    private LocalDateTime now;
+
+    @BeforeEach
+    public void setup() {
+        dispatcher = new NotificationReminderDispatcher(
+            new NotificationReminderClaimService(notificationReminderRepository), notificationService,
+            10, Duration.ofMinutes(5));
+        now = LocalDateTime.of(2030, 1, 1, 11, 50);
+    }
+
+    private NotificationReminder reminder(ReminderType reminderType, long sourceId, LocalDateTime fireAt,
+        RepeatCycle repeatCycle) {
+        return NotificationReminder.builder()
+            .reminderType(reminderType)
+            .sourceId(sourceId)
+            .studyChannelId(sourceId)
+            .notificationType(NotificationType.SCHEDULE_REMINDER)
+            .content("[일정] 일정 시작 10분 전입니다.")
+            .url("관련 url")
+            .fireAt(fireAt)
+            .repeatCycle(repeatCycle)
+            .repeatStartAt(repeatCycle == null ? null : fireAt)
+            .repeatEndAt(repeatCycle == null ? null : fireAt.plusDays(7))
+            .build();
+    }
+
+    @Test
+    @DisplayName("발송 시각이 된 알림을 한 번에 전송하고, 단일 알림은 삭제하고 반복 알림은 다음 발송 시각으로 옮긴다.")
+    void dispatchDue_success() {
+        NotificationReminder single = reminder(ReminderType.SINGLE_SCHEDULE, 1L, now, null);
+        NotificationReminder repeat = reminder(ReminderType.REPEAT_SCHEDULE, 2L, now, RepeatCycle.DAILY);
+        when(notificationReminderRepository.findAllDue(eq(now), any())).thenReturn(List.of(single, repeat));
+
+        int sent = dispatcher.dispatchDue(now);
+
+        assertEquals(2, sent);
+        verify(notificationService).sendNotificationToStudyChannel(1L, NotificationType.SCHEDULE_REMINDER,
+            "[일정] 일정 시작 10분 전입니다.", "관련 url");
+        verify(notificationService).sendNotificationToStudyChannel(eq(2L), any(), any(), any());
+        verify(notificationReminderRepository).deleteAllInBatch(List.of(single));
+        verify(notificationReminderRepository, never()).saveAll(any());
+        assertEquals(now.plusDays(1), repeat.getFireAt());
+    }
+
+    @Test
+    @DisplayName("알림을 선점(삭제)한 뒤에 발송하고, 발송에 실패해도 다시 보내지 않는다.")
+    void dispatchDue_claimBeforeSend() {
+        NotificationReminder single = reminder(ReminderType.SINGLE_SCHEDULE, 1L, now, null);
+        when(notificationReminderRepository.findAllDue(eq(now), any())).thenReturn(List.of(single));
+        doThrow(new IllegalStateException("전송 실패")).when(notificationService)
+            .sendNotificationToStudyChannel(eq(1L), any(), any(), any());
+
+        int sent = dispatcher.dispatchDue(now);
+
+        assertEquals(0, sent);
+        InOrder inOrder = inOrder(notificationReminderRepository, notificationService);
+        inOrder.verify(notificationReminderRepository).deleteAllInBatch(List.of(single));
+        inOrder.verify(notificationService).sendNotificationToStudyChannel(eq(1L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("misfire-threshold 이상 늦은 일정 알림은 보내지 않고, 스터디 종료 알림은 늦게라도 보낸다.")
+    void dispatchDue_misfired() {
+        NotificationReminder lateSchedule = reminder(ReminderType.SINGLE_SCHEDULE, 1L, now.minusHours(1), null);
+        NotificationReminder lateStudyEnd = reminder(ReminderType.STUDY_END_TODAY, 2L, now.minusHours(1), null);
+        when(notificationReminderRepository.findAllDue(eq(now), any())).thenReturn(List.of(lateSchedule, lateStudyEnd));
+
+        int sent = dispatcher.dispatchDue(now);
+
+        assertEquals(1, sent);
+        verify(notificationService, never()).sendNotificationToStudyChannel(eq(1L), any(), any(), any());
+        verify(notificationService).sendNotificationToStudyChannel(eq(2L), any(), any(), any());
+        verify(notificationReminderRepository).deleteAllInBatch(List.of(lateSchedule, lateStudyEnd));
+    }
+
+    @Test
+    @DisplayName("batch-size 만큼 조회되면 남은 알림이 없을 때까지 이어서 조회한다.")
+    void dispatchDue_paging() {
+        List<NotificationReminder> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            firstBatch.add(reminder(ReminderType.SINGLE_SCHEDULE, id, now, null));
+        }
+        List<NotificationReminder> secondBatch = List.of(reminder(ReminderType.SINGLE_SCHEDULE, 11L, now, null));
+        when(notificationReminderRepository.findAllDue(eq(now), any())).thenReturn(firstBatch, secondBatch);
+
+        int sent = dispatcher.dispatchDue(now);
+
+        assertEquals(11, sent);
+        verify(notificationReminderRepository, times(2)).findAllDue(eq(now), any());
+        verify(notificationReminderRepository, times(2)).deleteAllInBatch(deletedCaptor.capture());
+        assertEquals(10, deletedCaptor.getAllValues().get(0).size());
+    }
+}
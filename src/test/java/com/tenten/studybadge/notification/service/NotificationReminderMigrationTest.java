@@ -0,0 +1,110 @@
+package com.tenten.studybadge.notification.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
+import com.tenten.studybadge.schedule.domain.repository.RepeatScheduleRepository;
+import com.tenten.studybadge.schedule.domain.repository.SingleScheduleRepository;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.type.notification.ReminderType;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationReminderMigrationTest {
+
+    @InjectMocks
+    private NotificationReminderMigration migration;
+
+    @Mock
+    private Scheduler scheduler;
+    @Mock
+    private NotificationSchedulerService notificationSchedulerService;
+    @Mock
+    private SingleScheduleRepository singleScheduleRepository;
+    @Mock
+    private RepeatScheduleRepository repeatScheduleRepository;
+    @Mock
+    private StudyChannelRepository studyChannelRepository;
+
+    @BeforeEach
+    public void setup() throws SchedulerException {
+        lenient().when(scheduler.getJobKeys(any())).thenReturn(Set.of());
+    }
+
+    private void givenJobs(String group, JobKey... jobKeys) throws SchedulerException {
+        when(scheduler.getJobKeys(argThat(matcher -> matcher != null && group.equals(matcher.getCompareToValue()))))
+            .thenReturn(new LinkedHashSet<>(List.of(jobKeys)));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 삭제(이전)한 Job 은 다시 등록하지 않는다.")
+    public void migrate_claimedByOtherNode() throws SchedulerException {
+        JobKey jobKey = JobKey.jobKey("singleScheduleNotificationJob-1", NotificationReminderMigration.SINGLE_SCHEDULE_GROUP);
+        givenJobs(NotificationReminderMigration.SINGLE_SCHEDULE_GROUP, jobKey);
+        when(scheduler.deleteJob(jobKey)).thenReturn(false);
+
+        migration.migrate();
+
+        verify(singleScheduleRepository, never()).findById(any());
+        verify(notificationSchedulerService, never()).schedulingSingleScheduleNotification(any());
+    }
+
+    @Test
+    @DisplayName("한 건의 등록이 실패해도 예외 없이 나머지 Job 을 이전한다.")
+    public void migrate_continueOnFailure() throws SchedulerException {
+        JobKey duplicated = JobKey.jobKey("singleScheduleNotificationJob-1", NotificationReminderMigration.SINGLE_SCHEDULE_GROUP);
+        JobKey next = JobKey.jobKey("singleScheduleNotificationJob-2", NotificationReminderMigration.SINGLE_SCHEDULE_GROUP);
+        givenJobs(NotificationReminderMigration.SINGLE_SCHEDULE_GROUP, duplicated, next);
+        when(scheduler.deleteJob(any())).thenReturn(true);
+        SingleSchedule first = mock(SingleSchedule.class);
+        SingleSchedule second = mock(SingleSchedule.class);
+        when(singleScheduleRepository.findById(1L)).thenReturn(Optional.of(first));
+        when(singleScheduleRepository.findById(2L)).thenReturn(Optional.of(second));
+        doThrow(new DataIntegrityViolationException("uk_notification_reminder_source"))
+            .when(notificationSchedulerService).schedulingSingleScheduleNotification(first);
+
+        migration.migrate();
+
+        verify(notificationSchedulerService).schedulingSingleScheduleNotification(second);
+        verify(scheduler).deleteJob(next);
+    }
+
+    @Test
+    @DisplayName("스터디 종료 알림은 남아 있는 Job 의 종류만 등록한다.")
+    public void migrate_studyEndRemainingTypeOnly() throws SchedulerException {
+        JobKey todayJob = JobKey.jobKey("studyEndNotificationJob-3-2024-07-01T09:00", "study-end-today-group");
+        givenJobs("study-end-today-group", todayJob);
+        when(scheduler.deleteJob(todayJob)).thenReturn(true);
+        StudyChannel studyChannel = StudyChannel.builder().id(3L).build();
+        when(studyChannelRepository.findById(3L)).thenReturn(Optional.of(studyChannel));
+
+        migration.migrate();
+
+        verify(notificationSchedulerService).scheduleStudyEndNotification(studyChannel, ReminderType.STUDY_END_TODAY);
+        verify(notificationSchedulerService, never())
+            .scheduleStudyEndNotification(studyChannel, ReminderType.STUDY_END_TOMORROW);
+        verify(notificationSchedulerService, never()).scheduleStudyEndNotifications(any());
+    }
+}
@@ -1,22 +1,28 @@
 package com.tenten.studybadge.notification.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.tenten.studybadge.notification.domain.entitiy.NotificationReminder;
+import com.tenten.studybadge.notification.domain.repository.NotificationReminderRepository;
 import com.tenten.studybadge.schedule.domain.entity.RepeatSchedule;
+import com.tenten.studybadge.schedule.domain.entity.SingleSchedule;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.type.notification.NotificationType;
+import com.tenten.studybadge.type.notification.ReminderType;
 import com.tenten.studybadge.type.schedule.RepeatCycle;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
-import java.util.Date;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,10 +31,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.quartz.JobDetail;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
 
 @ExtendWith(MockitoExtension.class)
 public class NotificationSchedulerServiceTest {
@@ -37,46 +39,80 @@ public class NotificationSchedulerServiceTest {
     private NotificationSchedulerService notificationSchedulerService;
 
     @Mock
-    private Scheduler scheduler;
+    private NotificationReminderRepository notificationReminderRepository;
 
     @Test
     @DisplayName("오늘 - 내일 일간 반복하는 일정이 모레에는 일정이 안울리는지 테스트")
-    public void testSchedulingRepeatScheduleNotification() throws SchedulerException {
+    public void testSchedulingRepeatScheduleNotification() {
         // given
         RepeatSchedule repeatSchedule = mock(RepeatSchedule.class);
         StudyChannel studyChannel = mock(StudyChannel.class);
 
         when(studyChannel.getId()).thenReturn(1L);
+        when(repeatSchedule.getId()).thenReturn(10L);
         when(repeatSchedule.getStudyChannel()).thenReturn(studyChannel);
+        when(repeatSchedule.getScheduleName()).thenReturn("반복 일정");
         when(repeatSchedule.getScheduleDate()).thenReturn(LocalDate.now());
         when(repeatSchedule.getScheduleStartTime()).thenReturn(LocalTime.of(12, 0));
         when(repeatSchedule.getRepeatEndDate()).thenReturn(LocalDate.now().plusDays(1)); // 내일
         when(repeatSchedule.getRepeatCycle()).thenReturn(RepeatCycle.DAILY);
 
-        // Trigger 캡처
-        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        ArgumentCaptor<NotificationReminder> reminderCaptor = ArgumentCaptor.forClass(NotificationReminder.class);
 
         // when
         notificationSchedulerService.schedulingRepeatScheduleNotification(repeatSchedule);
 
         // then
-        // 스케줄러가 올바른 트리거로 호출되었는지 검증
-        verify(scheduler).scheduleJob(any(JobDetail.class), triggerCaptor.capture());
-        Trigger trigger = triggerCaptor.getValue();
+        verify(notificationReminderRepository).deleteBySource(ReminderType.REPEAT_SCHEDULE, 10L);
+        verify(notificationReminderRepository).save(reminderCaptor.capture());
+        NotificationReminder reminder = reminderCaptor.getValue();
 
         // 종료 날짜가 올바른지 검증
-        Date expectedEndDate = Date.from(LocalDate.now().plusDays(1).atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant());
-        assertEquals(expectedEndDate, trigger.getEndTime());
+        assertEquals(LocalDate.now().plusDays(1).atTime(23, 59, 59), reminder.getRepeatEndAt());
+        assertEquals(NotificationType.SCHEDULE_REMINDER, reminder.getNotificationType());
+        assertEquals("[반복 일정] 일정 시작 10분 전입니다.", reminder.getContent());
+
+        // 첫 발송 시각은 오늘 11시 50분, 이미 지났으면 내일 11시 50분
+        LocalDateTime todayFireAt = LocalDate.now().atTime(11, 50);
+        LocalDateTime expectedFireAt = todayFireAt.isBefore(LocalDateTime.now()) ? todayFireAt.plusDays(1) : todayFireAt;
+        assertEquals(expectedFireAt, reminder.getFireAt());
+
+        // 종료 날짜 이후에는 발송되지 않는지 검증
+        assertEquals(todayFireAt.plusDays(1), reminder.nextOccurrence(todayFireAt));
+        assertNull(reminder.nextOccurrence(todayFireAt.plusDays(1)), "종료 날짜 이후에는 발송되지 않아야 합니다");
+        assertFalse(reminder.advance(LocalDate.now().plusDays(2).atStartOfDay()));
+    }
+
+    @Test
+    @DisplayName("매월 31일 반복 일정은 31일이 없는 달을 건너뛴다.")
+    public void testMonthlyRepeatSkipsShortMonths() {
+        NotificationReminder reminder = NotificationReminder.builder()
+            .reminderType(ReminderType.REPEAT_SCHEDULE)
+            .fireAt(LocalDateTime.of(2030, 1, 31, 9, 50))
+            .repeatCycle(RepeatCycle.MONTHLY)
+            .repeatStartAt(LocalDateTime.of(2030, 1, 31, 9, 50))
+            .repeatEndAt(LocalDateTime.of(2030, 12, 31, 23, 59, 59))
+            .build();
+
+        assertTrue(reminder.advance(LocalDateTime.of(2030, 1, 31, 9, 50)));
+        assertEquals(LocalDateTime.of(2030, 3, 31, 9, 50), reminder.getFireAt());
+    }
 
-        // 종료 날짜 이후 트리거가 실행되지 않는지 검증
-        Date afterEndDate = Date.from(LocalDate.now().plusDays(2).atStartOfDay(ZoneId.systemDefault()).toInstant());
-        Date nextFireTime = trigger.getFireTimeAfter(afterEndDate);
-        assertNull(nextFireTime, "Trigger는 종료 날짜 이후에 실행되지 않아야 합니다");
+    @Test
+    @DisplayName("지난 단일 일정은 알림을 등록하지 않는다.")
+    public void testSchedulingSingleScheduleNotification_past() {
+        SingleSchedule singleSchedule = mock(SingleSchedule.class);
+        when(singleSchedule.getScheduleDate()).thenReturn(LocalDate.now().minusDays(1));
+        when(singleSchedule.getScheduleStartTime()).thenReturn(LocalTime.of(12, 0));
+
+        notificationSchedulerService.schedulingSingleScheduleNotification(singleSchedule);
+
+        verify(notificationReminderRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("스터디 종료 알림 스케줄링 테스트")
-    public void testScheduleStudyEndNotifications() throws SchedulerException {
+    public void testScheduleStudyEndNotifications() {
         // given
         StudyChannel studyChannel = mock(StudyChannel.class);
         StudyDuration studyDuration = mock(StudyDuration.class);
@@ -89,66 +125,27 @@ public class NotificationSchedulerServiceTest {
         LocalDateTime customTime = studyDuration.getStudyEndDate().atStartOfDay()
             .withHour(8).withMinute(0).withSecond(0).withNano(0);
 
-        // Trigger 캡처
-        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
+        ArgumentCaptor<NotificationReminder> reminderCaptor = ArgumentCaptor.forClass(NotificationReminder.class);
 
         // when
         notificationSchedulerService.scheduleStudyEndNotifications(studyChannel);
 
         // then
-        verify(scheduler, times(2)).scheduleJob(any(JobDetail.class), triggerCaptor.capture());
-        List<Trigger> triggers = triggerCaptor.getAllValues();
-
-        // 첫 번째 트리거 검증 (종료 하루 전 알림)
-        Trigger firstTrigger = triggers.get(0);
-        Date expectedFirstNotificationTime = Date.from(customTime.minusDays(1).atZone(ZoneId.systemDefault()).toInstant());
-        assertEquals(expectedFirstNotificationTime, firstTrigger.getStartTime());
-
-        // 두 번째 트리거 검증 (종료 당일 알림)
-        Trigger secondTrigger = triggers.get(1);
-        Date expectedSecondNotificationTime = Date.from(customTime.atZone(ZoneId.systemDefault()).toInstant());
-        assertEquals(expectedSecondNotificationTime, secondTrigger.getStartTime());
-
-        // 종료 날짜 이후 트리거가 실행되지 않는지 검증
-        Date afterEndDate = Date.from(customTime.plusDays(1).atZone(ZoneId.systemDefault()).toInstant());
-        Date nextFireTime = secondTrigger.getFireTimeAfter(afterEndDate);
-        assertNull(nextFireTime, "Trigger는 종료 날짜 이후에 실행되지 않아야 합니다");
+        verify(notificationReminderRepository, times(2)).save(reminderCaptor.capture());
+        List<NotificationReminder> reminders = reminderCaptor.getAllValues();
+
+        // 첫 번째 알림 검증 (종료 하루 전 알림)
+        NotificationReminder first = reminders.get(0);
+        assertEquals(ReminderType.STUDY_END_TOMORROW, first.getReminderType());
+        assertEquals(customTime.minusDays(1), first.getFireAt());
+
+        // 두 번째 알림 검증 (종료 당일 알림)
+        NotificationReminder second = reminders.get(1);
+        assertEquals(ReminderType.STUDY_END_TODAY, second.getReminderType());
+        assertEquals(customTime, second.getFireAt());
+        assertEquals("/channel/1/information", second.getUrl());
+
+        // 반복 알림이 아니므로 발송 후 삭제되는지 검증
+        assertFalse(second.advance(customTime));
     }
-
-//    @Test
-//    @DisplayName("그제 - 어제 일간 반복하는 일정이 오늘에 일정이 안울리는지 테스트 : if문 생략했을때")
-//    public void testSchedulingRepeatScheduleNotification_deleteIf() throws SchedulerException {
-//        // 본 테스트는 NotificaitionSchedulerService.java
-//        // schedulingRepeatScheduleNotification메서드에 있는 if문을 생략해야 통과됩니다. > 현재 Line 81: 줄은 바뀔 수도 있음
-//        // given
-//        RepeatSchedule repeatSchedule = mock(RepeatSchedule.class);
-//        StudyChannel studyChannel = mock(StudyChannel.class);
-//
-//        when(studyChannel.getId()).thenReturn(1L);
-//        when(repeatSchedule.getStudyChannel()).thenReturn(studyChannel);
-//        when(repeatSchedule.getScheduleDate()).thenReturn(LocalDate.now().minusDays(2));
-//        when(repeatSchedule.getScheduleStartTime()).thenReturn(LocalTime.of(12, 0));
-//        when(repeatSchedule.getRepeatEndDate()).thenReturn(LocalDate.now().minusDays(1)); // 어제
-//        when(repeatSchedule.getRepeatCycle()).thenReturn(RepeatCycle.DAILY);
-//
-//        // Trigger 캡처
-//        ArgumentCaptor<Trigger> triggerCaptor = ArgumentCaptor.forClass(Trigger.class);
-//
-//        // when
-//        notificationSchedulerService.schedulingRepeatScheduleNotification(repeatSchedule);
-//
-//        // then
-//        // 스케줄러가 올바른 트리거로 호출되었는지 검증
-//        verify(scheduler).scheduleJob(any(JobDetail.class), triggerCaptor.capture());
-//        Trigger trigger = triggerCaptor.getValue();
-//
-//        // 종료 날짜가 올바른지 검증
-//        Date expectedEndDate = Date.from(LocalDate.now().minusDays(1).atTime(23, 59, 59).atZone(ZoneId.systemDefault()).toInstant());
-//        assertEquals(expectedEndDate, trigger.getEndTime());
-//
-//        // 종료 날짜 이후 트리거가 실행되지 않는지 검증
-//        Date afterEndDate = Date.from(LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant());
-//        Date nextFireTime = trigger.getFireTimeAfter(afterEndDate);
-//        assertNull(nextFireTime, "Trigger는 종료 날짜 이후에 실행되지 않아야 합니다");
-//    }
-}
\ No newline at end of file
+}
@@ -1,9 +1,16 @@
 package com.tenten.studybadge.notification.service;
 
+import com.tenten.studybadge.common.exception.notification.NotificationNotFoundException;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.notification.domain.entitiy.Notification;
+import com.tenten.studybadge.notification.domain.repository.NotificationJdbcRepository;
 import com.tenten.studybadge.notification.domain.repository.NotificationRepository;
+import com.tenten.studybadge.notification.domain.repository.UnreadNotificationCountRepository;
 import com.tenten.studybadge.notification.dto.NotificationReadRequest;
+import com.tenten.studybadge.notification.dto.NotificationResponse;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
+import com.tenten.studybadge.type.study.member.StudyMemberStatus;
 import com.tenten.studybadge.type.member.MemberRole;
 import com.tenten.studybadge.type.notification.NotificationType;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +18,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,12 +27,18 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +47,27 @@ public class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private StudyMemberRepository studyMemberRepository;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private UnreadNotificationCountRepository unreadNotificationCountRepository;
+
     @InjectMocks
     private NotificationService notificationService;
 
+    @Captor
+    private ArgumentCaptor<List<NotificationResponse>> responseCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Long>> receiverCaptor;
+
     private Notification notificationScheduleCreate;
     private Notification notificationScheduleDelete;
     private Long memberId;
@@ -88,25 +120,57 @@ public class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("알림 읽음 처리 성공")
+    @DisplayName("알림 읽음 처리 성공 - 조회 없이 UPDATE 한 번으로 처리하고 카운터를 감소시킨다.")
     void patchNotification_success() {
+        when(notificationRepository.markAsRead(eq(1L), eq(memberId), any())).thenReturn(1);
 
-        when(notificationRepository.findByIdAndReceiverId(1L, memberId))
-            .thenReturn(Optional.of(notificationScheduleCreate));
+        notificationService.patchNotification(memberId, new NotificationReadRequest(1L));
 
-        notificationService.patchNotification(memberId,
-            new NotificationReadRequest(1L));
+        verify(notificationRepository, times(1)).markAsRead(eq(1L), eq(memberId), any());
+        verify(notificationRepository, never()).findByIdAndReceiverId(anyLong(), anyLong());
+        verify(notificationRepository, never()).save(any());
+        verify(unreadNotificationCountRepository, times(1)).decrement(memberId, 1);
+    }
 
-        ArgumentCaptor<Notification> notificationCaptor =
-            ArgumentCaptor.forClass(Notification.class);
-        verify(notificationRepository, times(1))
-            .save(notificationCaptor.capture());
-        Notification updateReadNotification = notificationCaptor.getValue();
+    @Test
+    @DisplayName("알림 읽음 처리 실패 - 본인의 알림이 아니면 예외가 발생한다.")
+    void patchNotification_notFound() {
+        when(notificationRepository.markAsRead(eq(1L), eq(memberId), any())).thenReturn(0);
+        when(notificationRepository.existsByIdAndReceiverId(1L, memberId)).thenReturn(false);
+
+        assertThrows(NotificationNotFoundException.class,
+            () -> notificationService.patchNotification(memberId, new NotificationReadRequest(1L)));
+        verify(unreadNotificationCountRepository, never()).decrement(anyLong(), anyLong());
+    }
 
-        assertNotNull(updateReadNotification);
-        assertEquals(true, updateReadNotification.getIsRead());
-        assertEquals(true, notificationScheduleCreate.getIsRead());
-        assertEquals(false, notificationScheduleDelete.getIsRead());
+    @Test
+    @DisplayName("알림 일괄 읽음 처리 - 변경된 건수만큼 카운터를 감소시킨다.")
+    void patchAllNotifications_success() {
+        when(notificationRepository.markAllAsRead(eq(memberId), isNull(), any())).thenReturn(7);
+
+        int updated = notificationService.patchAllNotifications(memberId, null);
+
+        assertEquals(7, updated);
+        verify(unreadNotificationCountRepository, times(1)).decrement(memberId, 7);
+    }
+
+    @Test
+    @DisplayName("안읽은 알림 개수 조회 - 카운터가 있으면 DB 를 조회하지 않는다.")
+    void getUnreadCount_cached() {
+        when(unreadNotificationCountRepository.find(memberId)).thenReturn(3L);
+
+        assertEquals(3L, notificationService.getUnreadCount(memberId));
+        verify(notificationRepository, never()).countByReceiverIdAndIsReadFalse(anyLong());
+    }
+
+    @Test
+    @DisplayName("안읽은 알림 개수 조회 - 카운터가 없으면 DB 에서 세어 초기화한다.")
+    void getUnreadCount_initialize() {
+        when(unreadNotificationCountRepository.find(memberId)).thenReturn(null);
+        when(notificationRepository.countByReceiverIdAndIsReadFalse(memberId)).thenReturn(5L);
+
+        assertEquals(5L, notificationService.getUnreadCount(memberId));
+        verify(unreadNotificationCountRepository, times(1)).initialize(memberId, 5L);
     }
 
     @Test
@@ -129,4 +193,35 @@ public class NotificationServiceTest {
         verify(notificationRepository, times(1))
             .findAllByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(memberId, pageable);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스터디 채널 알림은 참여 중인 회원의 알림을 한 번에 저장하고 전송을 위임한다.")
+    void sendNotificationToStudyChannel_success() {
+        List<StudyMember> studyMembers = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            studyMembers.add(StudyMember.builder()
+                .member(Member.builder().id(id).role(MemberRole.USER).build())
+                .studyMemberStatus(id == 200 ? StudyMemberStatus.LEAVE : StudyMemberStatus.PARTICIPATING)
+                .build());
+        }
+        List<Long> notificationIds = new ArrayList<>();
+        for (long id = 1; id < 200; id++) {
+            notificationIds.add(id + 1000);
+        }
+        when(studyMemberRepository.findAllByStudyChannelIdWithMember(1L)).thenReturn(studyMembers);
+        when(notificationJdbcRepository.batchInsert(anyList(), any())).thenReturn(notificationIds);
+
+        notificationService.sendNotificationToStudyChannel(1L, NotificationType.SCHEDULE_CREATE, "일정 생성 알림", "관련 url");
+
+        verify(notificationJdbcRepository, times(1)).batchInsert(anyList(), any());
+        verify(notificationDispatcher, times(1)).dispatch(responseCaptor.capture());
+        verify(notificationRepository, never()).save(any());
+        verify(unreadNotificationCountRepository, times(1)).increment(receiverCaptor.capture());
+        assertEquals(199, receiverCaptor.getValue().size());
+        List<NotificationResponse> responses = responseCaptor.getValue();
+        assertEquals(199, responses.size());
+        assertEquals(1001L, responses.get(0).getNotificationId());
+        assertEquals(1L, responses.get(0).getReceiverId());
+        assertEquals(1199L, responses.get(198).getNotificationId());
+    }
+}
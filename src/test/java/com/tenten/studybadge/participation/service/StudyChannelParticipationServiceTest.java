@@ -9,8 +9,7 @@ import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.participation.domain.entity.Participation;
 import com.tenten.studybadge.participation.domain.repository.ParticipationRepository;
 import com.tenten.studybadge.participation.dto.StudyChannelParticipationStatusResponse;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
@@ -40,6 +39,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -63,7 +63,7 @@ class StudyChannelParticipationServiceTest {
     private StudyMemberRepository studyMemberRepository;
 
     @Mock
-    private PointRepository pointRepository;
+    private PointLedgerService pointLedgerService;
 
     @Mock
     private StudyChannelDepositRepository studyChannelDepositRepository;
@@ -289,18 +289,14 @@ class StudyChannelParticipationServiceTest {
             studyChannelParticipationService.approve(1L, 1L, 2L);
 
             ArgumentCaptor<StudyMember> studyMemberCaptor = ArgumentCaptor.forClass(StudyMember.class);
-            ArgumentCaptor<Point> pointCaptor = ArgumentCaptor.forClass(Point.class);
-            ArgumentCaptor<Member> memberCaptor = ArgumentCaptor.forClass(Member.class);
             ArgumentCaptor<StudyChannelDeposit> studyChannelDepositCaptor = ArgumentCaptor.forClass(StudyChannelDeposit.class);
 
             verify(studyMemberRepository, times(1)).save(studyMemberCaptor.capture());
-            verify(pointRepository, times(1)).save(pointCaptor.capture());
-            verify(memberRepository, times(1)).save(memberCaptor.capture());
+            verify(pointLedgerService, times(1)).debit(1L, 10_000, PointHistoryType.SPENT, TransferType.STUDY_DEPOSIT);
+            verify(memberRepository, never()).save(any(Member.class));
             verify(studyChannelDepositRepository, times(1)).save(studyChannelDepositCaptor.capture());
 
             StudyMember studyMemberCaptorValue = studyMemberCaptor.getValue();
-            Point pointCaptorValue = pointCaptor.getValue();
-            Member memberCaptorValue = memberCaptor.getValue();
             StudyChannelDeposit studyChannelDepositValue = studyChannelDepositCaptor.getValue();
 
             //then
@@ -309,14 +305,6 @@ class StudyChannelParticipationServiceTest {
             assertThat(studyMemberCaptorValue.getMember().getId()).isEqualTo(1L);
             assertThat(studyMemberCaptorValue.getStudyMemberRole()).isEqualTo(StudyMemberRole.STUDY_MEMBER);
 
-            assertThat(pointCaptorValue.getMember().getId()).isEqualTo(1L);
-            assertThat(pointCaptorValue.getAmount()).isEqualTo(-10_000);
-            assertThat(pointCaptorValue.getHistoryType()).isEqualTo(PointHistoryType.SPENT);
-            assertThat(pointCaptorValue.getTransferType()).isEqualTo(TransferType.STUDY_DEPOSIT);
-
-            assertThat(memberCaptorValue.getId()).isEqualTo(1L);
-            assertThat(memberCaptorValue.getPoint()).isEqualTo(20_000);
-
             assertThat(studyChannelDepositValue.getStudyChannel().getId()).isEqualTo(1L);
             assertThat(studyChannelDepositValue.getMember().getId()).isEqualTo(1L);
             assertThat(studyChannelDepositValue.getDepositStatus()).isEqualTo(DepositStatus.DEPOSIT);
@@ -0,0 +1,159 @@
+package com.tenten.studybadge.payment.service;
+
+import com.tenten.studybadge.common.config.PaymentConfig;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.payment.domain.entity.Payment;
+import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
+import com.tenten.studybadge.payment.dto.PaymentConfirm;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import com.tenten.studybadge.point.domain.repository.PointLedgerRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
+import com.tenten.studybadge.type.payment.PayType;
+import com.tenten.studybadge.type.payment.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커넥션 풀(2개, 대기 250ms)에서 응답이 느린 PG 로 결제를 동시에 승인한다.
+ * PG 호출을 트랜잭션 안에서 하면(기존 방식) 커넥션을 기다리다 실패하는 요청이 생기고,
+ * 예약/완료 트랜잭션으로 나누면 커넥션을 밀리초 단위로만 사용하므로 모두 성공한다.
+ */
+// 여러 스레드가 각자 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 사용하지 않음
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payment_pool;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PaymentService.class, PaymentTransactionService.class, PointLedgerService.class, PointLedgerRepository.class})
+class PaymentConfirmConnectionPoolTest {
+
+    private static final int PAYMENT_COUNT = 10;
+    private static final long PG_DELAY_MILLIS = 500;
+    private static final int AMOUNT = 20000;
+
+    @Autowired
+    PaymentService paymentService;
+    @Autowired
+    PaymentTransactionService paymentTransactionService;
+    @Autowired
+    PaymentRepository paymentRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockBean
+    TossPaymentClient tossPaymentClient;
+    @MockBean
+    PaymentConfig paymentConfig;
+
+    @BeforeEach
+    void setUp() {
+        when(tossPaymentClient.confirm(any())).thenAnswer(invocation -> {
+            Thread.sleep(PG_DELAY_MILLIS);
+            PaymentConfirmRequest confirmRequest = invocation.getArgument(0);
+            return PaymentConfirm.builder()
+                    .paymentKey(confirmRequest.getPaymentKey())
+                    .orderId(confirmRequest.getOrderId())
+                    .build();
+        });
+    }
+
+    @DisplayName("PG 호출을 트랜잭션 밖에서 하면 느린 PG 응답에도 커넥션 풀이 고갈되지 않는다.")
+    @Test
+    void confirmPayment_slowPg() throws InterruptedException {
+        // 기존 방식: 하나의 트랜잭션 안에서 주문 조회 -> PG 승인 -> 완료
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<PaymentConfirmRequest> legacyRequests = createPayments("legacy");
+        int legacyFailures = confirmConcurrently(legacyRequests, confirmRequest ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    Long paymentId = paymentTransactionService.reserve(confirmRequest);
+                    tossPaymentClient.confirm(confirmRequest);
+                    paymentTransactionService.complete(paymentId);
+                }));
+
+        // 변경 후: 예약(트랜잭션) -> PG 승인 -> 완료(트랜잭션)
+        List<PaymentConfirmRequest> requests = createPayments("pipeline");
+        int failures = confirmConcurrently(requests, paymentService::confirmPayment);
+
+        assertThat(legacyFailures).isPositive();
+        assertThat(failures).isZero();
+        for (PaymentConfirmRequest confirmRequest : requests) {
+            Payment payment = paymentRepository.findByOrderId(confirmRequest.getOrderId()).orElseThrow();
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+            assertThat(payment.isSuccessYN()).isTrue();
+        }
+    }
+
+    // 커넥션을 얻지 못해 실패한 요청 수
+    private int confirmConcurrently(List<PaymentConfirmRequest> confirmRequests,
+                                    Consumer<PaymentConfirmRequest> confirm) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(confirmRequests.size());
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(confirmRequests.size());
+        AtomicInteger failures = new AtomicInteger();
+        for (PaymentConfirmRequest confirmRequest : confirmRequests) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    confirm.accept(confirmRequest);
+                } catch (CannotCreateTransactionException e) {
+                    failures.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return failures.get();
+    }
+
+    // 포인트 적립이 서로 영향을 주지 않도록 결제마다 회원을 따로 만듦
+    private List<PaymentConfirmRequest> createPayments(String prefix) {
+        List<PaymentConfirmRequest> confirmRequests = new ArrayList<>();
+        for (int i = 0; i < PAYMENT_COUNT; i++) {
+            Member member = memberRepository.save(Member.builder().email(prefix + i + "@test.com").point(0).build());
+            Payment payment = paymentRepository.save(Payment.builder()
+                    .payType(PayType.CARD)
+                    .amount(AMOUNT)
+                    .orderName("포인트충전")
+                    .orderId(prefix + "_" + i)
+                    .customer(member)
+                    .successYN(false)
+                    .build());
+            confirmRequests.add(new PaymentConfirmRequest("paymentKey_" + prefix + i, payment.getOrderId(), AMOUNT));
+        }
+        return confirmRequests;
+    }
+}
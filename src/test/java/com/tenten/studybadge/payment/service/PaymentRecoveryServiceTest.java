@@ -0,0 +1,92 @@
+package com.tenten.studybadge.payment.service;
+
+import com.tenten.studybadge.common.exception.payment.PaymentGatewayException;
+import com.tenten.studybadge.payment.domain.entity.Payment;
+import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
+import com.tenten.studybadge.payment.dto.PaymentConfirm;
+import com.tenten.studybadge.type.payment.PaymentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentRecoveryServiceTest {
+
+    private PaymentRepository paymentRepository;
+    private PaymentTransactionService paymentTransactionService;
+    private TossPaymentClient tossPaymentClient;
+    private PaymentRecoveryService paymentRecoveryService;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        paymentTransactionService = mock(PaymentTransactionService.class);
+        tossPaymentClient = mock(TossPaymentClient.class);
+        paymentRecoveryService = new PaymentRecoveryService(paymentRepository, paymentTransactionService,
+                tossPaymentClient, Duration.ofMinutes(5), 100);
+
+        Payment payment = Payment.builder()
+                .id(1L)
+                .orderId("orderId")
+                .paymentKey("paymentKey")
+                .amount(20000)
+                .status(PaymentStatus.IN_PROGRESS)
+                .build();
+        when(paymentRepository.findAllInProgressReservedBefore(any(), any(Limit.class))).thenReturn(List.of(payment));
+    }
+
+    @DisplayName("PG 에서 승인된 결제는 완료 처리한다.")
+    @Test
+    void recover_Approved() {
+        when(tossPaymentClient.confirm(any())).thenReturn(PaymentConfirm.builder().orderId("orderId").build());
+
+        paymentRecoveryService.recoverInProgressPayments();
+
+        verify(paymentTransactionService).complete(1L);
+    }
+
+    @DisplayName("PG 가 승인을 거절한 결제는 실패 처리한다.")
+    @Test
+    void recover_Rejected() {
+        when(tossPaymentClient.confirm(any())).thenThrow(responseException(HttpStatus.BAD_REQUEST));
+
+        paymentRecoveryService.recoverInProgressPayments();
+
+        verify(paymentTransactionService).fail(1L, "{}");
+        verify(paymentTransactionService, never()).complete(anyLong());
+    }
+
+    @DisplayName("PG 응답이 없거나 같은 요청이 처리 중이면 다음 주기에 다시 확인한다.")
+    @Test
+    void recover_Unknown() {
+        when(tossPaymentClient.confirm(any()))
+                .thenThrow(new PaymentGatewayException(new RuntimeException("timeout")))
+                .thenThrow(responseException(HttpStatus.CONFLICT));
+
+        paymentRecoveryService.recoverInProgressPayments();
+        paymentRecoveryService.recoverInProgressPayments();
+
+        verify(paymentTransactionService, never()).complete(anyLong());
+        verify(paymentTransactionService, never()).fail(anyLong(), anyString());
+    }
+
+    private WebClientResponseException responseException(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), HttpHeaders.EMPTY,
+                "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -1,29 +1,54 @@
 package com.tenten.studybadge.payment.service;
 
 import com.tenten.studybadge.common.config.PaymentConfig;
+import com.tenten.studybadge.common.dto.CursorResponse;
+import com.tenten.studybadge.common.exception.InvalidCursorException;
 import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
 import com.tenten.studybadge.common.exception.payment.InvalidAmountException;
+import com.tenten.studybadge.common.exception.payment.NotCancelablePaymentException;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.payment.domain.entity.Payment;
 import com.tenten.studybadge.payment.domain.repository.PaymentRepository;
+import com.tenten.studybadge.payment.dto.PaymentCancelRequest;
+import com.tenten.studybadge.payment.dto.PaymentConfirm;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import com.tenten.studybadge.payment.dto.PaymentHistory;
 import com.tenten.studybadge.payment.dto.PaymentRequest;
 import com.tenten.studybadge.payment.dto.PaymentResponse;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.type.payment.PayType;
+import com.tenten.studybadge.type.payment.PaymentStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static com.tenten.studybadge.type.point.PointHistoryType.DEDUCTED;
+import static com.tenten.studybadge.type.point.TransferType.PAYMENT_CANCEL;
 
 @ExtendWith(MockitoExtension.class)
 public class PaymentServiceTest {
@@ -37,6 +62,15 @@ public class PaymentServiceTest {
     @Mock
     private PaymentConfig paymentConfig;
 
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private PaymentTransactionService paymentTransactionService;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -113,4 +147,136 @@ public class PaymentServiceTest {
             paymentService.requestPayment(1L, paymentRequest);
         });
     }
-}
\ No newline at end of file
+
+    @DisplayName("[결제 승인 성공] 예약 -> PG 승인 -> 완료 순서로 처리")
+    @Test
+    void confirmPayment_Success() {
+        // Given
+        PaymentConfirmRequest confirmRequest = new PaymentConfirmRequest("paymentKey", "orderId", 20000);
+        PaymentConfirm paymentConfirm = PaymentConfirm.builder().paymentKey("paymentKey").orderId("orderId").build();
+        when(paymentTransactionService.reserve(confirmRequest)).thenReturn(1L);
+        when(tossPaymentClient.confirm(confirmRequest)).thenReturn(paymentConfirm);
+
+        // When
+        PaymentConfirm result = paymentService.confirmPayment(confirmRequest);
+
+        // Then
+        assertEquals("orderId", result.getOrderId());
+        InOrder inOrder = inOrder(paymentTransactionService, tossPaymentClient);
+        inOrder.verify(paymentTransactionService).reserve(confirmRequest);
+        inOrder.verify(tossPaymentClient).confirm(confirmRequest);
+        inOrder.verify(paymentTransactionService).complete(1L);
+    }
+
+    @DisplayName("[PG 승인 거절] 결제 실패 처리")
+    @Test
+    void confirmPayment_Rejected() {
+        // Given
+        PaymentConfirmRequest confirmRequest = new PaymentConfirmRequest("paymentKey", "orderId", 20000);
+        String body = "{\"code\":\"REJECT_CARD_PAYMENT\"}";
+        when(paymentTransactionService.reserve(confirmRequest)).thenReturn(1L);
+        when(tossPaymentClient.confirm(confirmRequest)).thenThrow(WebClientResponseException.create(
+                HttpStatus.BAD_REQUEST.value(), "Bad Request", HttpHeaders.EMPTY, body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThrows(WebClientResponseException.class, () -> paymentService.confirmPayment(confirmRequest));
+        verify(paymentTransactionService).fail(1L, body);
+        verify(paymentTransactionService, never()).complete(anyLong());
+    }
+
+    @DisplayName("[결제 취소 성공] 승인 완료된 결제를 취소로 변경하고 포인트 차감")
+    @Test
+    void cancelPayment_Success() {
+        // Given
+        PaymentCancelRequest cancelRequest = new PaymentCancelRequest("paymentKey", "단순 변심");
+        Payment donePayment = Payment.builder().id(1L).amount(20000).paymentKey("paymentKey").status(PaymentStatus.DONE).build();
+        when(paymentRepository.findByPaymentKeyAndCustomerId("paymentKey", 1L)).thenReturn(Optional.of(donePayment));
+        when(paymentRepository.cancel(eq(1L), eq("단순 변심"), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        paymentService.cancelPayment(1L, cancelRequest);
+
+        // Then
+        InOrder inOrder = inOrder(paymentRepository, pointLedgerService, tossPaymentClient);
+        inOrder.verify(paymentRepository).cancel(eq(1L), eq("단순 변심"), any(LocalDateTime.class));
+        inOrder.verify(pointLedgerService).debit(1L, 20000, DEDUCTED, PAYMENT_CANCEL);
+        inOrder.verify(tossPaymentClient).cancel(cancelRequest);
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @DisplayName("[결제 취소 실패] 승인 처리 중인 결제는 포인트를 차감하지 않음")
+    @Test
+    void cancelPayment_InProgress() {
+        // Given
+        PaymentCancelRequest cancelRequest = new PaymentCancelRequest("paymentKey", "단순 변심");
+        Payment inProgressPayment = Payment.builder().id(1L).amount(20000).paymentKey("paymentKey").status(PaymentStatus.IN_PROGRESS).build();
+        when(paymentRepository.findByPaymentKeyAndCustomerId("paymentKey", 1L)).thenReturn(Optional.of(inProgressPayment));
+
+        // When & Then
+        assertThrows(NotCancelablePaymentException.class, () -> paymentService.cancelPayment(1L, cancelRequest));
+        verify(paymentRepository, never()).cancel(anyLong(), anyString(), any());
+        verify(pointLedgerService, never()).debit(anyLong(), anyInt(), any(), any());
+        verify(tossPaymentClient, never()).cancel(any());
+    }
+
+    @DisplayName("[결제 취소 실패] 동시에 먼저 취소된 결제는 포인트를 다시 차감하지 않음")
+    @Test
+    void cancelPayment_AlreadyCanceled() {
+        // Given
+        PaymentCancelRequest cancelRequest = new PaymentCancelRequest("paymentKey", "단순 변심");
+        Payment donePayment = Payment.builder().id(1L).amount(20000).paymentKey("paymentKey").status(PaymentStatus.DONE).build();
+        when(paymentRepository.findByPaymentKeyAndCustomerId("paymentKey", 1L)).thenReturn(Optional.of(donePayment));
+        when(paymentRepository.cancel(eq(1L), eq("단순 변심"), any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then
+        assertThrows(NotCancelablePaymentException.class, () -> paymentService.cancelPayment(1L, cancelRequest));
+        verify(pointLedgerService, never()).debit(anyLong(), anyInt(), any(), any());
+        verify(tossPaymentClient, never()).cancel(any());
+    }
+
+    @DisplayName("[결제 내역 커서 조회] size 보다 많이 조회되면 다음 커서를 반환")
+    @Test
+    void paymentHistoryByCursor_hasNext() {
+        // Given
+        List<Payment> payments = List.of(
+                Payment.builder().id(3L).paymentKey("key-3").build(),
+                Payment.builder().id(2L).paymentKey("key-2").build(),
+                Payment.builder().id(1L).paymentKey("key-1").build());
+        when(paymentRepository.findByCustomerIdWithCursor(1L, null, null, Limit.of(3))).thenReturn(payments);
+
+        // When
+        CursorResponse<PaymentHistory> response = paymentService.paymentHistoryByCursor(1L, null, null, 2);
+
+        // Then
+        assertTrue(response.isHasNext());
+        assertEquals(2, response.getContent().size());
+        assertEquals("key-2", response.getContent().get(1).getPaymentKey());
+        assertEquals(2L, response.getNextCursorId());
+    }
+
+    @DisplayName("[결제 내역 커서 조회] 마지막 목록이면 다음 커서 없음")
+    @Test
+    void paymentHistoryByCursor_lastPage() {
+        // Given
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 7, 1, 0, 0);
+        when(paymentRepository.findByCustomerIdWithCursor(1L, cursorCreatedAt, 2L, Limit.of(3)))
+                .thenReturn(List.of(Payment.builder().id(1L).paymentKey("key-1").build()));
+
+        // When
+        CursorResponse<PaymentHistory> response = paymentService.paymentHistoryByCursor(1L, cursorCreatedAt, 2L, 2);
+
+        // Then
+        assertFalse(response.isHasNext());
+        assertEquals(1, response.getContent().size());
+        assertNull(response.getNextCursorId());
+        assertNull(response.getNextCursorCreatedAt());
+    }
+
+    @DisplayName("[결제 내역 커서 조회] 커서 값이 하나만 전달되면 조회하지 않음")
+    @Test
+    void paymentHistoryByCursor_invalidCursor() {
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> paymentService.paymentHistoryByCursor(1L, null, 2L, 10));
+        verify(paymentRepository, never()).findByCustomerIdWithCursor(any(), any(), any(), any());
+    }
+}
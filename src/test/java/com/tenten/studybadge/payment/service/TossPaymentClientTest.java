@@ -0,0 +1,171 @@
+package com.tenten.studybadge.payment.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tenten.studybadge.common.config.PaymentConfig;
+import com.tenten.studybadge.common.config.WebClientConfig;
+import com.tenten.studybadge.common.exception.payment.PaymentGatewayException;
+import com.tenten.studybadge.payment.dto.PaymentCancelRequest;
+import com.tenten.studybadge.payment.dto.PaymentConfirm;
+import com.tenten.studybadge.payment.dto.PaymentConfirmRequest;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 HTTP 서버를 토스페이먼츠 대신 띄워 커넥션 재사용, 타임아웃, 재시도 동작을 확인한다.
+ */
+class TossPaymentClientTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(500);
+    private static final int MAX_RETRIES = 2;
+    private static final String CONFIRM_RESPONSE =
+            "{\"paymentKey\":\"payment-key\",\"orderId\":\"order-1\",\"orderName\":\"포인트충전\",\"method\":\"카드\"}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final Queue<String> idempotencyKeys = new ConcurrentLinkedQueue<>();
+    private final Queue<String> authorizations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    // 요청 순서 별 응답 코드, 비어 있으면 200
+    private final Queue<Integer> statuses = new ConcurrentLinkedQueue<>();
+    private volatile long responseDelayMillis;
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private TossPaymentClient tossPaymentClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Metrics.addRegistry(meterRegistry);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.createContext("/v1/payments/", this::handle);
+        server.start();
+
+        PaymentConfig paymentConfig = mock(PaymentConfig.class);
+        when(paymentConfig.getBaseUrl()).thenReturn("http://localhost:" + server.getAddress().getPort() + "/v1/payments/");
+        when(paymentConfig.getTestSecretKey()).thenReturn("test_sk");
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.tossConnectionProvider(10, Duration.ofSeconds(5), Duration.ofSeconds(30));
+        WebClient tossWebClient = webClientConfig.tossWebClient(WebClient.builder(), connectionProvider, paymentConfig,
+                Duration.ofSeconds(1), READ_TIMEOUT);
+        tossPaymentClient = new TossPaymentClient(tossWebClient, MAX_RETRIES, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.stop(0);
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @DisplayName("[결제 승인 반복 호출 시 커넥션 재사용]")
+    @Test
+    void confirm_ReusesConnection() {
+        // Given
+        int calls = 20;
+
+        // When
+        for (int i = 0; i < calls; i++) {
+            PaymentConfirm confirm = tossPaymentClient.confirm(new PaymentConfirmRequest("payment-key", "order-" + i, 20000));
+            assertThat(confirm.getOrderId()).isEqualTo("order-1");
+        }
+
+        // Then
+        assertThat(requestCount.get()).isEqualTo(calls);
+        assertThat(clientPorts).hasSize(1);
+        assertThat(authorizations).allMatch("Basic dGVzdF9zazo="::equals);
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.total.connections")
+                .tag("name", WebClientConfig.TOSS_CONNECTION_PROVIDER)
+                .gauge()).isNotNull();
+    }
+
+    @DisplayName("[5xx 응답 시 같은 멱등키로 재시도]")
+    @Test
+    void confirm_RetriesOnServerError() {
+        // Given
+        statuses.add(503);
+        statuses.add(500);
+
+        // When
+        PaymentConfirm confirm = tossPaymentClient.confirm(new PaymentConfirmRequest("payment-key", "order-1", 20000));
+
+        // Then
+        assertThat(confirm.getPaymentKey()).isEqualTo("payment-key");
+        assertThat(requestCount.get()).isEqualTo(3);
+        assertThat(idempotencyKeys).containsOnly("order-1");
+    }
+
+    @DisplayName("[4xx 응답은 재시도하지 않음]")
+    @Test
+    void confirm_DoesNotRetryOnClientError() {
+        // Given
+        statuses.add(400);
+
+        // When & Then
+        assertThrows(WebClientResponseException.BadRequest.class, () ->
+                tossPaymentClient.confirm(new PaymentConfirmRequest("payment-key", "order-1", 20000)));
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("[응답 지연 시 재시도 후 PaymentGatewayException]")
+    @Test
+    void cancel_ReadTimeout() {
+        // Given
+        responseDelayMillis = READ_TIMEOUT.toMillis() * 3;
+
+        // When & Then
+        assertThrows(PaymentGatewayException.class, () ->
+                tossPaymentClient.cancel(new PaymentCancelRequest("payment-key", "단순 변심")));
+        assertThat(requestCount.get()).isEqualTo(MAX_RETRIES + 1);
+        assertThat(idempotencyKeys).containsOnly("cancel_payment-key");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        exchange.getRequestBody().readAllBytes();
+
+        if (responseDelayMillis > 0) {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Integer status = statuses.poll();
+        byte[] body = (status == null ? CONFIRM_RESPONSE : "{\"code\":\"ERROR\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status == null ? 200 : status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
@@ -0,0 +1,204 @@
+package com.tenten.studybadge.point.service;
+
+import com.tenten.studybadge.common.exception.member.NotFoundMemberException;
+import com.tenten.studybadge.attendance.service.AttendanceService;
+import com.tenten.studybadge.common.component.AwsS3Service;
+import com.tenten.studybadge.common.email.MailService;
+import com.tenten.studybadge.common.exception.payment.NotEnoughPointException;
+import com.tenten.studybadge.common.jwt.JwtTokenProvider;
+import com.tenten.studybadge.common.redis.RedisService;
+import com.tenten.studybadge.common.security.MemberRevocationService;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.member.dto.MemberUpdateRequest;
+import com.tenten.studybadge.member.service.MemberService;
+import com.tenten.studybadge.point.domain.repository.PointLedgerRepository;
+import com.tenten.studybadge.point.domain.repository.PointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static com.tenten.studybadge.type.point.PointHistoryType.EARNED;
+import static com.tenten.studybadge.type.point.PointHistoryType.SPENT;
+import static com.tenten.studybadge.type.point.TransferType.PAYMENT_CHARGE;
+import static com.tenten.studybadge.type.point.TransferType.STUDY_DEPOSIT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 여러 스레드가 각자 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 사용하지 않음
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PointLedgerService.class, PointLedgerRepository.class, MemberService.class})
+class PointLedgerServiceTest {
+
+    private static final int OPERATION_COUNT = 1000;
+    private static final int THREAD_COUNT = 50;
+    private static final int CREDIT_AMOUNT = 100;
+    private static final int DEBIT_AMOUNT = 150;
+
+    @Autowired
+    PointLedgerService pointLedgerService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    PointRepository pointRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MemberService memberService;
+
+    @MockBean
+    MailService mailService;
+    @MockBean
+    RedisService redisService;
+    @MockBean
+    RedisTemplate<String, Object> redisTemplate;
+    @MockBean
+    AwsS3Service awsS3Service;
+    @MockBean
+    PasswordEncoder passwordEncoder;
+    @MockBean
+    JwtTokenProvider jwtTokenProvider;
+    @MockBean
+    AttendanceService attendanceService;
+    @MockBean
+    MemberRevocationService memberRevocationService;
+
+    @AfterEach
+    void tearDown() {
+        pointRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @DisplayName("한 회원에게 적립/사용 1000건이 동시에 요청되어도 잔액과 포인트 내역이 일치한다.")
+    @Test
+    void creditAndDebit_concurrently() throws InterruptedException {
+        Long memberId = saveMember("ledger@test.com", 100_000);
+        AtomicInteger failures = new AtomicInteger();
+        runOperations(i -> {
+            if (i % 2 == 0) {
+                pointLedgerService.credit(memberId, CREDIT_AMOUNT, EARNED, PAYMENT_CHARGE);
+            } else {
+                pointLedgerService.debit(memberId, DEBIT_AMOUNT, SPENT, STUDY_DEPOSIT);
+            }
+        }, failures);
+        int expected = 100_000 + (OPERATION_COUNT / 2) * (CREDIT_AMOUNT - DEBIT_AMOUNT);
+
+        // 최저 잔액도 100,000 - 500 x 150 > 0 이므로 모든 사용이 성공해야 함
+        assertThat(failures.get()).isZero();
+        assertThat(point(memberId)).isEqualTo(expected);
+        assertThat(historyCount(memberId)).isEqualTo(OPERATION_COUNT);
+        assertThat(historySum(memberId)).isEqualTo(expected - 100_000);
+        assertBalanceChain(memberId, 100_000);
+    }
+
+    @DisplayName("잔액보다 많은 사용이 동시에 요청되면 잔액만큼만 반영되고 잔액은 음수가 되지 않는다.")
+    @Test
+    void debit_concurrentlyOverBalance() throws InterruptedException {
+        Long memberId = saveMember("debit@test.com", DEBIT_AMOUNT * 10);
+        AtomicInteger failures = new AtomicInteger();
+
+        runOperations(i -> pointLedgerService.debit(memberId, DEBIT_AMOUNT, SPENT, STUDY_DEPOSIT), failures);
+
+        assertThat(point(memberId)).isZero();
+        assertThat(failures.get()).isEqualTo(OPERATION_COUNT - 10);
+        assertThat(historyCount(memberId)).isEqualTo(10);
+        assertBalanceChain(memberId, DEBIT_AMOUNT * 10);
+    }
+
+    @DisplayName("적립과 회원 정보 수정이 동시에 요청되어도 수정 시 읽은 잔액으로 덮어쓰지 않는다.")
+    @Test
+    void credit_concurrentlyWithMemberUpdate() throws InterruptedException {
+        Long memberId = saveMember("update@test.com", 0);
+        AtomicInteger failures = new AtomicInteger();
+
+        runOperations(i -> {
+            if (i % 2 == 0) {
+                pointLedgerService.credit(memberId, CREDIT_AMOUNT, EARNED, PAYMENT_CHARGE);
+            } else {
+                memberService.memberUpdate(memberId, MemberUpdateRequest.builder().nickname("닉네임" + i).build(), null);
+            }
+        }, failures);
+
+        assertThat(failures.get()).isZero();
+        assertThat(point(memberId)).isEqualTo((OPERATION_COUNT / 2) * CREDIT_AMOUNT);
+        assertThat(historyCount(memberId)).isEqualTo(OPERATION_COUNT / 2);
+        assertBalanceChain(memberId, 0);
+    }
+
+    @DisplayName("없는 회원에게 적립하면 예외가 발생하고 내역이 저장되지 않는다.")
+    @Test
+    void credit_notFoundMember() {
+        assertThatThrownBy(() -> pointLedgerService.credit(-1L, CREDIT_AMOUNT, EARNED, PAYMENT_CHARGE))
+                .isInstanceOf(NotFoundMemberException.class);
+
+        assertThat(historyCount(-1L)).isZero();
+    }
+
+    private void runOperations(IntConsumer operation, AtomicInteger failures) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(OPERATION_COUNT);
+        for (int i = 0; i < OPERATION_COUNT; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    operation.accept(index);
+                } catch (NotEnoughPointException e) {
+                    failures.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    // 내역마다 저장된 잔액이 직전 잔액 + 변경 금액이고, 마지막 잔액이 회원 잔액과 같은지 확인
+    private void assertBalanceChain(Long memberId, int initialPoint) {
+        int[] balance = {initialPoint};
+        jdbcTemplate.query("SELECT amount, balance FROM point WHERE member_id = ? ORDER BY id", rs -> {
+            balance[0] += rs.getInt("amount");
+            assertThat(rs.getInt("balance")).isEqualTo(balance[0]);
+        }, memberId);
+        assertThat(balance[0]).isEqualTo(point(memberId));
+    }
+
+    private Long saveMember(String email, int point) {
+        return memberRepository.save(Member.builder().email(email).point(point).build()).getId();
+    }
+
+    private int point(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT point FROM member WHERE id = ?", Integer.class, memberId);
+    }
+
+    private int historyCount(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point WHERE member_id = ?", Integer.class, memberId);
+    }
+
+    private int historySum(Long memberId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM point WHERE member_id = ?",
+                Integer.class, memberId);
+    }
+}
@@ -0,0 +1,184 @@
+package com.tenten.studybadge.point.service;
+
+import com.tenten.studybadge.common.dto.CursorResponse;
+import com.tenten.studybadge.common.exception.InvalidCursorException;
+import com.tenten.studybadge.common.exception.point.InvalidPointSummaryPeriodException;
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.point.domain.repository.PointSummaryRepository;
+import com.tenten.studybadge.point.dto.PointMonthlySummaryResponse;
+import com.tenten.studybadge.point.dto.PointResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({PointService.class, PointSnapshotService.class, PointSummaryRepository.class})
+class PointServiceTest {
+
+    private static final int POINT_COUNT = 100_000;
+    private static final YearMonth FIRST_MONTH = YearMonth.of(2025, 1);
+    private static final YearMonth LAST_MONTH = YearMonth.of(2025, 12);
+
+    @Autowired
+    PointService pointService;
+    @Autowired
+    PointSnapshotService pointSnapshotService;
+    @Autowired
+    PointSummaryRepository pointSummaryRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    Long memberId;
+    LocalDateTime base;
+    long intervalSeconds;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(Member.builder().email("point@test.com").point(0).build()).getId();
+
+        // 1년 동안 고르게 분포된 적립(+100)/사용(-60) 내역 10만 건, 내역마다 변경 후 잔액 기록
+        base = FIRST_MONTH.atDay(1).atStartOfDay();
+        intervalSeconds = Duration.between(base, LAST_MONTH.plusMonths(1).atDay(1).atStartOfDay()).getSeconds() / POINT_COUNT;
+        List<Object[]> args = new ArrayList<>(POINT_COUNT);
+        int balance = 0;
+        for (int i = 0; i < POINT_COUNT; i++) {
+            int amount = i % 2 == 0 ? 100 : -60;
+            balance += amount;
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i * intervalSeconds));
+            args.add(new Object[]{memberId, amount, amount > 0 ? "EARNED" : "SPENT",
+                    amount > 0 ? "PAYMENT_CHARGE" : "STUDY_DEPOSIT", balance, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO point " +
+                "(member_id, amount, history_type, transfer_type, balance, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", args);
+        jdbcTemplate.update("UPDATE member SET point = ? WHERE id = ?", balance, memberId);
+        entityManager.clear();
+    }
+
+    @DisplayName("내역 10만 건인 회원의 월별 요약은 스냅샷으로 전체 내역 합산과 같은 결과를 조회한다.")
+    @Test
+    void getMyMonthlySummary_fromSnapshots() {
+        // 기존 방식: 회원의 전체 내역을 읽어 월별로 합산
+        Map<YearMonth, long[]> scanned = scanMonthlySummary();
+
+        // 스냅샷이 없을 때: 월마다 해당 구간만 집계
+        List<PointMonthlySummaryResponse> live = pointService.getMyMonthlySummary(memberId, FIRST_MONTH, LAST_MONTH);
+
+        for (YearMonth month = FIRST_MONTH; !month.isAfter(LAST_MONTH); month = month.plusMonths(1)) {
+            assertThat(pointSnapshotService.snapshotMonth(month)).isEqualTo(1);
+        }
+        // 다시 실행해도 중복 저장되지 않음
+        assertThat(pointSnapshotService.snapshotMonth(LAST_MONTH)).isZero();
+
+        List<PointMonthlySummaryResponse> summaries = pointService.getMyMonthlySummary(memberId, FIRST_MONTH, LAST_MONTH);
+
+        assertThat(summaries).hasSize(12);
+        for (List<PointMonthlySummaryResponse> result : List.of(live, summaries)) {
+            for (PointMonthlySummaryResponse summary : result) {
+                long[] expected = scanned.get(summary.getMonth());
+                assertThat(summary.getEarnedAmount()).isEqualTo(expected[0]);
+                assertThat(summary.getUsedAmount()).isEqualTo(expected[1]);
+                assertThat(summary.getTransactionCount()).isEqualTo((int) expected[2]);
+                assertThat(summary.getClosingBalance()).isEqualTo((int) expected[3]);
+            }
+        }
+        assertThat(summaries.get(11).getClosingBalance())
+                .isEqualTo(memberRepository.findById(memberId).orElseThrow().getPoint());
+    }
+
+    @DisplayName("특정 시점의 잔액은 전체 합산 없이 직전 내역의 잔액으로 조회한다.")
+    @Test
+    void findBalanceBefore() {
+        LocalDateTime at = base.plusSeconds((POINT_COUNT / 2) * intervalSeconds);
+
+        Integer summed = jdbcTemplate.queryForObject("SELECT SUM(amount) FROM point WHERE member_id = ? AND created_at < ?",
+                Integer.class, memberId, Timestamp.valueOf(at));
+        Integer balance = pointSummaryRepository.findBalanceBefore(memberId, at);
+
+        assertThat(balance).isEqualTo(summed);
+    }
+
+    @DisplayName("내역 조회 시 각 내역 직후의 잔액을 함께 반환한다.")
+    @Test
+    void getMyPointHistoryByCursor_withBalance() {
+        CursorResponse<PointResponse> response = pointService.getMyPointHistoryByCursor(memberId, null, null, 10);
+
+        List<PointResponse> points = response.getContent();
+        assertThat(points.get(0).getBalance())
+                .isEqualTo(memberRepository.findById(memberId).orElseThrow().getPoint());
+        for (int i = 1; i < points.size(); i++) {
+            assertThat(points.get(i).getBalance())
+                    .isEqualTo(points.get(i - 1).getBalance() - points.get(i - 1).getAmount());
+        }
+    }
+
+    @DisplayName("다음 커서로 조회하면 이전 목록의 바로 다음 내역부터 이어서 조회한다.")
+    @Test
+    void getMyPointHistoryByCursor_nextPage() {
+        CursorResponse<PointResponse> first = pointService.getMyPointHistoryByCursor(memberId, null, null, 10);
+        CursorResponse<PointResponse> second = pointService.getMyPointHistoryByCursor(memberId,
+                first.getNextCursorCreatedAt(), first.getNextCursorId(), 10);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getContent()).hasSize(10);
+        assertThat(second.getContent()).hasSize(10);
+        PointResponse last = first.getContent().get(9);
+        assertThat(second.getContent().get(0).getBalance()).isEqualTo(last.getBalance() - last.getAmount());
+    }
+
+    @DisplayName("커서 값이 하나만 전달되거나 size 가 1보다 작으면 예외가 발생한다.")
+    @Test
+    void getMyPointHistoryByCursor_invalidCursor() {
+        assertThatThrownBy(() -> pointService.getMyPointHistoryByCursor(memberId, base, null, 10))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> pointService.getMyPointHistoryByCursor(memberId, null, 1L, 10))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> pointService.getMyPointHistoryByCursor(memberId, null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("요약 기간이 12개월을 넘으면 예외가 발생한다.")
+    @Test
+    void getMyMonthlySummary_invalidPeriod() {
+        assertThatThrownBy(() -> pointService.getMyMonthlySummary(memberId, FIRST_MONTH, LAST_MONTH.plusMonths(1)))
+                .isInstanceOf(InvalidPointSummaryPeriodException.class);
+    }
+
+    // 월별 [적립, 사용, 건수, 월말 잔액]
+    private Map<YearMonth, long[]> scanMonthlySummary() {
+        Map<YearMonth, long[]> summaries = new LinkedHashMap<>();
+        long[] balance = new long[1];
+        jdbcTemplate.query("SELECT amount, created_at FROM point WHERE member_id = ? ORDER BY created_at, id", rs -> {
+            YearMonth month = YearMonth.from(rs.getTimestamp("created_at").toLocalDateTime());
+            long[] summary = summaries.computeIfAbsent(month, key -> new long[4]);
+            int amount = rs.getInt("amount");
+            balance[0] += amount;
+            summary[amount > 0 ? 0 : 1] += Math.abs(amount);
+            summary[2]++;
+            summary[3] = balance[0];
+        }, memberId);
+        return summaries;
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.tenten.studybadge.attendance.service.AttendanceCounterService;
 import com.tenten.studybadge.common.exception.schedule.IllegalArgumentForRepeatSituationException;
 import com.tenten.studybadge.common.exception.schedule.NotEqualSingleScheduleDate;
 import com.tenten.studybadge.common.exception.schedule.NotIncludedInRepeatScheduleException;
@@ -67,6 +68,8 @@ class ScheduleServiceTest {
 
     @Mock
     private StudyMemberRepository studyMemberRepository;
+    @Mock
+    private AttendanceCounterService attendanceCounterService;
 
     @InjectMocks
     private ScheduleService scheduleService;
@@ -0,0 +1,124 @@
+package com.tenten.studybadge.study.channel.domain.repository;
+
+import com.tenten.studybadge.member.domain.entity.Member;
+import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.dto.StudyChannelSummary;
+import com.tenten.studybadge.study.member.domain.entity.StudyMember;
+import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.member.StudyMemberRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudyChannelRepositoryTest {
+
+    private static final int STUDY_CHANNEL_COUNT = 20;
+
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    StudyMemberRepository studyMemberRepository;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        for (int i = 0; i < STUDY_CHANNEL_COUNT; i++) {
+            StudyChannel studyChannel = studyChannelRepository.save(StudyChannel.builder()
+                    .name("스터디명" + i)
+                    .description("스터디 설명")
+                    .studyDuration(StudyDuration.builder()
+                            .studyStartDate(now.plusDays(1))
+                            .studyEndDate(now.plusMonths(1))
+                            .build())
+                    .recruitment(Recruitment.builder()
+                            .recruitmentNumber(6)
+                            .recruitmentStatus(i % 2 == 0 ? RecruitmentStatus.RECRUITING : RecruitmentStatus.RECRUIT_COMPLETED)
+                            .build())
+                    .category(Category.IT)
+                    .meetingType(MeetingType.ONLINE)
+                    .deposit(10_000)
+                    .viewCnt(i % 5)
+                    .build());
+            Member leader = memberRepository.save(Member.builder().email("leader" + i + "@test.com").name("리더" + i).build());
+            Member member = memberRepository.save(Member.builder().email("member" + i + "@test.com").name("회원" + i).build());
+            studyMemberRepository.save(StudyMember.leader(leader, studyChannel));
+            studyMemberRepository.save(StudyMember.member(member, studyChannel));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("채널 목록과 리더 이름을 목록 쿼리 한 번과 count 쿼리로 조회한다.")
+    @Test
+    void findAllSummary() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<StudyChannelSummary> page = studyChannelRepository.findAllSummary(RecruitmentStatus.RECRUITING, null, null,
+                StudyMemberRole.LEADER, PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "viewCnt")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(STUDY_CHANNEL_COUNT / 2);
+        assertThat(page.getContent()).hasSize(6);
+        assertThat(page.getContent()).allMatch(summary -> summary.getRecruitmentStatus() == RecruitmentStatus.RECRUITING);
+        assertThat(page.getContent()).allMatch(summary -> summary.getMemberName().startsWith("리더"));
+        assertThat(page.getContent()).extracting(StudyChannelSummary::getViewCnt).isSortedAccordingTo((a, b) -> b - a);
+    }
+
+    @DisplayName("커서 조회로 모든 채널을 중복이나 누락 없이 조회한다.")
+    @Test
+    void findAllSummaryByCursor() {
+        List<Long> byId = new ArrayList<>();
+        Long cursorId = null;
+        List<StudyChannelSummary> slice;
+        do {
+            slice = studyChannelRepository.findAllSummaryByIdCursor(null, null, null, StudyMemberRole.LEADER, cursorId, Limit.of(6));
+            slice.forEach(summary -> byId.add(summary.getStudyChannelId()));
+            cursorId = slice.isEmpty() ? null : slice.get(slice.size() - 1).getStudyChannelId();
+        } while (slice.size() == 6);
+
+        List<StudyChannelSummary> byViewCnt = new ArrayList<>();
+        cursorId = null;
+        Integer cursorViewCnt = null;
+        do {
+            slice = studyChannelRepository.findAllSummaryByViewCntCursor(null, null, null, StudyMemberRole.LEADER,
+                    cursorId, cursorViewCnt, Limit.of(6));
+            byViewCnt.addAll(slice);
+            if (!slice.isEmpty()) {
+                cursorId = slice.get(slice.size() - 1).getStudyChannelId();
+                cursorViewCnt = slice.get(slice.size() - 1).getViewCnt();
+            }
+        } while (slice.size() == 6);
+
+        assertThat(byId).hasSize(STUDY_CHANNEL_COUNT).doesNotHaveDuplicates().isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(byViewCnt).hasSize(STUDY_CHANNEL_COUNT);
+        assertThat(byViewCnt).extracting(StudyChannelSummary::getStudyChannelId).doesNotHaveDuplicates();
+        assertThat(byViewCnt).extracting(StudyChannelSummary::getViewCnt).isSortedAccordingTo((a, b) -> b - a);
+    }
+}
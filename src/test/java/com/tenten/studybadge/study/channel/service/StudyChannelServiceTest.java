@@ -1,13 +1,13 @@
 package com.tenten.studybadge.study.channel.service;
 
+import com.tenten.studybadge.common.exception.InvalidCursorException;
 import com.tenten.studybadge.common.exception.studychannel.*;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
 import com.tenten.studybadge.notification.service.NotificationSchedulerService;
 import com.tenten.studybadge.participation.domain.entity.Participation;
 import com.tenten.studybadge.participation.domain.repository.ParticipationRepository;
-import com.tenten.studybadge.point.domain.entity.Point;
-import com.tenten.studybadge.point.domain.repository.PointRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
@@ -23,6 +23,7 @@ import com.tenten.studybadge.type.point.TransferType;
 import com.tenten.studybadge.type.study.channel.Category;
 import com.tenten.studybadge.type.study.channel.MeetingType;
 import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.channel.SortOrder;
 import com.tenten.studybadge.type.study.deposit.DepositStatus;
 import com.tenten.studybadge.type.study.member.StudyMemberRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,14 +36,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -69,11 +71,17 @@ class StudyChannelServiceTest {
     private NotificationSchedulerService notificationSchedulerService;
 
     @Mock
-    private PointRepository pointRepository;
+    private PointLedgerService pointLedgerService;
 
     @Mock
     private StudyChannelDepositRepository depositRepository;
 
+    @Mock
+    private StudyChannelViewCounter studyChannelViewCounter;
+
+    @Mock
+    private StudyChannelListCache studyChannelListCache;
+
     @DisplayName("[스터디 채널 생성 테스트]")
     @Nested
     class CreateStudyChannelTest {
@@ -110,34 +118,22 @@ class StudyChannelServiceTest {
             // then
             ArgumentCaptor<StudyChannel> studyChannelCaptor = ArgumentCaptor.forClass(StudyChannel.class);
             ArgumentCaptor<StudyMember> studyMemberCaptor = ArgumentCaptor.forClass(StudyMember.class);
-            ArgumentCaptor<Point> pointCaptor = ArgumentCaptor.forClass(Point.class);
-            ArgumentCaptor<Member> memberCaptor = ArgumentCaptor.forClass(Member.class);
             ArgumentCaptor<StudyChannelDeposit> studyChannelDepositCaptor = ArgumentCaptor.forClass(StudyChannelDeposit.class);
 
             verify(studyChannelRepository, times(1)).save(studyChannelCaptor.capture());
             verify(studyMemberRepository, times(1)).save(studyMemberCaptor.capture());
-            verify(memberRepository, times(1)).save(memberCaptor.capture());
-            verify(pointRepository, times(1)).save(pointCaptor.capture());
+            verify(pointLedgerService, times(1)).debit(1L, 10_000, PointHistoryType.SPENT, TransferType.STUDY_DEPOSIT);
+            verify(memberRepository, never()).save(any(Member.class));
             verify(depositRepository, times(1)).save(studyChannelDepositCaptor.capture());
 
             StudyChannel studyChannel = studyChannelCaptor.getValue();
             StudyMember studyMember = studyMemberCaptor.getValue();
-            Member capturedMember = memberCaptor.getValue();
-            Point point = pointCaptor.getValue();
             StudyChannelDeposit studyChannelDeposit = studyChannelDepositCaptor.getValue();
 
             assertThat(studyChannel.getRecruitment().getRecruitmentStatus()).isEqualTo(RecruitmentStatus.RECRUITING);
             assertThat(studyMember.getStudyChannel().getId()).isEqualTo(studyChannel.getId());
             assertThat(studyMember.getStudyMemberRole()).isEqualTo(StudyMemberRole.LEADER);
 
-            assertThat(point.getMember().getId()).isEqualTo(1L);
-            assertThat(point.getAmount()).isEqualTo(-10_000);
-            assertThat(point.getHistoryType()).isEqualTo(PointHistoryType.SPENT);
-            assertThat(point.getTransferType()).isEqualTo(TransferType.STUDY_DEPOSIT);
-
-            assertThat(capturedMember.getId()).isEqualTo(1L);
-            assertThat(capturedMember.getPoint()).isEqualTo(10_000);
-
             assertThat(studyChannelDeposit.getStudyChannel()).isNotNull();
             assertThat(studyChannelDeposit.getStudyMember()).isNotNull();
             assertThat(studyChannelDeposit.getMember().getId()).isEqualTo(1L);
@@ -201,86 +197,19 @@ class StudyChannelServiceTest {
         @Test
         void getStudyChannels() {
 
-            Member member1 = Member.builder().id(1L).name("회원 1").build();
-            Member member2 = Member.builder().id(2L).name("회원 2").build();
-            Member member3 = Member.builder().id(3L).name("회원 3").build();
             LocalDate now = LocalDate.now();
-            StudyChannel studyChannel1 = StudyChannel.builder()
-                    .id(1L)
-                    .name("스터디명")
-                    .description("스터디 설명")
-                    .studyDuration(StudyDuration.builder()
-                            .studyStartDate(now.plusDays(2))
-                            .studyEndDate(now.plusMonths(4))
-                            .build())
-                    .recruitment(Recruitment.builder()
-                            .recruitmentNumber(6)
-                            .recruitmentStatus(RecruitmentStatus.RECRUITING)
-                            .build())
-                    .category(Category.IT)
-                    .region("")
-                    .meetingType(MeetingType.ONLINE)
-                    .chattingUrl("오픈채팅방 URL")
-                    .deposit(10_000)
-                    .viewCnt(4)
-                    .build();
-            StudyChannel studyChannel2 = StudyChannel.builder()
-                    .id(2L)
-                    .name("스터디명2")
-                    .description("스터디 설명2")
-                    .studyDuration(StudyDuration.builder()
-                            .studyStartDate(now.plusDays(2))
-                            .studyEndDate(now.plusMonths(4))
-                            .build())
-                    .recruitment(Recruitment.builder()
-                            .recruitmentNumber(5)
-                            .recruitmentStatus(RecruitmentStatus.RECRUITING)
-                            .build())
-                    .category(Category.IT)
-                    .region("")
-                    .meetingType(MeetingType.ONLINE)
-                    .chattingUrl("오픈채팅방 URL")
-                    .deposit(10_000)
-                    .viewCnt(1)
-                    .build();
-            StudyChannel studyChannel3 = StudyChannel.builder()
-                    .id(3L)
-                    .name("스터디명3")
-                    .description("스터디 설명3")
-                    .studyDuration(StudyDuration.builder()
-                            .studyStartDate(now.plusDays(2))
-                            .studyEndDate(now.plusMonths(4))
-                            .build())
-                    .recruitment(Recruitment.builder()
-                            .recruitmentNumber(6)
-                            .recruitmentStatus(RecruitmentStatus.RECRUITING)
-                            .build())
-                    .category(Category.EMPLOYMENT)
-                    .region("")
-                    .meetingType(MeetingType.ONLINE)
-                    .chattingUrl("오픈채팅방 URL")
-                    .deposit(10_000)
-                    .viewCnt(2)
-                    .build();
-
-            StudyMember leader1 = StudyMember.leader(member1, studyChannel1);
-            StudyMember leader2 = StudyMember.leader(member2, studyChannel2);
-            StudyMember leader3 = StudyMember.leader(member3, studyChannel3);
-            studyChannel1.getStudyMembers().add(leader1);
-            studyChannel2.getStudyMembers().add(leader2);
-            studyChannel3.getStudyMembers().add(leader3);
+            StudyChannelSummary studyChannel1 = new StudyChannelSummary(1L, "스터디명", Category.IT, "스터디 설명",
+                    RecruitmentStatus.RECRUITING, MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 4, 1L, "회원 1");
+            StudyChannelSummary studyChannel2 = new StudyChannelSummary(2L, "스터디명2", Category.IT, "스터디 설명2",
+                    RecruitmentStatus.RECRUITING, MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 1, 2L, "회원 2");
+            StudyChannelSummary studyChannel3 = new StudyChannelSummary(3L, "스터디명3", Category.EMPLOYMENT, "스터디 설명3",
+                    RecruitmentStatus.RECRUITING, MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 2, 3L, "회원 3");
 
             Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "createdAt"));
             SearchCondition searchCondition = new SearchCondition(MeetingType.ONLINE, RecruitmentStatus.RECRUITING, Category.IT);
-            PageImpl<StudyChannel> page = new PageImpl<>(List.of(studyChannel1, studyChannel2, studyChannel3), pageable, 3);
-            given(studyChannelRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(page);
-
-            List<Long> ids = page.getContent().stream()
-                    .map(StudyChannel::getId)
-                    .toList();
-
-            given(studyMemberRepository.findAllWithLeader(ids, StudyMemberRole.LEADER))
-                    .willReturn(List.of(leader1, leader2, leader3));
+            PageImpl<StudyChannelSummary> page = new PageImpl<>(List.of(studyChannel1, studyChannel2, studyChannel3), pageable, 3);
+            given(studyChannelRepository.findAllSummary(RecruitmentStatus.RECRUITING, Category.IT, MeetingType.ONLINE,
+                    StudyMemberRole.LEADER, pageable)).willReturn(page);
 
             StudyChannelListResponse response = studyChannelService.getStudyChannels(pageable, searchCondition);
 
@@ -289,9 +218,91 @@ class StudyChannelServiceTest {
             assertThat(response.getPageNumber()).isEqualTo(1);
             assertThat(response.getTotalCount()).isEqualTo(3);
             assertThat(response.getStudyChannels().size()).isEqualTo(3);
-            assertThat(response.getStudyChannels().get(0).getStudyChannelId()).isEqualTo(studyChannel1.getId());
-            assertThat(response.getStudyChannels().get(0).getMemberId()).isEqualTo(leader1.getMember().getId());
-            assertThat(response.getStudyChannels().get(0).getMemberName()).isEqualTo(leader1.getMember().getName());
+            assertThat(response.getStudyChannels().get(0).getStudyChannelId()).isEqualTo(studyChannel1.getStudyChannelId());
+            assertThat(response.getStudyChannels().get(0).getMemberId()).isEqualTo(studyChannel1.getMemberId());
+            assertThat(response.getStudyChannels().get(0).getMemberName()).isEqualTo(studyChannel1.getMemberName());
+            verify(studyChannelListCache, times(1)).put(searchCondition, pageable, response);
+        }
+
+        @DisplayName("스터디 채널 목록 조회 - 조회수 순이면 반영되지 않은 조회수를 더해 다시 정렬하고, 더한 응답을 캐시한다.")
+        @Test
+        void getStudyChannels_pendingViewCount() {
+
+            LocalDate now = LocalDate.now();
+            StudyChannelSummary studyChannel1 = new StudyChannelSummary(1L, "스터디명", Category.IT, "스터디 설명",
+                    RecruitmentStatus.RECRUITING, MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 4, 1L, "회원 1");
+            StudyChannelSummary studyChannel2 = new StudyChannelSummary(2L, "스터디명2", Category.IT, "스터디 설명2",
+                    RecruitmentStatus.RECRUITING, MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 3, 2L, "회원 2");
+
+            Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "viewCnt"));
+            SearchCondition searchCondition = new SearchCondition(null, null, null);
+            given(studyChannelRepository.findAllSummary(null, null, null, StudyMemberRole.LEADER, pageable))
+                    .willReturn(new PageImpl<>(List.of(studyChannel1, studyChannel2), pageable, 2));
+            given(studyChannelViewCounter.getPendingCounts(List.of(1L, 2L))).willReturn(Map.of(2L, 5L));
+
+            StudyChannelListResponse response = studyChannelService.getStudyChannels(pageable, searchCondition);
+
+            assertThat(response.getStudyChannels()).extracting(StudyChannelResponse::getStudyChannelId).containsExactly(2L, 1L);
+            assertThat(response.getStudyChannels()).extracting(StudyChannelResponse::getViewCnt).containsExactly(8, 4);
+            verify(studyChannelListCache, times(1)).put(searchCondition, pageable, response);
+        }
+
+        @DisplayName("스터디 채널 목록 조회 - 캐시된 목록이 있으면 조회하지 않고 그대로 응답한다.")
+        @Test
+        void getStudyChannels_cached() {
+
+            Pageable pageable = PageRequest.of(0, 6, Sort.by(Sort.Direction.DESC, "viewCnt"));
+            SearchCondition searchCondition = new SearchCondition(null, null, null);
+            StudyChannelListResponse cached = StudyChannelListResponse.builder()
+                    .totalPage(1).totalCount(0).pageNumber(1).pageSize(6).studyChannels(List.of())
+                    .build();
+            given(studyChannelListCache.get(searchCondition, pageable)).willReturn(cached);
+
+            StudyChannelListResponse response = studyChannelService.getStudyChannels(pageable, searchCondition);
+
+            assertThat(response).isSameAs(cached);
+            verify(studyChannelRepository, never()).findAllSummary(any(), any(), any(), any(), any());
+            verify(studyChannelViewCounter, never()).getPendingCounts(any());
+        }
+
+        @DisplayName("스터디 채널 목록 커서 조회 - size 보다 많이 조회되면 다음 커서를 내려준다.")
+        @Test
+        void getStudyChannelsByCursor() {
+
+            LocalDate now = LocalDate.now();
+            List<StudyChannelSummary> summaries = List.of(
+                    new StudyChannelSummary(5L, "스터디명5", Category.IT, "스터디 설명", RecruitmentStatus.RECRUITING,
+                            MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 9, 1L, "회원 1"),
+                    new StudyChannelSummary(3L, "스터디명3", Category.IT, "스터디 설명", RecruitmentStatus.RECRUITING,
+                            MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 7, 1L, "회원 1"),
+                    new StudyChannelSummary(4L, "스터디명4", Category.IT, "스터디 설명", RecruitmentStatus.RECRUITING,
+                            MeetingType.ONLINE, now.plusDays(2), now.plusMonths(4), 10_000, 7, 1L, "회원 1"));
+            SearchCondition searchCondition = new SearchCondition(null, null, null);
+            given(studyChannelRepository.findAllSummaryByViewCntCursor(null, null, null, StudyMemberRole.LEADER,
+                    6L, 10, Limit.of(3))).willReturn(summaries);
+            given(studyChannelViewCounter.getPendingCounts(List.of(5L, 3L, 4L))).willReturn(Map.of(3L, 1L));
+
+            StudyChannelCursorResponse response = studyChannelService.getStudyChannelsByCursor(2, SortOrder.VIEW_COUNT,
+                    searchCondition, 6L, 10);
+
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(response.getStudyChannels()).extracting(StudyChannelResponse::getStudyChannelId).containsExactly(5L, 3L);
+            assertThat(response.getStudyChannels()).extracting(StudyChannelResponse::getViewCnt).containsExactly(9, 8);
+            assertThat(response.getNextCursorId()).isEqualTo(3L);
+            assertThat(response.getNextCursorViewCnt()).isEqualTo(7);
+        }
+
+        @DisplayName("스터디 채널 목록 커서 조회 - 조회수 순에서 커서의 id 와 조회수 중 하나만 오면 예외가 발생한다.")
+        @Test
+        void getStudyChannelsByCursor_invalidCursor() {
+
+            SearchCondition searchCondition = new SearchCondition(null, null, null);
+
+            assertThatThrownBy(() -> studyChannelService.getStudyChannelsByCursor(2, SortOrder.VIEW_COUNT,
+                    searchCondition, 6L, null)).isInstanceOf(InvalidCursorException.class);
+            assertThatThrownBy(() -> studyChannelService.getStudyChannelsByCursor(2, SortOrder.VIEW_COUNT,
+                    searchCondition, null, 10)).isInstanceOf(InvalidCursorException.class);
+            verify(studyChannelRepository, never()).findAllSummaryByViewCntCursor(any(), any(), any(), any(), any(), any(), any());
         }
 
     }
@@ -347,7 +358,6 @@ class StudyChannelServiceTest {
             studyChannel.getStudyMembers().add(studyMember2);
 
             given(studyChannelRepository.findByIdWithMember(1L)).willReturn(Optional.of(studyChannel));
-            given(studyChannelRepository.existsById(1L)).willReturn(true);
             given(memberRepository.findById(1L)).willReturn(Optional.of(member1));
 
             StudyChannelDetailsResponse response = studyChannelService.getStudyChannel(1L, 1L);
@@ -379,7 +389,6 @@ class StudyChannelServiceTest {
             studyChannel.getStudyMembers().add(studyMember);
 
             given(studyChannelRepository.findByIdWithMember(1L)).willReturn(Optional.of(studyChannel));
-            given(studyChannelRepository.existsById(1L)).willReturn(true);
             given(memberRepository.findById(3L)).willReturn(Optional.of(member3));
 
             StudyChannelDetailsResponse response = studyChannelService.getStudyChannel(1L, 3L);
@@ -416,7 +425,6 @@ class StudyChannelServiceTest {
             studyChannel.getStudyMembers().add(studyMember);
 
             given(studyChannelRepository.findByIdWithMember(1L)).willReturn(Optional.of(studyChannel));
-            given(studyChannelRepository.existsById(1L)).willReturn(true);
             given(memberRepository.findById(1L)).willReturn(Optional.of(member1));
 
             StudyChannelDetailsResponse response = studyChannelService.getStudyChannel(1L, 1L);
@@ -437,6 +445,22 @@ class StudyChannelServiceTest {
 
         }
 
+        @DisplayName("특정 스터디 채널 조회 - 조회수는 바로 UPDATE 하지 않고 누적하며, 반영되지 않은 조회수를 더해서 응답한다.")
+        @Test
+        void getStudyChannel_pendingViewCnt() {
+
+            studyChannel.getStudyMembers().add(StudyMember.leader(member1, studyChannel));
+
+            given(studyChannelRepository.findByIdWithMember(1L)).willReturn(Optional.of(studyChannel));
+            given(studyChannelViewCounter.getPendingCount(1L)).willReturn(3L);
+
+            StudyChannelDetailsResponse response = studyChannelService.getStudyChannel(1L, null);
+
+            assertThat(response.getViewCnt()).isEqualTo(7);
+            verify(studyChannelViewCounter, times(1)).increment(1L);
+            verify(studyChannelRepository, never()).existsById(anyLong());
+        }
+
     }
 
     @DisplayName("[스터디 채널 모집 시작 테스트]")
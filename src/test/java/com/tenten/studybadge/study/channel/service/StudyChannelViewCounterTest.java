@@ -0,0 +1,170 @@
+package com.tenten.studybadge.study.channel.service;
+
+import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
+import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
+import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.study.channel.domain.repository.StudyChannelViewCountRepository;
+import com.tenten.studybadge.type.study.channel.Category;
+import com.tenten.studybadge.type.study.channel.MeetingType;
+import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 스레드가 각자 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 사용하지 않음
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StudyChannelViewCounter.class, StudyChannelViewCountRepository.class})
+class StudyChannelViewCounterTest {
+
+    private static final int VIEWER_COUNT = 500;
+    private static final int THREAD_COUNT = 50;
+
+    @Autowired
+    StudyChannelViewCounter studyChannelViewCounter;
+    @Autowired
+    StudyChannelRepository studyChannelRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    Long studyChannelId;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate now = LocalDate.now();
+        studyChannelId = studyChannelRepository.save(StudyChannel.builder()
+                .name("스터디명")
+                .description("스터디 설명")
+                .studyDuration(StudyDuration.builder()
+                        .studyStartDate(now.plusDays(1))
+                        .studyEndDate(now.plusMonths(1))
+                        .build())
+                .recruitment(Recruitment.builder()
+                        .recruitmentNumber(6)
+                        .recruitmentStatus(RecruitmentStatus.RECRUITING)
+                        .build())
+                .category(Category.IT)
+                .meetingType(MeetingType.ONLINE)
+                .deposit(10_000)
+                .viewCnt(0)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studyChannelRepository.deleteAll();
+    }
+
+    @DisplayName("한 채널을 500명이 동시에 조회해도 행 단위 UPDATE 방식과 누적 후 반영 방식의 조회수가 같다.")
+    @Test
+    void increment_comparedWithRowUpdate() throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 기존 방식: 조회마다 exists 조회 후 같은 행을 UPDATE
+        runViewers(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM study_channel WHERE study_channel_id = ?", Long.class, studyChannelId);
+            jdbcTemplate.update("UPDATE study_channel SET view_cnt = view_cnt + 1 WHERE study_channel_id = ?", studyChannelId);
+        }));
+        assertThat(viewCnt()).isEqualTo(VIEWER_COUNT);
+
+        runViewers(() -> studyChannelViewCounter.increment(studyChannelId));
+        assertThat(studyChannelViewCounter.getPendingCount(studyChannelId)).isEqualTo(VIEWER_COUNT);
+        assertThat(viewCnt()).isEqualTo(VIEWER_COUNT);
+
+        studyChannelViewCounter.flush();
+
+        assertThat(viewCnt()).isEqualTo(VIEWER_COUNT * 2);
+        assertThat(studyChannelViewCounter.getPendingCount(studyChannelId)).isZero();
+    }
+
+    @DisplayName("반영 중에 들어온 조회수는 유실되지 않고 다음 반영에 포함된다.")
+    @Test
+    void flush_concurrentIncrement() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit(() -> {
+            for (int i = 0; i < VIEWER_COUNT; i++) {
+                studyChannelViewCounter.increment(studyChannelId);
+                if (i % 100 == 0) {
+                    studyChannelViewCounter.flush();
+                }
+            }
+            done.countDown();
+        });
+        for (int i = 0; i < 10; i++) {
+            studyChannelViewCounter.flush();
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        studyChannelViewCounter.flush();
+
+        assertThat(viewCnt()).isEqualTo(VIEWER_COUNT);
+    }
+
+    @DisplayName("한 주기 동안 조회가 없던 채널의 카운터는 반영 시 메모리에서 제거된다.")
+    @Test
+    void flush_removeIdleChannels() {
+        // 존재하지 않는 채널 1000개
+        for (long id = 1; id <= 1_000; id++) {
+            studyChannelViewCounter.increment(studyChannelId + id);
+        }
+        studyChannelViewCounter.increment(studyChannelId);
+        studyChannelViewCounter.flush();
+        assertThat(studyChannelViewCounter.getTrackedChannelCount()).isEqualTo(1_001);
+
+        studyChannelViewCounter.increment(studyChannelId);
+        studyChannelViewCounter.flush();
+
+        assertThat(studyChannelViewCounter.getTrackedChannelCount()).isEqualTo(1);
+        assertThat(viewCnt()).isEqualTo(2);
+
+        studyChannelViewCounter.flush();
+        assertThat(studyChannelViewCounter.getTrackedChannelCount()).isZero();
+    }
+
+    private void runViewers(Runnable view) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(VIEWER_COUNT);
+        for (int i = 0; i < VIEWER_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    view.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    private int viewCnt() {
+        return jdbcTemplate.queryForObject("SELECT view_cnt FROM study_channel WHERE study_channel_id = ?", Integer.class, studyChannelId);
+    }
+}
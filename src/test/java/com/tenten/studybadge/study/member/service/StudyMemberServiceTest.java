@@ -3,18 +3,25 @@ package com.tenten.studybadge.study.member.service;
 import com.tenten.studybadge.common.exception.studychannel.AlreadyExistsSubLeaderException;
 import com.tenten.studybadge.member.domain.entity.Member;
 import com.tenten.studybadge.member.domain.repository.MemberRepository;
+import com.tenten.studybadge.point.service.PointLedgerService;
 import com.tenten.studybadge.study.channel.domain.entity.Recruitment;
 import com.tenten.studybadge.study.channel.domain.entity.StudyChannel;
 import com.tenten.studybadge.study.channel.domain.entity.StudyDuration;
 import com.tenten.studybadge.study.channel.domain.repository.StudyChannelRepository;
+import com.tenten.studybadge.study.deposit.domain.entity.StudyChannelDeposit;
+import com.tenten.studybadge.study.deposit.domain.repository.StudyChannelDepositRepository;
 import com.tenten.studybadge.study.member.domain.entity.StudyMember;
 import com.tenten.studybadge.study.member.domain.repository.StudyMemberRepository;
 import com.tenten.studybadge.study.member.dto.StudyMembersResponse;
 import com.tenten.studybadge.type.member.BadgeLevel;
+import com.tenten.studybadge.type.point.PointHistoryType;
+import com.tenten.studybadge.type.point.TransferType;
 import com.tenten.studybadge.type.study.channel.Category;
 import com.tenten.studybadge.type.study.channel.MeetingType;
 import com.tenten.studybadge.type.study.channel.RecruitmentStatus;
+import com.tenten.studybadge.type.study.deposit.DepositStatus;
 import com.tenten.studybadge.type.study.member.StudyMemberRole;
+import com.tenten.studybadge.type.study.member.StudyMemberStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +38,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StudyMemberServiceTest {
@@ -47,6 +55,12 @@ class StudyMemberServiceTest {
     @Mock
     private StudyChannelRepository studyChannelRepository;
 
+    @Mock
+    private StudyChannelDepositRepository studyChannelDepositRepository;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
     @DisplayName("[스터디 멤버 리스트 조회 테스트]")
     @Nested
     class GetStudyMembersTest {
@@ -230,4 +244,41 @@ class StudyMemberServiceTest {
         }
     }
 
-}
\ No newline at end of file
+
+    @DisplayName("스터디 멤버를 퇴출하면 예치금의 절반을 환급하고 기존 Access Token 을 무효화한다.")
+    @Test
+    void success_banStudyMember() {
+        StudyChannel studyChannel = StudyChannel.builder().id(1L).build();
+        Member leaderMember = Member.builder().id(1L).name("회원 1").build();
+        Member bannedMember = Member.builder().id(2L).name("회원 2").build();
+        StudyMember leader = StudyMember.builder()
+                .id(1L)
+                .studyChannel(studyChannel)
+                .member(leaderMember)
+                .studyMemberRole(StudyMemberRole.LEADER)
+                .build();
+        StudyMember studyMember = StudyMember.builder()
+                .id(2L)
+                .studyChannel(studyChannel)
+                .member(bannedMember)
+                .studyMemberRole(StudyMemberRole.STUDY_MEMBER)
+                .build();
+        StudyChannelDeposit deposit = StudyChannelDeposit.builder()
+                .studyMember(studyMember)
+                .studyChannel(studyChannel)
+                .member(bannedMember)
+                .amount(10_000)
+                .depositStatus(DepositStatus.DEPOSIT)
+                .build();
+
+        given(studyMemberRepository.findByMemberIdAndStudyChannelId(1L, 1L)).willReturn(Optional.of(leader));
+        given(studyMemberRepository.findByIdWithMember(2L)).willReturn(Optional.of(studyMember));
+        given(studyChannelDepositRepository.findByStudyChannelIdAndMemberId(1L, 2L)).willReturn(Optional.of(deposit));
+
+        studyMemberService.banStudyMember(1L, 2L, 1L);
+
+        assertThat(studyMember.getStudyMemberStatus()).isEqualTo(StudyMemberStatus.BAN);
+        assertThat(deposit.getDepositStatus()).isEqualTo(DepositStatus.REFUND);
+        verify(pointLedgerService).credit(2L, 5_000, PointHistoryType.EARNED, TransferType.STUDY_REWARD);
+    }
+}